@@ -0,0 +1,33 @@
+package com.example.demo.config;
+
+import com.example.jdbc.leaktracker.LeakTrackingDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application {@link DataSource} in a {@link LeakTrackingDataSource}.
+ *
+ * <p>Every connection borrowed by {@code JdbcTemplate} and {@code JdbcClient} is then
+ * tracked until it is closed, so the connections held by the leaky endpoints can be listed
+ * with {@code curl http://localhost:8080/connections/open}. The Hikari pool stays reachable
+ * with {@code dataSource.unwrap(HikariDataSource.class)}.</p>
+ */
+@Configuration(proxyBeanMethods = false)
+public class LeakTrackingConfiguration {
+
+    @Bean
+    static BeanPostProcessor leakTrackingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof LeakTrackingDataSource)) {
+                    return new LeakTrackingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -2,10 +2,15 @@ package com.example.demo.controller;
 
 import com.example.demo.service.OrderService;
 import com.example.demo.service.UserService;
+import com.example.jdbc.leaktracker.LeakTrackingDataSource;
+import com.example.jdbc.leaktracker.OpenConnection;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.sql.DataSource;
 import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.List;
 
 /**
  * REST controller exposing the leaky service methods for demonstration.
@@ -15,6 +20,7 @@ import java.math.BigDecimal;
  *   <li>Start the application with {@code mvn spring-boot:run}</li>
  *   <li>Call the leaky endpoints 3+ times</li>
  *   <li>Watch the 4th call timeout due to pool exhaustion</li>
+ *   <li>List the leaked connections with {@code /connections/open}</li>
  * </ol>
  */
 @RestController
@@ -22,10 +28,13 @@ public class DemoController {
 
     private final UserService userService;
     private final OrderService orderService;
+    private final LeakTrackingDataSource leakTrackingDataSource;
 
-    public DemoController(UserService userService, OrderService orderService) {
+    public DemoController(UserService userService, OrderService orderService, DataSource dataSource)
+            throws SQLException {
         this.userService = userService;
         this.orderService = orderService;
+        this.leakTrackingDataSource = dataSource.unwrap(LeakTrackingDataSource.class);
     }
 
     // ==================== LEAKY ENDPOINTS ====================
@@ -61,4 +70,14 @@ public class DemoController {
         BigDecimal revenue = orderService.calculateTotalRevenueCorrectly();
         return "Total revenue: " + revenue + " (connection returned to pool)";
     }
+
+    // ==================== MONITORING ENDPOINTS ====================
+
+    @GetMapping("/connections/open")
+    public List<String> openConnections() {
+        // One line per borrowed connection: leaked streams stay listed after their request
+        return leakTrackingDataSource.getOpenConnections().stream()
+                .map(OpenConnection::toString)
+                .toList();
+    }
 }
@@ -13,6 +13,7 @@ import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.test.context.TestPropertySource;
 
 import javax.sql.DataSource;
+import java.sql.SQLException;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -66,8 +67,8 @@ class ConnectionLeakIntegrationTest {
     private HikariPoolMXBean poolMXBean;
 
     @BeforeEach
-    void setUp() {
-        HikariDataSource hikariDataSource = (HikariDataSource) dataSource;
+    void setUp() throws SQLException {
+        HikariDataSource hikariDataSource = dataSource.unwrap(HikariDataSource.class);
         poolMXBean = hikariDataSource.getHikariPoolMXBean();
     }
 
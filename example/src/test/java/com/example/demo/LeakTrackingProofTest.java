@@ -0,0 +1,192 @@
+package com.example.demo;
+
+import com.example.jdbc.leaktracker.LeakTrackingDataSource;
+import com.example.jdbc.leaktracker.OpenConnection;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Proof tests demonstrating that {@link LeakTrackingDataSource} shows the connections held by
+ * unclosed JDBC streams.
+ *
+ * <p>Like {@link ConnectionLeakProofTest}, these tests create their own isolated connection
+ * pool, wrapped in the tracking data source, to prove that:</p>
+ * <ul>
+ *   <li>Every unclosed stream is listed with its SQL, thread and borrow time</li>
+ *   <li>Streams run through plain statements, without arguments, are listed with their SQL too</li>
+ *   <li>The open connections can be read from another thread while streams are open</li>
+ *   <li>Properly closed streams and regular queries leave nothing open</li>
+ * </ul>
+ *
+ * <p>The cost of tracking is measured by the {@code benchmark} tests of the leak-tracker
+ * module.</p>
+ */
+class LeakTrackingProofTest {
+
+    private static final int POOL_SIZE = 2;
+    private static final int CONNECTION_TIMEOUT_MS = 500;
+    private static final String SELECT_USERS = "SELECT * FROM users";
+
+    private HikariDataSource hikariDataSource;
+    private LeakTrackingDataSource dataSource;
+    private JdbcClient jdbcClient;
+    private JdbcTemplate jdbcTemplate;
+
+    private static final RowMapper<String> NAME_MAPPER = (rs, rowNum) -> rs.getString("name");
+
+    @BeforeEach
+    void setUp() {
+        // Create isolated pool for each test
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:trackingtest_" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setPassword("");
+        config.setMaximumPoolSize(POOL_SIZE);
+        config.setMinimumIdle(1);
+        config.setConnectionTimeout(CONNECTION_TIMEOUT_MS);
+
+        hikariDataSource = new HikariDataSource(config);
+        dataSource = new LeakTrackingDataSource(hikariDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcClient = JdbcClient.create(dataSource);
+
+        // Create test table
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS users (
+                id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                name VARCHAR(100) NOT NULL
+            )
+        """);
+        jdbcTemplate.execute("INSERT INTO users (name) VALUES ('Alice'), ('Bob'), ('Charlie')");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (hikariDataSource != null && !hikariDataSource.isClosed()) {
+            hikariDataSource.close();
+        }
+    }
+
+    // ==================== LEAK TRACKING PROOF TESTS ====================
+
+    @Test
+    @DisplayName("PROOF: Unclosed JdbcClient.stream() is tracked with its SQL and thread")
+    void jdbcClientStream_withoutClose_isTracked() {
+        Stream<String> stream = jdbcClient
+                .sql(SELECT_USERS)
+                .query(NAME_MAPPER)
+                .stream();
+        stream.forEach(name -> {}); // consume but don't close
+
+        List<OpenConnection> open = dataSource.getOpenConnections();
+        assertThat(open).hasSize(1);
+        assertThat(open.get(0).sql()).isEqualTo(SELECT_USERS);
+        assertThat(open.get(0).threadName()).isEqualTo(Thread.currentThread().getName());
+        assertThat(hikariDataSource.getHikariPoolMXBean().getActiveConnections())
+                .as("The tracked connection is the one leaked from the pool")
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("PROOF: Every unclosed JdbcTemplate.queryForStream() is tracked until the pool is exhausted")
+    void jdbcTemplateQueryForStream_withoutClose_isTracked() {
+        for (int i = 0; i < POOL_SIZE; i++) {
+            Stream<String> stream = jdbcTemplate.queryForStream(
+                    SELECT_USERS + " WHERE id > ?",
+                    NAME_MAPPER,
+                    i
+            );
+            stream.count(); // consume but don't close
+        }
+
+        assertThat(dataSource.getOpenConnections())
+                .as("All %d leaked connections should be tracked", POOL_SIZE)
+                .hasSize(POOL_SIZE)
+                .extracting(OpenConnection::sql)
+                .containsOnly(SELECT_USERS + " WHERE id > ?");
+        assertThat(hikariDataSource.getHikariPoolMXBean().getActiveConnections()).isEqualTo(POOL_SIZE);
+    }
+
+    @Test
+    @DisplayName("PROOF: Unclosed JdbcTemplate.queryForStream() without arguments is tracked with its SQL")
+    void jdbcTemplateQueryForStream_withoutArguments_isTracked() {
+        Stream<String> stream = jdbcTemplate.queryForStream(SELECT_USERS, NAME_MAPPER);
+        stream.count(); // consume but don't close
+
+        List<OpenConnection> open = dataSource.getOpenConnections();
+        assertThat(open).hasSize(1);
+        assertThat(open.get(0).sql())
+                .as("The SQL of a plain statement is recorded when it runs")
+                .isEqualTo(SELECT_USERS);
+        assertThat(hikariDataSource.getHikariPoolMXBean().getActiveConnections()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("PROOF: Leaked connections age and can be read from another thread")
+    void leakedConnections_readFromMonitoringThread() throws Exception {
+        jdbcClient.sql(SELECT_USERS).query(NAME_MAPPER).stream().findFirst(); // partial read, not closed
+        Thread.sleep(50);
+
+        ExecutorService monitor = Executors.newSingleThreadExecutor();
+        try {
+            List<OpenConnection> leaked = monitor
+                    .submit(() -> dataSource.getOpenConnectionsOlderThan(Duration.ofMillis(50)))
+                    .get(1, TimeUnit.SECONDS);
+            assertThat(leaked).hasSize(1);
+            assertThat(leaked.get(0).threadName())
+                    .as("The borrowing thread is recorded, not the monitoring one")
+                    .isEqualTo(Thread.currentThread().getName());
+        } finally {
+            monitor.shutdown();
+        }
+    }
+
+    // ==================== COMPLIANT PROOF TESTS ====================
+
+    @Test
+    @DisplayName("PROOF: try-with-resources leaves no tracked connection")
+    void tryWithResources_leavesNothingOpen() {
+        int iterations = POOL_SIZE * 20;
+
+        for (int i = 0; i < iterations; i++) {
+            try (Stream<String> stream = jdbcClient
+                    .sql(SELECT_USERS)
+                    .query(NAME_MAPPER)
+                    .stream()) {
+                stream.forEach(name -> {});
+            }
+        }
+
+        assertThat(dataSource.getOpenConnections())
+                .as("No connections should be tracked after %d iterations", iterations)
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("PROOF: Regular queries return their connection before they complete")
+    void regularQueries_leaveNothingOpen() {
+        for (int i = 0; i < POOL_SIZE * 20; i++) {
+            jdbcTemplate.query(SELECT_USERS, NAME_MAPPER);
+            jdbcClient.sql(SELECT_USERS).query(NAME_MAPPER).list();
+        }
+
+        assertThat(dataSource.getOpenConnections()).isEmpty();
+        assertThat(dataSource.getRegistry().untrackedCount()).isZero();
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.jdbc.leaktracker;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * {@link DataSource} wrapper tracking the connections that are borrowed and not closed yet.
+ *
+ * <p>Static analysis cannot prove that every stream of {@code JdbcTemplate.queryForStream}
+ * or {@code JdbcClient} {@code stream()} is closed. Such a stream holds its connection
+ * until it is closed, while other JDBC calls return it before they complete: the
+ * connections that stay in {@link #getOpenConnections()} for long are held by unclosed
+ * streams or long transactions. Each of them records when and by which thread it was
+ * borrowed, and the SQL it was prepared with.</p>
+ *
+ * <p>Tracking adds a proxy and a lock-free registry slot per borrow, well under a
+ * microsecond, and reading the open connections never blocks the application.</p>
+ *
+ * <pre>
+ * LeakTrackingDataSource dataSource = new LeakTrackingDataSource(hikariDataSource);
+ * JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+ * ...
+ * dataSource.getOpenConnectionsOlderThan(Duration.ofSeconds(30)).forEach(log::warn);
+ * </pre>
+ *
+ * @since 1.1.0
+ * @see OpenConnectionRegistry
+ */
+public class LeakTrackingDataSource extends DelegatingDataSource {
+
+    private final OpenConnectionRegistry registry;
+
+    /**
+     * Wraps a data source with a registry of {@link OpenConnectionRegistry#DEFAULT_CAPACITY} slots.
+     *
+     * @param targetDataSource the data source lending the connections
+     */
+    public LeakTrackingDataSource(DataSource targetDataSource) {
+        this(targetDataSource, new OpenConnectionRegistry());
+    }
+
+    /**
+     * Wraps a data source.
+     *
+     * @param targetDataSource the data source lending the connections
+     * @param registry         the registry of open connections
+     */
+    public LeakTrackingDataSource(DataSource targetDataSource, OpenConnectionRegistry registry) {
+        super(targetDataSource);
+        this.registry = registry;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the connection of the target data source, tracked until it is closed
+     * @throws SQLException if the target data source fails
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        return TrackedConnectionHandler.track(obtainTargetDataSource().getConnection(), registry);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param username the database user
+     * @param password the password of the user
+     * @return the connection of the target data source, tracked until it is closed
+     * @throws SQLException if the target data source fails
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return TrackedConnectionHandler.track(obtainTargetDataSource().getConnection(username, password), registry);
+    }
+
+    /**
+     * Returns the registry of the connections borrowed from this data source.
+     *
+     * @return the registry
+     */
+    public OpenConnectionRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * Returns the connections currently borrowed and not closed.
+     *
+     * @return the open connections, oldest first
+     */
+    public List<OpenConnection> getOpenConnections() {
+        return registry.openConnections();
+    }
+
+    /**
+     * Returns the connections borrowed for longer than a threshold, the likely leaks.
+     *
+     * @param threshold the minimum time since the borrow
+     * @return the matching open connections, oldest first
+     */
+    public List<OpenConnection> getOpenConnectionsOlderThan(Duration threshold) {
+        return registry.openConnections().stream()
+            .filter(connection -> connection.age().compareTo(threshold) >= 0)
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.jdbc.leaktracker;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * A connection borrowed from a {@link LeakTrackingDataSource} and not closed yet.
+ *
+ * <p>The borrow time and thread are fixed when the connection is obtained. The SQL is the
+ * last statement prepared or run on the connection, which for the connection of a
+ * {@code queryForStream} or {@code JdbcClient} {@code stream()} call is the query of the
+ * stream.</p>
+ *
+ * @since 1.1.0
+ * @see OpenConnectionRegistry#openConnections()
+ */
+public final class OpenConnection {
+
+    private final long openedAtMillis;
+    private final long openedAtNanos;
+    private final String threadName;
+    private final long threadId;
+    private volatile String sql;
+    private volatile int slot = -1;
+
+    OpenConnection(Thread thread) {
+        this.openedAtMillis = System.currentTimeMillis();
+        this.openedAtNanos = System.nanoTime();
+        this.threadName = thread.getName();
+        this.threadId = thread.getId();
+    }
+
+    /**
+     * Returns when the connection was borrowed.
+     *
+     * @return the borrow time
+     */
+    public Instant openedAt() {
+        return Instant.ofEpochMilli(openedAtMillis);
+    }
+
+    /**
+     * Returns for how long the connection has been borrowed.
+     *
+     * @return the time elapsed since the borrow, measured with {@link System#nanoTime()}
+     */
+    public Duration age() {
+        return Duration.ofNanos(System.nanoTime() - openedAtNanos);
+    }
+
+    /**
+     * Returns the name of the thread that borrowed the connection.
+     *
+     * @return the thread name at borrow time
+     */
+    public String threadName() {
+        return threadName;
+    }
+
+    /**
+     * Returns the identifier of the thread that borrowed the connection.
+     *
+     * @return the thread identifier
+     */
+    public long threadId() {
+        return threadId;
+    }
+
+    /**
+     * Returns the last SQL statement prepared or run on the connection.
+     *
+     * @return the SQL, or {@code null} if no statement was prepared or run yet
+     */
+    public String sql() {
+        return sql;
+    }
+
+    /**
+     * Records a statement prepared or run on the connection.
+     *
+     * @param sql the SQL of the statement
+     */
+    void prepared(String sql) {
+        this.sql = sql;
+    }
+
+    /**
+     * Returns the borrow time on the {@link System#nanoTime()} scale, for ordering.
+     *
+     * @return the borrow time in nanoseconds
+     */
+    long openedAtNanos() {
+        return openedAtNanos;
+    }
+
+    /**
+     * Returns the registry slot holding this connection.
+     *
+     * @return the slot index, or {@code -1} if the registry was full
+     */
+    int slot() {
+        return slot;
+    }
+
+    /**
+     * Sets the registry slot holding this connection, once it is claimed.
+     *
+     * @param slot the slot index
+     */
+    void slot(int slot) {
+        this.slot = slot;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the thread, age and SQL of the connection
+     */
+    @Override
+    public String toString() {
+        return "OpenConnection[thread=" + threadName + ", age=" + age() + ", sql=" + sql + "]";
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.jdbc.leaktracker;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+
+/**
+ * Invocation handler of the plain statements created on the connections of a
+ * {@link LeakTrackingDataSource}.
+ *
+ * <p>A plain {@link Statement} receives its SQL when it runs, not when it is created, so
+ * the SQL passed to {@code execute...} and {@code addBatch} is recorded on the open
+ * connection, as the SQL of prepared statements is when they are prepared. This covers
+ * {@code JdbcTemplate.queryForStream(sql, rowMapper)} and the other {@code JdbcTemplate}
+ * methods called without arguments, which run {@link Statement#executeQuery(String)}.</p>
+ *
+ * @since 1.1.0
+ * @see TrackedConnectionHandler
+ */
+final class TrackedStatementHandler implements InvocationHandler {
+
+    private static final Class<?>[] PROXY_INTERFACES = {Statement.class};
+
+    private final Statement target;
+    private final Connection connection;
+    private final OpenConnection openConnection;
+
+    private TrackedStatementHandler(Statement target, Connection connection, OpenConnection openConnection) {
+        this.target = target;
+        this.connection = connection;
+        this.openConnection = openConnection;
+    }
+
+    /**
+     * Wraps a statement created on a tracked connection.
+     *
+     * @param target         the statement created on the target connection, may be {@code null}
+     * @param connection     the tracked connection, returned by {@link Statement#getConnection()}
+     * @param openConnection the open connection recording the SQL
+     * @return a proxy recording the SQL of the statement, or {@code null} if there is no statement
+     */
+    static Statement track(Statement target, Connection connection, OpenConnection openConnection) {
+        if (target == null) {
+            return null;
+        }
+        return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(), PROXY_INTERFACES,
+            new TrackedStatementHandler(target, connection, openConnection));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param proxy  the statement proxy
+     * @param method the invoked method
+     * @param args   the arguments
+     * @return the result of the call
+     * @throws Throwable the exception thrown by the target statement
+     */
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        switch (name) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "Tracked statement [" + target + "]";
+            case "getConnection":
+                return connection;
+            case "unwrap":
+                if (((Class<?>) args[0]).isInstance(proxy)) {
+                    return proxy;
+                }
+                break;
+            case "isWrapperFor":
+                if (((Class<?>) args[0]).isInstance(proxy)) {
+                    return true;
+                }
+                break;
+            default:
+                if ((name.startsWith("execute") || name.equals("addBatch")) &&
+                    args != null && args[0] instanceof String) {
+                    openConnection.prepared((String) args[0]);
+                }
+                break;
+        }
+        return TrackedConnectionHandler.invokeTarget(target, method, args);
+    }
+}
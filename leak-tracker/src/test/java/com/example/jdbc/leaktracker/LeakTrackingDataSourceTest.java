@@ -0,0 +1,265 @@
+package com.example.jdbc.leaktracker;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the LeakTrackingDataSource, on stub connections.
+ *
+ * <p>Each test method validates one behavior:</p>
+ * <ul>
+ *   <li>Borrowed connections are open until closed, with their thread and SQL</li>
+ *   <li>Plain statements record the SQL they run</li>
+ *   <li>Closing twice and unwrapping the target connection</li>
+ *   <li>Connections beyond the capacity, or beyond the probed slots, are counted, not tracked</li>
+ *   <li>Concurrent borrows and snapshots</li>
+ *   <li>The cost of a tracked borrow stays under a microsecond</li>
+ * </ul>
+ *
+ * <p>The cost test measures wall-clock time, so it is tagged {@code benchmark} and excluded
+ * from the default build; run it on a quiet machine with
+ * {@code mvn test -Dgroups=benchmark -DexcludedTestGroups=}.</p>
+ *
+ * <p>The proof on a real pool with {@code JdbcTemplate} and {@code JdbcClient} streams is
+ * {@code LeakTrackingProofTest} in the example project.</p>
+ *
+ * @since 1.1.0
+ * @see LeakTrackingDataSource
+ */
+class LeakTrackingDataSourceTest {
+
+    private LeakTrackingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new LeakTrackingDataSource(stubDataSource());
+    }
+
+    @Test
+    @DisplayName("Open connections are listed with their thread and SQL until closed")
+    void openConnections_untilClosed() throws SQLException {
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+        second.prepareStatement("SELECT * FROM users");
+
+        List<OpenConnection> open = dataSource.getOpenConnections();
+        assertThat(open).hasSize(2);
+        assertThat(open.get(0).sql()).isNull();
+        assertThat(open.get(1).sql()).isEqualTo("SELECT * FROM users");
+        assertThat(open.get(1).threadName()).isEqualTo(Thread.currentThread().getName());
+        assertThat(open.get(1).age()).isPositive();
+
+        first.close();
+        assertThat(dataSource.getOpenConnections()).extracting(OpenConnection::sql).containsExactly("SELECT * FROM users");
+        assertThat(dataSource.getOpenConnectionsOlderThan(Duration.ofDays(1))).isEmpty();
+
+        second.close();
+        assertThat(dataSource.getOpenConnections()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Plain statements record the SQL they run on their connection")
+    void plainStatements_recordSql() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement();
+
+        assertThat(statement.getConnection()).isSameAs(connection);
+        assertThat(dataSource.getOpenConnections()).extracting(OpenConnection::sql).containsOnlyNulls();
+
+        statement.executeQuery("SELECT * FROM users");
+        assertThat(dataSource.getOpenConnections()).extracting(OpenConnection::sql).containsExactly("SELECT * FROM users");
+
+        statement.addBatch("DELETE FROM users WHERE id = 1");
+        statement.executeBatch();
+        assertThat(dataSource.getOpenConnections()).extracting(OpenConnection::sql)
+            .containsExactly("DELETE FROM users WHERE id = 1");
+
+        connection.close();
+        assertThat(dataSource.getOpenConnections()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Closing twice is harmless and the target connection stays reachable")
+    void closeTwice_andUnwrap() throws SQLException {
+        Connection connection = dataSource.getConnection();
+
+        assertThat(((ConnectionProxy) connection).getTargetConnection()).isNotSameAs(connection);
+        assertThat(connection.unwrap(ConnectionProxy.class)).isSameAs(connection);
+        assertThat(connection).isEqualTo(connection).isNotEqualTo(dataSource.getConnection());
+
+        connection.close();
+        connection.close();
+        assertThat(connection.isClosed()).isTrue();
+        assertThat(dataSource.getOpenConnections()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("A borrow probes a bounded number of slots")
+    void largeRegistry_boundsProbes() {
+        OpenConnectionRegistry registry = new OpenConnectionRegistry(OpenConnectionRegistry.MAX_PROBES * 4);
+        for (int i = 0; i <= OpenConnectionRegistry.MAX_PROBES; i++) {
+            registry.register();
+        }
+
+        assertThat(registry.openConnections()).hasSize(OpenConnectionRegistry.MAX_PROBES);
+        assertThat(registry.untrackedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Connections beyond the capacity are counted but not tracked")
+    void fullRegistry_countsUntracked() throws SQLException {
+        LeakTrackingDataSource small = new LeakTrackingDataSource(stubDataSource(), new OpenConnectionRegistry(3));
+        List<Connection> connections = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            connections.add(small.getConnection());
+        }
+
+        assertThat(small.getOpenConnections()).hasSize(4);
+        assertThat(small.getRegistry().untrackedCount()).isEqualTo(2);
+
+        for (Connection connection : connections) {
+            connection.close();
+        }
+        assertThat(small.getOpenConnections()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Concurrent borrows are all tracked while the open set is read")
+    void concurrentBorrows() throws Exception {
+        int threads = 8;
+        int borrowsPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Connection>> leaked = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                leaked.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < borrowsPerThread; i++) {
+                        dataSource.getConnection().close();
+                    }
+                    // Each thread leaks one connection
+                    return dataSource.getConnection();
+                }));
+            }
+            start.countDown();
+            while (leaked.stream().anyMatch(future -> !future.isDone())) {
+                assertThat(dataSource.getOpenConnections()).hasSizeLessThanOrEqualTo(threads * 2);
+            }
+            for (Future<Connection> future : leaked) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+
+        assertThat(dataSource.getOpenConnections()).hasSize(threads);
+        assertThat(dataSource.getRegistry().untrackedCount()).isZero();
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("A tracked borrow and close adds less than a microsecond")
+    void borrowOverhead_underOneMicrosecond() throws SQLException {
+        DataSource target = stubDataSource();
+        int iterations = 200_000;
+        for (int i = 0; i < iterations; i++) {
+            target.getConnection().close();
+            dataSource.getConnection().close();
+        }
+
+        long untrackedNanos = borrowAndClose(target, iterations);
+        long trackedNanos = borrowAndClose(dataSource, iterations);
+
+        double overheadPerBorrow = (double) (trackedNanos - untrackedNanos) / iterations;
+        assertThat(overheadPerBorrow).as("Overhead per borrow in nanoseconds").isLessThan(1_000);
+    }
+
+    /**
+     * Borrows and closes connections in a loop.
+     *
+     * @param source     the data source
+     * @param iterations the number of borrows
+     * @return the elapsed time in nanoseconds
+     * @throws SQLException never, the connections are stubs
+     */
+    private static long borrowAndClose(DataSource source, int iterations) throws SQLException {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            source.getConnection().close();
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Creates a data source lending new stub connections, which only track whether they are closed.
+     *
+     * @return the stub data source
+     */
+    private static DataSource stubDataSource() {
+        return (DataSource) Proxy.newProxyInstance(LeakTrackingDataSourceTest.class.getClassLoader(),
+            new Class<?>[]{DataSource.class}, (proxy, method, args) -> {
+                if (method.getName().equals("getConnection")) {
+                    return stubConnection();
+                }
+                throw new UnsupportedOperationException(method.getName());
+            });
+    }
+
+    /**
+     * Creates a stub connection.
+     *
+     * @return a connection whose prepared statements are {@code null}
+     */
+    private static Connection stubConnection() {
+        boolean[] closed = {false};
+        return (Connection) Proxy.newProxyInstance(LeakTrackingDataSourceTest.class.getClassLoader(),
+            new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "close":
+                        closed[0] = true;
+                        return null;
+                    case "isClosed":
+                        return closed[0];
+                    case "createStatement":
+                        return stubStatement();
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        return null;
+                }
+            });
+    }
+
+    /**
+     * Creates a stub statement.
+     *
+     * @return a statement whose calls return {@code null}
+     */
+    private static Statement stubStatement() {
+        return (Statement) Proxy.newProxyInstance(LeakTrackingDataSourceTest.class.getClassLoader(),
+            new Class<?>[]{Statement.class}, (proxy, method, args) -> null);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.sonar.jdbc;
+
+import org.sonar.api.ce.measure.Component;
+import org.sonar.api.ce.measure.Measure;
+import org.sonar.api.ce.measure.MeasureComputer;
+import org.sonar.api.measures.Metric;
+
+import java.util.List;
+
+/**
+ * Sums up the connection pressure measures of files to directories, modules and projects.
+ *
+ * <p>File measures are saved during the analysis by {@link ConnectionPressureSensor}; this
+ * computer runs on the server and aggregates them, so that dashboards can track the totals
+ * of a project over time.</p>
+ *
+ * @since 1.1.0
+ * @see JdbcMetrics
+ */
+public class ConnectionPressureMeasureComputer implements MeasureComputer {
+
+    private static final List<Metric<Integer>> METRICS = List.of(
+        JdbcMetrics.STREAMING_CALL_SITES,
+        JdbcMetrics.UNMANAGED_STREAMS,
+        JdbcMetrics.N_PLUS_ONE_CANDIDATES,
+        JdbcMetrics.BLOCKING_STREAM_CONSUMERS
+    );
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param defContext the definition context
+     * @return a definition whose output metrics are the connection pressure metrics
+     */
+    @Override
+    public MeasureComputerDefinition define(MeasureComputerDefinitionContext defContext) {
+        return defContext.newDefinitionBuilder()
+            .setOutputMetrics(METRICS.stream().map(Metric::getKey).toArray(String[]::new))
+            .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Stores the sum of the children measures on every component but files, whose measures
+     * come from the analysis.</p>
+     *
+     * @param context the context of the component
+     */
+    @Override
+    public void compute(MeasureComputerContext context) {
+        if (context.getComponent().getType() == Component.Type.FILE) {
+            return;
+        }
+        for (Metric<Integer> metric : METRICS) {
+            int sum = 0;
+            for (Measure child : context.getChildrenMeasures(metric.getKey())) {
+                sum += child.getIntValue();
+            }
+            context.addMeasure(metric.getKey(), sum);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.sonar.jdbc;
+
+import com.example.sonar.jdbc.checks.ConnectionPressureMeasures;
+import com.example.sonar.jdbc.checks.ConnectionPressureMeasures.FileMeasures;
+import org.sonar.api.batch.Phase;
+import org.sonar.api.batch.fs.FileSystem;
+import org.sonar.api.batch.fs.InputFile;
+import org.sonar.api.batch.sensor.Sensor;
+import org.sonar.api.batch.sensor.SensorContext;
+import org.sonar.api.batch.sensor.SensorDescriptor;
+import org.sonar.api.measures.Metric;
+
+/**
+ * Sensor saving the connection pressure measures of the Java files of a module.
+ *
+ * <p>The measures are computed during the Java analysis by
+ * {@link com.example.sonar.jdbc.checks.ConnectionPressureCheck}, so this sensor runs in the
+ * post-processing phase and saves nothing when that rule is not active, as documented in the
+ * rule description.</p>
+ *
+ * @since 1.1.0
+ * @see JdbcMetrics
+ * @see ConnectionPressureMeasureComputer
+ */
+@Phase(name = Phase.Name.POST)
+public class ConnectionPressureSensor implements Sensor {
+
+    private static final String LANGUAGE = "java";
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param descriptor the descriptor to fill
+     */
+    @Override
+    public void describe(SensorDescriptor descriptor) {
+        descriptor.name("Spring JDBC connection pressure measures")
+            .onlyOnLanguage(LANGUAGE);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Saves the recorded measures on every Java file of the module, looking them up by file
+     * URI.</p>
+     *
+     * @param context the sensor context of the module
+     */
+    @Override
+    public void execute(SensorContext context) {
+        FileSystem fileSystem = context.fileSystem();
+        for (InputFile file : fileSystem.inputFiles(fileSystem.predicates().hasLanguage(LANGUAGE))) {
+            FileMeasures fileMeasures = ConnectionPressureMeasures.consume(file.uri().toString());
+            if (fileMeasures != null) {
+                save(context, file, JdbcMetrics.STREAMING_CALL_SITES, fileMeasures.streamingCallSites());
+                save(context, file, JdbcMetrics.UNMANAGED_STREAMS, fileMeasures.unmanagedStreams());
+                save(context, file, JdbcMetrics.N_PLUS_ONE_CANDIDATES, fileMeasures.nPlusOneCandidates());
+                save(context, file, JdbcMetrics.BLOCKING_STREAM_CONSUMERS, fileMeasures.blockingStreamConsumers());
+            }
+        }
+    }
+
+    /**
+     * Saves one measure on a file.
+     *
+     * @param context the sensor context
+     * @param file    the file
+     * @param metric  the metric
+     * @param value   the value
+     */
+    private static void save(SensorContext context, InputFile file, Metric<Integer> metric, int value) {
+        context.<Integer>newMeasure()
+            .on(file)
+            .forMetric(metric)
+            .withValue(value)
+            .save();
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.sonar.jdbc;
+
+import com.example.sonar.jdbc.checks.DataSourceConfigurationCheck;
+import com.example.sonar.jdbc.checks.StreamingCallSites;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sonar.api.batch.Phase;
+import org.sonar.api.batch.fs.FilePredicates;
+import org.sonar.api.batch.fs.FileSystem;
+import org.sonar.api.batch.fs.InputFile;
+import org.sonar.api.batch.rule.CheckFactory;
+import org.sonar.api.batch.rule.Checks;
+import org.sonar.api.batch.sensor.Sensor;
+import org.sonar.api.batch.sensor.SensorContext;
+import org.sonar.api.batch.sensor.SensorDescriptor;
+import org.sonar.api.batch.sensor.issue.NewIssue;
+import org.sonar.api.rule.RuleKey;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sensor running the configuration rules on the Spring Boot configuration files of a module.
+ *
+ * <p>The sensor runs in the post-processing phase, after the Java sensor, so that the
+ * {@linkplain StreamingCallSites streaming call sites} found by the Java checks in the Java
+ * files of the same module are known when the connection pools are checked. The call sites are only counted by
+ * the {@code SpringJdbcStreamLeak} rule, so the checks comparing pools with them are skipped
+ * when that rule is not active, and when unchanged files may be skipped by the Java analysis.
+ * Configuration files are found among the main files of the module, so
+ * {@code src/main/resources} must be part of {@code sonar.sources}, which is the default with
+ * the Maven and Gradle scanners; test configuration files are ignored.</p>
+ *
+ * @since 1.1.0
+ * @see DataSourceConfigurationCheck
+ * @see RulesList#getConfigurationChecks()
+ */
+@Phase(name = Phase.Name.POST)
+public class DataSourceConfigurationSensor implements Sensor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DataSourceConfigurationSensor.class);
+
+    private static final String[] CONFIGURATION_FILES = {
+        "**/application*.properties", "**/application*.yml", "**/application*.yaml",
+        "**/bootstrap*.properties", "**/bootstrap*.yml", "**/bootstrap*.yaml"
+    };
+
+    private static final RuleKey STREAM_LEAK_RULE = RuleKey.of(JdbcClientRulesDefinition.REPOSITORY_KEY, "SpringJdbcStreamLeak");
+
+    private final Checks<DataSourceConfigurationCheck> checks;
+
+    /**
+     * Constructs the sensor with the configuration rules active in the quality profile.
+     *
+     * @param checkFactory the factory of active rules, with their parameters
+     */
+    public DataSourceConfigurationSensor(CheckFactory checkFactory) {
+        this.checks = checkFactory.<DataSourceConfigurationCheck>create(JdbcClientRulesDefinition.REPOSITORY_KEY)
+            .addAnnotatedChecks((Iterable<?>) RulesList.getConfigurationChecks());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param descriptor the descriptor to fill
+     */
+    @Override
+    public void describe(SensorDescriptor descriptor) {
+        descriptor.name("Spring JDBC DataSource configuration")
+            .createIssuesForRuleRepository(JdbcClientRulesDefinition.REPOSITORY_KEY);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Checks every main configuration file of the module with every active configuration
+     * rule.</p>
+     *
+     * @param context the sensor context of the module
+     */
+    @Override
+    public void execute(SensorContext context) {
+        FileSystem fileSystem = context.fileSystem();
+        FilePredicates predicates = fileSystem.predicates();
+        List<String> javaFiles = new ArrayList<>();
+        for (InputFile file : fileSystem.inputFiles(predicates.hasLanguage("java"))) {
+            javaFiles.add(file.uri().toString());
+        }
+        int streamingCallSites = StreamingCallSites.consume(javaFiles);
+        if (context.activeRules().find(STREAM_LEAK_RULE) == null || context.canSkipUnchangedFiles()) {
+            // Without the count of every file, pools are not compared with the streaming call sites
+            LOG.debug("Streaming call sites not counted on every file, skipping the pool size and leak detection checks");
+            streamingCallSites = 0;
+        }
+        for (InputFile file : fileSystem.inputFiles(predicates.and(
+            predicates.hasType(InputFile.Type.MAIN), predicates.matchesPathPatterns(CONFIGURATION_FILES)))) {
+            String content;
+            try {
+                content = file.contents();
+            } catch (IOException e) {
+                LOG.warn("Unable to read the configuration file {}", file, e);
+                continue;
+            }
+            for (DataSourceConfigurationCheck check : checks.all()) {
+                RuleKey ruleKey = checks.ruleKey(check);
+                for (DataSourceConfigurationCheck.ConfigurationIssue issue : check.scan(file.filename(), content, streamingCallSites)) {
+                    NewIssue newIssue = context.newIssue().forRule(ruleKey);
+                    newIssue.at(newIssue.newLocation()
+                            .on(file)
+                            .at(file.selectLine(issue.line()))
+                            .message(issue.message()))
+                        .save();
+                }
+            }
+        }
+    }
+}
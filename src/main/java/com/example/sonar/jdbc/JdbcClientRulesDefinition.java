@@ -16,7 +16,8 @@ import java.util.List;
  * <ul>
  *   <li>Creating the custom rules repository with key {@value #REPOSITORY_KEY}</li>
  *   <li>Loading rule metadata from JSON and HTML resource files</li>
- *   <li>Registering all checks from {@link RulesList}</li>
+ *   <li>Registering all checks from {@link RulesList}, including the configuration rules
+ *       run by {@link DataSourceConfigurationSensor}</li>
  * </ul>
  *
  * <p>Rule metadata is loaded from {@code org/sonar/l10n/java/rules/jdbc/} resources.
@@ -29,7 +30,7 @@ import java.util.List;
  */
 public class JdbcClientRulesDefinition implements RulesDefinition {
 
-    private static final String REPOSITORY_KEY = "spring-jdbc-leak-detector";
+    static final String REPOSITORY_KEY = "spring-jdbc-leak-detector";
     private static final String REPOSITORY_NAME = "Spring JDBC Leak Detector";
     private static final String LANGUAGE = "java";
     private static final String RESOURCE_BASE_PATH = "org/sonar/l10n/java/rules/jdbc";
@@ -63,6 +64,7 @@ public class JdbcClientRulesDefinition implements RulesDefinition {
 
         // Load rule metadata from JSON and HTML files
         ruleMetadataLoader.addRulesByAnnotatedClass(repository, RulesList.getChecks());
+        ruleMetadataLoader.addRulesByAnnotatedClass(repository, RulesList.getConfigurationChecks());
 
         repository.done();
     }
@@ -13,6 +13,9 @@ import org.sonar.api.Plugin;
  * <ul>
  *   <li>{@link JdbcClientRulesDefinition} - Rule definitions for SonarQube</li>
  *   <li>{@link JdbcClientRulesDefinition.JdbcClientCheckRegistrar} - Check registrar for SonarLint</li>
+ *   <li>{@link DataSourceConfigurationSensor} - Connection pool checks on Spring Boot configuration files</li>
+ *   <li>{@link JdbcMetrics}, {@link ConnectionPressureSensor} and {@link ConnectionPressureMeasureComputer} -
+ *       Connection pressure measures on files, summed up to directories and projects</li>
  * </ul>
  *
  * @since 1.0.0
@@ -35,5 +38,11 @@ public class JdbcClientRulesPlugin implements Plugin {
 
         // Register the check registrar for SonarLint support (provides checks via CheckRegistrar)
         context.addExtension(JdbcClientRulesDefinition.JdbcClientCheckRegistrar.class);
+
+        // Register the sensor checking connection pool settings in configuration files
+        context.addExtension(DataSourceConfigurationSensor.class);
+
+        // Register the connection pressure metrics, the sensor saving them on files and their aggregation
+        context.addExtensions(JdbcMetrics.class, ConnectionPressureSensor.class, ConnectionPressureMeasureComputer.class);
     }
 }
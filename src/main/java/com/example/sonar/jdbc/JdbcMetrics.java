@@ -0,0 +1,72 @@
+package com.example.sonar.jdbc;
+
+import org.sonar.api.measures.Metric;
+import org.sonar.api.measures.Metrics;
+
+import java.util.List;
+
+/**
+ * Custom metrics tracking the pressure that the code puts on the database connection pool.
+ *
+ * <p>The metrics are measured on files by {@link ConnectionPressureSensor} and summed up to
+ * directories and projects by {@link ConnectionPressureMeasureComputer}. They all grow with
+ * the risk, so a lower value is better.</p>
+ *
+ * @since 1.1.0
+ * @see com.example.sonar.jdbc.checks.ConnectionPressureCheck
+ */
+public class JdbcMetrics implements Metrics {
+
+    private static final String DOMAIN = "Spring JDBC";
+
+    /**
+     * Number of calls opening a connection-holding stream.
+     */
+    public static final Metric<Integer> STREAMING_CALL_SITES = metric("jdbc_streaming_call_sites",
+        "JDBC streaming call sites", "Calls opening a stream that holds a database connection until closed");
+
+    /**
+     * Number of streams neither managed by try-with-resources nor handed over by a {@code @MustBeClosed} method.
+     */
+    public static final Metric<Integer> UNMANAGED_STREAMS = metric("jdbc_unmanaged_streams",
+        "Unmanaged JDBC streams", "Streaming call sites outside try-with-resources and @MustBeClosed methods");
+
+    /**
+     * Number of database round trips run once per loop iteration or per streamed row.
+     */
+    public static final Metric<Integer> N_PLUS_ONE_CANDIDATES = metric("jdbc_n_plus_one_candidates",
+        "JDBC N+1 candidates", "Database round trips run once per loop iteration or per row of a stream");
+
+    /**
+     * Number of streams whose consumption makes remote or blocking calls.
+     */
+    public static final Metric<Integer> BLOCKING_STREAM_CONSUMERS = metric("jdbc_blocking_stream_consumers",
+        "JDBC streams consumed with blocking calls", "Streams whose rows are consumed with remote or blocking calls");
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return all metrics of this plugin
+     */
+    @Override
+    public List<Metric> getMetrics() {
+        return List.of(STREAMING_CALL_SITES, UNMANAGED_STREAMS, N_PLUS_ONE_CANDIDATES, BLOCKING_STREAM_CONSUMERS);
+    }
+
+    /**
+     * Creates an integer metric where a lower value is better.
+     *
+     * @param key         the metric key
+     * @param name        the display name
+     * @param description the description
+     * @return the metric
+     */
+    private static Metric<Integer> metric(String key, String name, String description) {
+        return new Metric.Builder(key, name, Metric.ValueType.INT)
+            .setDescription(description)
+            .setDirection(Metric.DIRECTION_WORST)
+            .setQualitative(false)
+            .setDomain(DOMAIN)
+            .create();
+    }
+}
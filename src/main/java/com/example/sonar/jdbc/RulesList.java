@@ -1,6 +1,29 @@
 package com.example.sonar.jdbc;
 
+import com.example.sonar.jdbc.checks.ConnectionPressureCheck;
+import com.example.sonar.jdbc.checks.DataSourceConfigurationCheck;
+import com.example.sonar.jdbc.checks.DataSourceConnectionLeakCheck;
+import com.example.sonar.jdbc.checks.DynamicSqlConcatenationCheck;
+import com.example.sonar.jdbc.checks.EndpointRoundTripsCheck;
+import com.example.sonar.jdbc.checks.HeavyweightResultCopyCheck;
+import com.example.sonar.jdbc.checks.JdbcFacadeInstantiationCheck;
+import com.example.sonar.jdbc.checks.JdbcStreamStoredInStateCheck;
+import com.example.sonar.jdbc.checks.LazyCursorLeakCheck;
+import com.example.sonar.jdbc.checks.MustBeClosedContractCheck;
+import com.example.sonar.jdbc.checks.NestedJdbcStreamCheck;
+import com.example.sonar.jdbc.checks.OffsetPaginationCheck;
+import com.example.sonar.jdbc.checks.PerRowWriteInStreamCheck;
+import com.example.sonar.jdbc.checks.ReadOnlyStreamingTransactionCheck;
+import com.example.sonar.jdbc.checks.ReflectiveRowMapperCheck;
+import com.example.sonar.jdbc.checks.ShortCircuitJdbcStreamCheck;
+import com.example.sonar.jdbc.checks.SpringDataRepositoryStreamLeakCheck;
+import com.example.sonar.jdbc.checks.SqlInventoryCheck;
+import com.example.sonar.jdbc.checks.SpringJdbcStreamAsyncEscapeCheck;
 import com.example.sonar.jdbc.checks.SpringJdbcStreamLeakCheck;
+import com.example.sonar.jdbc.checks.SynchronizedJdbcCallCheck;
+import com.example.sonar.jdbc.checks.TransactionalRemoteCallCheck;
+import com.example.sonar.jdbc.checks.UnboundedQueryCheck;
+import com.example.sonar.jdbc.checks.UnindexedPredicateCheck;
 
 import java.util.List;
 
@@ -45,8 +68,45 @@ public final class RulesList {
      */
     public static List<Class<?>> getChecks() {
         return List.of(
-            SpringJdbcStreamLeakCheck.class
+            SpringJdbcStreamLeakCheck.class,
+            SpringJdbcStreamAsyncEscapeCheck.class,
+            SpringDataRepositoryStreamLeakCheck.class,
+            DataSourceConnectionLeakCheck.class,
+            LazyCursorLeakCheck.class,
+            TransactionalRemoteCallCheck.class,
+            UnboundedQueryCheck.class,
+            OffsetPaginationCheck.class,
+            DynamicSqlConcatenationCheck.class,
+            JdbcFacadeInstantiationCheck.class,
+            ReflectiveRowMapperCheck.class,
+            NestedJdbcStreamCheck.class,
+            PerRowWriteInStreamCheck.class,
+            SynchronizedJdbcCallCheck.class,
+            ShortCircuitJdbcStreamCheck.class,
+            HeavyweightResultCopyCheck.class,
+            JdbcStreamStoredInStateCheck.class,
+            ReadOnlyStreamingTransactionCheck.class,
+            EndpointRoundTripsCheck.class,
+            SqlInventoryCheck.class,
+            UnindexedPredicateCheck.class,
+            MustBeClosedContractCheck.class,
+            ConnectionPressureCheck.class
             // Add more custom checks here as needed
         );
     }
+
+    /**
+     * Returns the list of rule classes checking configuration files instead of Java code.
+     *
+     * <p>These classes are not {@code JavaCheck}s: they are loaded in the repository with the
+     * other rules, but run by {@link DataSourceConfigurationSensor} rather than registered
+     * with the Java analyzer.</p>
+     *
+     * @return an immutable list of rule classes; never {@code null}
+     */
+    public static List<Class<?>> getConfigurationChecks() {
+        return List.of(
+            DataSourceConfigurationCheck.class
+        );
+    }
 }
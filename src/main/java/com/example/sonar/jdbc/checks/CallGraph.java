@@ -0,0 +1,276 @@
+package com.example.sonar.jdbc.checks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Project-wide call graph annotated with the JDBC cost of each method.
+ *
+ * <p>Each method body is a node identified by its signature, as returned by
+ * {@link org.sonar.plugins.java.api.semantic.Symbol.MethodSymbol#signature()}. It records the
+ * round trips and connection acquisitions of the body and its calls to other methods, all
+ * weighted by the loops they run in. Calls refer to methods by a {@linkplain #key(String, String, int)
+ * key} made of the simple owner name, the method name and the arity, which can be computed
+ * even when the callee lives in a file whose types are not resolved. A method is registered
+ * under its own key and the keys of the types it overrides, and a call resolves to the most
+ * expensive method registered under its key.</p>
+ *
+ * <p>The graph is filled file by file during the analysis and evaluated once at its end.
+ * Recursive calls are cut, and all costs saturate at {@link #MAX_COST}. Costs are memoized
+ * unless a call below them was cut, so evaluating all entry points is linear in the size of an
+ * acyclic graph.</p>
+ *
+ * @since 1.1.0
+ * @see EndpointRoundTripsCheck
+ */
+final class CallGraph {
+
+    static final long MAX_COST = 1_000_000_000L;
+    private static final int MAX_CALL_DEPTH = 100;
+
+    private final Map<String, Node> nodes = new HashMap<>();
+    private final Map<String, List<String>> methodsByKey = new HashMap<>();
+    private final Map<String, Cost> costs = new HashMap<>();
+
+    /**
+     * Returns the key under which calls refer to a method.
+     *
+     * @param owner  the simple name of the declaring or receiver type
+     * @param method the method name
+     * @param arity  the number of arguments
+     * @return the key, e.g. {@code UserService#countActiveUsers/0}
+     */
+    static String key(String owner, String method, int arity) {
+        return owner + "#" + method + "/" + arity;
+    }
+
+    /**
+     * Adds a method with a body to the graph.
+     *
+     * @param signature the unique signature of the method
+     * @param node      the cost of the method body and its outgoing calls
+     * @param keys      the keys under which calls reach the method
+     */
+    void addMethod(String signature, Node node, Collection<String> keys) {
+        nodes.put(signature, node);
+        for (String key : keys) {
+            methodsByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(signature);
+        }
+        costs.clear();
+    }
+
+    /**
+     * Returns the cost of one invocation of a method, including the methods it calls.
+     *
+     * @param signature the unique signature of the method
+     * @return the cost, zero for methods unknown to the graph
+     */
+    Cost cost(String signature) {
+        return methodCost(signature, 0, new Walk());
+    }
+
+    /**
+     * Removes all methods and memoized costs.
+     */
+    void clear() {
+        nodes.clear();
+        methodsByKey.clear();
+        costs.clear();
+    }
+
+    /**
+     * Computes the cost of a method, bounded by {@link #MAX_CALL_DEPTH}.
+     *
+     * <p>A cost is only memoized when no call below the method was cut, as a cut cost depends on
+     * the path that reached the method and would be reused by entry points reaching it another
+     * way.</p>
+     *
+     * @param signature the unique signature of the method
+     * @param depth     the number of calls followed so far
+     * @param walk      the state of the current evaluation
+     * @return the cost, zero for unknown methods and recursive calls
+     */
+    private Cost methodCost(String signature, int depth, Walk walk) {
+        Cost memoized = costs.get(signature);
+        if (memoized != null) {
+            return memoized;
+        }
+        Node node = nodes.get(signature);
+        if (node == null) {
+            return Cost.ZERO;
+        }
+        if (depth > MAX_CALL_DEPTH || !walk.path.add(signature)) {
+            walk.cut = true;
+            return Cost.ZERO;
+        }
+        boolean outerCut = walk.cut;
+        walk.cut = false;
+        long roundTrips = node.roundTrips;
+        long acquisitions = node.acquisitions;
+        for (Call call : node.calls) {
+            Cost callee = Cost.ZERO;
+            for (String candidate : methodsByKey.getOrDefault(call.key, List.of())) {
+                callee = Cost.max(callee, methodCost(candidate, depth + 1, walk));
+            }
+            roundTrips = saturatedAdd(roundTrips, saturatedMultiply(callee.roundTrips, call.weight));
+            acquisitions = saturatedAdd(acquisitions, saturatedMultiply(callee.acquisitions, call.weight));
+        }
+        if (node.transactional) {
+            // A transactional method holds one connection for all the statements it runs
+            acquisitions = roundTrips > 0 ? 1 : 0;
+        }
+        Cost result = new Cost(roundTrips, acquisitions);
+        walk.path.remove(signature);
+        if (!walk.cut) {
+            costs.put(signature, result);
+        }
+        walk.cut |= outerCut;
+        return result;
+    }
+
+    /**
+     * Adds two costs, saturating at {@link #MAX_COST}.
+     *
+     * @param a a non-negative cost
+     * @param b a non-negative cost
+     * @return the sum, at most {@link #MAX_COST}
+     */
+    static long saturatedAdd(long a, long b) {
+        return Math.min(MAX_COST, a + b);
+    }
+
+    /**
+     * Multiplies two costs, saturating at {@link #MAX_COST}.
+     *
+     * @param a a non-negative cost, at most {@link #MAX_COST}
+     * @param b a non-negative factor, at most {@link #MAX_COST}
+     * @return the product, at most {@link #MAX_COST}
+     */
+    static long saturatedMultiply(long a, long b) {
+        if (a != 0 && b > MAX_COST / a) {
+            return MAX_COST;
+        }
+        return a * b;
+    }
+
+    /**
+     * JDBC cost of a method body and the calls it makes.
+     */
+    static final class Node {
+
+        private final boolean transactional;
+        private final List<Call> calls = new ArrayList<>();
+        private long roundTrips;
+        private long acquisitions;
+
+        Node(boolean transactional) {
+            this.transactional = transactional;
+        }
+
+        /**
+         * Records round trips to the database.
+         *
+         * @param weight the number of times they run per invocation of the method
+         */
+        void addRoundTrips(long weight) {
+            roundTrips = saturatedAdd(roundTrips, weight);
+        }
+
+        /**
+         * Records connection acquisitions from the pool.
+         *
+         * @param weight the number of times they run per invocation of the method
+         */
+        void addAcquisitions(long weight) {
+            acquisitions = saturatedAdd(acquisitions, weight);
+        }
+
+        /**
+         * Records a call to another method.
+         *
+         * @param key    the {@linkplain CallGraph#key(String, String, int) key} of the called method
+         * @param weight the number of times it runs per invocation of the method
+         */
+        void addCall(String key, long weight) {
+            calls.add(new Call(key, weight));
+        }
+    }
+
+    /**
+     * Weighted edge of the call graph.
+     */
+    private static final class Call {
+
+        private final String key;
+        private final long weight;
+
+        Call(String key, long weight) {
+            this.key = key;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * State of the evaluation of one entry point.
+     */
+    private static final class Walk {
+
+        // Methods on the current call path
+        private final Set<String> path = new HashSet<>();
+        // Whether a recursive call or the depth limit was cut below the current method
+        private boolean cut;
+    }
+
+    /**
+     * Estimated JDBC round trips and connection acquisitions of one method invocation.
+     */
+    static final class Cost {
+
+        static final Cost ZERO = new Cost(0, 0);
+
+        private final long roundTrips;
+        private final long acquisitions;
+
+        Cost(long roundTrips, long acquisitions) {
+            this.roundTrips = roundTrips;
+            this.acquisitions = acquisitions;
+        }
+
+        /**
+         * Returns the estimated number of statements sent to the database.
+         *
+         * @return the round trips, at most {@link #MAX_COST}
+         */
+        long roundTrips() {
+            return roundTrips;
+        }
+
+        /**
+         * Returns the estimated number of connections borrowed from the pool.
+         *
+         * @return the acquisitions, at most {@link #MAX_COST}
+         */
+        long acquisitions() {
+            return acquisitions;
+        }
+
+        /**
+         * Returns the more expensive of two costs, by round trips.
+         *
+         * @param a a cost
+         * @param b another cost
+         * @return the cost with more round trips, or with more acquisitions on a tie
+         */
+        static Cost max(Cost a, Cost b) {
+            if (a.roundTrips != b.roundTrips) {
+                return a.roundTrips > b.roundTrips ? a : b;
+            }
+            return a.acquisitions >= b.acquisitions ? a : b;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.sonar.jdbc.checks;
+
+import org.sonar.plugins.java.api.semantic.Type;
+import org.sonar.plugins.java.api.tree.*;
+
+import java.util.Set;
+
+/**
+ * Shared detection of the class member whose execution evaluates a tree.
+ *
+ * <p>Objects that are expensive to build, like JDBC facades and reflective row mappers, are
+ * fine when created once: in a constructor, an initializer block, a field initializer or a
+ * {@code @Bean} method. The same expression in a regular method runs on every call. Lambdas
+ * are looked through, so a callback is attributed to the member declaring it.</p>
+ *
+ * <p>Annotations are matched by simple name, whether or not their type is resolved, so that
+ * Spring stereotypes need no dependency on the analysis classpath.</p>
+ *
+ * @since 1.1.0
+ */
+final class ClassMembers {
+
+    private static final String BEAN = "Bean";
+    // Stereotypes whose methods run per request rather than once at startup
+    private static final Set<String> CONTROLLER_STEREOTYPES = Set.of("Controller", "RestController");
+    private static final Set<String> SERVICE_STEREOTYPES = Set.of("Service", "Repository");
+    private static final String CONTROLLER = "Controller";
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private ClassMembers() {
+        // Utility class - private constructor
+    }
+
+    /**
+     * Returns the class member whose execution evaluates a tree.
+     *
+     * @param tree the tree to start from
+     * @return the enclosing method, constructor, initializer block or field, or {@code null} if none is found
+     */
+    static Tree enclosingMember(Tree tree) {
+        Tree current = tree.parent();
+        while (current != null) {
+            if (current.is(Tree.Kind.METHOD, Tree.Kind.CONSTRUCTOR, Tree.Kind.INITIALIZER, Tree.Kind.STATIC_INITIALIZER)) {
+                return current;
+            }
+            if (current.is(Tree.Kind.VARIABLE) && current.parent() != null &&
+                current.parent().is(Tree.Kind.CLASS, Tree.Kind.ENUM, Tree.Kind.RECORD, Tree.Kind.INTERFACE)) {
+                return current;
+            }
+            current = current.parent();
+        }
+        return null;
+    }
+
+    /**
+     * Checks if a tree is evaluated once per object or per application context rather than
+     * on every method call.
+     *
+     * @param tree the tree
+     * @return {@code true} inside constructors, initializers, field initializers and {@code @Bean} methods
+     */
+    static boolean isOneTimeInitialization(Tree tree) {
+        Tree member = enclosingMember(tree);
+        if (member == null || !member.is(Tree.Kind.METHOD)) {
+            return true;
+        }
+        return annotationNamed(((MethodTree) member).modifiers(), Set.of(BEAN)) != null;
+    }
+
+    /**
+     * Returns the stereotype of the class declaring the method that evaluates a tree, when
+     * that class handles requests or business operations.
+     *
+     * @param tree the tree
+     * @return {@code Controller}, {@code Service} or {@code Repository}, or {@code null} for other classes
+     */
+    static String stereotype(Tree tree) {
+        Tree member = enclosingMember(tree);
+        Tree parent = member == null ? null : member.parent();
+        if (!(parent instanceof ClassTree)) {
+            return null;
+        }
+        ModifiersTree modifiers = ((ClassTree) parent).modifiers();
+        if (annotationNamed(modifiers, CONTROLLER_STEREOTYPES) != null) {
+            return CONTROLLER;
+        }
+        return annotationNamed(modifiers, SERVICE_STEREOTYPES);
+    }
+
+    /**
+     * Returns the simple name of the first annotation among the given modifiers that matches
+     * one of the expected simple names.
+     *
+     * @param modifiers   the modifiers of a method or class
+     * @param simpleNames the accepted simple names
+     * @return the matching simple name, or {@code null} if there is none
+     */
+    static String annotationNamed(ModifiersTree modifiers, Set<String> simpleNames) {
+        for (AnnotationTree annotation : modifiers.annotations()) {
+            Type type = annotation.symbolType();
+            String name = type.isUnknown() ? TransactionalScopes.simpleName(annotation.annotationType()) : type.name();
+            if (simpleNames.contains(name)) {
+                return name;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the simple name of a type as written in source.
+     *
+     * @param type the type tree
+     * @return the simple name without type arguments, or {@code null} for other kinds of types
+     */
+    static String simpleTypeName(TypeTree type) {
+        Tree current = type;
+        if (current.is(Tree.Kind.PARAMETERIZED_TYPE)) {
+            current = ((ParameterizedTypeTree) current).type();
+        }
+        return TransactionalScopes.simpleName(current);
+    }
+
+    /**
+     * Returns the simple name of the type a receiver variable or field is declared with in source.
+     *
+     * <p>This works without semantic information on the declared type, as long as the
+     * declaration of the variable is found in the same file.</p>
+     *
+     * @param receiver the receiver of a call, e.g. {@code jdbcTemplate} or {@code this.jdbcTemplate}
+     * @return the declared simple type name, or {@code null} if the declaration is not found
+     */
+    static String declaredTypeName(ExpressionTree receiver) {
+        ExpressionTree current = JdbcStreamMethods.skipParenthesesAndCasts(receiver);
+        if (current != null && current.is(Tree.Kind.MEMBER_SELECT)) {
+            current = ((MemberSelectExpressionTree) current).identifier();
+        }
+        if (current == null || !current.is(Tree.Kind.IDENTIFIER)) {
+            return null;
+        }
+        Tree declaration = ((IdentifierTree) current).symbol().declaration();
+        return declaration instanceof VariableTree ? simpleTypeName(((VariableTree) declaration).type()) : null;
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.sonar.jdbc.checks;
+
+import org.sonar.check.Rule;
+import org.sonar.check.RuleProperty;
+import org.sonar.plugins.java.api.InputFileScannerContext;
+import org.sonar.plugins.java.api.IssuableSubscriptionVisitor;
+import org.sonar.plugins.java.api.JavaFileScannerContext;
+import org.sonar.plugins.java.api.tree.MethodInvocationTree;
+import org.sonar.plugins.java.api.tree.Tree;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * SonarQube check computing per-file measures of the pressure put on the connection pool.
+ *
+ * <p>Issues point at individual defects, but do not show whether a code base as a whole puts
+ * more or less pressure on the database over time. This check counts, for every Java file:</p>
+ * <ul>
+ *   <li>the calls opening a connection-holding stream, as recognized by
+ *       {@link SpringJdbcStreamLeakCheck} with the same {@code mustBeClosedAnnotations}</li>
+ *   <li>the streams among them that are neither opened in try-with-resources nor handed over
+ *       by a {@code @MustBeClosed} method</li>
+ *   <li>the N+1 query candidates: database round trips run once per loop iteration or once
+ *       per row of a stream being consumed</li>
+ *   <li>the streams whose consumption makes one of the {@code blockingCalls}, holding their
+ *       connection for the duration of remote calls</li>
+ * </ul>
+ *
+ * <p>The measures are saved on the file by the measures sensor of the plugin and summed up
+ * to directories and projects on the server, so they can be tracked on dashboards. The check
+ * raises no issues.</p>
+ *
+ * @since 1.1.0
+ * @see ConnectionPressureMeasures
+ * @see StreamConsumers
+ */
+@Rule(key = "ConnectionPressure")
+public class ConnectionPressureCheck extends IssuableSubscriptionVisitor {
+
+    /**
+     * Comma-separated list of remote or blocking APIs, as {@code fully.qualified.Type} or
+     * {@code fully.qualified.Type#method}.
+     */
+    @RuleProperty(
+        key = "blockingCalls",
+        description = "Comma-separated list of remote or blocking APIs: fully qualified type names, optionally followed by #method",
+        defaultValue = RemoteCalls.DEFAULT_REMOTE_CALLS)
+    public String blockingCalls = RemoteCalls.DEFAULT_REMOTE_CALLS;
+
+    /**
+     * Comma-separated list of the annotations declaring that the result of a method must be closed.
+     */
+    @RuleProperty(
+        key = "mustBeClosedAnnotations",
+        description = "Comma-separated list of annotations marking methods whose result must be closed, " +
+            "as fully qualified names or simple names matching any package",
+        defaultValue = MustBeClosedAnnotations.DEFAULT_ANNOTATIONS)
+    public String mustBeClosedAnnotations = MustBeClosedAnnotations.DEFAULT_ANNOTATIONS;
+
+    private RemoteCalls blockingApis;
+    private MustBeClosedAnnotations annotations;
+    private final Set<Tree> nPlusOneCandidates = new HashSet<>();
+    private int streamingCallSites;
+    private int unmanagedStreams;
+    private int blockingStreamConsumers;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return a singleton list containing {@link Tree.Kind#METHOD_INVOCATION}
+     */
+    @Override
+    public List<Tree.Kind> nodesToVisit() {
+        return Collections.singletonList(Tree.Kind.METHOD_INVOCATION);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Measures are saved anew on every file at each analysis, so unchanged files are
+     * parsed too: skipping them would leave them without measures and the totals of the
+     * project too low.</p>
+     *
+     * @param context the context of the unchanged file
+     * @return always {@code false}
+     */
+    @Override
+    public boolean scanWithoutParsing(InputFileScannerContext context) {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Starts the measures of a new file.</p>
+     *
+     * @param context the context of the file
+     */
+    @Override
+    public void setContext(JavaFileScannerContext context) {
+        super.setContext(context);
+        nPlusOneCandidates.clear();
+        streamingCallSites = 0;
+        unmanagedStreams = 0;
+        blockingStreamConsumers = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Counts round trips in loops, and stream acquisitions with the round trips and
+     * blocking calls of their consumption.</p>
+     *
+     * @param tree the AST node to visit, guaranteed to be a {@link MethodInvocationTree}
+     */
+    @Override
+    public void visitNode(Tree tree) {
+        MethodInvocationTree mit = (MethodInvocationTree) tree;
+        if (JdbcStreamMethods.isRoundTrip(mit) && Loops.isInLoop(mit)) {
+            nPlusOneCandidates.add(mit);
+        }
+        if (!JdbcStreamMethods.isConnectionHoldingStream(mit, annotations())) {
+            return;
+        }
+        streamingCallSites++;
+        if (!JdbcStreamMethods.isInTryWithResources(mit) && !annotations().isHandedOver(mit)) {
+            unmanagedStreams++;
+        }
+        List<Tree> scopes = StreamConsumers.consumptionScopes(mit);
+        for (StreamConsumers.Match roundTrip : StreamConsumers.findCalls(scopes, JdbcStreamMethods::isRoundTrip)) {
+            nPlusOneCandidates.add(roundTrip.target());
+        }
+        if (!StreamConsumers.findCalls(scopes, blockingApis()::isRemoteCall).isEmpty()) {
+            blockingStreamConsumers++;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Records the measures of the file for the measures sensor.</p>
+     *
+     * @param context the context of the file
+     */
+    @Override
+    public void leaveFile(JavaFileScannerContext context) {
+        ConnectionPressureMeasures.record(context.getInputFile().uri().toString(),
+            new ConnectionPressureMeasures.FileMeasures(streamingCallSites, unmanagedStreams,
+                nPlusOneCandidates.size(), blockingStreamConsumers));
+        super.leaveFile(context);
+    }
+
+    /**
+     * Returns the blocking APIs configured by the {@code blockingCalls} rule property.
+     *
+     * @return the parsed blocking calls
+     */
+    private RemoteCalls blockingApis() {
+        if (blockingApis == null) {
+            blockingApis = RemoteCalls.parse(blockingCalls);
+        }
+        return blockingApis;
+    }
+
+    /**
+     * Returns the configured {@code @MustBeClosed}-style annotations.
+     *
+     * @return the parsed {@code mustBeClosedAnnotations} property
+     */
+    private MustBeClosedAnnotations annotations() {
+        if (annotations == null) {
+            annotations = MustBeClosedAnnotations.parse(mustBeClosedAnnotations);
+        }
+        return annotations;
+    }
+}
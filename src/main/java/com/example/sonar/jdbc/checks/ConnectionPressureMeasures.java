@@ -0,0 +1,101 @@
+package com.example.sonar.jdbc.checks;
+
+/**
+ * Per-file connection pressure measures computed by {@link ConnectionPressureCheck}.
+ *
+ * <p>Java checks cannot save measures themselves, so the check records the measures of each
+ * analyzed file here, and the measures sensor of the plugin saves them once the Java analysis
+ * of the module is over. The measures are kept by file URI in the
+ * {@linkplain FileRecords registry} of the plugin, and are only computed while
+ * {@link ConnectionPressureCheck} is active.</p>
+ *
+ * @since 1.1.0
+ * @see ConnectionPressureCheck
+ */
+public final class ConnectionPressureMeasures {
+
+    private static final FileRecords<FileMeasures> RECORDS = new FileRecords<>("connectionPressure");
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private ConnectionPressureMeasures() {
+        // Utility class - private constructor
+    }
+
+    /**
+     * Records the measures of one file, replacing those of a previous analysis.
+     *
+     * @param fileUri  the URI of the file
+     * @param measures the measures of the file
+     */
+    static void record(String fileUri, FileMeasures measures) {
+        RECORDS.record(fileUri, measures);
+    }
+
+    /**
+     * Returns the measures recorded for one file and forgets them.
+     *
+     * @param fileUri the URI of the file
+     * @return the measures of the file, {@code null} if none were recorded
+     */
+    public static FileMeasures consume(String fileUri) {
+        return RECORDS.consume(fileUri);
+    }
+
+    /**
+     * The connection pressure measures of one file.
+     */
+    public static final class FileMeasures {
+
+        private final int streamingCallSites;
+        private final int unmanagedStreams;
+        private final int nPlusOneCandidates;
+        private final int blockingStreamConsumers;
+
+        FileMeasures(int streamingCallSites, int unmanagedStreams, int nPlusOneCandidates, int blockingStreamConsumers) {
+            this.streamingCallSites = streamingCallSites;
+            this.unmanagedStreams = unmanagedStreams;
+            this.nPlusOneCandidates = nPlusOneCandidates;
+            this.blockingStreamConsumers = blockingStreamConsumers;
+        }
+
+        /**
+         * Returns the number of calls opening a connection-holding stream.
+         *
+         * @return the streaming call sites of the file
+         */
+        public int streamingCallSites() {
+            return streamingCallSites;
+        }
+
+        /**
+         * Returns the number of streams neither managed by try-with-resources nor handed over
+         * by a {@code @MustBeClosed} method.
+         *
+         * @return the unmanaged streaming call sites of the file
+         */
+        public int unmanagedStreams() {
+            return unmanagedStreams;
+        }
+
+        /**
+         * Returns the number of database round trips run once per loop iteration or per
+         * streamed row.
+         *
+         * @return the N+1 query candidates of the file
+         */
+        public int nPlusOneCandidates() {
+            return nPlusOneCandidates;
+        }
+
+        /**
+         * Returns the number of streams whose consumption makes remote or blocking calls.
+         *
+         * @return the streams of the file consumed with blocking calls
+         */
+        public int blockingStreamConsumers() {
+            return blockingStreamConsumers;
+        }
+    }
+}
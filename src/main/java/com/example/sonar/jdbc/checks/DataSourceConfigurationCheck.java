@@ -0,0 +1,337 @@
+package com.example.sonar.jdbc.checks;
+
+import org.sonar.check.Rule;
+import org.sonar.check.RuleProperty;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Rule checking the HikariCP connection pools declared in Spring Boot configuration files.
+ *
+ * <p>A misconfigured pool hurts as much as a leak in the code: a pool smaller than the number
+ * of places that stream rows exhausts as soon as they run together, a pool without leak
+ * detection hides the leaks, and huge timeouts turn a saturated pool into hanging requests.
+ * The rule reads {@code application*.properties} and {@code application*.yml} files and
+ * raises issues on:</p>
+ * <ul>
+ *   <li>a {@code maximum-pool-size} not larger than the number of connection-holding stream
+ *       call sites of the module, as {@linkplain StreamingCallSites counted} by
+ *       {@link SpringJdbcStreamLeakCheck}, or larger than {@code maxPoolSize}</li>
+ *   <li>a missing or disabled {@code leak-detection-threshold} when the module streams, and
+ *       a threshold below {@value #MIN_LEAK_DETECTION_THRESHOLD} ms, which HikariCP ignores</li>
+ *   <li>a {@code connection-timeout} above {@code maxConnectionTimeout} or disabled, and a
+ *       {@code max-lifetime} of 0</li>
+ *   <li>a MySQL or MariaDB pool without {@code cachePrepStmts}, and a PostgreSQL pool with
+ *       its prepared statement cache disabled</li>
+ * </ul>
+ *
+ * <p>Pools are grouped by the prefix before {@code .hikari.}, such as
+ * {@code spring.datasource}, so applications with several DataSources are checked pool by
+ * pool. Keys follow Spring Boot relaxed binding, and {@code ${NAME:default}} placeholders are
+ * checked with their default value. Missing settings are only reported in base files such as
+ * {@code application.properties}: profile-specific files such as
+ * {@code application-prod.properties} are merged over the base file by Spring Boot, so only
+ * the settings they declare are checked. This class is not a Java check: it is run on the
+ * main configuration files by the DataSource configuration sensor after the Java
+ * analysis.</p>
+ *
+ * @since 1.1.0
+ * @see SpringProperties
+ * @see StreamingCallSites
+ */
+@Rule(key = "DataSourceConfiguration")
+public class DataSourceConfigurationCheck {
+
+    static final int MIN_LEAK_DETECTION_THRESHOLD = 2000;
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    private static final String POOL_SMALLER_THAN_STREAMS = "Increase \"maximum-pool-size\" above %d; this pool of %d " +
+        "connections is exhausted as soon as the %d streaming call sites of the module run together.";
+    private static final String POOL_TOO_LARGE = "Reduce \"maximum-pool-size\" to at most %d; " +
+        "larger pools add contention on the database instead of throughput.";
+    private static final String NO_LEAK_DETECTION = "Set \"leak-detection-threshold\" for this pool; " +
+        "the %d streaming call sites of the module can leak connections unnoticed.";
+    private static final String LEAK_DETECTION_IGNORED = "Set \"leak-detection-threshold\" to at least " +
+        MIN_LEAK_DETECTION_THRESHOLD + " ms; HikariCP disables leak detection below this value.";
+    private static final String CONNECTION_TIMEOUT = "Lower \"connection-timeout\" to at most %d ms; " +
+        "requests should fail fast instead of waiting for a saturated pool.";
+    private static final String INFINITE_LIFETIME = "Set \"max-lifetime\" a few seconds below the database " +
+        "connection time limit; 0 keeps connections until the database or network drops them.";
+    private static final String NO_MYSQL_STATEMENT_CACHE = "Enable the prepared statement cache with " +
+        "\"data-source-properties.cachePrepStmts=true\"; the MySQL and MariaDB drivers parse every statement again otherwise.";
+    private static final String NO_POSTGRESQL_STATEMENT_CACHE = "Remove \"%s=0\"; it disables server-side " +
+        "prepared statements and makes PostgreSQL plan every query again.";
+
+    private static final String HIKARI = ".hikari.";
+    // Migration tools open their own short-lived connections, not a pool
+    private static final Set<String> NON_POOL_PREFIXES = Set.of("spring.flyway", "spring.liquibase");
+    private static final Pattern PLACEHOLDER = Pattern.compile("^\\$\\{[^:}]*(?::([^}]*))?}$");
+    // Profile-specific files, such as application-prod.yml, only override the base file
+    private static final Pattern PROFILE_FILE = Pattern.compile(
+        "^(?:application|bootstrap)-[^.]+\\.(?:properties|ya?ml)$", Pattern.CASE_INSENSITIVE);
+    private static final Pattern DISABLED_POSTGRESQL_CACHE = Pattern.compile(
+        "[?&](prepareThreshold|preparedStatementCacheQueries)=0(?:&|$)");
+
+    /**
+     * Largest acceptable {@code maximum-pool-size}.
+     */
+    @RuleProperty(
+        key = "maxPoolSize",
+        description = "Largest acceptable maximum-pool-size of a connection pool",
+        defaultValue = "50")
+    public int maxPoolSize = 50;
+
+    /**
+     * Largest acceptable {@code connection-timeout}, in milliseconds.
+     */
+    @RuleProperty(
+        key = "maxConnectionTimeout",
+        description = "Largest acceptable connection-timeout of a connection pool, in milliseconds",
+        defaultValue = "30000")
+    public long maxConnectionTimeout = 30_000;
+
+    /**
+     * Checks the connection pools of one configuration file.
+     *
+     * @param fileName           the file name, whose extension selects the format and whose
+     *                           profile suffix, if any, skips the checks of missing settings
+     * @param content            the file content
+     * @param streamingCallSites the number of connection-holding stream call sites of the module
+     * @return the issues, ordered by line
+     */
+    public List<ConfigurationIssue> scan(String fileName, String content, int streamingCallSites) {
+        List<ConfigurationIssue> issues = new ArrayList<>();
+        boolean profileFile = PROFILE_FILE.matcher(fileName).matches();
+        for (Pool pool : pools(SpringProperties.parse(fileName, content)).values()) {
+            checkPool(pool, streamingCallSites, profileFile, issues);
+        }
+        issues.sort(Comparator.comparingInt(ConfigurationIssue::line));
+        return issues;
+    }
+
+    /**
+     * Checks one connection pool.
+     *
+     * @param pool               the pool
+     * @param streamingCallSites the number of streaming call sites of the module
+     * @param profileFile        whether the pool is declared in a profile-specific file, whose
+     *                           missing settings come from the base file
+     * @param issues             the issues found so far
+     */
+    private void checkPool(Pool pool, int streamingCallSites, boolean profileFile, List<ConfigurationIssue> issues) {
+        SpringProperties.Property poolSize = pool.setting("maximumpoolsize");
+        Long size;
+        if (poolSize != null) {
+            size = number(poolSize);
+        } else {
+            size = profileFile ? null : Long.valueOf(DEFAULT_POOL_SIZE);
+        }
+        int sizeLine = poolSize == null ? pool.firstLine() : poolSize.line();
+        if (size != null && streamingCallSites > 0 && size <= streamingCallSites) {
+            issues.add(new ConfigurationIssue(sizeLine,
+                String.format(POOL_SMALLER_THAN_STREAMS, streamingCallSites, size, streamingCallSites)));
+        } else if (size != null && size > maxPoolSize) {
+            issues.add(new ConfigurationIssue(sizeLine, String.format(POOL_TOO_LARGE, maxPoolSize)));
+        }
+
+        SpringProperties.Property leakDetection = pool.setting("leakdetectionthreshold");
+        Long threshold;
+        if (leakDetection != null) {
+            threshold = number(leakDetection);
+        } else {
+            threshold = profileFile ? null : Long.valueOf(0);
+        }
+        if (threshold != null && threshold == 0 && streamingCallSites > 0) {
+            int line = leakDetection == null ? pool.firstLine() : leakDetection.line();
+            issues.add(new ConfigurationIssue(line, String.format(NO_LEAK_DETECTION, streamingCallSites)));
+        } else if (threshold != null && threshold > 0 && threshold < MIN_LEAK_DETECTION_THRESHOLD) {
+            issues.add(new ConfigurationIssue(leakDetection.line(), LEAK_DETECTION_IGNORED));
+        }
+
+        SpringProperties.Property connectionTimeout = pool.setting("connectiontimeout");
+        Long timeout = connectionTimeout == null ? null : number(connectionTimeout);
+        // HikariCP treats 0 as no timeout at all
+        if (timeout != null && (timeout == 0 || timeout > maxConnectionTimeout)) {
+            issues.add(new ConfigurationIssue(connectionTimeout.line(), String.format(CONNECTION_TIMEOUT, maxConnectionTimeout)));
+        }
+
+        SpringProperties.Property maxLifetime = pool.setting("maxlifetime");
+        Long lifetime = maxLifetime == null ? null : number(maxLifetime);
+        if (lifetime != null && lifetime == 0) {
+            issues.add(new ConfigurationIssue(maxLifetime.line(), INFINITE_LIFETIME));
+        }
+
+        checkStatementCache(pool, issues);
+    }
+
+    /**
+     * Checks that the driver of a pool caches prepared statements.
+     *
+     * @param pool   the pool
+     * @param issues the issues found so far
+     */
+    private static void checkStatementCache(Pool pool, List<ConfigurationIssue> issues) {
+        SpringProperties.Property url = pool.url();
+        if (url == null) {
+            return;
+        }
+        String jdbcUrl = value(url);
+        if (jdbcUrl.startsWith("jdbc:mysql:") || jdbcUrl.startsWith("jdbc:mariadb:")) {
+            SpringProperties.Property cachePrepStmts = pool.setting("datasourceproperties.cacheprepstmts");
+            boolean enabled = cachePrepStmts == null
+                ? jdbcUrl.toLowerCase(Locale.ROOT).contains("cacheprepstmts=true")
+                : "true".equalsIgnoreCase(value(cachePrepStmts));
+            if (!enabled) {
+                issues.add(new ConfigurationIssue(cachePrepStmts == null ? url.line() : cachePrepStmts.line(),
+                    NO_MYSQL_STATEMENT_CACHE));
+            }
+        } else if (jdbcUrl.startsWith("jdbc:postgresql:")) {
+            Matcher matcher = DISABLED_POSTGRESQL_CACHE.matcher(jdbcUrl);
+            if (matcher.find()) {
+                issues.add(new ConfigurationIssue(url.line(), String.format(NO_POSTGRESQL_STATEMENT_CACHE, matcher.group(1))));
+            }
+            for (String name : new String[]{"preparethreshold", "preparedstatementcachequeries"}) {
+                SpringProperties.Property setting = pool.setting("datasourceproperties." + name);
+                Long settingValue = setting == null ? null : number(setting);
+                if (settingValue != null && settingValue == 0) {
+                    String key = setting.key();
+                    issues.add(new ConfigurationIssue(setting.line(),
+                        String.format(NO_POSTGRESQL_STATEMENT_CACHE, key.substring(key.lastIndexOf('.') + 1))));
+                }
+            }
+        }
+    }
+
+    /**
+     * Groups the properties of a file by connection pool.
+     *
+     * @param properties the properties by canonical key
+     * @return the pools by property prefix, e.g. {@code spring.datasource}
+     */
+    private static Map<String, Pool> pools(Map<String, SpringProperties.Property> properties) {
+        Map<String, Pool> pools = new LinkedHashMap<>();
+        for (Map.Entry<String, SpringProperties.Property> entry : properties.entrySet()) {
+            String key = entry.getKey();
+            int hikari = key.indexOf(HIKARI);
+            if (hikari > 0) {
+                pools.computeIfAbsent(key.substring(0, hikari), prefix -> new Pool())
+                    .settings.put(key.substring(hikari + HIKARI.length()), entry.getValue());
+            } else if (key.endsWith(".url") && value(entry.getValue()).startsWith("jdbc:") &&
+                !NON_POOL_PREFIXES.contains(key.substring(0, key.length() - ".url".length()))) {
+                pools.computeIfAbsent(key.substring(0, key.length() - ".url".length()), prefix -> new Pool())
+                    .url = entry.getValue();
+            }
+        }
+        return pools;
+    }
+
+    /**
+     * Returns the value of a property, replacing a placeholder by its default value.
+     *
+     * @param property the property
+     * @return the value, empty for a placeholder without default
+     */
+    private static String value(SpringProperties.Property property) {
+        Matcher matcher = PLACEHOLDER.matcher(property.value());
+        if (matcher.matches()) {
+            return matcher.group(1) == null ? "" : matcher.group(1).trim();
+        }
+        return property.value();
+    }
+
+    /**
+     * Returns the numeric value of a property.
+     *
+     * @param property the property
+     * @return the value, or {@code null} if it is not a plain number
+     */
+    private static Long number(SpringProperties.Property property) {
+        try {
+            return Long.valueOf(value(property).replace("_", ""));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * An issue found in a configuration file.
+     */
+    public static final class ConfigurationIssue {
+
+        private final int line;
+        private final String message;
+
+        ConfigurationIssue(int line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+
+        /**
+         * Returns the line of the issue.
+         *
+         * @return the 1-based line
+         */
+        public int line() {
+            return line;
+        }
+
+        /**
+         * Returns the message of the issue.
+         *
+         * @return the message
+         */
+        public String message() {
+            return message;
+        }
+    }
+
+    /**
+     * The properties of one connection pool.
+     */
+    private static final class Pool {
+
+        private final Map<String, SpringProperties.Property> settings = new LinkedHashMap<>();
+        private SpringProperties.Property url;
+
+        /**
+         * Returns the JDBC URL of the pool.
+         *
+         * @return the {@code url} or HikariCP {@code jdbc-url} property, or {@code null}
+         */
+        SpringProperties.Property url() {
+            SpringProperties.Property jdbcUrl = settings.get("jdbcurl");
+            return jdbcUrl == null ? url : jdbcUrl;
+        }
+
+        /**
+         * Returns a HikariCP setting of the pool.
+         *
+         * @param name the canonical setting name, e.g. {@code maximumpoolsize}
+         * @return the property, or {@code null} if the setting is not configured
+         */
+        SpringProperties.Property setting(String name) {
+            return settings.get(name);
+        }
+
+        /**
+         * Returns the first line declaring the pool, where issues on missing settings are raised.
+         *
+         * @return the smallest line of the pool properties
+         */
+        int firstLine() {
+            int line = url == null ? Integer.MAX_VALUE : url.line();
+            for (SpringProperties.Property property : settings.values()) {
+                line = Math.min(line, property.line());
+            }
+            return line;
+        }
+    }
+}
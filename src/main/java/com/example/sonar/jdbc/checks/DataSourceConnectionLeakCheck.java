@@ -0,0 +1,392 @@
+package com.example.sonar.jdbc.checks;
+
+import org.sonar.check.Rule;
+import org.sonar.plugins.java.api.IssuableSubscriptionVisitor;
+import org.sonar.plugins.java.api.semantic.Symbol;
+import org.sonar.plugins.java.api.semantic.Type;
+import org.sonar.plugins.java.api.tree.*;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * SonarQube check to detect raw JDBC resources borrowed from a Spring-managed {@code DataSource}
+ * that are not released on all paths.
+ *
+ * <p>Legacy data access code often bypasses {@code JdbcTemplate} and works with the pool directly.
+ * The resources below exhaust the same connection pool as unclosed JDBC streams:</p>
+ * <ul>
+ *   <li>{@code dataSource.getConnection()} not closed by try-with-resources or in a {@code finally} block</li>
+ *   <li>{@code DataSourceUtils.getConnection()} not released with {@code DataSourceUtils.releaseConnection()}
+ *       in a {@code finally} block</li>
+ *   <li>{@code Statement}s and {@code ResultSet}s created from such connections and not closed</li>
+ *   <li>{@code JdbcTemplate.execute()} callbacks returning a live {@code Connection}, {@code Statement}
+ *       or {@code ResultSet}, which outlives the connection released by the template</li>
+ * </ul>
+ *
+ * <p>Resources returned by the method that acquires them are not reported: ownership passes
+ * to the caller. Statements and result sets that are not stored in a variable, such as
+ * {@code con.createStatement().execute(sql)}, are released together with their connection
+ * and are not reported either.</p>
+ *
+ * <h2>Example of Noncompliant Code</h2>
+ * <pre>{@code
+ * Connection con = dataSource.getConnection(); // Noncompliant - not closed if the query fails
+ * ResultSet rs = con.createStatement().executeQuery("SELECT 1");
+ * con.close();
+ * }</pre>
+ *
+ * <h2>Example of Compliant Code</h2>
+ * <pre>{@code
+ * try (Connection con = dataSource.getConnection();
+ *      Statement statement = con.createStatement();
+ *      ResultSet rs = statement.executeQuery("SELECT 1")) {
+ *     ...
+ * }
+ * }</pre>
+ *
+ * @since 1.1.0
+ * @see JdbcStreamMethods#isInTryWithResources(MethodInvocationTree)
+ * @see ResourceReleases
+ */
+@Rule(key = "DataSourceConnectionLeak")
+public class DataSourceConnectionLeakCheck extends IssuableSubscriptionVisitor {
+
+    private static final String MESSAGE_CONNECTION =
+        "Use try-with-resources or close this connection in a finally block to return it to the pool.";
+    private static final String MESSAGE_UTILS_CONNECTION =
+        "Release this connection with DataSourceUtils.releaseConnection() in a finally block.";
+    private static final String MESSAGE_STATEMENT =
+        "Use try-with-resources or close this statement in a finally block.";
+    private static final String MESSAGE_RESULT_SET =
+        "Use try-with-resources or close this result set in a finally block.";
+    private static final String MESSAGE_CALLBACK_ESCAPE =
+        "Do not return this JDBC resource from the callback; it outlives the connection released by JdbcTemplate.";
+
+    private static final String FQN_DATA_SOURCE = "javax.sql.DataSource";
+    private static final String FQN_DATA_SOURCE_UTILS = "org.springframework.jdbc.datasource.DataSourceUtils";
+    private static final String FQN_CONNECTION = "java.sql.Connection";
+    private static final String FQN_STATEMENT = "java.sql.Statement";
+    private static final String FQN_RESULT_SET = "java.sql.ResultSet";
+
+    private static final String DATA_SOURCE_UTILS = "DataSourceUtils";
+    private static final String METHOD_GET_CONNECTION = "getConnection";
+    private static final String METHOD_EXECUTE = "execute";
+    private static final Set<String> UTILS_GET_CONNECTION_METHODS = Set.of("getConnection", "doGetConnection");
+    private static final Set<String> STATEMENT_FACTORY_METHODS = Set.of("createStatement", "prepareStatement", "prepareCall");
+    private static final Set<String> RESULT_SET_FACTORY_METHODS = Set.of("executeQuery", "getResultSet", "getGeneratedKeys");
+
+    private static final Set<String> CLOSE_METHODS = Set.of(
+        "close", "closeConnection", "closeStatement", "closeResultSet", "releaseConnection", "doReleaseConnection"
+    );
+    private static final Set<String> UTILS_RELEASE_METHODS = Set.of("releaseConnection", "doReleaseConnection");
+
+    /**
+     * Kind of pool-bound resource, with the message reported when it is not released.
+     */
+    private enum ResourceKind {
+        CONNECTION(MESSAGE_CONNECTION, CLOSE_METHODS),
+        UTILS_CONNECTION(MESSAGE_UTILS_CONNECTION, UTILS_RELEASE_METHODS),
+        STATEMENT(MESSAGE_STATEMENT, CLOSE_METHODS),
+        RESULT_SET(MESSAGE_RESULT_SET, CLOSE_METHODS);
+
+        private final String message;
+        private final Set<String> releaseMethods;
+
+        ResourceKind(String message, Set<String> releaseMethods) {
+            this.message = message;
+            this.releaseMethods = releaseMethods;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>This check visits method and constructor declarations, since release tracking
+     * follows local variables through the whole body.</p>
+     *
+     * @return a list containing {@link Tree.Kind#METHOD} and {@link Tree.Kind#CONSTRUCTOR}
+     */
+    @Override
+    public List<Tree.Kind> nodesToVisit() {
+        return Arrays.asList(Tree.Kind.METHOD, Tree.Kind.CONSTRUCTOR);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param tree the AST node to visit, guaranteed to be a {@link MethodTree}
+     */
+    @Override
+    public void visitNode(Tree tree) {
+        BlockTree body = ((MethodTree) tree).block();
+        if (body != null) {
+            body.accept(new MethodBodyVisitor(body));
+        }
+    }
+
+    /**
+     * Checks if an invocation borrows a connection directly from a {@code DataSource}.
+     *
+     * @param mit the method invocation
+     * @return {@code true} for {@code DataSource.getConnection()}
+     */
+    private static boolean isDataSourceGetConnection(MethodInvocationTree mit) {
+        if (!METHOD_GET_CONNECTION.equals(JdbcStreamMethods.getMethodName(mit))) {
+            return false;
+        }
+        Type ownerType = JdbcStreamMethods.knownOwnerType(mit);
+        if (ownerType != null) {
+            return ownerType.isSubtypeOf(FQN_DATA_SOURCE);
+        }
+        String receiverName = TransactionalScopes.simpleName(JdbcStreamMethods.getReceiver(mit));
+        return receiverName != null && receiverName.toLowerCase(Locale.ROOT).contains("datasource");
+    }
+
+    /**
+     * Checks if an invocation obtains a possibly transaction-bound connection through {@code DataSourceUtils}.
+     *
+     * @param mit the method invocation
+     * @return {@code true} for {@code DataSourceUtils.getConnection()} and {@code doGetConnection()}
+     */
+    private static boolean isDataSourceUtilsGetConnection(MethodInvocationTree mit) {
+        String methodName = JdbcStreamMethods.getMethodName(mit);
+        if (methodName == null || !UTILS_GET_CONNECTION_METHODS.contains(methodName)) {
+            return false;
+        }
+        Type ownerType = JdbcStreamMethods.knownOwnerType(mit);
+        if (ownerType != null) {
+            return ownerType.is(FQN_DATA_SOURCE_UTILS);
+        }
+        return DATA_SOURCE_UTILS.equals(TransactionalScopes.simpleName(JdbcStreamMethods.getReceiver(mit)));
+    }
+
+    /**
+     * Checks if an invocation is a {@code JdbcTemplate.execute()} call taking a callback.
+     *
+     * @param mit the method invocation
+     * @return {@code true} if the arguments may include a connection, statement or prepared statement callback
+     */
+    private static boolean isJdbcTemplateExecute(MethodInvocationTree mit) {
+        if (!METHOD_EXECUTE.equals(JdbcStreamMethods.getMethodName(mit))) {
+            return false;
+        }
+        Type ownerType = JdbcStreamMethods.knownOwnerType(mit);
+        if (ownerType != null) {
+            return ownerType.isSubtypeOf("org.springframework.jdbc.core.JdbcOperations");
+        }
+        return JdbcStreamMethods.looksLikeJdbcTemplateCall(mit);
+    }
+
+    /**
+     * Checks if an expression evaluated in a JDBC callback is a live JDBC resource.
+     *
+     * @param expression the returned expression
+     * @param lambda     the callback, whose parameter is the connection or statement passed in
+     * @return {@code true} if the expression is a connection, statement or result set
+     */
+    private static boolean isLiveJdbcResource(ExpressionTree expression, LambdaExpressionTree lambda) {
+        ExpressionTree unwrapped = JdbcStreamMethods.skipParenthesesAndCasts(expression);
+        if (unwrapped == null) {
+            return false;
+        }
+        Type type = unwrapped.symbolType();
+        if (!type.isUnknown()) {
+            return type.isSubtypeOf(FQN_CONNECTION) || type.isSubtypeOf(FQN_STATEMENT) || type.isSubtypeOf(FQN_RESULT_SET);
+        }
+        if (unwrapped.is(Tree.Kind.METHOD_INVOCATION)) {
+            String methodName = JdbcStreamMethods.getMethodName((MethodInvocationTree) unwrapped);
+            return methodName != null &&
+                (STATEMENT_FACTORY_METHODS.contains(methodName) || RESULT_SET_FACTORY_METHODS.contains(methodName));
+        }
+        for (VariableTree parameter : lambda.parameters()) {
+            if (ResourceReleases.refersTo(unwrapped, parameter.symbol())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Visits one method body, tracking acquired resources and their derived statements and result sets.
+     */
+    private class MethodBodyVisitor extends BaseTreeVisitor {
+
+        private final BlockTree body;
+        private final Map<Symbol, ResourceKind> acquiredVariables = new HashMap<>();
+
+        MethodBodyVisitor(BlockTree body) {
+            this.body = body;
+        }
+
+        @Override
+        public void visitMethodInvocation(MethodInvocationTree tree) {
+            ResourceKind kind = acquiredKind(tree);
+            if (kind != null) {
+                checkReleased(tree, kind);
+            } else if (isJdbcTemplateExecute(tree)) {
+                checkCallbacks(tree.arguments());
+            }
+            super.visitMethodInvocation(tree);
+        }
+
+        @Override
+        public void visitClass(ClassTree tree) {
+            // Nested and local classes are visited as separate methods
+        }
+
+        /**
+         * Determines which kind of pool-bound resource an invocation acquires, if any.
+         *
+         * <p>Statements and result sets are only tracked when created from a connection or
+         * statement acquired earlier in the same method.</p>
+         *
+         * @param mit the method invocation
+         * @return the kind of acquired resource, or {@code null} if the call acquires nothing tracked
+         */
+        private ResourceKind acquiredKind(MethodInvocationTree mit) {
+            if (isDataSourceGetConnection(mit)) {
+                return ResourceKind.CONNECTION;
+            }
+            if (isDataSourceUtilsGetConnection(mit)) {
+                return ResourceKind.UTILS_CONNECTION;
+            }
+            String methodName = JdbcStreamMethods.getMethodName(mit);
+            ResourceKind receiverKind = trackedKind(JdbcStreamMethods.getReceiver(mit));
+            if (methodName == null || receiverKind == null) {
+                return null;
+            }
+            boolean fromConnection = receiverKind == ResourceKind.CONNECTION || receiverKind == ResourceKind.UTILS_CONNECTION;
+            if (fromConnection && STATEMENT_FACTORY_METHODS.contains(methodName)) {
+                return ResourceKind.STATEMENT;
+            }
+            if (receiverKind == ResourceKind.STATEMENT && RESULT_SET_FACTORY_METHODS.contains(methodName)) {
+                return ResourceKind.RESULT_SET;
+            }
+            return null;
+        }
+
+        /**
+         * Returns the kind of resource held by a tracked local variable.
+         *
+         * @param expression the expression, may be {@code null}
+         * @return the kind, or {@code null} if the expression is not a tracked variable
+         */
+        private ResourceKind trackedKind(ExpressionTree expression) {
+            ExpressionTree unwrapped = JdbcStreamMethods.skipParenthesesAndCasts(expression);
+            if (unwrapped == null || !unwrapped.is(Tree.Kind.IDENTIFIER)) {
+                return null;
+            }
+            return acquiredVariables.get(((IdentifierTree) unwrapped).symbol());
+        }
+
+        /**
+         * Reports an acquisition that is not released on all paths.
+         *
+         * <p>Connections are tracked in any local variable, including try-with-resources declarations,
+         * so that statements created from them are recognized. The acquisition is compliant when
+         * declared in try-with-resources (except for
+         * {@code DataSourceUtils} connections, which must be released through the utility),
+         * when it is returned to the caller, or when the variable holding it is released in the
+         * {@code finally} block guarding the acquisition.</p>
+         *
+         * @param acquisition the acquiring invocation
+         * @param kind        the kind of acquired resource
+         */
+        private void checkReleased(MethodInvocationTree acquisition, ResourceKind kind) {
+            Symbol variable = assignedVariable(acquisition);
+            if (variable != null) {
+                acquiredVariables.put(variable, kind);
+            } else if (kind == ResourceKind.STATEMENT || kind == ResourceKind.RESULT_SET) {
+                // Chained statements and result sets are released together with their connection
+                return;
+            }
+            if (kind != ResourceKind.UTILS_CONNECTION && JdbcStreamMethods.isInTryWithResources(acquisition)) {
+                return;
+            }
+            if (acquisition.parent().is(Tree.Kind.RETURN_STATEMENT)) {
+                return;
+            }
+            if (variable != null && (ResourceReleases.isReturned(variable, body) ||
+                ResourceReleases.isReleasedInFinally(variable, acquisition, kind.releaseMethods))) {
+                return;
+            }
+            reportIssue(acquisition, kind.message);
+        }
+
+        /**
+         * Returns the local variable an acquisition is stored in.
+         *
+         * @param acquisition the acquiring invocation
+         * @return the variable symbol, or {@code null} if the result is not stored in a local variable
+         */
+        private Symbol assignedVariable(MethodInvocationTree acquisition) {
+            Tree parent = acquisition.parent();
+            while (parent.is(Tree.Kind.PARENTHESIZED_EXPRESSION, Tree.Kind.TYPE_CAST)) {
+                parent = parent.parent();
+            }
+            Symbol symbol = null;
+            if (parent.is(Tree.Kind.VARIABLE)) {
+                symbol = ((VariableTree) parent).symbol();
+            } else if (parent.is(Tree.Kind.ASSIGNMENT)) {
+                ExpressionTree variable = ((AssignmentExpressionTree) parent).variable();
+                if (variable.is(Tree.Kind.IDENTIFIER)) {
+                    symbol = ((IdentifierTree) variable).symbol();
+                }
+            }
+            return symbol != null && symbol.isLocalVariable() ? symbol : null;
+        }
+
+        /**
+         * Reports JDBC resources returned from lambda callbacks passed to {@code JdbcTemplate.execute()}.
+         *
+         * @param arguments the arguments of the execute call
+         */
+        private void checkCallbacks(Arguments arguments) {
+            for (ExpressionTree argument : arguments) {
+                ExpressionTree callback = JdbcStreamMethods.skipParenthesesAndCasts(argument);
+                if (callback == null || !callback.is(Tree.Kind.LAMBDA_EXPRESSION)) {
+                    continue;
+                }
+                LambdaExpressionTree lambda = (LambdaExpressionTree) callback;
+                Tree lambdaBody = lambda.body();
+                if (lambdaBody instanceof ExpressionTree) {
+                    reportEscape((ExpressionTree) lambdaBody, lambda);
+                } else {
+                    lambdaBody.accept(new BaseTreeVisitor() {
+                        @Override
+                        public void visitReturnStatement(ReturnStatementTree tree) {
+                            reportEscape(tree.expression(), lambda);
+                        }
+
+                        @Override
+                        public void visitLambdaExpression(LambdaExpressionTree tree) {
+                            // Returns of nested lambdas do not leave the callback
+                        }
+
+                        @Override
+                        public void visitClass(ClassTree tree) {
+                            // Returns of nested classes do not leave the callback
+                        }
+                    });
+                }
+            }
+        }
+
+        /**
+         * Reports a value returned from a callback if it is a live JDBC resource.
+         *
+         * @param returned the returned expression, may be {@code null} for {@code return;}
+         * @param lambda   the callback
+         */
+        private void reportEscape(ExpressionTree returned, LambdaExpressionTree lambda) {
+            if (isLiveJdbcResource(returned, lambda)) {
+                reportIssue(returned, MESSAGE_CALLBACK_ESCAPE);
+            }
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.example.sonar.jdbc.checks;
+
+import org.sonar.check.Rule;
+import org.sonar.plugins.java.api.IssuableSubscriptionVisitor;
+import org.sonar.plugins.java.api.JavaFileScannerContext;
+import org.sonar.plugins.java.api.semantic.Type;
+import org.sonar.plugins.java.api.tree.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * SonarQube check to detect values concatenated into SQL instead of being bound as parameters.
+ *
+ * <p>SQL built with {@code "... WHERE id = " + id} or {@code String.format} yields a different
+ * statement text for every value. Each one misses the driver's prepared statement cache and
+ * the database's plan cache, is parsed and planned again, and evicts useful entries. Inside a
+ * loop, a single method fills both caches with one-off statements.</p>
+ *
+ * <p>Not every dynamic part is a value: table names, column lists and sort orders cannot be
+ * bound and are a legitimate reason to build SQL. The rule therefore only reports
+ * non-constant parts that appear in a value position, i.e. after a comparison operator,
+ * inside quotes, in {@code IN (...)}, {@code LIKE}, {@code BETWEEN}, {@code VALUES (...)},
+ * {@code LIMIT}, {@code OFFSET} or {@code TOP}, as well as numeric, boolean and temporal
+ * values anywhere. Constant SQL and SQL with {@code ?} or {@code :name} placeholders are fine.</p>
+ *
+ * <h2>Example of Noncompliant Code</h2>
+ * <pre>{@code
+ * for (long id : ids) {
+ *     jdbcTemplate.update("UPDATE orders SET status = 'shipped' WHERE id = " + id); // Noncompliant
+ * }
+ * }</pre>
+ *
+ * <h2>Example of Compliant Code</h2>
+ * <pre>{@code
+ * for (long id : ids) {
+ *     jdbcTemplate.update("UPDATE orders SET status = 'shipped' WHERE id = ?", id);
+ * }
+ * }</pre>
+ *
+ * @since 1.1.0
+ * @see SqlStatements
+ */
+@Rule(key = "DynamicSqlConcatenation")
+public class DynamicSqlConcatenationCheck extends IssuableSubscriptionVisitor {
+
+    private static final String MESSAGE =
+        "Bind this value as a parameter instead of building it into the SQL; every distinct value creates a new statement and execution plan.";
+    private static final String MESSAGE_IN_LOOP =
+        "Bind this value as a parameter instead of building it into the SQL; this loop creates a new statement and execution plan per iteration.";
+    private static final String SECONDARY_VALUE = "Value built into the SQL.";
+
+    private static final String METHOD_FORMAT = "format";
+    private static final String METHOD_FORMATTED = "formatted";
+    private static final String FQN_STRING = "java.lang.String";
+
+    // SQL text ending in a position that expects a value rather than an identifier
+    private static final Pattern VALUE_CONTEXT = Pattern.compile(
+        "(=|<>|!=|<|>|'|\\bIN\\s*\\(|\\bLIKE|\\bBETWEEN|\\bVALUES\\s*\\(|\\bLIMIT|\\bOFFSET|\\bTOP)\\s*$");
+
+    private static final Pattern FORMAT_SPECIFIER = Pattern.compile("%(\\d+\\$)?[-#+ 0,(]*\\d*(\\.\\d+)?([a-zA-Z%])");
+
+    private static final List<String> VALUE_TYPES = List.of(
+        "java.lang.Number", "java.lang.Boolean", "java.util.UUID", "java.util.Date", "java.time.temporal.Temporal"
+    );
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return a singleton list containing {@link Tree.Kind#METHOD_INVOCATION}
+     */
+    @Override
+    public List<Tree.Kind> nodesToVisit() {
+        return Collections.singletonList(Tree.Kind.METHOD_INVOCATION);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Reports the SQL argument of a JDBC call when values are concatenated or formatted into it.</p>
+     *
+     * @param tree the AST node to visit, guaranteed to be a {@link MethodInvocationTree}
+     */
+    @Override
+    public void visitNode(Tree tree) {
+        MethodInvocationTree mit = (MethodInvocationTree) tree;
+        ExpressionTree sqlArgument = SqlStatements.receivedSqlArgument(mit);
+        if (sqlArgument == null) {
+            return;
+        }
+        List<ExpressionTree> values = concatenatedValues(SqlStatements.followLocalVariable(sqlArgument));
+        if (values.isEmpty()) {
+            return;
+        }
+        List<JavaFileScannerContext.Location> secondaries = new ArrayList<>();
+        for (ExpressionTree value : values) {
+            secondaries.add(new JavaFileScannerContext.Location(SECONDARY_VALUE, value));
+        }
+        reportIssue(sqlArgument, Loops.isInLoop(mit) ? MESSAGE_IN_LOOP : MESSAGE, secondaries, null);
+    }
+
+    /**
+     * Returns the non-constant parts of an SQL expression that are in a value position.
+     *
+     * @param sql the SQL expression, after following a local variable
+     * @return the concatenated or formatted values, empty for constant SQL
+     */
+    private static List<ExpressionTree> concatenatedValues(ExpressionTree sql) {
+        if (sql == null || SqlStatements.resolve(sql) != null) {
+            return Collections.emptyList();
+        }
+        if (sql.is(Tree.Kind.PLUS)) {
+            return valuesOfConcatenation(sql);
+        }
+        if (sql.is(Tree.Kind.METHOD_INVOCATION)) {
+            return valuesOfFormat((MethodInvocationTree) sql);
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Walks the operands of a string concatenation from left to right, keeping track of the
+     * constant SQL text preceding each non-constant operand.
+     *
+     * @param concatenation the concatenation
+     * @return the operands in a value position
+     */
+    private static List<ExpressionTree> valuesOfConcatenation(ExpressionTree concatenation) {
+        List<ExpressionTree> operands = new ArrayList<>();
+        flatten(concatenation, operands);
+        List<ExpressionTree> values = new ArrayList<>();
+        StringBuilder precedingSql = new StringBuilder();
+        for (ExpressionTree operand : operands) {
+            String constant = SqlStatements.resolve(operand);
+            if (constant != null) {
+                precedingSql.append(constant);
+            } else {
+                if (isValue(operand, precedingSql)) {
+                    values.add(operand);
+                }
+                precedingSql.append(" x ");
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Collects the operands of a left-associative chain of {@code +} in source order.
+     *
+     * @param expression the expression
+     * @param operands   the list to fill
+     */
+    private static void flatten(ExpressionTree expression, List<ExpressionTree> operands) {
+        ExpressionTree unwrapped = JdbcStreamMethods.skipParenthesesAndCasts(expression);
+        if (unwrapped != null && unwrapped.is(Tree.Kind.PLUS) && isString(unwrapped)) {
+            BinaryExpressionTree plus = (BinaryExpressionTree) unwrapped;
+            flatten(plus.leftOperand(), operands);
+            flatten(plus.rightOperand(), operands);
+        } else {
+            operands.add(expression);
+        }
+    }
+
+    /**
+     * Extracts the arguments of {@code String.format(sql, args)} and {@code sql.formatted(args)}
+     * that are substituted in a value position of the constant format.
+     *
+     * @param call the formatting call
+     * @return the formatted values, empty if the call does not format a constant SQL template
+     */
+    private static List<ExpressionTree> valuesOfFormat(MethodInvocationTree call) {
+        String methodName = JdbcStreamMethods.getMethodName(call);
+        String format;
+        List<ExpressionTree> arguments;
+        if (METHOD_FORMAT.equals(methodName) && isStringClass(JdbcStreamMethods.getReceiver(call)) && !call.arguments().isEmpty()) {
+            format = SqlStatements.resolve(call.arguments().get(0));
+            arguments = call.arguments().subList(1, call.arguments().size());
+        } else if (METHOD_FORMATTED.equals(methodName)) {
+            format = SqlStatements.resolve(JdbcStreamMethods.getReceiver(call));
+            arguments = call.arguments();
+        } else {
+            return Collections.emptyList();
+        }
+        if (format == null) {
+            return Collections.emptyList();
+        }
+
+        List<ExpressionTree> values = new ArrayList<>();
+        Matcher specifier = FORMAT_SPECIFIER.matcher(format);
+        int nextArgument = 0;
+        while (specifier.find()) {
+            char conversion = specifier.group(3).charAt(0);
+            if (conversion == '%' || conversion == 'n') {
+                continue;
+            }
+            int index = specifier.group(1) != null
+                ? Integer.parseInt(specifier.group(1).substring(0, specifier.group(1).length() - 1)) - 1
+                : nextArgument++;
+            if (index >= 0 && index < arguments.size()) {
+                ExpressionTree argument = arguments.get(index);
+                boolean numericConversion = "dfxeg".indexOf(Character.toLowerCase(conversion)) >= 0;
+                if (SqlStatements.resolve(argument) == null &&
+                    (numericConversion || isValue(argument, format.substring(0, specifier.start())))) {
+                    values.add(argument);
+                }
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Decides whether a non-constant part of the SQL is a value rather than an identifier or fragment.
+     *
+     * @param operand      the non-constant part
+     * @param precedingSql the SQL text before it
+     * @return {@code true} for value types and for parts in a value position
+     */
+    private static boolean isValue(ExpressionTree operand, CharSequence precedingSql) {
+        Type type = operand.symbolType();
+        if (type.isPrimitive() && !type.isPrimitive(Type.Primitives.CHAR)) {
+            return true;
+        }
+        for (String valueType : VALUE_TYPES) {
+            if (type.isSubtypeOf(valueType)) {
+                return true;
+            }
+        }
+        return VALUE_CONTEXT.matcher(precedingSql.toString().toUpperCase(Locale.ROOT)).find();
+    }
+
+    /**
+     * Checks if an expression is of type {@code String} or of unknown type.
+     *
+     * @param expression the expression
+     * @return {@code false} only for resolved non-string types such as numeric additions
+     */
+    private static boolean isString(ExpressionTree expression) {
+        Type type = expression.symbolType();
+        return type.isUnknown() || type.is(FQN_STRING);
+    }
+
+    /**
+     * Checks if an expression names the {@code String} class, as receiver of {@code String.format}.
+     *
+     * @param receiver the receiver, may be {@code null}
+     * @return {@code true} for {@code String} and {@code java.lang.String}
+     */
+    private static boolean isStringClass(ExpressionTree receiver) {
+        return "String".equals(TransactionalScopes.simpleName(receiver));
+    }
+}
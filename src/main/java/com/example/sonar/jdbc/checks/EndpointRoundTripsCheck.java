@@ -0,0 +1,402 @@
+package com.example.sonar.jdbc.checks;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sonar.check.Rule;
+import org.sonar.check.RuleProperty;
+import org.sonar.plugins.java.api.InputFileScannerContext;
+import org.sonar.plugins.java.api.IssuableSubscriptionVisitor;
+import org.sonar.plugins.java.api.ModuleScannerContext;
+import org.sonar.plugins.java.api.internal.EndOfAnalysis;
+import org.sonar.plugins.java.api.semantic.Symbol;
+import org.sonar.plugins.java.api.semantic.Type;
+import org.sonar.plugins.java.api.tree.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * SonarQube check to estimate the JDBC round trips of each web endpoint.
+ *
+ * <p>Every statement sent to the database costs a network round trip, and every statement run
+ * outside a transaction borrows a connection from the pool. An endpoint delegating to services
+ * that query in loops can issue hundreds of statements per request without any single method
+ * looking suspicious.</p>
+ *
+ * <p>During the analysis, the check records for every method the JDBC round trips and
+ * connection acquisitions of its body and the methods it calls, each multiplied by
+ * {@code loopIterations} per level of loop nesting. At the end of the analysis, it walks this
+ * {@link CallGraph} once from every {@code @RequestMapping}-style method, writes the estimates
+ * to {@value #REPORT_FILE} in the working directory, and reports the endpoints exceeding
+ * {@code maxRoundTrips} on the name of their method. The costs are only known once every file
+ * has been analyzed, so the check keeps the context of each file declaring an endpoint until
+ * then, and asks for unchanged files to be parsed too in incremental analyses, since a
+ * skipped file would leave the graph and the report incomplete.</p>
+ *
+ * <p>{@link EndOfAnalysis} is the only hook the Java analyzer offers after the last file, but
+ * is still marked as internal, so the check may need adapting to new versions of the
+ * analyzer.</p>
+ *
+ * <p>Spring JDBC calls count once per chain, static factories excluded; plain JDBC counts
+ * {@code execute...}, {@code commit} and {@code rollback}. A {@code @Transactional} method
+ * acquires a single connection for everything it runs. Only methods analyzed in the same
+ * module are followed.</p>
+ *
+ * <h2>Example of Noncompliant Code</h2>
+ * <pre>{@code
+ * @GetMapping("/orders")
+ * public List<OrderView> orders() { // Noncompliant - 1 + 10 round trips per request
+ *     List<OrderView> views = new ArrayList<>();
+ *     for (Order order : orderService.findAll()) {
+ *         views.add(new OrderView(order, itemService.findItems(order.id())));
+ *     }
+ *     return views;
+ * }
+ * }</pre>
+ *
+ * <h2>Example of Compliant Code</h2>
+ * <pre>{@code
+ * @GetMapping("/orders")
+ * public List<OrderView> orders() {
+ *     return orderService.findAllWithItems();
+ * }
+ * }</pre>
+ *
+ * @since 1.1.0
+ * @see CallGraph
+ */
+@Rule(key = "EndpointRoundTrips")
+public class EndpointRoundTripsCheck extends IssuableSubscriptionVisitor implements EndOfAnalysis {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EndpointRoundTripsCheck.class);
+
+    private static final String MESSAGE =
+        "Reduce the database work of this endpoint; it makes an estimated %s and %s per request, above the limit of %d.";
+
+    static final String REPORT_FILE = "jdbc-endpoint-round-trips.json";
+
+    private static final Set<String> MAPPING_ANNOTATIONS = Set.of(
+        "RequestMapping", "GetMapping", "PostMapping", "PutMapping", "DeleteMapping", "PatchMapping"
+    );
+    private static final String FQN_DATA_SOURCE = "javax.sql.DataSource";
+    private static final String METHOD_GET_CONNECTION = "getConnection";
+    // Libraries whose methods never reach the project's own JDBC code
+    private static final List<String> LIBRARY_PACKAGES = List.of("java.", "javax.", "jakarta.", "org.springframework.");
+
+    /**
+     * Maximum estimated round trips per request before an endpoint is reported.
+     */
+    @RuleProperty(
+        key = "maxRoundTrips",
+        description = "Endpoints whose estimated JDBC round trips per request exceed this number are reported",
+        defaultValue = "10")
+    public int maxRoundTrips = 10;
+
+    /**
+     * Number of iterations assumed for each loop when estimating round trips.
+     */
+    @RuleProperty(
+        key = "loopIterations",
+        description = "Number of iterations assumed for each level of loop nesting",
+        defaultValue = "10")
+    public int loopIterations = 10;
+
+    private final CallGraph callGraph = new CallGraph();
+    private final List<Endpoint> endpoints = new ArrayList<>();
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return a singleton list containing {@link Tree.Kind#METHOD}
+     */
+    @Override
+    public List<Tree.Kind> nodesToVisit() {
+        return Collections.singletonList(Tree.Kind.METHOD);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The costs of endpoints depend on the methods of every file, so unchanged files are
+     * parsed too.</p>
+     *
+     * @param context the context of the unchanged file
+     * @return always {@code false}
+     */
+    @Override
+    public boolean scanWithoutParsing(InputFileScannerContext context) {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Adds the method to the call graph, and remembers it as an endpoint when it carries a
+     * request mapping annotation.</p>
+     *
+     * @param tree the AST node to visit, guaranteed to be a {@link MethodTree}
+     */
+    @Override
+    public void visitNode(Tree tree) {
+        MethodTree method = (MethodTree) tree;
+        Symbol.MethodSymbol symbol = method.symbol();
+        if (method.block() == null || symbol.isUnknown()) {
+            return;
+        }
+        CallGraph.Node node = new CallGraph.Node(TransactionalScopes.isInTransactionalScope(method.block()));
+        method.block().accept(new MethodBodyVisitor(node));
+        String name = method.simpleName().name();
+        int arity = method.parameters().size();
+        Set<String> keys = new HashSet<>();
+        ClassTree owner = method.parent() instanceof ClassTree ? (ClassTree) method.parent() : null;
+        if (owner != null && owner.simpleName() != null) {
+            keys.add(CallGraph.key(owner.simpleName().name(), name, arity));
+            // Supertypes written in the source also cover interfaces whose symbols are not resolved
+            List<TypeTree> supertypes = new ArrayList<>(owner.superInterfaces());
+            if (owner.superClass() != null) {
+                supertypes.add(owner.superClass());
+            }
+            for (TypeTree supertype : supertypes) {
+                String supertypeName = ClassMembers.simpleTypeName(supertype);
+                if (supertypeName != null) {
+                    keys.add(CallGraph.key(supertypeName, name, arity));
+                }
+            }
+        }
+        for (Symbol.MethodSymbol overridden : symbol.overriddenSymbols()) {
+            if (!overridden.isUnknown()) {
+                keys.add(CallGraph.key(overridden.owner().name(), name, arity));
+            }
+        }
+        callGraph.addMethod(symbol.signature(), node, keys);
+
+        if (owner != null && owner.simpleName() != null &&
+            ClassMembers.annotationNamed(method.modifiers(), MAPPING_ANNOTATIONS) != null) {
+            endpoints.add(new Endpoint(symbol.signature(), owner.simpleName().name() + "." + name,
+                context, method.simpleName().identifierToken().range().start().line()));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Evaluates the call graph from every endpoint, writes the report and raises the issues,
+     * then releases the graph.</p>
+     *
+     * @param context the module context
+     */
+    @Override
+    public void endOfAnalysis(ModuleScannerContext context) {
+        List<EndpointCost> results = new ArrayList<>(endpoints.size());
+        for (Endpoint endpoint : endpoints) {
+            CallGraph.Cost cost = callGraph.cost(endpoint.signature);
+            results.add(new EndpointCost(endpoint, cost));
+            if (cost.roundTrips() > maxRoundTrips) {
+                // Trees cannot be reported once the analysis is over, so the issue is raised on the line of the method name
+                endpoint.context.addIssue(endpoint.line, this, String.format(MESSAGE,
+                    count(cost.roundTrips(), "JDBC round trip"), count(cost.acquisitions(), "connection acquisition"),
+                    maxRoundTrips));
+            }
+        }
+        writeReport(context.getWorkingDirectory(), results);
+        callGraph.clear();
+        endpoints.clear();
+    }
+
+    /**
+     * Writes the estimate of every endpoint as a JSON array, one endpoint at a time.
+     *
+     * @param directory the working directory of the analysis, may be {@code null}
+     * @param results   the endpoint estimates
+     */
+    private static void writeReport(File directory, List<EndpointCost> results) {
+        if (directory == null || results.isEmpty()) {
+            return;
+        }
+        File reportFile = new File(directory, REPORT_FILE);
+        try {
+            Files.createDirectories(directory.toPath());
+            try (Writer writer = Files.newBufferedWriter(reportFile.toPath(), StandardCharsets.UTF_8)) {
+                writer.write("[");
+                for (int i = 0; i < results.size(); i++) {
+                    EndpointCost result = results.get(i);
+                    writer.write(i == 0 ? "\n" : ",\n");
+                    writer.write(String.format("  {\"endpoint\": \"%s\", \"file\": \"%s\", \"line\": %d, " +
+                            "\"roundTrips\": %d, \"connectionAcquisitions\": %d}",
+                        JsonReports.escape(result.endpoint.name), JsonReports.escape(result.endpoint.context.getInputFile().toString()),
+                        result.endpoint.line, result.cost.roundTrips(), result.cost.acquisitions()));
+                }
+                writer.write("\n]\n");
+            }
+        } catch (IOException e) {
+            LOG.warn("Unable to write the endpoint round trip report {}", reportFile, e);
+        }
+    }
+
+    /**
+     * Formats a count followed by a noun, in the plural unless the count is one.
+     *
+     * @param count the count
+     * @param noun  the singular noun
+     * @return for example {@code "1 connection acquisition"} or {@code "11 connection acquisitions"}
+     */
+    private static String count(long count, String noun) {
+        return count + " " + noun + (count == 1 ? "" : "s");
+    }
+
+    /**
+     * Checks if a method invocation borrows a connection directly from a {@code DataSource}.
+     *
+     * @param mit the method invocation
+     * @return {@code true} for {@code DataSource.getConnection()}
+     */
+    private static boolean isConnectionAcquisition(MethodInvocationTree mit) {
+        Type ownerType = JdbcStreamMethods.knownOwnerType(mit);
+        return ownerType != null && ownerType.isSubtypeOf(FQN_DATA_SOURCE) &&
+            METHOD_GET_CONNECTION.equals(JdbcStreamMethods.getMethodName(mit));
+    }
+
+    /**
+     * Returns the call graph key of the method invoked by a call.
+     *
+     * <p>Uses the resolved owner when available. Otherwise, the owner is the declared type of
+     * the receiver variable or field, or the enclosing class for unqualified calls.</p>
+     *
+     * @param mit the method invocation
+     * @return the key, or {@code null} for library methods and calls whose owner cannot be determined
+     */
+    private static String calleeKey(MethodInvocationTree mit) {
+        String methodName = JdbcStreamMethods.getMethodName(mit);
+        if (methodName == null) {
+            return null;
+        }
+        int arity = mit.arguments().size();
+        Symbol.MethodSymbol symbol = mit.methodSymbol();
+        if (!symbol.isUnknown()) {
+            return isLibraryMethod(symbol) ? null : CallGraph.key(symbol.owner().name(), methodName, arity);
+        }
+        ExpressionTree methodSelect = mit.methodSelect();
+        if (methodSelect.is(Tree.Kind.IDENTIFIER)) {
+            Tree current = mit.parent();
+            while (current != null && !(current instanceof ClassTree)) {
+                current = current.parent();
+            }
+            IdentifierTree className = current == null ? null : ((ClassTree) current).simpleName();
+            return className == null ? null : CallGraph.key(className.name(), methodName, arity);
+        }
+        String typeName = ClassMembers.declaredTypeName(JdbcStreamMethods.getReceiver(mit));
+        return typeName == null ? null : CallGraph.key(typeName, methodName, arity);
+    }
+
+    /**
+     * Checks if a method belongs to a library rather than to the analyzed project.
+     *
+     * @param symbol the invoked method
+     * @return {@code true} for methods of the JDK, Jakarta EE and Spring
+     */
+    private static boolean isLibraryMethod(Symbol.MethodSymbol symbol) {
+        Symbol owner = symbol.owner();
+        if (owner == null || owner.type().isUnknown()) {
+            return true;
+        }
+        String ownerName = owner.type().fullyQualifiedName();
+        return LIBRARY_PACKAGES.stream().anyMatch(ownerName::startsWith);
+    }
+
+    /**
+     * Returns the number of times a tree runs per invocation of its method.
+     *
+     * @param tree the tree
+     * @return {@code loopIterations} to the power of the loop nesting depth, saturated
+     */
+    private long weight(Tree tree) {
+        long weight = 1;
+        for (int depth = Loops.loopDepth(tree); depth > 0; depth--) {
+            weight = CallGraph.saturatedMultiply(weight, Math.max(1, loopIterations));
+        }
+        return weight;
+    }
+
+    /**
+     * Visits one method body and records its JDBC cost and outgoing calls.
+     *
+     * <p>Nested class declarations are skipped because their methods are visited separately.</p>
+     */
+    private class MethodBodyVisitor extends BaseTreeVisitor {
+
+        private final CallGraph.Node node;
+        private final Set<Tree> transactionTemplates = new HashSet<>();
+
+        MethodBodyVisitor(CallGraph.Node node) {
+            this.node = node;
+        }
+
+        @Override
+        public void visitMethodInvocation(MethodInvocationTree tree) {
+            if (JdbcStreamMethods.isRoundTrip(tree) || isConnectionAcquisition(tree)) {
+                if (JdbcStreamMethods.isRoundTrip(tree)) {
+                    node.addRoundTrips(weight(tree));
+                }
+                Tree boundary = TransactionalScopes.enclosingTransactionBoundary(tree);
+                if (boundary == null) {
+                    node.addAcquisitions(weight(tree));
+                } else if (boundary.is(Tree.Kind.METHOD_INVOCATION) && transactionTemplates.add(boundary)) {
+                    // A TransactionTemplate holds one connection for its whole callback
+                    node.addAcquisitions(weight(boundary));
+                }
+            } else {
+                String key = calleeKey(tree);
+                if (key != null) {
+                    node.addCall(key, weight(tree));
+                }
+            }
+            super.visitMethodInvocation(tree);
+        }
+
+        @Override
+        public void visitClass(ClassTree tree) {
+            // Nested and local classes are visited as separate methods
+        }
+    }
+
+    /**
+     * Request mapping method remembered until the end of the analysis, with the context of its
+     * file to report on.
+     */
+    private static final class Endpoint {
+
+        private final String signature;
+        private final String name;
+        private final InputFileScannerContext context;
+        private final int line;
+
+        Endpoint(String signature, String name, InputFileScannerContext context, int line) {
+            this.signature = signature;
+            this.name = name;
+            this.context = context;
+            this.line = line;
+        }
+    }
+
+    /**
+     * Estimated cost of one endpoint.
+     */
+    private static final class EndpointCost {
+
+        private final Endpoint endpoint;
+        private final CallGraph.Cost cost;
+
+        EndpointCost(Endpoint endpoint, CallGraph.Cost cost) {
+            this.endpoint = endpoint;
+            this.cost = cost;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.sonar.jdbc.checks;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-file values recorded by Java checks for the sensors of the plugin.
+ *
+ * <p>Java checks cannot save measures or share state with sensors, so checks record values
+ * for each analyzed file here, and the sensors of the plugin consume them once the Java
+ * analysis of the module is over. Every kind of value has its own channel, but all channels
+ * share one registry, identifying files by their URI alone: the working directory a check
+ * sees is that of the whole project, while a sensor sees that of its module, so only the
+ * file URI is the same on both sides. Each sensor consumes the values of the files of its
+ * own module. Values are replaced when a file is analyzed again, so analyses that never run
+ * the sensors, such as in SonarLint, only keep one value per file.</p>
+ *
+ * <p>Values are only recorded by active rules, for the files the Java analysis does not
+ * skip.</p>
+ *
+ * @param <T> the type of the recorded values
+ * @since 1.1.0
+ * @see StreamingCallSites
+ * @see ConnectionPressureMeasures
+ */
+final class FileRecords<T> {
+
+    private static final Map<String, Object> RECORDS = new ConcurrentHashMap<>();
+
+    private final String channel;
+
+    /**
+     * Creates a channel of the registry.
+     *
+     * @param channel the unique name of the channel
+     */
+    FileRecords(String channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Records the value of one file, replacing that of a previous analysis.
+     *
+     * @param fileUri the URI of the file
+     * @param value   the value
+     */
+    void record(String fileUri, T value) {
+        RECORDS.put(key(fileUri), value);
+    }
+
+    /**
+     * Returns the value recorded for one file and forgets it.
+     *
+     * @param fileUri the URI of the file
+     * @return the value, {@code null} if none was recorded
+     */
+    @SuppressWarnings("unchecked")
+    T consume(String fileUri) {
+        return (T) RECORDS.remove(key(fileUri));
+    }
+
+    /**
+     * Returns the registry key of a file in this channel.
+     *
+     * @param fileUri the URI of the file
+     * @return the channel followed by the URI
+     */
+    private String key(String fileUri) {
+        return channel + ":" + fileUri;
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.sonar.jdbc.checks;
+
+import org.sonar.check.Rule;
+import org.sonar.check.RuleProperty;
+import org.sonar.plugins.java.api.IssuableSubscriptionVisitor;
+import org.sonar.plugins.java.api.semantic.Type;
+import org.sonar.plugins.java.api.tree.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * SonarQube check to detect query results copied into generic, heavyweight structures.
+ *
+ * <p>{@code queryForRowSet()} copies the whole result into a disconnected, fully cached
+ * {@code SqlRowSet}, and {@code queryForList(sql, ...)} without element type, like
+ * {@code JdbcClient...listOfRows()}, returns a {@code List<Map<String, Object>>} with one
+ * {@code LinkedCaseInsensitiveMap} per row. Both keep column names, boxed values and hash
+ * entries for every cell and take several times the heap of typed records.</p>
+ *
+ * <p>Queries whose SQL limits the result to at most {@code smallResultRows} rows are not
+ * reported, unless they run in a loop. Queries without row limit, and queries inside loops,
+ * get dedicated messages.</p>
+ *
+ * <h2>Example of Noncompliant Code</h2>
+ * <pre>{@code
+ * List<Map<String, Object>> rows = jdbcTemplate.queryForList("SELECT * FROM orders WHERE status = ?", status); // Noncompliant
+ * }</pre>
+ *
+ * <h2>Example of Compliant Code</h2>
+ * <pre>{@code
+ * List<Order> orders = jdbcTemplate.query("SELECT * FROM orders WHERE status = ?", ORDER_MAPPER, status);
+ * }</pre>
+ *
+ * @since 1.1.0
+ * @see SqlStatements
+ */
+@Rule(key = "HeavyweightResultCopy")
+public class HeavyweightResultCopyCheck extends IssuableSubscriptionVisitor {
+
+    private static final String MESSAGE =
+        "Map the rows to a typed record with a RowMapper, or stream them, instead of copying the result into %s.";
+    private static final String MESSAGE_UNLIMITED =
+        "Map the rows to a typed record with a RowMapper, or stream them, instead of copying this unlimited result into %s.";
+    private static final String MESSAGE_IN_LOOP =
+        "Map the rows to a typed record with a RowMapper, or stream them, instead of copying the result into %s on every iteration.";
+
+    private static final String ROW_SET = "a disconnected SqlRowSet";
+    private static final String LIST_OF_MAPS = "a list of maps";
+
+    private static final String METHOD_QUERY_FOR_ROW_SET = "queryForRowSet";
+    private static final String METHOD_QUERY_FOR_LIST = "queryForList";
+    private static final String METHOD_LIST_OF_ROWS = "listOfRows";
+    private static final String FQN_JDBC_CLIENT = "org.springframework.jdbc.core.simple.JdbcClient";
+    private static final String FQN_CLASS = "java.lang.Class";
+    private static final List<String> FQN_TEMPLATE_OPERATIONS = List.of(
+        "org.springframework.jdbc.core.JdbcOperations",
+        "org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations"
+    );
+
+    private static final List<String> ROW_LIMITING_KEYWORDS = List.of(
+        "LIMIT", "FETCH FIRST", "FETCH NEXT", "TOP", "ROWNUM"
+    );
+    private static final Pattern ROW_LIMIT = Pattern.compile(
+        "\\b(?:LIMIT|FETCH (?:FIRST|NEXT)|TOP|ROWNUM\\s*<=?)\\s*\\(?(\\d+)");
+    private static final int MAX_LIMIT_DIGITS = 9;
+
+    /**
+     * Row limit up to which a generic result copy outside of a loop is considered small enough.
+     */
+    @RuleProperty(
+        key = "smallResultRows",
+        description = "Queries whose SQL limits the result to at most this number of rows are not reported",
+        defaultValue = "100")
+    public int smallResultRows = 100;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return a singleton list containing {@link Tree.Kind#METHOD_INVOCATION}
+     */
+    @Override
+    public List<Tree.Kind> nodesToVisit() {
+        return Collections.singletonList(Tree.Kind.METHOD_INVOCATION);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Reports row set and list-of-maps queries unless their SQL returns a small, bounded result
+     * outside of a loop.</p>
+     *
+     * @param tree the AST node to visit, guaranteed to be a {@link MethodInvocationTree}
+     */
+    @Override
+    public void visitNode(Tree tree) {
+        MethodInvocationTree mit = (MethodInvocationTree) tree;
+        String structure = copiedStructure(mit);
+        if (structure == null) {
+            return;
+        }
+        if (Loops.isInLoop(mit)) {
+            reportIssue(mit, String.format(MESSAGE_IN_LOOP, structure));
+            return;
+        }
+        String sql = SqlStatements.resolve(SqlStatements.sqlArgument(mit));
+        String normalizedSql = sql == null ? null : SqlStatements.normalize(sql);
+        if (normalizedSql == null) {
+            reportIssue(mit, String.format(MESSAGE, structure));
+        } else if (!limitsRows(normalizedSql)) {
+            reportIssue(mit, String.format(MESSAGE_UNLIMITED, structure));
+        } else if (!isSmallResult(normalizedSql)) {
+            reportIssue(mit, String.format(MESSAGE, structure));
+        }
+    }
+
+    /**
+     * Determines the generic structure a query copies its result into.
+     *
+     * @param mit the method invocation
+     * @return a description of the row set or list of maps, or {@code null} for other calls
+     */
+    private static String copiedStructure(MethodInvocationTree mit) {
+        String methodName = JdbcStreamMethods.getMethodName(mit);
+        if (METHOD_LIST_OF_ROWS.equals(methodName)) {
+            Type ownerType = JdbcStreamMethods.knownOwnerType(mit);
+            boolean client = ownerType != null
+                ? ownerType.fullyQualifiedName().startsWith(FQN_JDBC_CLIENT)
+                : SqlStatements.sqlCall(mit) != null;
+            return client ? LIST_OF_MAPS : null;
+        }
+        boolean rowSet = METHOD_QUERY_FOR_ROW_SET.equals(methodName);
+        if (!rowSet && !(METHOD_QUERY_FOR_LIST.equals(methodName) && !hasElementType(mit))) {
+            return null;
+        }
+        Type ownerType = JdbcStreamMethods.knownOwnerType(mit);
+        boolean template = ownerType != null
+            ? FQN_TEMPLATE_OPERATIONS.stream().anyMatch(ownerType::isSubtypeOf)
+            : JdbcStreamMethods.looksLikeJdbcTemplateCall(mit);
+        if (!template) {
+            return null;
+        }
+        return rowSet ? ROW_SET : LIST_OF_MAPS;
+    }
+
+    /**
+     * Checks if a {@code queryForList} call passes the element type of a single-column result.
+     *
+     * @param mit a {@code queryForList} invocation
+     * @return {@code true} if an argument is a class literal or of type {@code Class}
+     */
+    private static boolean hasElementType(MethodInvocationTree mit) {
+        for (ExpressionTree argument : mit.arguments()) {
+            ExpressionTree unwrapped = JdbcStreamMethods.skipParenthesesAndCasts(argument);
+            if (unwrapped.symbolType().is(FQN_CLASS) || (unwrapped.is(Tree.Kind.MEMBER_SELECT) &&
+                "class".equals(((MemberSelectExpressionTree) unwrapped).identifier().name()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if normalized SQL limits its result to at most {@link #smallResultRows} rows.
+     *
+     * @param normalizedSql the normalized SQL
+     * @return {@code true} for a constant row limit within the configured size
+     */
+    private boolean isSmallResult(String normalizedSql) {
+        Matcher matcher = ROW_LIMIT.matcher(normalizedSql);
+        while (matcher.find()) {
+            String limit = matcher.group(1);
+            if (limit.length() <= MAX_LIMIT_DIGITS && Integer.parseInt(limit) <= smallResultRows) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if normalized SQL limits the number of returned rows, possibly with a bound parameter.
+     *
+     * @param normalizedSql the normalized SQL
+     * @return {@code true} if a row-limiting clause is present
+     */
+    private static boolean limitsRows(String normalizedSql) {
+        return ROW_LIMITING_KEYWORDS.stream().anyMatch(keyword -> SqlStatements.containsKeyword(normalizedSql, keyword));
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.sonar.jdbc.checks;
+
+import org.sonar.check.Rule;
+import org.sonar.plugins.java.api.IssuableSubscriptionVisitor;
+import org.sonar.plugins.java.api.semantic.Type;
+import org.sonar.plugins.java.api.tree.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * SonarQube check to detect Spring JDBC facades created on every call instead of once.
+ *
+ * <p>{@code JdbcTemplate}, {@code NamedParameterJdbcTemplate} and {@code JdbcClient} are
+ * thread-safe and meant to be created once per {@code DataSource}. Each new instance lazily
+ * builds its own SQL exception translator, which looks up the database metadata on a pooled
+ * connection, and its own caches. Creating one per request or per loop iteration repeats that
+ * work and throws the caches away.</p>
+ *
+ * <p>The rule reports {@code new JdbcTemplate(...)}, {@code new NamedParameterJdbcTemplate(...)}
+ * and {@code JdbcClient.create(...)} outside constructors, {@code @Bean} methods, initializer
+ * blocks and field initializers. Calls inside loops and in methods of controllers and services
+ * get a dedicated message, as they run most often.</p>
+ *
+ * <h2>Example of Noncompliant Code</h2>
+ * <pre>{@code
+ * @GetMapping("/orders")
+ * public List<Order> orders() {
+ *     JdbcClient client = JdbcClient.create(dataSource); // Noncompliant
+ *     return client.sql("SELECT * FROM orders WHERE status = 'new'").query(Order.class).list();
+ * }
+ * }</pre>
+ *
+ * <h2>Example of Compliant Code</h2>
+ * <pre>{@code
+ * public OrderController(DataSource dataSource) {
+ *     this.client = JdbcClient.create(dataSource);
+ * }
+ * }</pre>
+ *
+ * @since 1.1.0
+ * @see ClassMembers
+ * @see Loops
+ */
+@Rule(key = "JdbcFacadeInstantiation")
+public class JdbcFacadeInstantiationCheck extends IssuableSubscriptionVisitor {
+
+    private static final String MESSAGE =
+        "Create this %s once, as a bean or in the constructor, instead of on every call.";
+    private static final String MESSAGE_IN_LOOP =
+        "Move this %s out of the loop and reuse it; it is created again on every iteration.";
+    private static final String MESSAGE_IN_COMPONENT =
+        "Inject this %s or create it in the constructor; this %s method creates it again on every call.";
+
+    private static final String JDBC_CLIENT = "JdbcClient";
+
+    private static final List<String> FQN_TEMPLATES = List.of(
+        "org.springframework.jdbc.core.JdbcTemplate",
+        "org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate"
+    );
+    private static final Set<String> TEMPLATE_NAMES = Set.of("JdbcTemplate", "NamedParameterJdbcTemplate");
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return a list containing {@link Tree.Kind#NEW_CLASS} and {@link Tree.Kind#METHOD_INVOCATION}
+     */
+    @Override
+    public List<Tree.Kind> nodesToVisit() {
+        return Arrays.asList(Tree.Kind.NEW_CLASS, Tree.Kind.METHOD_INVOCATION);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Reports facade instantiations whose enclosing member runs more than once.</p>
+     *
+     * @param tree the AST node to visit, a {@link NewClassTree} or a {@link MethodInvocationTree}
+     */
+    @Override
+    public void visitNode(Tree tree) {
+        String facade = tree.is(Tree.Kind.NEW_CLASS)
+            ? instantiatedTemplate((NewClassTree) tree)
+            : createdClient((MethodInvocationTree) tree);
+        if (facade == null) {
+            return;
+        }
+        if (ClassMembers.isOneTimeInitialization(tree)) {
+            return;
+        }
+        if (Loops.isInLoop(tree)) {
+            reportIssue(tree, String.format(MESSAGE_IN_LOOP, facade));
+            return;
+        }
+        String stereotype = ClassMembers.stereotype(tree);
+        if (stereotype != null) {
+            reportIssue(tree, String.format(MESSAGE_IN_COMPONENT, facade, stereotype.toLowerCase(Locale.ROOT)));
+        } else {
+            reportIssue(tree, String.format(MESSAGE, facade));
+        }
+    }
+
+    /**
+     * Returns the simple name of the template created by a constructor call.
+     *
+     * @param newClass the constructor call
+     * @return {@code JdbcTemplate} or {@code NamedParameterJdbcTemplate}, or {@code null} for other classes
+     */
+    private static String instantiatedTemplate(NewClassTree newClass) {
+        // Anonymous subclasses are one-off customizations, typically created in configuration code
+        if (newClass.classBody() != null) {
+            return null;
+        }
+        Type type = newClass.symbolType();
+        if (!type.isUnknown()) {
+            return FQN_TEMPLATES.stream().anyMatch(type::is) ? type.name() : null;
+        }
+        String name = TransactionalScopes.simpleName(newClass.identifier());
+        return TEMPLATE_NAMES.contains(name) ? name : null;
+    }
+
+    /**
+     * Checks if a method invocation is {@code JdbcClient.create(...)}.
+     *
+     * @param mit the method invocation
+     * @return {@code JdbcClient}, or {@code null} for other invocations
+     */
+    private static String createdClient(MethodInvocationTree mit) {
+        return JdbcStreamMethods.isJdbcClientCreation(mit) ? JDBC_CLIENT : null;
+    }
+}
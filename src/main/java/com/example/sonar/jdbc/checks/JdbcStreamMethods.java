@@ -0,0 +1,574 @@
+package com.example.sonar.jdbc.checks;
+
+import org.sonar.plugins.java.api.semantic.Symbol;
+import org.sonar.plugins.java.api.semantic.Type;
+import org.sonar.plugins.java.api.tree.*;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Shared detection logic for Spring JDBC methods returning connection-holding streams.
+ *
+ * <p>Every check of this plugin that needs to know whether a method invocation opens a
+ * database cursor, or whether that cursor is managed by try-with-resources, goes through
+ * this class so that all rules agree on the same set of entry points.</p>
+ *
+ * <p>Like the checks themselves, detection uses semantic type information when Spring JDBC
+ * is on the analysis classpath and falls back to name-based heuristics otherwise.</p>
+ *
+ * @since 1.1.0
+ * @see SpringJdbcStreamLeakCheck
+ */
+final class JdbcStreamMethods {
+
+    static final int MAX_CHAIN_DEPTH = 50;
+
+    // Method names used by the JdbcClient chain heuristic
+    private static final String METHOD_QUERY = "query";
+    private static final String METHOD_SQL = "sql";
+    private static final String METHOD_PARAM = "param";
+    private static final String METHOD_CREATE = "create";
+
+    // Fully qualified class names for Spring JDBC types
+    private static final String JDBC_CLIENT = "JdbcClient";
+    private static final String FQN_JDBC_CLIENT = "org.springframework.jdbc.core.simple.JdbcClient";
+    private static final String FQN_JDBC_CLIENT_MAPPED_QUERY_SPEC =
+        "org.springframework.jdbc.core.simple.JdbcClient$MappedQuerySpec";
+    private static final String FQN_JDBC_OPERATIONS =
+        "org.springframework.jdbc.core.JdbcOperations";
+    private static final String FQN_NAMED_PARAMETER_JDBC_OPERATIONS =
+        "org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations";
+
+    // Packages and types whose methods run statements on a pooled connection
+    private static final String SPRING_JDBC_CORE_PACKAGE = "org.springframework.jdbc.core.";
+    private static final List<String> FQN_JDBC_RESOURCES = List.of(
+        "java.sql.Connection", "java.sql.Statement", "javax.sql.DataSource"
+    );
+
+    // Plain JDBC calls that send a statement or a transaction command to the database
+    private static final String FQN_CONNECTION = "java.sql.Connection";
+    private static final String FQN_STATEMENT = "java.sql.Statement";
+    private static final String EXECUTE_PREFIX = "execute";
+    private static final Set<String> TRANSACTION_CONTROL_METHODS = Set.of("commit", "rollback");
+
+    // Receiver name fragments of the Spring templates and operations that do not run JDBC statements
+    private static final List<String> NON_JDBC_CLIENT_NAMES = List.of(
+        "rest", "transaction", "tx", "kafka", "redis", "mongo", "jms", "rabbit", "amqp",
+        "r2dbc", "elasticsearch", "cassandra", "ldap", "retry", "web"
+    );
+
+    /*
+     * All connection-holding stream entry points of spring-jdbc 6.x, keyed by method name so that
+     * a single hash lookup rejects every other invocation. Owner types are matched including
+     * subtypes, which covers JdbcTemplate, NamedParameterJdbcTemplate and calls through the
+     * JdbcOperations / NamedParameterJdbcOperations interfaces.
+     */
+    private static final Map<String, StreamEntryPoint> ENTRY_POINTS = Map.of(
+        "queryForStream", new StreamEntryPoint(
+            List.of(FQN_JDBC_OPERATIONS, FQN_NAMED_PARAMETER_JDBC_OPERATIONS),
+            JdbcStreamMethods::looksLikeJdbcTemplateCall),
+        "stream", new StreamEntryPoint(
+            List.of(FQN_JDBC_CLIENT_MAPPED_QUERY_SPEC),
+            mit -> looksLikeJdbcClientStream(mit, 0))
+    );
+
+    // Intermediate operations and escape hatches that keep the underlying cursor open
+    private static final Set<String> STREAM_DERIVATIONS = Set.of(
+        "filter", "map", "mapToInt", "mapToLong", "mapToDouble", "mapToObj", "flatMap",
+        "peek", "sorted", "distinct", "limit", "skip", "takeWhile", "dropWhile", "boxed",
+        "parallel", "sequential", "unordered", "onClose", "iterator", "spliterator"
+    );
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private JdbcStreamMethods() {
+        // Utility class - private constructor
+    }
+
+    /**
+     * Extracts the method name from a method invocation tree.
+     *
+     * <p>Handles both simple method calls ({@code foo()}) and member select
+     * expressions ({@code obj.foo()}).</p>
+     *
+     * @param mit the method invocation tree to extract the name from
+     * @return the method name as a string, or {@code null} if the name cannot be determined
+     */
+    static String getMethodName(MethodInvocationTree mit) {
+        ExpressionTree methodSelect = mit.methodSelect();
+        if (methodSelect.is(Tree.Kind.IDENTIFIER)) {
+            return ((IdentifierTree) methodSelect).name();
+        } else if (methodSelect.is(Tree.Kind.MEMBER_SELECT)) {
+            return ((MemberSelectExpressionTree) methodSelect).identifier().name();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the receiver of a method invocation, i.e. the expression left of the dot.
+     *
+     * @param mit the method invocation
+     * @return the receiver expression, or {@code null} for unqualified calls
+     */
+    static ExpressionTree getReceiver(MethodInvocationTree mit) {
+        ExpressionTree methodSelect = mit.methodSelect();
+        if (methodSelect.is(Tree.Kind.MEMBER_SELECT)) {
+            return ((MemberSelectExpressionTree) methodSelect).expression();
+        }
+        return null;
+    }
+
+    /**
+     * Determines if a method invocation is a JDBC stream method that holds a database
+     * connection until the returned stream is closed.
+     *
+     * <p>Recognizes all entry points of {@link #ENTRY_POINTS}:</p>
+     * <ul>
+     *   <li>{@code JdbcClient.MappedQuerySpec.stream()} - Spring 6.1+ JdbcClient</li>
+     *   <li>{@code JdbcOperations.queryForStream()} - JdbcTemplate and subclasses</li>
+     *   <li>{@code NamedParameterJdbcOperations.queryForStream()} - NamedParameterJdbcTemplate</li>
+     * </ul>
+     *
+     * <p>Uses semantic type checking when available, falls back to name-based heuristics
+     * when Spring JDBC is not on the analysis classpath. Calls to methods annotated with
+     * {@code @MustBeClosed} are not recognized, see
+     * {@link #isConnectionHoldingStream(MethodInvocationTree, MustBeClosedAnnotations)}.</p>
+     *
+     * @param mit the method invocation to analyze
+     * @return {@code true} if this is a connection-holding JDBC stream method, {@code false} otherwise
+     */
+    static boolean isConnectionHoldingStream(MethodInvocationTree mit) {
+        return isConnectionHoldingStream(mit, MustBeClosedAnnotations.NONE);
+    }
+
+    /**
+     * Determines if a method invocation is a JDBC stream method, or a call to a method carrying
+     * one of the given {@code @MustBeClosed}-style annotations.
+     *
+     * @param mit         the method invocation to analyze
+     * @param annotations the annotations declaring that the result must be closed
+     * @return {@code true} if the call returns a resource holding a database connection
+     * @see #isConnectionHoldingStream(MethodInvocationTree)
+     */
+    static boolean isConnectionHoldingStream(MethodInvocationTree mit, MustBeClosedAnnotations annotations) {
+        String methodName = getMethodName(mit);
+        if (methodName == null) {
+            return false;
+        }
+
+        StreamEntryPoint entryPoint = ENTRY_POINTS.get(methodName);
+        if (entryPoint == null) {
+            return annotations.isAnnotated(mit);
+        }
+
+        Type ownerType = knownOwnerType(mit);
+        if (ownerType == null) {
+            return entryPoint.heuristic.test(mit);
+        }
+        return entryPoint.isDeclaredBy(ownerType);
+    }
+
+    /**
+     * Determines if an expression evaluates to a connection-holding stream or to an
+     * iterator/spliterator derived from one.
+     *
+     * <p>Besides direct acquisitions, the expression may be a reference to one of the
+     * {@code trackedVariables} (locals already known to hold such a stream) or an
+     * intermediate operation applied to a connection-holding stream, since closing the
+     * derived stream is what releases the connection.</p>
+     *
+     * @param expression       the expression to analyze, may be {@code null}
+     * @param trackedVariables symbols of variables known to hold a connection-holding stream
+     * @return {@code true} if the expression keeps a database connection borrowed
+     */
+    static boolean isConnectionHoldingExpression(ExpressionTree expression, Set<Symbol> trackedVariables) {
+        return isConnectionHoldingExpression(expression, trackedVariables, MustBeClosedAnnotations.NONE);
+    }
+
+    /**
+     * Determines if an expression evaluates to a connection-holding stream, recognizing calls
+     * to methods carrying one of the given {@code @MustBeClosed}-style annotations.
+     *
+     * @param expression       the expression to analyze, may be {@code null}
+     * @param trackedVariables symbols of variables known to hold a connection-holding stream
+     * @param annotations      the annotations declaring that the result must be closed
+     * @return {@code true} if the expression keeps a database connection borrowed
+     * @see #isConnectionHoldingExpression(ExpressionTree, Set)
+     */
+    static boolean isConnectionHoldingExpression(ExpressionTree expression, Set<Symbol> trackedVariables,
+                                                 MustBeClosedAnnotations annotations) {
+        ExpressionTree current = skipParenthesesAndCasts(expression);
+        for (int depth = 0; current != null && depth <= MAX_CHAIN_DEPTH; depth++) {
+            if (current.is(Tree.Kind.IDENTIFIER)) {
+                return trackedVariables.contains(((IdentifierTree) current).symbol());
+            }
+            if (!current.is(Tree.Kind.METHOD_INVOCATION)) {
+                return false;
+            }
+            MethodInvocationTree mit = (MethodInvocationTree) current;
+            if (isConnectionHoldingStream(mit, annotations)) {
+                return true;
+            }
+            if (!isStreamDerivation(mit)) {
+                return false;
+            }
+            current = skipParenthesesAndCasts(getReceiver(mit));
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a method invocation derives a new stream, iterator or spliterator from its
+     * receiver without consuming it, so that the result still holds the receiver's cursor.
+     *
+     * @param mit the method invocation to check
+     * @return {@code true} for intermediate stream operations, {@code iterator()} and {@code spliterator()}
+     */
+    static boolean isStreamDerivation(MethodInvocationTree mit) {
+        String methodName = getMethodName(mit);
+        return methodName != null && STREAM_DERIVATIONS.contains(methodName);
+    }
+
+    /**
+     * Removes enclosing parentheses and type casts from an expression.
+     *
+     * @param expression the expression to unwrap, may be {@code null}
+     * @return the innermost wrapped expression, or {@code null} if the input was {@code null}
+     */
+    static ExpressionTree skipParenthesesAndCasts(ExpressionTree expression) {
+        ExpressionTree current = expression;
+        while (current != null) {
+            if (current.is(Tree.Kind.PARENTHESIZED_EXPRESSION)) {
+                current = ((ParenthesizedTree) current).expression();
+            } else if (current.is(Tree.Kind.TYPE_CAST)) {
+                current = ((TypeCastTree) current).expression();
+            } else {
+                return current;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Performs heuristic-based detection to determine if a {@code stream()} call
+     * looks like it originates from a JdbcClient method chain.
+     *
+     * <p>This fallback method is used when semantic type information is unavailable
+     * (e.g., Spring JDBC not on the classpath). It traverses the method chain up to
+     * {@link #MAX_CHAIN_DEPTH} levels looking for characteristic JdbcClient methods
+     * like {@code query()}, {@code sql()}, or {@code param()}.</p>
+     *
+     * @param mit   the method invocation to analyze
+     * @param depth the current recursion depth
+     * @return {@code true} if the method chain contains JdbcClient-characteristic methods
+     */
+    private static boolean looksLikeJdbcClientStream(MethodInvocationTree mit, int depth) {
+        if (depth > MAX_CHAIN_DEPTH) {
+            return false;
+        }
+
+        ExpressionTree expression = getReceiver(mit);
+
+        // Check if the expression is another method invocation
+        if (expression != null && expression.is(Tree.Kind.METHOD_INVOCATION)) {
+            MethodInvocationTree chainedCall = (MethodInvocationTree) expression;
+            String chainedMethodName = getMethodName(chainedCall);
+
+            // Common JdbcClient methods: query, sql, param
+            if (chainedMethodName != null &&
+                (METHOD_QUERY.equals(chainedMethodName) ||
+                 METHOD_SQL.equals(chainedMethodName) ||
+                 METHOD_PARAM.equals(chainedMethodName))) {
+                return true;
+            }
+
+            // Recursively check the chain with incremented depth
+            return looksLikeJdbcClientStream(chainedCall, depth + 1);
+        }
+        return false;
+    }
+
+    /**
+     * Determines if a method invocation accesses the database through Spring JDBC or plain JDBC.
+     *
+     * <p>With semantic information, any method declared in {@code org.springframework.jdbc.core}
+     * and its sub-packages ({@code JdbcTemplate}, {@code NamedParameterJdbcTemplate},
+     * {@code JdbcClient} and its specs) or by {@code Connection}, {@code Statement} and
+     * {@code DataSource} counts. Otherwise, calls on a receiver named like a JDBC template or
+     * client are accepted, which only matches the first call of a {@code JdbcClient} chain.</p>
+     *
+     * @param mit the method invocation
+     * @return {@code true} if the invocation is a JDBC call
+     */
+    static boolean isJdbcAccess(MethodInvocationTree mit) {
+        Type ownerType = knownOwnerType(mit);
+        if (ownerType == null) {
+            return looksLikeJdbcTemplateCall(mit);
+        }
+        if (ownerType.fullyQualifiedName().startsWith(SPRING_JDBC_CORE_PACKAGE)) {
+            return true;
+        }
+        for (String resourceType : FQN_JDBC_RESOURCES) {
+            if (ownerType.isSubtypeOf(resourceType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a method invocation sends a statement to the database.
+     *
+     * <p>For Spring JDBC, only the first call of a chain counts, e.g. {@code sql(...)} of a
+     * {@code JdbcClient} chain. For plain JDBC, only statement execution and transaction control
+     * count.</p>
+     *
+     * @param mit the method invocation
+     * @return {@code true} if the invocation is a database round trip
+     */
+    static boolean isRoundTrip(MethodInvocationTree mit) {
+        Type ownerType = knownOwnerType(mit);
+        if (ownerType == null) {
+            return looksLikeJdbcTemplateCall(mit);
+        }
+        if (mit.methodSymbol().isStatic()) {
+            return false;
+        }
+        if (ownerType.fullyQualifiedName().startsWith(SPRING_JDBC_CORE_PACKAGE)) {
+            ExpressionTree receiver = skipParenthesesAndCasts(getReceiver(mit));
+            return receiver == null || !receiver.is(Tree.Kind.METHOD_INVOCATION) ||
+                !isJdbcAccess((MethodInvocationTree) receiver);
+        }
+        String methodName = getMethodName(mit);
+        if (methodName == null) {
+            return false;
+        }
+        return (ownerType.isSubtypeOf(FQN_STATEMENT) && methodName.startsWith(EXECUTE_PREFIX)) ||
+            (ownerType.isSubtypeOf(FQN_CONNECTION) && TRANSACTION_CONTROL_METHODS.contains(methodName));
+    }
+
+    /**
+     * Returns the owner type of the invoked method when semantic information is available.
+     *
+     * @param mit the method invocation
+     * @return the resolved owner type, or {@code null} if the method or its owner is unknown
+     */
+    static Type knownOwnerType(MethodInvocationTree mit) {
+        Symbol.MethodSymbol methodSymbol = mit.methodSymbol();
+        if (methodSymbol == null || methodSymbol.isUnknown()) {
+            return null;
+        }
+
+        Symbol owner = methodSymbol.owner();
+        if (owner == null || owner.type().isUnknown()) {
+            return null;
+        }
+        return owner.type();
+    }
+
+    /**
+     * Checks if a method invocation is {@code JdbcClient.create(...)}.
+     *
+     * @param mit the method invocation
+     * @return {@code true} for the {@code JdbcClient} factory, resolved or matched by receiver name
+     */
+    static boolean isJdbcClientCreation(MethodInvocationTree mit) {
+        if (!METHOD_CREATE.equals(getMethodName(mit))) {
+            return false;
+        }
+        Type ownerType = knownOwnerType(mit);
+        if (ownerType != null) {
+            return ownerType.is(FQN_JDBC_CLIENT);
+        }
+        return JDBC_CLIENT.equals(TransactionalScopes.simpleName(getReceiver(mit)));
+    }
+
+    /**
+     * Performs heuristic-based detection to determine if a method call looks like
+     * it's being invoked on a JdbcTemplate instance based on the receiver variable name.
+     *
+     * <p>This fallback method is used when semantic type information is unavailable.
+     * It checks if the receiver, either a plain identifier or a field accessed through
+     * {@code this}, is named like a {@code JdbcTemplate}, {@code NamedParameterJdbcTemplate}
+     * or one of their {@code *Operations} interfaces. Names mentioning {@code jdbc} always
+     * match; other templates and operations match unless they are named after another client,
+     * such as {@code restTemplate}, {@code transactionTemplate} or {@code kafkaTemplate}.</p>
+     *
+     * @param mit the method invocation to analyze
+     * @return {@code true} if the receiver name suggests a JdbcTemplate instance
+     */
+    static boolean looksLikeJdbcTemplateCall(MethodInvocationTree mit) {
+        ExpressionTree expression = getReceiver(mit);
+        if (expression != null && expression.is(Tree.Kind.MEMBER_SELECT)) {
+            expression = ((MemberSelectExpressionTree) expression).identifier();
+        }
+
+        // Check if receiver is a simple identifier with a JdbcTemplate-like name
+        if (expression != null && expression.is(Tree.Kind.IDENTIFIER)) {
+            String receiverName = ((IdentifierTree) expression).name().toLowerCase(Locale.ROOT);
+            if (receiverName.contains("jdbc")) {
+                return true;
+            }
+            return (receiverName.contains("template") || receiverName.contains("operations")) &&
+                NON_JDBC_CLIENT_NAMES.stream().noneMatch(receiverName::contains);
+        }
+
+        return false;
+    }
+
+    /**
+     * Determines if a method invocation is properly managed within a try-with-resources statement.
+     *
+     * <p>This method traverses the AST upward from the method invocation to find if it's
+     * declared as a resource in a try-with-resources statement. The check is strict:
+     * only try-with-resources is accepted; manual {@code close()} calls in finally blocks
+     * are not considered safe.</p>
+     *
+     * <p>Handles two AST patterns:</p>
+     * <ul>
+     *   <li>Direct method invocation in resource list: The {@code stream()} call
+     *       is directly part of the try-with-resources declaration</li>
+     *   <li>Nested in variable initializer: The {@code stream()} call is within
+     *       a variable declaration that is itself in the resource list</li>
+     * </ul>
+     *
+     * @param mit the method invocation to check
+     * @return {@code true} if the stream is declared in a try-with-resources, {@code false} otherwise
+     */
+    static boolean isInTryWithResources(MethodInvocationTree mit) {
+        Tree current = mit;
+
+        while (current != null) {
+            Tree parent = current.parent();
+
+            if (parent == null) {
+                break;
+            }
+
+            // Check if we're in a try-with-resources statement
+            if (parent.is(Tree.Kind.TRY_STATEMENT)) {
+                TryStatementTree tryStatement = (TryStatementTree) parent;
+                List<Tree> resources = tryStatement.resourceList();
+
+                // Check if our method invocation is part of the resource declaration
+                for (Tree resource : resources) {
+                    if (containsMethodInvocation(resource, mit, 0)) {
+                        return true;
+                    }
+                }
+
+                // If we're in a try block but not in the resources, it's not safe
+                return false;
+            }
+
+            // Check if we're inside a variable declaration that's in try-with-resources
+            if (parent.is(Tree.Kind.VARIABLE)) {
+                VariableTree variable = (VariableTree) parent;
+                if (variable.initializer() == current || containsMethodInvocation(variable.initializer(), mit, 0)) {
+                    // Check if this variable is in a try-with-resources
+                    Tree grandParent = parent.parent();
+                    if (grandParent != null && grandParent.parent() != null &&
+                        grandParent.parent().is(Tree.Kind.TRY_STATEMENT)) {
+                        TryStatementTree tryStatement = (TryStatementTree) grandParent.parent();
+                        if (tryStatement.resourceList().contains(variable)) {
+                            return true;
+                        }
+                    }
+                }
+            }
+
+            current = parent;
+        }
+
+        return false;
+    }
+
+    /**
+     * Recursively checks if an AST subtree contains a specific method invocation.
+     *
+     * <p>This method is used to determine if a method invocation appears within
+     * a resource declaration in a try-with-resources statement. It traverses
+     * variable initializers, method invocation chains (method select and arguments)
+     * and member select expressions, with depth limiting to prevent stack overflow
+     * on pathological ASTs.</p>
+     *
+     * @param tree   the AST subtree to search in
+     * @param target the specific method invocation to find
+     * @param depth  the current recursion depth
+     * @return {@code true} if the target is found within the tree, {@code false} otherwise
+     */
+    private static boolean containsMethodInvocation(Tree tree, MethodInvocationTree target, int depth) {
+        if (depth > MAX_CHAIN_DEPTH) {
+            return false;
+        }
+
+        if (tree == target) {
+            return true;
+        }
+
+        if (tree instanceof VariableTree) {
+            VariableTree variable = (VariableTree) tree;
+            ExpressionTree init = variable.initializer();
+            // Null-check: initializer can be null for uninitialized variables
+            return init != null && containsMethodInvocation(init, target, depth + 1);
+        }
+
+        if (tree instanceof MethodInvocationTree) {
+            MethodInvocationTree mit = (MethodInvocationTree) tree;
+
+            // Check method select
+            if (containsMethodInvocation(mit.methodSelect(), target, depth + 1)) {
+                return true;
+            }
+
+            // Check arguments
+            for (ExpressionTree arg : mit.arguments()) {
+                if (containsMethodInvocation(arg, target, depth + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        if (tree instanceof MemberSelectExpressionTree) {
+            MemberSelectExpressionTree memberSelect = (MemberSelectExpressionTree) tree;
+            return containsMethodInvocation(memberSelect.expression(), target, depth + 1);
+        }
+
+        return false;
+    }
+
+    /**
+     * A connection-holding stream method, described by the types declaring it and by the
+     * heuristic recognizing it when those types cannot be resolved.
+     */
+    private static final class StreamEntryPoint {
+
+        private final List<String> declaringTypes;
+        private final Predicate<MethodInvocationTree> heuristic;
+
+        StreamEntryPoint(List<String> declaringTypes, Predicate<MethodInvocationTree> heuristic) {
+            this.declaringTypes = declaringTypes;
+            this.heuristic = heuristic;
+        }
+
+        /**
+         * Checks if the resolved owner of an invoked method is one of the declaring types or a subtype.
+         *
+         * @param ownerType the resolved owner type
+         * @return {@code true} if the method belongs to this entry point
+         */
+        boolean isDeclaredBy(Type ownerType) {
+            for (String declaringType : declaringTypes) {
+                if (ownerType.isSubtypeOf(declaringType)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
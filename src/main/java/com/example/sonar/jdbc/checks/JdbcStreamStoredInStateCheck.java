@@ -0,0 +1,293 @@
+package com.example.sonar.jdbc.checks;
+
+import org.sonar.check.Rule;
+import org.sonar.plugins.java.api.IssuableSubscriptionVisitor;
+import org.sonar.plugins.java.api.JavaFileScannerContext;
+import org.sonar.plugins.java.api.semantic.Symbol;
+import org.sonar.plugins.java.api.semantic.Type;
+import org.sonar.plugins.java.api.tree.*;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * SonarQube check to detect connection-holding JDBC streams stored in long-lived state.
+ *
+ * <p>A stream returned by {@code JdbcClient.stream()} or {@code JdbcTemplate.queryForStream()}
+ * keeps its database connection until it is closed. When such a stream, or an iterator or
+ * spliterator derived from it, is assigned to a field, put into a collection or array, or
+ * passed to the constructor of another object, the connection stays borrowed for as long as
+ * the owning object lives, which for singletons and caches means forever. A try-with-resources
+ * around the acquisition does not help either: the owner then keeps a closed stream. This rule
+ * therefore reports these stores even when the acquisition is inside try-with-resources.</p>
+ *
+ * <p>Objects created as a try-with-resources resource are closed with the block, so passing a
+ * stream to their constructor is not reported. Handing a stream to a new {@link Thread} is
+ * covered by {@link SpringJdbcStreamAsyncEscapeCheck}.</p>
+ *
+ * <h2>Example of Noncompliant Code</h2>
+ * <pre>{@code
+ * public void open() {
+ *     this.pending = jdbcTemplate.queryForStream(PENDING_SQL, ORDER_MAPPER).iterator(); // Noncompliant
+ * }
+ * }</pre>
+ *
+ * <h2>Example of Compliant Code</h2>
+ * <pre>{@code
+ * public List<Order> nextChunk(long afterId) {
+ *     return jdbcTemplate.query(PENDING_SQL + " AND id > ? ORDER BY id LIMIT 500", ORDER_MAPPER, afterId);
+ * }
+ * }</pre>
+ *
+ * @since 1.1.0
+ * @see SpringJdbcStreamLeakCheck
+ * @see SpringJdbcStreamAsyncEscapeCheck
+ */
+@Rule(key = "JdbcStreamStoredInState")
+public class JdbcStreamStoredInStateCheck extends IssuableSubscriptionVisitor {
+
+    private static final String MESSAGE_FIELD =
+        "Do not store this JDBC %s in a field; its connection stays borrowed for as long as the owning object lives.";
+    private static final String MESSAGE_COLLECTION =
+        "Do not put this JDBC %s into a collection; its connection stays borrowed for as long as the collection holds it.";
+    private static final String MESSAGE_CONSTRUCTOR =
+        "Do not pass this JDBC %s to a constructor; its connection stays borrowed for as long as the created object lives.";
+    private static final String SECONDARY_ACQUISITION = "Database connection acquired here.";
+
+    private static final String KIND_STREAM = "stream";
+    private static final Set<String> DERIVED_KINDS = Set.of("iterator", "spliterator");
+
+    private static final List<String> FQN_CONTAINERS = List.of("java.util.Collection", "java.util.Map");
+    private static final Set<String> CONTAINER_MUTATORS = Set.of(
+        "add", "addAll", "addFirst", "addLast", "offer", "offerFirst", "offerLast",
+        "push", "put", "putIfAbsent", "replace", "set"
+    );
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>This check visits method and constructor declarations, since storing a stream often
+     * goes through a local variable, and field declarations for their initializers.</p>
+     *
+     * @return a list containing {@link Tree.Kind#METHOD}, {@link Tree.Kind#CONSTRUCTOR} and {@link Tree.Kind#VARIABLE}
+     */
+    @Override
+    public List<Tree.Kind> nodesToVisit() {
+        return Arrays.asList(Tree.Kind.METHOD, Tree.Kind.CONSTRUCTOR, Tree.Kind.VARIABLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Reports field initializers acquiring a stream, and scans method bodies in source order,
+     * tracking local variables that hold a connection-holding stream and reporting when one of
+     * them, or a fresh acquisition, is stored in a field, a collection or a new object.</p>
+     *
+     * @param tree the AST node to visit, a {@link MethodTree} or a {@link VariableTree}
+     */
+    @Override
+    public void visitNode(Tree tree) {
+        if (tree.is(Tree.Kind.VARIABLE)) {
+            VariableTree variable = (VariableTree) tree;
+            Tree parent = variable.parent();
+            if (parent != null && parent.is(Tree.Kind.CLASS, Tree.Kind.ENUM, Tree.Kind.RECORD, Tree.Kind.INTERFACE) &&
+                JdbcStreamMethods.isConnectionHoldingExpression(variable.initializer(), Set.of())) {
+                ExpressionTree initializer = JdbcStreamMethods.skipParenthesesAndCasts(variable.initializer());
+                reportIssue(initializer, String.format(MESSAGE_FIELD, kindOf(initializer, Map.of())));
+            }
+            return;
+        }
+        BlockTree body = ((MethodTree) tree).block();
+        if (body != null) {
+            body.accept(new MethodBodyVisitor());
+        }
+    }
+
+    /**
+     * Describes what a connection-holding expression evaluates to, for the issue message.
+     *
+     * @param expression the connection-holding expression, without parentheses and casts
+     * @param kinds      the description of each tracked variable
+     * @return {@code "iterator"}, {@code "spliterator"} or {@code "stream"}
+     */
+    private static String kindOf(ExpressionTree expression, Map<Symbol, String> kinds) {
+        if (expression.is(Tree.Kind.IDENTIFIER)) {
+            return kinds.getOrDefault(((IdentifierTree) expression).symbol(), KIND_STREAM);
+        }
+        if (expression.is(Tree.Kind.METHOD_INVOCATION)) {
+            String methodName = JdbcStreamMethods.getMethodName((MethodInvocationTree) expression);
+            if (DERIVED_KINDS.contains(methodName)) {
+                return methodName;
+            }
+        }
+        return KIND_STREAM;
+    }
+
+    /**
+     * Checks if an assignment target is a field rather than a local variable.
+     *
+     * @param variable the assignment target, without parentheses
+     * @return {@code true} for member selects such as {@code this.cursor} and identifiers of fields
+     */
+    private static boolean isField(ExpressionTree variable) {
+        if (variable.is(Tree.Kind.MEMBER_SELECT)) {
+            return true;
+        }
+        if (!variable.is(Tree.Kind.IDENTIFIER)) {
+            return false;
+        }
+        Symbol symbol = ((IdentifierTree) variable).symbol();
+        return !symbol.isUnknown() && symbol.isVariableSymbol() && symbol.owner() != null && symbol.owner().isTypeSymbol();
+    }
+
+    /**
+     * Determines if a method invocation stores its arguments in a collection, map or similar container.
+     *
+     * <p>Uses the owner type when semantic information is available, and only the method name otherwise.</p>
+     *
+     * @param mit the method invocation
+     * @return {@code true} for mutators of {@link java.util.Collection} and {@link java.util.Map}
+     */
+    private static boolean isContainerMutation(MethodInvocationTree mit) {
+        String methodName = JdbcStreamMethods.getMethodName(mit);
+        if (methodName == null || !CONTAINER_MUTATORS.contains(methodName)) {
+            return false;
+        }
+        Type ownerType = JdbcStreamMethods.knownOwnerType(mit);
+        return ownerType == null || FQN_CONTAINERS.stream().anyMatch(ownerType::isSubtypeOf);
+    }
+
+    /**
+     * Checks if a class instantiation is exempt, either because the created object is a
+     * try-with-resources resource closed with its block, or because it is a {@link Thread},
+     * which {@link SpringJdbcStreamAsyncEscapeCheck} covers.
+     *
+     * @param newClass the instantiation
+     * @return {@code true} if streams passed to this constructor are not reported
+     */
+    private static boolean isExemptInstantiation(NewClassTree newClass) {
+        Type type = newClass.symbolType();
+        if (type.isUnknown()) {
+            TypeTree identifier = newClass.identifier();
+            if (identifier.is(Tree.Kind.IDENTIFIER) && "Thread".equals(((IdentifierTree) identifier).name())) {
+                return true;
+            }
+        } else if (type.isSubtypeOf("java.lang.Thread")) {
+            return true;
+        }
+        Tree parent = newClass.parent();
+        while (parent != null && parent.is(Tree.Kind.PARENTHESIZED_EXPRESSION, Tree.Kind.TYPE_CAST)) {
+            parent = parent.parent();
+        }
+        if (parent == null || !parent.is(Tree.Kind.VARIABLE)) {
+            return false;
+        }
+        for (Tree ancestor = parent.parent(); ancestor != null; ancestor = ancestor.parent()) {
+            if (ancestor.is(Tree.Kind.TRY_STATEMENT)) {
+                return ((TryStatementTree) ancestor).resourceList().contains(parent);
+            }
+            if (ancestor instanceof StatementTree) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Visits one method body, tracking stream-holding locals and reporting stores into long-lived state.
+     *
+     * <p>Nested class declarations are skipped because their methods are visited separately.</p>
+     */
+    private class MethodBodyVisitor extends BaseTreeVisitor {
+
+        private final Set<Symbol> trackedVariables = new HashSet<>();
+        private final Map<Symbol, Tree> acquisitions = new HashMap<>();
+        private final Map<Symbol, String> kinds = new HashMap<>();
+        private final Set<Tree> reported = new HashSet<>();
+
+        @Override
+        public void visitVariable(VariableTree tree) {
+            track(tree.symbol(), tree.initializer());
+            super.visitVariable(tree);
+        }
+
+        @Override
+        public void visitAssignmentExpression(AssignmentExpressionTree tree) {
+            ExpressionTree variable = JdbcStreamMethods.skipParenthesesAndCasts(tree.variable());
+            if (isField(variable)) {
+                checkStored(tree.expression(), MESSAGE_FIELD);
+            } else if (variable.is(Tree.Kind.ARRAY_ACCESS_EXPRESSION)) {
+                checkStored(tree.expression(), MESSAGE_COLLECTION);
+            } else if (variable.is(Tree.Kind.IDENTIFIER)) {
+                track(((IdentifierTree) variable).symbol(), tree.expression());
+            }
+            super.visitAssignmentExpression(tree);
+        }
+
+        @Override
+        public void visitMethodInvocation(MethodInvocationTree tree) {
+            if (isContainerMutation(tree)) {
+                tree.arguments().forEach(argument -> checkStored(argument, MESSAGE_COLLECTION));
+            }
+            super.visitMethodInvocation(tree);
+        }
+
+        @Override
+        public void visitNewClass(NewClassTree tree) {
+            if (!isExemptInstantiation(tree)) {
+                tree.arguments().forEach(argument -> checkStored(argument, MESSAGE_CONSTRUCTOR));
+            }
+            // Anonymous class bodies are visited as separate methods
+            scan(tree.enclosingExpression());
+            scan(tree.identifier());
+            scan(tree.arguments());
+        }
+
+        @Override
+        public void visitClass(ClassTree tree) {
+            // Nested and local classes are visited as separate methods
+        }
+
+        /**
+         * Starts tracking a local variable when it is assigned a connection-holding stream.
+         *
+         * @param symbol      the assigned variable
+         * @param initializer the assigned value, may be {@code null}
+         */
+        private void track(Symbol symbol, ExpressionTree initializer) {
+            if (symbol.isUnknown() || !symbol.isVariableSymbol()) {
+                return;
+            }
+            if (JdbcStreamMethods.isConnectionHoldingExpression(initializer, trackedVariables)) {
+                ExpressionTree value = JdbcStreamMethods.skipParenthesesAndCasts(initializer);
+                trackedVariables.add(symbol);
+                kinds.put(symbol, kindOf(value, kinds));
+                acquisitions.putIfAbsent(symbol, value.is(Tree.Kind.IDENTIFIER)
+                    ? acquisitions.get(((IdentifierTree) value).symbol())
+                    : value);
+            }
+        }
+
+        /**
+         * Reports a value stored into long-lived state if it holds a database connection.
+         *
+         * @param value   the stored value
+         * @param message the message template matching the kind of store
+         */
+        private void checkStored(ExpressionTree value, String message) {
+            ExpressionTree stored = JdbcStreamMethods.skipParenthesesAndCasts(value);
+            if (!JdbcStreamMethods.isConnectionHoldingExpression(stored, trackedVariables) || !reported.add(stored)) {
+                return;
+            }
+            Tree acquisition = stored.is(Tree.Kind.IDENTIFIER) ? acquisitions.get(((IdentifierTree) stored).symbol()) : null;
+            List<JavaFileScannerContext.Location> secondaries = acquisition == null
+                ? List.of()
+                : List.of(new JavaFileScannerContext.Location(SECONDARY_ACQUISITION, acquisition));
+            reportIssue(stored, String.format(message, kindOf(stored, kinds)), secondaries, null);
+        }
+    }
+}
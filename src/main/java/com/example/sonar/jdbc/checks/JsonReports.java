@@ -0,0 +1,41 @@
+package com.example.sonar.jdbc.checks;
+
+/**
+ * Shared helpers for the JSON reports written at the end of the analysis.
+ *
+ * <p>Reports are written by hand, one entry at a time, so that large projects never hold a
+ * complete document in memory and the plugin does not ship a JSON library.</p>
+ *
+ * @since 1.1.0
+ * @see EndpointRoundTripsCheck
+ * @see SqlInventoryCheck
+ */
+final class JsonReports {
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private JsonReports() {
+        // Utility class - private constructor
+    }
+
+    /**
+     * Escapes a string for use inside a JSON string literal.
+     *
+     * @param value the raw value
+     * @return the escaped value, without surrounding quotes
+     */
+    static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                escaped.append('\\').append(c);
+            } else if (c < 0x20) {
+                escaped.append(String.format("\\u%04x", (int) c));
+            } else {
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
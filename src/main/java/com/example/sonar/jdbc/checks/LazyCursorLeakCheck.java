@@ -0,0 +1,333 @@
+package com.example.sonar.jdbc.checks;
+
+import org.sonar.check.Rule;
+import org.sonar.check.RuleProperty;
+import org.sonar.plugins.java.api.IssuableSubscriptionVisitor;
+import org.sonar.plugins.java.api.semantic.Symbol;
+import org.sonar.plugins.java.api.semantic.Type;
+import org.sonar.plugins.java.api.tree.*;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * SonarQube check to detect lazy cursors of other persistence frameworks that are not closed.
+ *
+ * <p>jOOQ, MyBatis, JPA and Hibernate offer lazily fetching APIs that keep the underlying
+ * result set, and therefore a connection of the shared {@code DataSource}, open until the
+ * cursor is closed. They exhaust the pool exactly like unclosed {@code JdbcClient} streams:</p>
+ * <ul>
+ *   <li><strong>jOOQ:</strong> {@code ResultQuery.fetchLazy()} returning a {@code Cursor} and {@code fetchStream()}</li>
+ *   <li><strong>MyBatis:</strong> {@code SqlSession.selectCursor()} and mapper methods returning {@code Cursor<T>}</li>
+ *   <li><strong>JPA:</strong> {@code Query.getResultStream()}</li>
+ *   <li><strong>Hibernate:</strong> {@code scroll()} returning {@code ScrollableResults}</li>
+ * </ul>
+ *
+ * <p>The checked frameworks are configurable through the {@code frameworks} rule property.</p>
+ *
+ * <h2>Detection Strategy</h2>
+ * <ul>
+ *   <li><strong>Semantic analysis:</strong> The invoked method returns a cursor type of the framework,
+ *       or is a cursor method declared by one of the framework's query types</li>
+ *   <li><strong>Declaration heuristics:</strong> MyBatis mapper methods declared in the analyzed sources
+ *       with a return type named {@code Cursor} when MyBatis is not on the classpath</li>
+ *   <li><strong>Chain heuristics:</strong> When the method cannot be resolved, a cursor method name whose
+ *       invocation chain contains a framework query builder call (e.g. {@code selectFrom()},
+ *       {@code createQuery()}) or starts at a receiver named like the framework entry point</li>
+ * </ul>
+ *
+ * <p>A cursor is managed when it is declared in try-with-resources, closed in a {@code finally}
+ * block, or returned to the caller, who then owns it.</p>
+ *
+ * <h2>Example of Noncompliant Code</h2>
+ * <pre>{@code
+ * Cursor<OrdersRecord> cursor = dsl.selectFrom(ORDERS).fetchLazy(); // Noncompliant
+ * while (cursor.hasNext()) {
+ *     process(cursor.fetchNext());
+ * }
+ * }</pre>
+ *
+ * <h2>Example of Compliant Code</h2>
+ * <pre>{@code
+ * try (Cursor<OrdersRecord> cursor = dsl.selectFrom(ORDERS).fetchLazy()) {
+ *     while (cursor.hasNext()) {
+ *         process(cursor.fetchNext());
+ *     }
+ * }
+ * }</pre>
+ *
+ * @since 1.1.0
+ * @see SpringJdbcStreamLeakCheck
+ * @see ResourceReleases
+ */
+@Rule(key = "LazyCursorLeak")
+public class LazyCursorLeakCheck extends IssuableSubscriptionVisitor {
+
+    private static final String MESSAGE_FORMAT =
+        "Use try-with-resources or close this %s in a finally block; it holds a database connection until closed.";
+
+    private static final String DEFAULT_FRAMEWORKS = "jooq,mybatis,jpa,hibernate";
+    private static final Set<String> CLOSE_METHODS = Set.of("close");
+
+    /**
+     * Comma-separated list of the frameworks whose lazy cursors are checked.
+     */
+    @RuleProperty(
+        key = "frameworks",
+        description = "Comma-separated list of lazy cursor APIs to check: jooq, mybatis, jpa, hibernate",
+        defaultValue = DEFAULT_FRAMEWORKS)
+    public String frameworks = DEFAULT_FRAMEWORKS;
+
+    private Set<CursorApi> enabledApis;
+
+    /**
+     * Lazy cursor API of one persistence framework.
+     */
+    private enum CursorApi {
+        JOOQ("jooq", "jOOQ cursor",
+            Set.of("fetchLazy", "fetchStream"),
+            Set.of("org.jooq.ResultQuery", "org.jooq.DSLContext"),
+            Set.of("org.jooq.Cursor"),
+            null,
+            Set.of("select", "selectFrom", "selectDistinct", "selectCount", "resultQuery", "from", "where"),
+            Set.of("dsl", "jooq", "ctx")),
+        MYBATIS("mybatis", "MyBatis cursor",
+            Set.of("selectCursor"),
+            Set.of("org.apache.ibatis.session.SqlSession"),
+            Set.of("org.apache.ibatis.cursor.Cursor"),
+            "Cursor",
+            Set.of(),
+            Set.of("session")),
+        JPA("jpa", "JPA result stream",
+            Set.of("getResultStream"),
+            Set.of("jakarta.persistence.Query", "javax.persistence.Query"),
+            Set.of(),
+            null,
+            Set.of("createQuery", "createNamedQuery", "createNativeQuery"),
+            Set.of("query", "entitymanager")),
+        HIBERNATE("hibernate", "Hibernate ScrollableResults",
+            Set.of("scroll"),
+            Set.of("org.hibernate.query.SelectionQuery", "org.hibernate.query.Query", "org.hibernate.Criteria"),
+            Set.of("org.hibernate.ScrollableResults"),
+            null,
+            Set.of("createQuery", "createSelectionQuery", "createNativeQuery", "createNamedQuery", "getNamedQuery", "createCriteria"),
+            Set.of("session"));
+
+        private final String key;
+        private final String message;
+        private final Set<String> methodNames;
+        private final Set<String> ownerTypes;
+        private final Set<String> cursorTypes;
+        private final String declaredCursorTypeName;
+        private final Set<String> chainMethods;
+        private final Set<String> receiverNameFragments;
+
+        CursorApi(String key, String description, Set<String> methodNames, Set<String> ownerTypes,
+                  Set<String> cursorTypes, String declaredCursorTypeName, Set<String> chainMethods,
+                  Set<String> receiverNameFragments) {
+            this.key = key;
+            this.message = String.format(MESSAGE_FORMAT, description);
+            this.methodNames = methodNames;
+            this.ownerTypes = ownerTypes;
+            this.cursorTypes = cursorTypes;
+            this.declaredCursorTypeName = declaredCursorTypeName;
+            this.chainMethods = chainMethods;
+            this.receiverNameFragments = receiverNameFragments;
+        }
+
+        /**
+         * Checks if an invocation opens a lazy cursor of this framework.
+         *
+         * @param mit the method invocation
+         * @return {@code true} if the invocation returns an open cursor
+         */
+        boolean opensCursor(MethodInvocationTree mit) {
+            Symbol.MethodSymbol methodSymbol = mit.methodSymbol();
+            if (methodSymbol.isUnknown()) {
+                String methodName = JdbcStreamMethods.getMethodName(mit);
+                return methodName != null && methodNames.contains(methodName) && hasChainEvidence(mit);
+            }
+            Type returnType = methodSymbol.returnType().type();
+            if (returnType.isUnknown()) {
+                return declaresCursorReturnType(methodSymbol);
+            }
+            for (String cursorType : cursorTypes) {
+                if (returnType.isSubtypeOf(cursorType)) {
+                    return true;
+                }
+            }
+            if (!methodNames.contains(methodSymbol.name())) {
+                return false;
+            }
+            Type ownerType = JdbcStreamMethods.knownOwnerType(mit);
+            if (ownerType == null) {
+                return false;
+            }
+            for (String ownerTypeName : ownerTypes) {
+                if (ownerType.isSubtypeOf(ownerTypeName)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Checks if a method declared in the analyzed sources returns an unresolved type named like
+         * the framework's cursor type, e.g. a MyBatis mapper method returning {@code Cursor<Order>}.
+         *
+         * @param methodSymbol the invoked method
+         * @return {@code true} if the declared return type has the cursor type's simple name
+         */
+        private boolean declaresCursorReturnType(Symbol.MethodSymbol methodSymbol) {
+            MethodTree declaration = methodSymbol.declaration();
+            if (declaredCursorTypeName == null || declaration == null || declaration.returnType() == null) {
+                return false;
+            }
+            Tree returnType = declaration.returnType();
+            if (returnType.is(Tree.Kind.PARAMETERIZED_TYPE)) {
+                returnType = ((ParameterizedTypeTree) returnType).type();
+            }
+            return declaredCursorTypeName.equals(TransactionalScopes.simpleName(returnType));
+        }
+
+        /**
+         * Walks the receiver chain of an unresolved cursor call looking for a query builder call
+         * of this framework or a receiver named like its entry point.
+         *
+         * @param mit the cursor method invocation
+         * @return {@code true} if the chain looks like a query of this framework
+         */
+        private boolean hasChainEvidence(MethodInvocationTree mit) {
+            ExpressionTree current = JdbcStreamMethods.skipParenthesesAndCasts(JdbcStreamMethods.getReceiver(mit));
+            for (int depth = 0; current != null && depth <= JdbcStreamMethods.MAX_CHAIN_DEPTH; depth++) {
+                if (current.is(Tree.Kind.METHOD_INVOCATION)) {
+                    MethodInvocationTree receiver = (MethodInvocationTree) current;
+                    String methodName = JdbcStreamMethods.getMethodName(receiver);
+                    if (methodName != null && chainMethods.contains(methodName)) {
+                        return true;
+                    }
+                    current = JdbcStreamMethods.skipParenthesesAndCasts(JdbcStreamMethods.getReceiver(receiver));
+                } else {
+                    return hasEntryPointName(TransactionalScopes.simpleName(current));
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Checks if the root receiver of a chain is named like the framework's entry point.
+         *
+         * @param name the simple name of the root receiver, may be {@code null}
+         * @return {@code true} if the name contains one of the receiver name fragments
+         */
+        private boolean hasEntryPointName(String name) {
+            if (name == null) {
+                return false;
+            }
+            String lowerCaseName = name.toLowerCase(Locale.ROOT);
+            for (String fragment : receiverNameFragments) {
+                if (lowerCaseName.contains(fragment)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return a singleton list containing {@link Tree.Kind#METHOD_INVOCATION}
+     */
+    @Override
+    public List<Tree.Kind> nodesToVisit() {
+        return Collections.singletonList(Tree.Kind.METHOD_INVOCATION);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Reports cursor acquisitions of the enabled frameworks that are not closed on all paths.</p>
+     *
+     * @param tree the AST node to visit, guaranteed to be a {@link MethodInvocationTree}
+     */
+    @Override
+    public void visitNode(Tree tree) {
+        MethodInvocationTree mit = (MethodInvocationTree) tree;
+        for (CursorApi api : enabledApis()) {
+            if (api.opensCursor(mit)) {
+                if (!isManaged(mit)) {
+                    reportIssue(mit, api.message);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the frameworks enabled by the {@code frameworks} rule property.
+     *
+     * <p>Unknown entries are ignored.</p>
+     *
+     * @return the enabled cursor APIs
+     */
+    private Set<CursorApi> enabledApis() {
+        if (enabledApis == null) {
+            enabledApis = EnumSet.noneOf(CursorApi.class);
+            for (String entry : frameworks.split(",")) {
+                String key = entry.trim().toLowerCase(Locale.ROOT);
+                for (CursorApi api : CursorApi.values()) {
+                    if (api.key.equals(key)) {
+                        enabledApis.add(api);
+                    }
+                }
+            }
+        }
+        return enabledApis;
+    }
+
+    /**
+     * Checks if a cursor acquisition is closed on all paths or handed over to the caller.
+     *
+     * @param acquisition the cursor acquisition
+     * @return {@code true} if the cursor is managed
+     */
+    private static boolean isManaged(MethodInvocationTree acquisition) {
+        if (JdbcStreamMethods.isInTryWithResources(acquisition)) {
+            return true;
+        }
+        Tree parent = acquisition.parent();
+        while (parent.is(Tree.Kind.PARENTHESIZED_EXPRESSION, Tree.Kind.TYPE_CAST)) {
+            parent = parent.parent();
+        }
+        if (parent.is(Tree.Kind.RETURN_STATEMENT)) {
+            return true;
+        }
+        Symbol variable = null;
+        if (parent.is(Tree.Kind.VARIABLE)) {
+            variable = ((VariableTree) parent).symbol();
+        } else if (parent.is(Tree.Kind.ASSIGNMENT) && ((AssignmentExpressionTree) parent).variable().is(Tree.Kind.IDENTIFIER)) {
+            variable = ((IdentifierTree) ((AssignmentExpressionTree) parent).variable()).symbol();
+        }
+        Tree scope = enclosingMethodBody(acquisition);
+        return variable != null && variable.isLocalVariable() && scope != null &&
+            (ResourceReleases.isReturned(variable, scope) || ResourceReleases.isReleasedInFinally(variable, acquisition, CLOSE_METHODS));
+    }
+
+    /**
+     * Returns the body of the method or constructor enclosing a tree.
+     *
+     * @param tree the tree
+     * @return the method body, or {@code null} outside of methods
+     */
+    private static Tree enclosingMethodBody(Tree tree) {
+        Tree current = tree.parent();
+        while (current != null && !current.is(Tree.Kind.METHOD, Tree.Kind.CONSTRUCTOR)) {
+            current = current.parent();
+        }
+        return current == null ? null : ((MethodTree) current).block();
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.sonar.jdbc.checks;
+
+import org.sonar.plugins.java.api.semantic.Symbol;
+import org.sonar.plugins.java.api.tree.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Shared detection of loops around database calls.
+ *
+ * <p>Several rules are about work repeated per iteration: a query, a statement cache miss or an
+ * object allocation is cheap once but not when it runs for every element. Loops are the
+ * {@code for}, enhanced {@code for}, {@code while} and {@code do-while} statements of the
+ * enclosing method, as well as lambdas passed to {@code forEach} on collections and streams.</p>
+ *
+ * @since 1.1.0
+ */
+final class Loops {
+
+    private static final String METHOD_FOR_EACH = "forEach";
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private Loops() {
+        // Utility class - private constructor
+    }
+
+    /**
+     * Returns the innermost loop enclosing a tree within the same method.
+     *
+     * <p>The search stops at method, class and lambda boundaries, except for lambdas passed
+     * to {@code forEach}, which are themselves reported as the loop. The iterated expression of
+     * an enhanced {@code for} and the initializer of a classic {@code for} run only once, so
+     * they are not considered inside their loop.</p>
+     *
+     * @param tree the tree to start from
+     * @return the loop statement or {@code forEach} invocation, or {@code null} if the tree is not in a loop
+     */
+    static Tree enclosingLoop(Tree tree) {
+        Tree child = tree;
+        Tree current = tree.parent();
+        while (current != null) {
+            if (current.is(Tree.Kind.FOR_STATEMENT, Tree.Kind.FOR_EACH_STATEMENT, Tree.Kind.WHILE_STATEMENT, Tree.Kind.DO_STATEMENT) &&
+                !runsOnceBeforeLoop(current, child)) {
+                return current;
+            }
+            if (current.is(Tree.Kind.LAMBDA_EXPRESSION)) {
+                return forEachCall((LambdaExpressionTree) current);
+            }
+            if (current.is(Tree.Kind.METHOD, Tree.Kind.CONSTRUCTOR, Tree.Kind.CLASS, Tree.Kind.INTERFACE,
+                Tree.Kind.ENUM, Tree.Kind.RECORD, Tree.Kind.NEW_CLASS)) {
+                return null;
+            }
+            child = current;
+            current = current.parent();
+        }
+        return null;
+    }
+
+    /**
+     * Checks if a child of a loop statement is evaluated only once, before the first iteration.
+     *
+     * @param loop  a loop statement
+     * @param child a direct child of the loop
+     * @return {@code true} for the iterated expression of an enhanced {@code for} and the
+     *         initializer of a classic {@code for}
+     */
+    private static boolean runsOnceBeforeLoop(Tree loop, Tree child) {
+        if (loop.is(Tree.Kind.FOR_EACH_STATEMENT)) {
+            return ((ForEachStatement) loop).expression() == child;
+        }
+        return loop.is(Tree.Kind.FOR_STATEMENT) && ((ForStatementTree) loop).initializer() == child;
+    }
+
+    /**
+     * Checks if a tree runs once per iteration of a loop in its method.
+     *
+     * @param tree the tree
+     * @return {@code true} if a loop encloses the tree
+     * @see #enclosingLoop(Tree)
+     */
+    static boolean isInLoop(Tree tree) {
+        return enclosingLoop(tree) != null;
+    }
+
+    /**
+     * Returns the number of nested loops enclosing a tree within its method.
+     *
+     * @param tree the tree
+     * @return the loop nesting depth, {@code 0} if the tree is not in a loop
+     * @see #enclosingLoop(Tree)
+     */
+    static int loopDepth(Tree tree) {
+        int depth = 0;
+        for (Tree loop = enclosingLoop(tree); loop != null; loop = enclosingLoop(loop)) {
+            depth++;
+        }
+        return depth;
+    }
+
+    /**
+     * Returns the variables that change from one iteration of a loop to the next, each mapped
+     * to the tree that changes it.
+     *
+     * <p>These are the variables declared in the initializer of a classic {@code for} loop, the
+     * element variable of an enhanced {@code for}, the parameters of a {@code forEach} lambda,
+     * and every variable assigned, incremented or decremented inside the loop.</p>
+     *
+     * @param loop a loop returned by {@link #enclosingLoop(Tree)}
+     * @return the loop-varying variables, mapped to their first update in the loop or else their declaration
+     */
+    static Map<Symbol, Tree> loopVariables(Tree loop) {
+        Map<Symbol, Tree> variables = new LinkedHashMap<>();
+        loop.accept(new BaseTreeVisitor() {
+            @Override
+            public void visitAssignmentExpression(AssignmentExpressionTree tree) {
+                record(tree.variable(), tree);
+                super.visitAssignmentExpression(tree);
+            }
+
+            @Override
+            public void visitUnaryExpression(UnaryExpressionTree tree) {
+                if (tree.is(Tree.Kind.PREFIX_INCREMENT, Tree.Kind.POSTFIX_INCREMENT,
+                    Tree.Kind.PREFIX_DECREMENT, Tree.Kind.POSTFIX_DECREMENT)) {
+                    record(tree.expression(), tree);
+                }
+                super.visitUnaryExpression(tree);
+            }
+
+            /**
+             * Records an updated variable unless an earlier update was already recorded.
+             *
+             * @param target the updated expression
+             * @param update the assignment or increment
+             */
+            private void record(ExpressionTree target, Tree update) {
+                ExpressionTree unwrapped = JdbcStreamMethods.skipParenthesesAndCasts(target);
+                if (unwrapped != null && unwrapped.is(Tree.Kind.IDENTIFIER)) {
+                    variables.putIfAbsent(((IdentifierTree) unwrapped).symbol(), update);
+                }
+            }
+        });
+        if (loop.is(Tree.Kind.FOR_STATEMENT)) {
+            for (StatementTree initializer : ((ForStatementTree) loop).initializer()) {
+                if (initializer.is(Tree.Kind.VARIABLE)) {
+                    variables.putIfAbsent(((VariableTree) initializer).symbol(), initializer);
+                }
+            }
+        } else if (loop.is(Tree.Kind.FOR_EACH_STATEMENT)) {
+            VariableTree element = ((ForEachStatement) loop).variable();
+            variables.putIfAbsent(element.symbol(), element);
+        } else if (loop.is(Tree.Kind.METHOD_INVOCATION)) {
+            for (ExpressionTree argument : ((MethodInvocationTree) loop).arguments()) {
+                if (argument.is(Tree.Kind.LAMBDA_EXPRESSION)) {
+                    for (VariableTree parameter : ((LambdaExpressionTree) argument).parameters()) {
+                        variables.putIfAbsent(parameter.symbol(), parameter);
+                    }
+                }
+            }
+        }
+        return variables;
+    }
+
+    /**
+     * Returns the {@code forEach} invocation a lambda is passed to.
+     *
+     * @param lambda the lambda
+     * @return the invocation, or {@code null} if the lambda is not a {@code forEach} argument
+     */
+    private static MethodInvocationTree forEachCall(LambdaExpressionTree lambda) {
+        Tree parent = lambda.parent();
+        if (parent != null && parent.is(Tree.Kind.ARGUMENTS) && parent.parent() != null &&
+            parent.parent().is(Tree.Kind.METHOD_INVOCATION)) {
+            MethodInvocationTree invocation = (MethodInvocationTree) parent.parent();
+            if (METHOD_FOR_EACH.equals(JdbcStreamMethods.getMethodName(invocation))) {
+                return invocation;
+            }
+        }
+        return null;
+    }
+}
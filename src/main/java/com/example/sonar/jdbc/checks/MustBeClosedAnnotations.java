@@ -0,0 +1,187 @@
+package com.example.sonar.jdbc.checks;
+
+import org.sonar.plugins.java.api.semantic.Symbol;
+import org.sonar.plugins.java.api.semantic.SymbolMetadata;
+import org.sonar.plugins.java.api.semantic.Type;
+import org.sonar.plugins.java.api.tree.AnnotationTree;
+import org.sonar.plugins.java.api.tree.AssignmentExpressionTree;
+import org.sonar.plugins.java.api.tree.IdentifierTree;
+import org.sonar.plugins.java.api.tree.MethodInvocationTree;
+import org.sonar.plugins.java.api.tree.MethodTree;
+import org.sonar.plugins.java.api.tree.ModifiersTree;
+import org.sonar.plugins.java.api.tree.Tree;
+import org.sonar.plugins.java.api.tree.VariableTree;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A configured set of {@code @MustBeClosed}-style annotations.
+ *
+ * <p>A method carrying one of these annotations declares that its result holds a resource,
+ * such as a database cursor, that the caller must close. The rules configured with a
+ * {@code mustBeClosedAnnotations} property therefore treat calls to such methods like
+ * {@code queryForStream()}, while the other rules only track the JDBC streams themselves. The
+ * contract propagates from one method to the next without interprocedural analysis: the
+ * annotated method may hand its stream over to the caller, which must then close it in
+ * turn.</p>
+ *
+ * <p>Entries are fully qualified annotation names, such as Error Prone's
+ * {@code com.google.errorprone.annotations.MustBeClosed}, or simple names, which match an
+ * annotation of that name in any package. When the annotation type is not on the analysis
+ * classpath, annotations are matched by the simple name written in source.</p>
+ *
+ * @since 1.1.0
+ * @see SpringJdbcStreamLeakCheck
+ * @see MustBeClosedContractCheck
+ * @see ConnectionPressureCheck
+ */
+final class MustBeClosedAnnotations {
+
+    static final String DEFAULT_ANNOTATIONS = "MustBeClosed";
+    // Used by the rules that only track the JDBC streams themselves
+    static final MustBeClosedAnnotations NONE = parse("");
+
+    private final Set<String> qualifiedNames = new HashSet<>();
+    private final Set<String> unqualifiedNames = new HashSet<>();
+    private final Set<String> simpleNames = new HashSet<>();
+    private final List<String> displayNames = new ArrayList<>();
+
+    /**
+     * Private constructor, instances are created by {@link #parse(String)}.
+     */
+    private MustBeClosedAnnotations() {
+    }
+
+    /**
+     * Parses a comma-separated list of annotation names.
+     *
+     * @param annotations the list, e.g. {@code com.google.errorprone.annotations.MustBeClosed,CursorOwner}
+     * @return the annotation set
+     */
+    static MustBeClosedAnnotations parse(String annotations) {
+        MustBeClosedAnnotations parsed = new MustBeClosedAnnotations();
+        for (String entry : annotations.split(",")) {
+            String name = entry.trim();
+            if (name.startsWith("@")) {
+                name = name.substring(1);
+            }
+            if (name.isEmpty()) {
+                continue;
+            }
+            String simpleName = name.substring(name.lastIndexOf('.') + 1);
+            if (name.indexOf('.') > 0) {
+                parsed.qualifiedNames.add(name);
+            } else {
+                parsed.unqualifiedNames.add(name);
+            }
+            parsed.simpleNames.add(simpleName);
+            parsed.displayNames.add("@" + simpleName);
+        }
+        return parsed;
+    }
+
+    /**
+     * Checks if the method invoked by a call carries one of the annotations.
+     *
+     * <p>Annotations are read from the method symbol, which covers methods compiled on the
+     * classpath, and from the declaration when the method is declared in the analyzed file.</p>
+     *
+     * @param mit the method invocation
+     * @return {@code true} if the invoked method is annotated
+     */
+    boolean isAnnotated(MethodInvocationTree mit) {
+        if (simpleNames.isEmpty()) {
+            return false;
+        }
+        Symbol.MethodSymbol method = mit.methodSymbol();
+        if (method == null || method.isUnknown()) {
+            return false;
+        }
+        for (SymbolMetadata.AnnotationInstance annotation : method.metadata().annotations()) {
+            Type type = annotation.symbol().type();
+            if (type != null && !type.isUnknown() && matches(type)) {
+                return true;
+            }
+        }
+        MethodTree declaration = method.declaration();
+        return declaration != null && isAnnotated(declaration.modifiers());
+    }
+
+    /**
+     * Checks if a declaration carries one of the annotations.
+     *
+     * @param modifiers the modifiers of a method
+     * @return {@code true} if one of the annotations is present
+     */
+    boolean isAnnotated(ModifiersTree modifiers) {
+        for (AnnotationTree annotation : modifiers.annotations()) {
+            Type type = annotation.symbolType();
+            if (type.isUnknown()
+                ? simpleNames.contains(TransactionalScopes.simpleName(annotation.annotationType()))
+                : matches(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a stream is returned by a method whose annotation makes its callers responsible
+     * for closing it, either directly or through a local variable.
+     *
+     * @param mit the stream acquisition, outside try-with-resources
+     * @return {@code true} if the enclosing method carries a must-be-closed annotation and returns the stream
+     */
+    boolean isHandedOver(MethodInvocationTree mit) {
+        Tree method = mit.parent();
+        while (method != null && !method.is(Tree.Kind.METHOD)) {
+            if (method.is(Tree.Kind.LAMBDA_EXPRESSION, Tree.Kind.CLASS, Tree.Kind.CONSTRUCTOR)) {
+                // Returning from a lambda or nested class does not leave the annotated method
+                return false;
+            }
+            method = method.parent();
+        }
+        if (method == null || ((MethodTree) method).block() == null ||
+            !isAnnotated(((MethodTree) method).modifiers())) {
+            return false;
+        }
+        Tree parent = mit.parent();
+        while (parent.is(Tree.Kind.PARENTHESIZED_EXPRESSION, Tree.Kind.TYPE_CAST)) {
+            parent = parent.parent();
+        }
+        if (parent.is(Tree.Kind.RETURN_STATEMENT)) {
+            return true;
+        }
+        Symbol variable = null;
+        if (parent.is(Tree.Kind.VARIABLE)) {
+            variable = ((VariableTree) parent).symbol();
+        } else if (parent.is(Tree.Kind.ASSIGNMENT) && ((AssignmentExpressionTree) parent).variable().is(Tree.Kind.IDENTIFIER)) {
+            variable = ((IdentifierTree) ((AssignmentExpressionTree) parent).variable()).symbol();
+        }
+        return variable != null && variable.isLocalVariable() &&
+            ResourceReleases.isReturned(variable, ((MethodTree) method).block());
+    }
+
+    /**
+     * Returns the annotation to suggest in issue messages.
+     *
+     * @return the first configured annotation, e.g. {@code @MustBeClosed}
+     */
+    String displayName() {
+        return displayNames.isEmpty() ? "@" + DEFAULT_ANNOTATIONS : displayNames.get(0);
+    }
+
+    /**
+     * Checks if a resolved annotation type is one of the annotations.
+     *
+     * @param type the annotation type
+     * @return {@code true} if its fully qualified name is configured, or its simple name is
+     *         configured without package
+     */
+    private boolean matches(Type type) {
+        return qualifiedNames.contains(type.fullyQualifiedName()) || unqualifiedNames.contains(type.name());
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.sonar.jdbc.checks;
+
+import org.sonar.check.Rule;
+import org.sonar.check.RuleProperty;
+import org.sonar.plugins.java.api.IssuableSubscriptionVisitor;
+import org.sonar.plugins.java.api.semantic.Symbol;
+import org.sonar.plugins.java.api.tree.*;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * SonarQube check requiring a {@code @MustBeClosed}-style annotation on methods that return a
+ * connection-holding stream.
+ *
+ * <p>A method such as {@code Stream<Order> getOrdersByStatus(String status)} that returns the
+ * result of {@code queryForStream()} hands an open database cursor to its callers, but nothing
+ * in its signature tells them so. Annotating it makes the contract explicit and lets
+ * {@link SpringJdbcStreamLeakCheck} check every caller as if it called
+ * {@code queryForStream()} itself; callers that return the stream in turn must be annotated
+ * as well, so the obligation to close propagates through the layers of the application
+ * without interprocedural analysis.</p>
+ *
+ * <h2>Example of Noncompliant Code</h2>
+ * <pre>{@code
+ * public Stream<Order> getOrdersByStatus(String status) {  // Noncompliant
+ *     return jdbcTemplate.queryForStream(SQL, ORDER_MAPPER, status);
+ * }
+ * }</pre>
+ *
+ * <h2>Example of Compliant Code</h2>
+ * <pre>{@code
+ * @MustBeClosed
+ * public Stream<Order> getOrdersByStatus(String status) {
+ *     return jdbcTemplate.queryForStream(SQL, ORDER_MAPPER, status);
+ * }
+ * }</pre>
+ *
+ * @since 1.1.0
+ * @see MustBeClosedAnnotations
+ * @see SpringJdbcStreamLeakCheck
+ */
+@Rule(key = "MustBeClosedContract")
+public class MustBeClosedContractCheck extends IssuableSubscriptionVisitor {
+
+    private static final String MESSAGE_FORMAT =
+        "Annotate this method with %s; it returns a stream holding a database connection that its callers must close.";
+
+    /**
+     * Comma-separated list of the annotations declaring that the result of a method must be closed.
+     */
+    @RuleProperty(
+        key = "mustBeClosedAnnotations",
+        description = "Comma-separated list of annotations marking methods whose result must be closed, " +
+            "as fully qualified names or simple names matching any package; the first one is suggested",
+        defaultValue = MustBeClosedAnnotations.DEFAULT_ANNOTATIONS)
+    public String mustBeClosedAnnotations = MustBeClosedAnnotations.DEFAULT_ANNOTATIONS;
+
+    private MustBeClosedAnnotations contracts;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return a singleton list containing {@link Tree.Kind#METHOD}
+     */
+    @Override
+    public List<Tree.Kind> nodesToVisit() {
+        return Collections.singletonList(Tree.Kind.METHOD);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Reports methods without a must-be-closed annotation that return a connection-holding stream.</p>
+     *
+     * @param tree the AST node to visit, guaranteed to be a {@link MethodTree}
+     */
+    @Override
+    public void visitNode(Tree tree) {
+        MethodTree method = (MethodTree) tree;
+        if (method.block() == null || contracts().isAnnotated(method.modifiers())) {
+            return;
+        }
+        ReturnedStreamFinder finder = new ReturnedStreamFinder(contracts());
+        method.block().accept(finder);
+        if (finder.found) {
+            reportIssue(method.simpleName(), String.format(MESSAGE_FORMAT, contracts().displayName()));
+        }
+    }
+
+    /**
+     * Returns the configured {@code @MustBeClosed}-style annotations.
+     *
+     * @return the parsed {@code mustBeClosedAnnotations} property
+     */
+    private MustBeClosedAnnotations contracts() {
+        if (contracts == null) {
+            contracts = MustBeClosedAnnotations.parse(mustBeClosedAnnotations);
+        }
+        return contracts;
+    }
+
+    /**
+     * Searches a method body for a return statement handing a connection-holding stream to the
+     * caller, directly or through local variables.
+     */
+    private static final class ReturnedStreamFinder extends BaseTreeVisitor {
+
+        private final MustBeClosedAnnotations contracts;
+        private final Set<Symbol> streamVariables = new HashSet<>();
+        private boolean found;
+
+        ReturnedStreamFinder(MustBeClosedAnnotations contracts) {
+            this.contracts = contracts;
+        }
+
+        @Override
+        public void visitVariable(VariableTree tree) {
+            if (JdbcStreamMethods.isConnectionHoldingExpression(tree.initializer(), streamVariables, contracts)) {
+                streamVariables.add(tree.symbol());
+            }
+            super.visitVariable(tree);
+        }
+
+        @Override
+        public void visitAssignmentExpression(AssignmentExpressionTree tree) {
+            if (tree.variable().is(Tree.Kind.IDENTIFIER) &&
+                JdbcStreamMethods.isConnectionHoldingExpression(tree.expression(), streamVariables, contracts)) {
+                streamVariables.add(((IdentifierTree) tree.variable()).symbol());
+            }
+            super.visitAssignmentExpression(tree);
+        }
+
+        @Override
+        public void visitReturnStatement(ReturnStatementTree tree) {
+            if (JdbcStreamMethods.isConnectionHoldingExpression(tree.expression(), streamVariables, contracts)) {
+                found = true;
+            }
+            super.visitReturnStatement(tree);
+        }
+
+        @Override
+        public void visitLambdaExpression(LambdaExpressionTree tree) {
+            // Returning from a lambda does not leave the enclosing method
+        }
+
+        @Override
+        public void visitClass(ClassTree tree) {
+            // Nested classes are checked on their own
+        }
+    }
+}
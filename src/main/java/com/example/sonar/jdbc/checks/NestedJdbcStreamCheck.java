@@ -0,0 +1,95 @@
+package com.example.sonar.jdbc.checks;
+
+import org.sonar.check.Rule;
+import org.sonar.plugins.java.api.IssuableSubscriptionVisitor;
+import org.sonar.plugins.java.api.JavaFileScannerContext;
+import org.sonar.plugins.java.api.tree.MethodInvocationTree;
+import org.sonar.plugins.java.api.tree.Tree;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SonarQube check to detect a JDBC stream opened while another one is being consumed.
+ *
+ * <p>A connection-holding stream keeps its pooled connection until it is closed. Opening a
+ * second {@code queryForStream()} or {@code JdbcClient...stream()} in the {@code forEach} of
+ * the first one borrows a second connection for the same thread. With a pool of size
+ * {@code n}, {@code n} concurrent requests each holding their first connection wait forever
+ * for their second one: the pool deadlocks until the connection timeout.</p>
+ *
+ * <p>The rule reports acquisitions found in the {@linkplain StreamConsumers consumption scope}
+ * of another stream, including through helper methods of the same file, with the outer
+ * acquisition as secondary location. Inside a transaction both streams share the transaction's
+ * connection, so transactional code is not reported.</p>
+ *
+ * <h2>Example of Noncompliant Code</h2>
+ * <pre>{@code
+ * try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders", ORDER_MAPPER)) {
+ *     orders.forEach(order -> {
+ *         try (Stream<Item> items = jdbcTemplate.queryForStream(ITEMS_SQL, ITEM_MAPPER, order.id())) { // Noncompliant
+ *             ...
+ *         }
+ *     });
+ * }
+ * }</pre>
+ *
+ * <h2>Example of Compliant Code</h2>
+ * <pre>{@code
+ * try (Stream<OrderItem> rows = jdbcTemplate.queryForStream(ORDERS_WITH_ITEMS_SQL, ORDER_ITEM_MAPPER)) {
+ *     ...
+ * }
+ * }</pre>
+ *
+ * @since 1.1.0
+ * @see StreamConsumers
+ * @see TransactionalScopes
+ */
+@Rule(key = "NestedJdbcStream")
+public class NestedJdbcStreamCheck extends IssuableSubscriptionVisitor {
+
+    private static final String MESSAGE =
+        "Do not open this JDBC stream while another one is being consumed; each holds its own pooled connection.";
+    private static final String MESSAGE_HELPER =
+        "Do not call \"%s\" while a JDBC stream is being consumed; it opens a second stream holding its own pooled connection.";
+    private static final String SECONDARY_OUTER = "Outer stream opened here.";
+    private static final String SECONDARY_INNER = "Inner stream opened here.";
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return a singleton list containing {@link Tree.Kind#METHOD_INVOCATION}
+     */
+    @Override
+    public List<Tree.Kind> nodesToVisit() {
+        return Collections.singletonList(Tree.Kind.METHOD_INVOCATION);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>For each stream acquisition outside a transaction, reports the acquisitions nested in
+     * its consumption scope.</p>
+     *
+     * @param tree the AST node to visit, guaranteed to be a {@link MethodInvocationTree}
+     */
+    @Override
+    public void visitNode(Tree tree) {
+        MethodInvocationTree outer = (MethodInvocationTree) tree;
+        if (!JdbcStreamMethods.isConnectionHoldingStream(outer) || TransactionalScopes.isInTransactionalScope(outer)) {
+            return;
+        }
+        List<Tree> scopes = StreamConsumers.consumptionScopes(outer);
+        for (StreamConsumers.Match nested : StreamConsumers.findCalls(scopes, JdbcStreamMethods::isConnectionHoldingStream)) {
+            List<JavaFileScannerContext.Location> secondaries = new ArrayList<>();
+            secondaries.add(new JavaFileScannerContext.Location(SECONDARY_OUTER, outer));
+            if (nested.isIndirect()) {
+                secondaries.add(new JavaFileScannerContext.Location(SECONDARY_INNER, nested.target()));
+                reportIssue(nested.site(), String.format(MESSAGE_HELPER, nested.helperName()), secondaries, null);
+            } else {
+                reportIssue(nested.site(), MESSAGE, secondaries, null);
+            }
+        }
+    }
+}
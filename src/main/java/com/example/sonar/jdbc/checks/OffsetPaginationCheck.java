@@ -0,0 +1,397 @@
+package com.example.sonar.jdbc.checks;
+
+import org.sonar.check.Rule;
+import org.sonar.plugins.java.api.IssuableSubscriptionVisitor;
+import org.sonar.plugins.java.api.JavaFileScannerContext;
+import org.sonar.plugins.java.api.semantic.Symbol;
+import org.sonar.plugins.java.api.tree.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * SonarQube check to detect OFFSET-based pagination executed in a loop.
+ *
+ * <p>Batch jobs often page through a table with {@code LIMIT ? OFFSET ?} and an offset that
+ * grows with each iteration. The database has to produce and discard all skipped rows for
+ * every page, so the total cost grows quadratically with the table size. Keyset (seek)
+ * pagination, {@code WHERE id > ? ORDER BY id LIMIT ?}, reads each row once.</p>
+ *
+ * <p>The rule reports Spring JDBC calls inside a loop whose SQL contains {@code OFFSET}, or
+ * {@code ROWNUM} / {@code FETCH NEXT} bounds fed with a loop-varying parameter. Only the
+ * parameters bound to the paging clause, by position for {@code ?} and by name for
+ * {@code :name}, are considered: a loop over the values of a {@code WHERE} filter is not
+ * pagination. When the offset is driven by a variable updated in the loop, the variable is
+ * named in the message and its update is shown as secondary location.</p>
+ *
+ * <h2>Example of Noncompliant Code</h2>
+ * <pre>{@code
+ * for (int page = 0; ; page++) {
+ *     List<Order> orders = jdbcClient.sql("SELECT * FROM orders ORDER BY id LIMIT 500 OFFSET :offset")
+ *         .param("offset", page * 500) // Noncompliant
+ *         .query(Order.class).list();
+ *     ...
+ * }
+ * }</pre>
+ *
+ * <h2>Example of Compliant Code</h2>
+ * <pre>{@code
+ * long lastId = 0;
+ * while (true) {
+ *     List<Order> orders = jdbcClient.sql("SELECT * FROM orders WHERE id > :lastId ORDER BY id LIMIT 500")
+ *         .param("lastId", lastId)
+ *         .query(Order.class).list();
+ *     ...
+ * }
+ * }</pre>
+ *
+ * @since 1.1.0
+ * @see SqlStatements
+ * @see Loops
+ */
+@Rule(key = "OffsetPaginationInLoop")
+public class OffsetPaginationCheck extends IssuableSubscriptionVisitor {
+
+    private static final String MESSAGE_WITH_VARIABLE =
+        "Replace this OFFSET pagination driven by \"%s\" with keyset pagination; every page rescans all previous rows.";
+    private static final String MESSAGE =
+        "Replace this OFFSET pagination inside a loop with keyset pagination; every page rescans all previous rows.";
+    private static final String SECONDARY_UPDATE = "Offset advanced here.";
+
+    private static final String KEYWORD_OFFSET = "OFFSET";
+    private static final String ROWNUM = "ROWNUM";
+    private static final List<String> BOUND_KEYWORDS = List.of(ROWNUM, "FETCH NEXT");
+    private static final String SQL_METHOD = "sql";
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\?|(?<![:\\w]):(\\w+)");
+    private static final Pattern ROWNUM_ALIAS = Pattern.compile("\\bROWNUM\\s+(?:AS\\s+)?(?!(?:FROM|WHERE|AND|OR)\\b)(\\w+)");
+    /** Text before a paging placeholder; {@code %s} is replaced by the ROWNUM columns. */
+    private static final String PAGING_PREFIX = "(?:\\bOFFSET|\\bFETCH\\s+(?:NEXT|FIRST)|\\b(?:%s)\\s*(?:<=|>=|<|>|=))\\s*$";
+    private static final Pattern LIMIT_OFFSET_PREFIX = Pattern.compile("\\bLIMIT\\s*$");
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return a singleton list containing {@link Tree.Kind#METHOD_INVOCATION}
+     */
+    @Override
+    public List<Tree.Kind> nodesToVisit() {
+        return Collections.singletonList(Tree.Kind.METHOD_INVOCATION);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Reports JDBC calls taking paginated SQL as argument when they run inside a loop.</p>
+     *
+     * @param tree the AST node to visit, guaranteed to be a {@link MethodInvocationTree}
+     */
+    @Override
+    public void visitNode(Tree tree) {
+        MethodInvocationTree mit = (MethodInvocationTree) tree;
+        ExpressionTree sqlArgument = SqlStatements.receivedSqlArgument(mit);
+        if (sqlArgument == null) {
+            return;
+        }
+        String sql = SqlStatements.resolve(sqlArgument);
+        Tree loop = Loops.enclosingLoop(mit);
+        if (sql == null || loop == null) {
+            return;
+        }
+        String normalizedSql = SqlStatements.normalize(sql);
+        boolean offset = SqlStatements.containsKeyword(normalizedSql, KEYWORD_OFFSET);
+        boolean bounds = BOUND_KEYWORDS.stream().anyMatch(keyword -> SqlStatements.containsKeyword(normalizedSql, keyword));
+        if (!offset && !bounds) {
+            return;
+        }
+
+        Map<Symbol, Tree> loopVariables = Loops.loopVariables(loop);
+        Symbol driver = offsetDriver(mit, sql, loopVariables);
+        if (driver != null) {
+            reportIssue(mit, String.format(MESSAGE_WITH_VARIABLE, driver.name()),
+                List.of(new JavaFileScannerContext.Location(SECONDARY_UPDATE, loopVariables.get(driver))), null);
+        } else if (offset) {
+            reportIssue(mit, MESSAGE);
+        }
+    }
+
+    /**
+     * Finds the loop-varying variable among the values bound to the paging placeholders of a query.
+     *
+     * @param mit           the call receiving the SQL
+     * @param sql           the resolved SQL
+     * @param loopVariables the variables changing from one iteration to the next
+     * @return the first loop-varying variable bound to a paging placeholder, or {@code null} if there is none
+     */
+    private static Symbol offsetDriver(MethodInvocationTree mit, String sql, Map<Symbol, Tree> loopVariables) {
+        PagingPlaceholders placeholders = PagingPlaceholders.of(SqlStatements.normalizeParameters(sql));
+        for (ExpressionTree value : pagingValues(mit, placeholders)) {
+            Symbol[] driver = {null};
+            value.accept(new BaseTreeVisitor() {
+                @Override
+                public void visitIdentifier(IdentifierTree identifier) {
+                    if (driver[0] == null && loopVariables.containsKey(identifier.symbol())) {
+                        driver[0] = identifier.symbol();
+                    }
+                }
+            });
+            if (driver[0] != null) {
+                return driver[0];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Collects the values bound to the paging placeholders, by position for {@code ?} and by
+     * name for {@code :name}.
+     *
+     * @param mit          the call receiving the SQL
+     * @param placeholders the placeholders of the SQL
+     * @return the bound values, empty if the binding cannot be determined
+     */
+    private static List<ExpressionTree> pagingValues(MethodInvocationTree mit, PagingPlaceholders placeholders) {
+        List<ExpressionTree> values = new ArrayList<>();
+        List<ExpressionTree> positional = positionalValues(mit, placeholders.positionalCount);
+        for (int position : placeholders.pagingPositions) {
+            if (position < positional.size() && positional.get(position) != null) {
+                values.add(positional.get(position));
+            }
+        }
+        if (!placeholders.pagingNames.isEmpty()) {
+            for (MethodInvocationTree call : chainedCalls(mit)) {
+                collectNamedValues(call.arguments(), placeholders.pagingNames, values);
+                call.arguments().forEach(argument -> collectNamedValues(argument, placeholders.pagingNames, values));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Returns the values bound to the {@code ?} placeholders, in placeholder order.
+     *
+     * <p>For a {@code JdbcClient}, these are the arguments of the chained {@code param(value)},
+     * {@code param(index, value)} and {@code params(...)} calls. For a {@code JdbcTemplate},
+     * they are the elements of an {@code Object[]} initializer passed after the SQL, or else
+     * the trailing arguments of the call.</p>
+     *
+     * @param mit   the call receiving the SQL
+     * @param count the number of {@code ?} placeholders in the SQL
+     * @return the values by position, with {@code null} for unknown positions
+     */
+    private static List<ExpressionTree> positionalValues(MethodInvocationTree mit, int count) {
+        List<ExpressionTree> values = new ArrayList<>();
+        if (count == 0) {
+            return values;
+        }
+        if (SQL_METHOD.equals(JdbcStreamMethods.getMethodName(mit))) {
+            for (MethodInvocationTree call : chainedCalls(mit)) {
+                String methodName = JdbcStreamMethods.getMethodName(call);
+                Arguments arguments = call.arguments();
+                if ("param".equals(methodName) && arguments.size() == 1) {
+                    values.add(arguments.get(0));
+                } else if ("param".equals(methodName) && arguments.size() == 2) {
+                    arguments.get(0).asConstant(Integer.class).ifPresent(index -> set(values, index - 1, arguments.get(1)));
+                } else if ("params".equals(methodName)) {
+                    arguments.forEach(argument -> values.addAll(listElements(argument)));
+                }
+            }
+            return values;
+        }
+        List<ExpressionTree> arguments = mit.arguments().subList(1, mit.arguments().size());
+        for (ExpressionTree argument : arguments) {
+            if (argument.is(Tree.Kind.NEW_ARRAY) && !((NewArrayTree) argument).initializers().isEmpty()) {
+                values.addAll(((NewArrayTree) argument).initializers());
+                return values;
+            }
+        }
+        if (arguments.size() >= count) {
+            values.addAll(arguments.subList(arguments.size() - count, arguments.size()));
+        }
+        return values;
+    }
+
+    /**
+     * Returns the elements of a {@code List.of(...)} or {@code Arrays.asList(...)} argument.
+     *
+     * @param argument the argument of a {@code params(...)} call
+     * @return the list elements, or the argument itself if it is not a list literal
+     */
+    private static List<ExpressionTree> listElements(ExpressionTree argument) {
+        ExpressionTree unwrapped = JdbcStreamMethods.skipParenthesesAndCasts(argument);
+        if (unwrapped.is(Tree.Kind.METHOD_INVOCATION)) {
+            MethodInvocationTree call = (MethodInvocationTree) unwrapped;
+            String methodName = JdbcStreamMethods.getMethodName(call);
+            if ("of".equals(methodName) || "asList".equals(methodName)) {
+                return call.arguments();
+            }
+        }
+        return List.of(argument);
+    }
+
+    /**
+     * Sets a value at a position of a list, padding it with {@code null} as needed.
+     *
+     * @param values   the values by position
+     * @param position the zero-based position, ignored if negative
+     * @param value    the value to set
+     */
+    private static void set(List<ExpressionTree> values, int position, ExpressionTree value) {
+        if (position < 0) {
+            return;
+        }
+        while (values.size() <= position) {
+            values.add(null);
+        }
+        values.set(position, value);
+    }
+
+    /**
+     * Collects the values following a string literal naming a paging parameter in any argument
+     * list of an expression, e.g. {@code param("offset", value)}, {@code Map.of("offset", value)}
+     * or {@code new MapSqlParameterSource("offset", value)}.
+     *
+     * @param expression the expression to search
+     * @param names      the upper-case names of the paging parameters
+     * @param values     the collected values
+     */
+    private static void collectNamedValues(Tree expression, Set<String> names, List<ExpressionTree> values) {
+        expression.accept(new BaseTreeVisitor() {
+            @Override
+            public void visitMethodInvocation(MethodInvocationTree tree) {
+                collectNamedValues(tree.arguments(), names, values);
+                super.visitMethodInvocation(tree);
+            }
+
+            @Override
+            public void visitNewClass(NewClassTree tree) {
+                collectNamedValues(tree.arguments(), names, values);
+                super.visitNewClass(tree);
+            }
+        });
+    }
+
+    /**
+     * Collects the arguments following a string literal naming a paging parameter.
+     *
+     * @param arguments the argument list
+     * @param names     the upper-case names of the paging parameters
+     * @param values    the collected values
+     */
+    private static void collectNamedValues(Arguments arguments, Set<String> names, List<ExpressionTree> values) {
+        for (int i = 0; i < arguments.size() - 1; i++) {
+            Optional<String> name = arguments.get(i).asConstant(String.class);
+            if (name.isPresent() && names.contains(name.get().toUpperCase(Locale.ROOT))) {
+                values.add(arguments.get(i + 1));
+            }
+        }
+    }
+
+    /**
+     * Returns a JDBC call followed by the calls chained on it, which bind the query parameters
+     * of a {@code JdbcClient} ({@code param(...)}, {@code params(...)}).
+     *
+     * @param mit the call receiving the SQL
+     * @return the calls in chain order, starting with {@code mit}
+     */
+    private static List<MethodInvocationTree> chainedCalls(MethodInvocationTree mit) {
+        List<MethodInvocationTree> calls = new ArrayList<>();
+        calls.add(mit);
+        Tree current = mit;
+        for (int depth = 0; depth <= JdbcStreamMethods.MAX_CHAIN_DEPTH; depth++) {
+            Tree parent = current.parent();
+            if (parent == null || !parent.is(Tree.Kind.MEMBER_SELECT) || parent.parent() == null ||
+                !parent.parent().is(Tree.Kind.METHOD_INVOCATION)) {
+                break;
+            }
+            MethodInvocationTree chained = (MethodInvocationTree) parent.parent();
+            calls.add(chained);
+            current = chained;
+        }
+        return calls;
+    }
+
+    /**
+     * The bind parameters of an SQL statement that control which rows are skipped: the
+     * {@code OFFSET} value, the {@code FETCH NEXT} count, the first {@code LIMIT ?, ?} value and
+     * the bounds compared with {@code ROWNUM} or a column aliasing it.
+     */
+    private static final class PagingPlaceholders {
+
+        private final int positionalCount;
+        private final List<Integer> pagingPositions;
+        private final Set<String> pagingNames;
+
+        /**
+         * Creates the placeholders of a statement.
+         *
+         * @param positionalCount the number of {@code ?} placeholders
+         * @param pagingPositions the zero-based positions of the paging {@code ?} placeholders
+         * @param pagingNames     the upper-case names of the paging {@code :name} placeholders
+         */
+        private PagingPlaceholders(int positionalCount, List<Integer> pagingPositions, Set<String> pagingNames) {
+            this.positionalCount = positionalCount;
+            this.pagingPositions = pagingPositions;
+            this.pagingNames = pagingNames;
+        }
+
+        /**
+         * Finds the paging placeholders of a statement.
+         *
+         * @param sql the SQL normalized with {@link SqlStatements#normalizeParameters(String)}
+         * @return the placeholders
+         */
+        private static PagingPlaceholders of(String sql) {
+            List<String> rownumColumns = new ArrayList<>();
+            rownumColumns.add(ROWNUM);
+            Matcher alias = ROWNUM_ALIAS.matcher(sql);
+            while (alias.find()) {
+                rownumColumns.add(Pattern.quote(alias.group(1)));
+            }
+            Pattern pagingPrefix = Pattern.compile(String.format(PAGING_PREFIX, String.join("|", rownumColumns)));
+            int positionalCount = 0;
+            List<Integer> pagingPositions = new ArrayList<>();
+            Set<String> pagingNames = new HashSet<>();
+            Matcher placeholder = PLACEHOLDER.matcher(sql);
+            while (placeholder.find()) {
+                String before = sql.substring(0, placeholder.start());
+                boolean paging = pagingPrefix.matcher(before).find() ||
+                    LIMIT_OFFSET_PREFIX.matcher(before).find() && sql.startsWith(",", skipSpaces(sql, placeholder.end()));
+                if (placeholder.group(1) != null) {
+                    if (paging) {
+                        pagingNames.add(placeholder.group(1));
+                    }
+                } else {
+                    if (paging) {
+                        pagingPositions.add(positionalCount);
+                    }
+                    positionalCount++;
+                }
+            }
+            return new PagingPlaceholders(positionalCount, pagingPositions, pagingNames);
+        }
+
+        /**
+         * Skips the spaces of normalized SQL.
+         *
+         * @param sql   the normalized SQL
+         * @param index the index to start from
+         * @return the index of the next non-space character, or the SQL length
+         */
+        private static int skipSpaces(String sql, int index) {
+            int current = index;
+            while (current < sql.length() && sql.charAt(current) == ' ') {
+                current++;
+            }
+            return current;
+        }
+    }
+}
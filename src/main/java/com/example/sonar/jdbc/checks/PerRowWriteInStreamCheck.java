@@ -0,0 +1,107 @@
+package com.example.sonar.jdbc.checks;
+
+import org.sonar.check.Rule;
+import org.sonar.plugins.java.api.IssuableSubscriptionVisitor;
+import org.sonar.plugins.java.api.JavaFileScannerContext;
+import org.sonar.plugins.java.api.tree.MethodInvocationTree;
+import org.sonar.plugins.java.api.tree.Tree;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * SonarQube check to detect JDBC writes issued for each row of an open JDBC stream.
+ *
+ * <p>A common batch pattern reads rows with {@code queryForStream()} and writes back one row
+ * at a time from the {@code forEach} consumer. Outside a transaction, every write borrows a
+ * second pooled connection while the cursor holds the first one; inside a transaction, some
+ * drivers invalidate or fully buffer the open cursor when another statement runs on the same
+ * connection. In both cases each row costs a full round-trip.</p>
+ *
+ * <p>The rule reports {@code update}, {@code batchUpdate} and {@code executeUpdate} calls of
+ * Spring JDBC and plain JDBC, and {@code JdbcClient...update()}, found in the
+ * {@linkplain StreamConsumers consumption scope} of a connection-holding stream, including
+ * through helper methods of the same file.</p>
+ *
+ * <h2>Example of Noncompliant Code</h2>
+ * <pre>{@code
+ * try (Stream<Order> orders = jdbcTemplate.queryForStream(PENDING_SQL, ORDER_MAPPER)) {
+ *     orders.forEach(order -> jdbcTemplate.update("UPDATE orders SET status = 'sent' WHERE id = ?", order.id())); // Noncompliant
+ * }
+ * }</pre>
+ *
+ * <h2>Example of Compliant Code</h2>
+ * <pre>{@code
+ * List<Order> chunk = jdbcTemplate.query(PENDING_SQL + " LIMIT 500", ORDER_MAPPER);
+ * jdbcTemplate.batchUpdate("UPDATE orders SET status = 'sent' WHERE id = ?", chunk, chunk.size(),
+ *     (ps, order) -> ps.setLong(1, order.id()));
+ * }</pre>
+ *
+ * @since 1.1.0
+ * @see StreamConsumers
+ */
+@Rule(key = "PerRowWriteInStream")
+public class PerRowWriteInStreamCheck extends IssuableSubscriptionVisitor {
+
+    private static final String MESSAGE =
+        "Collect the rows in chunks and write them with batchUpdate; this write runs once per row while the stream holds its connection.";
+    private static final String MESSAGE_HELPER =
+        "Collect the rows in chunks and write them with batchUpdate; \"%s\" writes once per row while the stream holds its connection.";
+    private static final String SECONDARY_STREAM = "Stream opened here.";
+
+    private static final String METHOD_UPDATE = "update";
+    private static final Set<String> WRITE_METHODS = Set.of(METHOD_UPDATE, "batchUpdate", "executeUpdate");
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return a singleton list containing {@link Tree.Kind#METHOD_INVOCATION}
+     */
+    @Override
+    public List<Tree.Kind> nodesToVisit() {
+        return Collections.singletonList(Tree.Kind.METHOD_INVOCATION);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>For each stream acquisition, reports the JDBC writes in its consumption scope.</p>
+     *
+     * @param tree the AST node to visit, guaranteed to be a {@link MethodInvocationTree}
+     */
+    @Override
+    public void visitNode(Tree tree) {
+        MethodInvocationTree stream = (MethodInvocationTree) tree;
+        if (!JdbcStreamMethods.isConnectionHoldingStream(stream)) {
+            return;
+        }
+        List<Tree> scopes = StreamConsumers.consumptionScopes(stream);
+        for (StreamConsumers.Match write : StreamConsumers.findCalls(scopes, PerRowWriteInStreamCheck::isJdbcWrite)) {
+            List<JavaFileScannerContext.Location> secondaries =
+                List.of(new JavaFileScannerContext.Location(SECONDARY_STREAM, stream));
+            String message = write.isIndirect() ? String.format(MESSAGE_HELPER, write.helperName()) : MESSAGE;
+            reportIssue(write.site(), message, secondaries, null);
+        }
+    }
+
+    /**
+     * Determines if a method invocation writes to the database.
+     *
+     * @param mit the method invocation
+     * @return {@code true} for the update methods of JDBC templates, JDBC statements and
+     *         {@code JdbcClient} statement specs
+     */
+    private static boolean isJdbcWrite(MethodInvocationTree mit) {
+        String methodName = JdbcStreamMethods.getMethodName(mit);
+        if (methodName == null || !WRITE_METHODS.contains(methodName)) {
+            return false;
+        }
+        // The heuristic of isJdbcAccess only recognizes the first call of a JdbcClient chain
+        if (METHOD_UPDATE.equals(methodName) && JdbcStreamMethods.knownOwnerType(mit) == null &&
+            SqlStatements.sqlCall(mit) != null) {
+            return true;
+        }
+        return JdbcStreamMethods.isJdbcAccess(mit);
+    }
+}
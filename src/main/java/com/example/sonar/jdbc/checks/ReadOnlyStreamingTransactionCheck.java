@@ -0,0 +1,367 @@
+package com.example.sonar.jdbc.checks;
+
+import org.sonar.check.Rule;
+import org.sonar.plugins.java.api.IssuableSubscriptionVisitor;
+import org.sonar.plugins.java.api.JavaFileScannerContext;
+import org.sonar.plugins.java.api.semantic.Symbol;
+import org.sonar.plugins.java.api.semantic.Type;
+import org.sonar.plugins.java.api.tree.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * SonarQube check to detect read-only streaming methods that do not run in a read-only transaction.
+ *
+ * <p>{@code @Transactional(readOnly = true)} lets Spring flag the JDBC connection as read-only:
+ * routing data sources send such work to read replicas, and drivers and databases skip
+ * write bookkeeping. A method that only reads, but streams its rows in a read-write
+ * transaction or in none at all, keeps a connection of the primary busy for the whole
+ * cursor lifetime.</p>
+ *
+ * <p>The rule reports non-private, non-static methods containing a connection-holding
+ * stream whose other JDBC calls are all reads: no {@code update}, {@code batchUpdate},
+ * {@code execute...} or {@code call}, and no resolved SQL other than a plain {@code SELECT}
+ * or {@code WITH} query. Locking reads ({@code FOR UPDATE}, {@code FOR SHARE}) count as writes.
+ * Calls on fields holding other beans, repositories or an {@code EntityManager} may write
+ * through another data access path, so methods making them are not reported either; calls
+ * to methods of the same class are followed into their bodies.
+ * Methods without any {@code @Transactional} are only reported in {@code @Service} and
+ * {@code @Repository} classes. Transactions explicitly suspended with {@code NOT_SUPPORTED}
+ * or {@code NEVER}, Jakarta and Java EE {@code @Transactional} which have no read-only flag,
+ * and streams opened in {@code TransactionTemplate} callbacks are not reported.</p>
+ *
+ * <h2>Example of Noncompliant Code</h2>
+ * <pre>{@code
+ * @Transactional
+ * public void exportOrders(Writer writer) { // Noncompliant
+ *     try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders", ORDER_MAPPER)) {
+ *         orders.forEach(order -> write(writer, order));
+ *     }
+ * }
+ * }</pre>
+ *
+ * <h2>Example of Compliant Code</h2>
+ * <pre>{@code
+ * @Transactional(readOnly = true)
+ * public void exportOrders(Writer writer) {
+ *     try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders", ORDER_MAPPER)) {
+ *         orders.forEach(order -> write(writer, order));
+ *     }
+ * }
+ * }</pre>
+ *
+ * @since 1.1.0
+ * @see TransactionalScopes
+ * @see SqlStatements
+ */
+@Rule(key = "ReadOnlyStreamingTransaction")
+public class ReadOnlyStreamingTransactionCheck extends IssuableSubscriptionVisitor {
+
+    private static final String MESSAGE_READ_WRITE =
+        "Declare this transaction with \"readOnly = true\"; this method only reads, but its JDBC stream runs in a read-write transaction on the primary.";
+    private static final String MESSAGE_NO_TRANSACTION =
+        "Annotate this method with \"@Transactional(readOnly = true)\"; it only reads, but its JDBC stream runs without a read-only transaction on the primary.";
+    private static final String SECONDARY_STREAM = "Streaming read.";
+    private static final String SECONDARY_TRANSACTION = "Read-write transaction declared here.";
+
+    private static final String FQN_SPRING_TRANSACTIONAL = "org.springframework.transaction.annotation.Transactional";
+    private static final String ATTRIBUTE_READ_ONLY = "readOnly";
+    private static final String ATTRIBUTE_PROPAGATION = "propagation";
+    private static final Set<String> NON_TRANSACTIONAL_PROPAGATIONS = Set.of("NOT_SUPPORTED", "NEVER");
+    private static final Set<String> SERVICE_STEREOTYPES = Set.of("Service", "Repository");
+
+    private static final String METHOD_UPDATE = "update";
+    private static final Set<String> WRITE_METHODS = Set.of(
+        METHOD_UPDATE, "batchUpdate", "execute", "executeUpdate", "executeLargeUpdate", "executeBatch", "call"
+    );
+    private static final Set<String> READ_STATEMENTS = Set.of("SELECT", "WITH");
+    private static final List<String> WRITE_KEYWORDS = List.of(
+        "INSERT", "UPDATE", "DELETE", "MERGE", "FOR UPDATE", "FOR SHARE", "FOR NO KEY UPDATE"
+    );
+    private static final List<String> FQN_ENTITY_MANAGERS = List.of(
+        "jakarta.persistence.EntityManager", "javax.persistence.EntityManager"
+    );
+    // Fields of JDK types, e.g. a PrintStream or a Clock, do not reach the database
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.");
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return a singleton list containing {@link Tree.Kind#METHOD}
+     */
+    @Override
+    public List<Tree.Kind> nodesToVisit() {
+        return Collections.singletonList(Tree.Kind.METHOD);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Reports methods that stream rows, issue no write, and do not run in a read-only transaction.</p>
+     *
+     * @param tree the AST node to visit, guaranteed to be a {@link MethodTree}
+     */
+    @Override
+    public void visitNode(Tree tree) {
+        MethodTree method = (MethodTree) tree;
+        if (method.block() == null || method.symbol().isPrivate() || method.symbol().isStatic()) {
+            return;
+        }
+        JdbcActivity activity = new JdbcActivity(method.symbol().owner());
+        method.block().accept(activity);
+        if (activity.streams.isEmpty() || activity.writes || activity.programmaticTransaction) {
+            return;
+        }
+
+        AnnotationTree annotation = TransactionalScopes.transactionalAnnotation(method.modifiers());
+        if (annotation == null && method.parent() instanceof ClassTree) {
+            annotation = TransactionalScopes.transactionalAnnotation(((ClassTree) method.parent()).modifiers());
+        }
+        List<JavaFileScannerContext.Location> secondaries = new ArrayList<>();
+        activity.streams.forEach(stream -> secondaries.add(new JavaFileScannerContext.Location(SECONDARY_STREAM, stream)));
+        if (annotation == null) {
+            if (ClassMembers.annotationNamed(enclosingClassModifiers(method), SERVICE_STEREOTYPES) != null) {
+                reportIssue(method.simpleName(), MESSAGE_NO_TRANSACTION, secondaries, null);
+            }
+        } else if (declaresReadWriteTransaction(annotation)) {
+            secondaries.add(0, new JavaFileScannerContext.Location(SECONDARY_TRANSACTION, annotation));
+            reportIssue(method.simpleName(), MESSAGE_READ_WRITE, secondaries, null);
+        }
+    }
+
+    /**
+     * Checks if a {@code @Transactional} annotation starts a read-write transaction that could be read-only.
+     *
+     * @param annotation the transactional annotation of the method or its class
+     * @return {@code false} for read-only and suspended transactions, and for annotations without read-only flag
+     */
+    private static boolean declaresReadWriteTransaction(AnnotationTree annotation) {
+        Type type = annotation.symbolType();
+        if (!type.isUnknown() && !type.is(FQN_SPRING_TRANSACTIONAL)) {
+            return false;
+        }
+        String propagation = TransactionalScopes.attributeValue(annotation, ATTRIBUTE_PROPAGATION);
+        if (propagation != null && NON_TRANSACTIONAL_PROPAGATIONS.contains(propagation)) {
+            return false;
+        }
+        return !"true".equals(TransactionalScopes.attributeValue(annotation, ATTRIBUTE_READ_ONLY));
+    }
+
+    /**
+     * Returns the modifiers of the class declaring a method.
+     *
+     * @param method the method declaration
+     * @return the class modifiers, or the method modifiers if the method is not directly in a class
+     */
+    private static ModifiersTree enclosingClassModifiers(MethodTree method) {
+        Tree parent = method.parent();
+        return parent instanceof ClassTree ? ((ClassTree) parent).modifiers() : method.modifiers();
+    }
+
+    /**
+     * Determines if a JDBC call writes to the database or locks rows.
+     *
+     * <p>Write methods are recognized by name; other calls by their SQL, when it resolves to a
+     * constant. Unresolved SQL of query methods counts as a read.</p>
+     *
+     * @param mit a JDBC call
+     * @return {@code true} for writes, locking reads and statements other than queries
+     */
+    private static boolean isWrite(MethodInvocationTree mit) {
+        String methodName = JdbcStreamMethods.getMethodName(mit);
+        if (methodName != null && WRITE_METHODS.contains(methodName)) {
+            return true;
+        }
+        String sql = SqlStatements.resolve(SqlStatements.sqlArgument(mit));
+        if (sql == null) {
+            return false;
+        }
+        String normalizedSql = SqlStatements.normalize(sql);
+        int firstSpace = normalizedSql.indexOf(' ');
+        String statement = firstSpace < 0 ? normalizedSql : normalizedSql.substring(0, firstSpace);
+        return !READ_STATEMENTS.contains(statement) ||
+            WRITE_KEYWORDS.stream().anyMatch(keyword -> SqlStatements.containsKeyword(normalizedSql, keyword));
+    }
+
+    /**
+     * Determines if a non-JDBC call may write through another data access path: a call on a
+     * field holding a bean, a repository or an {@code EntityManager}.
+     *
+     * <p>Fields of JDK types are ignored. Fields of unknown type count as beans, since
+     * without semantic information their type cannot be told apart from a repository.</p>
+     *
+     * @param mit a method invocation that is not a JDBC call
+     * @return {@code true} if the call is made on a field of a non-JDK type
+     */
+    private static boolean isBeanCall(MethodInvocationTree mit) {
+        ExpressionTree receiver = JdbcStreamMethods.skipParenthesesAndCasts(JdbcStreamMethods.getReceiver(mit));
+        if (receiver != null && receiver.is(Tree.Kind.MEMBER_SELECT)) {
+            // this.field and qualified fields such as System.out
+            receiver = ((MemberSelectExpressionTree) receiver).identifier();
+        }
+        if (receiver == null || !receiver.is(Tree.Kind.IDENTIFIER)) {
+            return false;
+        }
+        IdentifierTree identifier = (IdentifierTree) receiver;
+        Symbol symbol = identifier.symbol();
+        if (symbol.isUnknown()) {
+            // Unresolved code, e.g. in lambdas over unknown types, loses the field symbol
+            VariableTree field = fieldDeclaration(identifier, identifier.name());
+            return field != null && isBeanType(field.type().symbolType());
+        }
+        return symbol.isVariableSymbol() && symbol.owner() != null && symbol.owner().isTypeSymbol() &&
+            isBeanType(symbol.type());
+    }
+
+    /**
+     * Checks if the type of a field may hold a bean, a repository or an {@code EntityManager}.
+     *
+     * @param type the field type
+     * @return {@code false} for primitives and JDK types other than {@code EntityManager},
+     *         {@code true} for other and unknown types
+     */
+    private static boolean isBeanType(Type type) {
+        if (type == null || type.isUnknown() || FQN_ENTITY_MANAGERS.stream().anyMatch(type::isSubtypeOf)) {
+            return true;
+        }
+        String fqn = type.fullyQualifiedName();
+        return !type.isPrimitive() && JDK_PACKAGES.stream().noneMatch(fqn::startsWith);
+    }
+
+    /**
+     * Returns the declaration of a field of the class enclosing a tree.
+     *
+     * @param tree a tree inside a class body
+     * @param name the field name
+     * @return the field declared by the innermost enclosing class, or {@code null} if there is none
+     */
+    private static VariableTree fieldDeclaration(Tree tree, String name) {
+        Tree current = tree.parent();
+        while (current != null && !(current instanceof ClassTree)) {
+            current = current.parent();
+        }
+        if (current == null) {
+            return null;
+        }
+        return ((ClassTree) current).members().stream()
+            .filter(member -> member.is(Tree.Kind.VARIABLE) && name.equals(((VariableTree) member).simpleName().name()))
+            .map(VariableTree.class::cast)
+            .findFirst()
+            .orElse(null);
+    }
+
+    /**
+     * Collects the JDBC activity of one method body.
+     *
+     * <p>Nested class declarations are skipped because their methods are visited separately.
+     * Calls to methods of the same class are followed once into their bodies, where only
+     * writes are collected.</p>
+     */
+    private static class JdbcActivity extends BaseTreeVisitor {
+
+        private final Symbol owner;
+        private final Set<Symbol> followedMethods = new HashSet<>();
+        private final List<MethodInvocationTree> streams = new ArrayList<>();
+        private boolean writes;
+        private boolean programmaticTransaction;
+        private int helperDepth;
+
+        /**
+         * Creates a collector for the methods of a class.
+         *
+         * @param owner the class declaring the visited method
+         */
+        JdbcActivity(Symbol owner) {
+            this.owner = owner;
+        }
+
+        @Override
+        public void visitMethodInvocation(MethodInvocationTree tree) {
+            boolean stream = JdbcStreamMethods.isConnectionHoldingStream(tree);
+            if (stream && helperDepth == 0) {
+                streams.add(tree);
+                Tree boundary = TransactionalScopes.enclosingTransactionBoundary(tree);
+                programmaticTransaction |= boundary != null && boundary.is(Tree.Kind.METHOD_INVOCATION);
+            }
+            boolean jdbcCall = stream || isJdbcCall(tree);
+            // Streams are checked too, since their SQL may lock the rows it reads
+            if (jdbcCall ? isWrite(tree) : isBeanCall(tree)) {
+                writes = true;
+            }
+            if (!jdbcCall && tree.methodSymbol().isUnknown() && JdbcStreamMethods.getReceiver(tree) == null) {
+                // Unresolved arguments, e.g. lambda parameters without semantic information
+                followOwnMethods(JdbcStreamMethods.getMethodName(tree));
+            } else if (!jdbcCall) {
+                followOwnMethod(tree.methodSymbol());
+            }
+            super.visitMethodInvocation(tree);
+        }
+
+        @Override
+        public void visitMethodReference(MethodReferenceTree tree) {
+            Symbol symbol = tree.method().symbol();
+            if (symbol.isMethodSymbol()) {
+                followOwnMethod((Symbol.MethodSymbol) symbol);
+            }
+            super.visitMethodReference(tree);
+        }
+
+        @Override
+        public void visitClass(ClassTree tree) {
+            // Nested and local classes are visited as separate methods
+        }
+
+        /**
+         * Collects the writes of all methods of the visited class with a given name.
+         *
+         * @param methodName the name of an unqualified call whose overload is not resolved
+         */
+        private void followOwnMethods(String methodName) {
+            if (methodName == null || !owner.isTypeSymbol()) {
+                return;
+            }
+            for (Symbol member : ((Symbol.TypeSymbol) owner).lookupSymbols(methodName)) {
+                if (member.isMethodSymbol()) {
+                    followOwnMethod((Symbol.MethodSymbol) member);
+                }
+            }
+        }
+
+        /**
+         * Collects the writes of a method of the visited class, once per method.
+         *
+         * @param method the invoked or referenced method
+         */
+        private void followOwnMethod(Symbol.MethodSymbol method) {
+            if (method == null || method.isUnknown() || method.owner() != owner || !followedMethods.add(method)) {
+                return;
+            }
+            MethodTree declaration = method.declaration();
+            if (declaration != null && declaration.block() != null) {
+                helperDepth++;
+                declaration.block().accept(this);
+                helperDepth--;
+            }
+        }
+
+        /**
+         * Determines if a method invocation is a JDBC call.
+         *
+         * @param mit the method invocation
+         * @return {@code true} for Spring JDBC and plain JDBC calls, including the terminal
+         *         {@code update()} of a {@code JdbcClient} chain without semantic information
+         */
+        private static boolean isJdbcCall(MethodInvocationTree mit) {
+            // The heuristic of isJdbcAccess only recognizes the first call of a JdbcClient chain
+            if (METHOD_UPDATE.equals(JdbcStreamMethods.getMethodName(mit)) &&
+                JdbcStreamMethods.knownOwnerType(mit) == null && SqlStatements.sqlCall(mit) != null) {
+                return true;
+            }
+            return JdbcStreamMethods.isJdbcAccess(mit);
+        }
+    }
+}
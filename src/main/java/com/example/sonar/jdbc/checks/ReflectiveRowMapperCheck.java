@@ -0,0 +1,242 @@
+package com.example.sonar.jdbc.checks;
+
+import org.sonar.check.Rule;
+import org.sonar.plugins.java.api.IssuableSubscriptionVisitor;
+import org.sonar.plugins.java.api.semantic.Type;
+import org.sonar.plugins.java.api.tree.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * SonarQube check to detect reflective row mappers created for every query.
+ *
+ * <p>{@code BeanPropertyRowMapper}, {@code DataClassRowMapper} and {@code SimplePropertyRowMapper}
+ * introspect the mapped class when they are created: they look up its constructors, property
+ * descriptors and setters, and build their column-to-property maps. On hot queries this setup
+ * dominates the cost of mapping a handful of rows. {@code JdbcClient}'s {@code query(Order.class)}
+ * caches its mapper per client instance, so it only repeats the setup when the client itself is
+ * created for the call.</p>
+ *
+ * <p>The rule reports {@code new BeanPropertyRowMapper<>(...)}, {@code new DataClassRowMapper<>(...)},
+ * {@code new SimplePropertyRowMapper<>(...)}, their {@code newInstance(...)} factories, and
+ * {@code query(X.class)} calls for non-simple types on a {@code JdbcClient} created by
+ * {@code JdbcClient.create(...)} in the same method, when they run in a regular method. Mappers
+ * held in fields, such as {@code static final} constants, and mappers created in constructors or
+ * {@code @Bean} methods are fine. Calls inside loops get a dedicated message.</p>
+ *
+ * <h2>Example of Noncompliant Code</h2>
+ * <pre>{@code
+ * List<Order> orders = jdbcTemplate.query(sql, new BeanPropertyRowMapper<>(Order.class)); // Noncompliant
+ * }</pre>
+ *
+ * <h2>Example of Compliant Code</h2>
+ * <pre>{@code
+ * private static final RowMapper<Order> ORDER_MAPPER = (rs, rowNum) -> new Order(rs.getLong("id"), ...);
+ *
+ * List<Order> orders = jdbcTemplate.query(sql, ORDER_MAPPER);
+ * }</pre>
+ *
+ * @since 1.1.0
+ * @see ClassMembers
+ */
+@Rule(key = "ReflectiveRowMapper")
+public class ReflectiveRowMapperCheck extends IssuableSubscriptionVisitor {
+
+    private static final String MESSAGE =
+        "Hoist this %s into a static final constant or use an explicit RowMapper; its reflective setup runs on every call.";
+    private static final String MESSAGE_IN_LOOP =
+        "Hoist this %s out of the loop into a static final constant or use an explicit RowMapper; its reflective setup runs on every iteration.";
+    private static final String MESSAGE_CLASS_QUERY =
+        "Reuse a shared JdbcClient or pass a static final RowMapper instead of \"%s.class\"; this JdbcClient is created on every call, and so is its cached reflective row mapper.";
+    private static final String MESSAGE_CLASS_QUERY_IN_LOOP =
+        "Reuse a shared JdbcClient or pass a static final RowMapper instead of \"%s.class\"; this JdbcClient is created on every iteration, and so is its cached reflective row mapper.";
+
+    private static final List<String> FQN_REFLECTIVE_MAPPERS = List.of(
+        "org.springframework.jdbc.core.BeanPropertyRowMapper",
+        "org.springframework.jdbc.core.SimplePropertyRowMapper"
+    );
+    private static final Set<String> REFLECTIVE_MAPPER_NAMES =
+        Set.of("BeanPropertyRowMapper", "DataClassRowMapper", "SimplePropertyRowMapper");
+    private static final String FQN_JDBC_CLIENT = "org.springframework.jdbc.core.simple.JdbcClient";
+
+    private static final String METHOD_NEW_INSTANCE = "newInstance";
+    private static final String METHOD_QUERY = "query";
+    private static final String CLASS_LITERAL = "class";
+
+    // Types JdbcClient maps with a single-column mapper, without reflection (unresolved fallback)
+    private static final Set<String> SIMPLE_TYPE_NAMES = Set.of(
+        "String", "Integer", "Long", "Short", "Byte", "Double", "Float", "Boolean", "Character",
+        "BigDecimal", "BigInteger", "Date", "Timestamp", "LocalDate", "LocalDateTime", "Instant",
+        "OffsetDateTime", "UUID", "Object"
+    );
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return a list containing {@link Tree.Kind#NEW_CLASS} and {@link Tree.Kind#METHOD_INVOCATION}
+     */
+    @Override
+    public List<Tree.Kind> nodesToVisit() {
+        return Arrays.asList(Tree.Kind.NEW_CLASS, Tree.Kind.METHOD_INVOCATION);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Reports reflective mapper creations that run on every method call.</p>
+     *
+     * @param tree the AST node to visit, a {@link NewClassTree} or a {@link MethodInvocationTree}
+     */
+    @Override
+    public void visitNode(Tree tree) {
+        if (tree.is(Tree.Kind.NEW_CLASS)) {
+            String mapper = instantiatedMapper((NewClassTree) tree);
+            if (mapper != null && !ClassMembers.isOneTimeInitialization(tree)) {
+                reportIssue(tree, String.format(Loops.isInLoop(tree) ? MESSAGE_IN_LOOP : MESSAGE, mapper));
+            }
+            return;
+        }
+        MethodInvocationTree mit = (MethodInvocationTree) tree;
+        if (ClassMembers.isOneTimeInitialization(mit)) {
+            return;
+        }
+        String mapper = mapperFactory(mit);
+        if (mapper != null) {
+            reportIssue(mit, String.format(Loops.isInLoop(mit) ? MESSAGE_IN_LOOP : MESSAGE, mapper));
+            return;
+        }
+        String mappedClass = mappedClassOfClientQuery(mit);
+        MethodInvocationTree clientCreation = mappedClass == null ? null : localClientCreation(mit);
+        if (clientCreation != null) {
+            reportIssue(mit.arguments().get(0),
+                String.format(Loops.isInLoop(clientCreation) ? MESSAGE_CLASS_QUERY_IN_LOOP : MESSAGE_CLASS_QUERY, mappedClass));
+        }
+    }
+
+    /**
+     * Returns the simple name of the reflective mapper created by a constructor call.
+     *
+     * @param newClass the constructor call
+     * @return the mapper class name, or {@code null} for other classes and anonymous subclasses
+     */
+    private static String instantiatedMapper(NewClassTree newClass) {
+        if (newClass.classBody() != null) {
+            return null;
+        }
+        Type type = newClass.symbolType();
+        if (!type.isUnknown()) {
+            return isReflectiveMapper(type) ? type.name() : null;
+        }
+        TypeTree identifier = newClass.identifier();
+        if (identifier.is(Tree.Kind.PARAMETERIZED_TYPE)) {
+            identifier = ((ParameterizedTypeTree) identifier).type();
+        }
+        String name = TransactionalScopes.simpleName(identifier);
+        return REFLECTIVE_MAPPER_NAMES.contains(name) ? name : null;
+    }
+
+    /**
+     * Checks if a method invocation is a {@code newInstance(...)} factory of a reflective mapper.
+     *
+     * @param mit the method invocation
+     * @return the mapper class name, or {@code null} for other invocations
+     */
+    private static String mapperFactory(MethodInvocationTree mit) {
+        if (!METHOD_NEW_INSTANCE.equals(JdbcStreamMethods.getMethodName(mit))) {
+            return null;
+        }
+        Type ownerType = JdbcStreamMethods.knownOwnerType(mit);
+        if (ownerType != null) {
+            return isReflectiveMapper(ownerType) ? ownerType.name() : null;
+        }
+        String receiverName = TransactionalScopes.simpleName(JdbcStreamMethods.getReceiver(mit));
+        return REFLECTIVE_MAPPER_NAMES.contains(receiverName) ? receiverName : null;
+    }
+
+    /**
+     * Returns the mapped class of a {@code JdbcClient} {@code query(X.class)} call that maps
+     * rows to a bean, record or data class by reflection.
+     *
+     * @param mit the method invocation
+     * @return the simple name of the mapped class, or {@code null} for other invocations and simple types
+     */
+    private static String mappedClassOfClientQuery(MethodInvocationTree mit) {
+        if (!METHOD_QUERY.equals(JdbcStreamMethods.getMethodName(mit)) || mit.arguments().size() != 1) {
+            return null;
+        }
+        ExpressionTree argument = JdbcStreamMethods.skipParenthesesAndCasts(mit.arguments().get(0));
+        if (argument == null || !argument.is(Tree.Kind.MEMBER_SELECT) ||
+            !CLASS_LITERAL.equals(((MemberSelectExpressionTree) argument).identifier().name())) {
+            return null;
+        }
+        Type ownerType = JdbcStreamMethods.knownOwnerType(mit);
+        if (ownerType != null ? !ownerType.fullyQualifiedName().startsWith(FQN_JDBC_CLIENT) : SqlStatements.sqlCall(mit) == null) {
+            return null;
+        }
+        ExpressionTree mappedClass = ((MemberSelectExpressionTree) argument).expression();
+        Type mappedType = mappedClass.symbolType();
+        if (!mappedType.isUnknown()) {
+            return isSimpleType(mappedType) ? null : mappedType.name();
+        }
+        String name = TransactionalScopes.simpleName(mappedClass);
+        return name == null || SIMPLE_TYPE_NAMES.contains(name) ? null : name;
+    }
+
+    /**
+     * Returns the {@code JdbcClient.create(...)} call creating the client of a query chain in the
+     * same method, either at the root of the chain or as initializer of an effectively final
+     * local variable. Clients held in fields keep their row mapper cache across calls.
+     *
+     * @param mit the {@code query(X.class)} call
+     * @return the client creation, or {@code null} if the client is created elsewhere
+     */
+    private static MethodInvocationTree localClientCreation(MethodInvocationTree mit) {
+        ExpressionTree receiver = JdbcStreamMethods.skipParenthesesAndCasts(JdbcStreamMethods.getReceiver(mit));
+        for (int depth = 0; depth <= JdbcStreamMethods.MAX_CHAIN_DEPTH; depth++) {
+            if (receiver == null || !receiver.is(Tree.Kind.METHOD_INVOCATION)) {
+                break;
+            }
+            MethodInvocationTree call = (MethodInvocationTree) receiver;
+            if (JdbcStreamMethods.isJdbcClientCreation(call)) {
+                return call;
+            }
+            receiver = JdbcStreamMethods.skipParenthesesAndCasts(JdbcStreamMethods.getReceiver(call));
+        }
+        if (receiver == null || !receiver.is(Tree.Kind.IDENTIFIER)) {
+            return null;
+        }
+        ExpressionTree initializer = SqlStatements.followLocalVariable(receiver);
+        if (initializer != null && initializer.is(Tree.Kind.METHOD_INVOCATION) &&
+            JdbcStreamMethods.isJdbcClientCreation((MethodInvocationTree) initializer)) {
+            return (MethodInvocationTree) initializer;
+        }
+        return null;
+    }
+
+    /**
+     * Checks if a type is one of Spring's reflective row mappers.
+     *
+     * @param type a resolved type
+     * @return {@code true} for {@code BeanPropertyRowMapper}, {@code DataClassRowMapper} and
+     *         {@code SimplePropertyRowMapper} and their subclasses
+     */
+    private static boolean isReflectiveMapper(Type type) {
+        return FQN_REFLECTIVE_MAPPERS.stream().anyMatch(type::isSubtypeOf);
+    }
+
+    /**
+     * Checks if a resolved type is mapped from a single column rather than by reflection.
+     *
+     * @param type the mapped type
+     * @return {@code true} for primitives, enums and JDK types such as {@code String} or {@code LocalDate}
+     */
+    private static boolean isSimpleType(Type type) {
+        if (type.isPrimitive() || type.symbol().isEnum()) {
+            return true;
+        }
+        String fqn = type.fullyQualifiedName();
+        return fqn.startsWith("java.") || fqn.startsWith("javax.");
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.sonar.jdbc.checks;
+
+import org.sonar.plugins.java.api.semantic.Symbol;
+import org.sonar.plugins.java.api.semantic.Type;
+import org.sonar.plugins.java.api.tree.AnnotationTree;
+import org.sonar.plugins.java.api.tree.ClassTree;
+import org.sonar.plugins.java.api.tree.MethodInvocationTree;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A configured list of remote or blocking APIs, such as HTTP clients and {@code Thread.sleep}.
+ *
+ * <p>Entries are fully qualified type names, each optionally followed by {@code #methodName}.
+ * Calls are matched on their resolved owner type, including subtypes, or by receiver name when
+ * the type is unknown. Methods of interfaces annotated with {@code @FeignClient} are always
+ * remote calls.</p>
+ *
+ * @since 1.1.0
+ * @see TransactionalRemoteCallCheck
+ * @see ConnectionPressureCheck
+ */
+final class RemoteCalls {
+
+    static final String DEFAULT_REMOTE_CALLS =
+        "org.springframework.web.client.RestTemplate," +
+        "org.springframework.web.client.RestOperations," +
+        "org.springframework.web.client.RestClient," +
+        "java.net.http.HttpClient#send," +
+        "java.lang.Thread#sleep," +
+        "reactor.core.publisher.Mono#block," +
+        "reactor.core.publisher.Flux#blockFirst," +
+        "reactor.core.publisher.Flux#blockLast";
+
+    private static final String FQN_FEIGN_CLIENT = "org.springframework.cloud.openfeign.FeignClient";
+    private static final String FEIGN_CLIENT = "FeignClient";
+    private static final String METHOD_SEPARATOR = "#";
+
+    private final List<RemoteApi> apis = new ArrayList<>();
+
+    /**
+     * Private constructor, instances are created by {@link #parse(String)}.
+     */
+    private RemoteCalls() {
+    }
+
+    /**
+     * Parses a comma-separated list of remote APIs.
+     *
+     * @param remoteCalls the list, e.g. {@code org.springframework.web.client.RestTemplate,java.lang.Thread#sleep}
+     * @return the remote calls, blank entries skipped
+     */
+    static RemoteCalls parse(String remoteCalls) {
+        RemoteCalls parsed = new RemoteCalls();
+        for (String entry : remoteCalls.split(",")) {
+            String trimmed = entry.trim();
+            if (!trimmed.isEmpty()) {
+                parsed.apis.add(new RemoteApi(trimmed));
+            }
+        }
+        return parsed;
+    }
+
+    /**
+     * Determines if a method invocation is one of the configured remote or blocking calls.
+     *
+     * @param mit the method invocation
+     * @return {@code true} if the invocation calls a remote or blocking API
+     */
+    boolean isRemoteCall(MethodInvocationTree mit) {
+        String methodName = JdbcStreamMethods.getMethodName(mit);
+        if (methodName == null) {
+            return false;
+        }
+        Type ownerType = JdbcStreamMethods.knownOwnerType(mit);
+        if (ownerType != null) {
+            for (RemoteApi api : apis) {
+                if (api.matches(ownerType, methodName)) {
+                    return true;
+                }
+            }
+            return isFeignClient(ownerType.symbol());
+        }
+        String receiverName = TransactionalScopes.simpleName(JdbcStreamMethods.getReceiver(mit));
+        if (receiverName == null) {
+            return false;
+        }
+        for (RemoteApi api : apis) {
+            if (api.matchesByName(receiverName, methodName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a type is a declarative HTTP client annotated with {@code @FeignClient}.
+     *
+     * @param typeSymbol the owner type of an invoked method
+     * @return {@code true} if the type, or its declaration in the analyzed sources, carries the annotation
+     */
+    private static boolean isFeignClient(Symbol.TypeSymbol typeSymbol) {
+        if (typeSymbol.metadata().isAnnotatedWith(FQN_FEIGN_CLIENT)) {
+            return true;
+        }
+        ClassTree declaration = typeSymbol.declaration();
+        if (declaration == null) {
+            return false;
+        }
+        for (AnnotationTree annotation : declaration.modifiers().annotations()) {
+            if (annotation.symbolType().isUnknown() && FEIGN_CLIENT.equals(TransactionalScopes.simpleName(annotation.annotationType()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * One configured remote or blocking API.
+     */
+    private static final class RemoteApi {
+
+        private final String typeName;
+        private final String lowerCaseSimpleName;
+        private final String methodName;
+
+        /**
+         * Parses one entry of the {@code remoteCalls} property.
+         *
+         * @param entry the trimmed entry, e.g. {@code java.lang.Thread#sleep}
+         */
+        RemoteApi(String entry) {
+            int separator = entry.indexOf(METHOD_SEPARATOR);
+            this.typeName = separator < 0 ? entry : entry.substring(0, separator);
+            this.methodName = separator < 0 ? null : entry.substring(separator + 1);
+            String simpleName = typeName.substring(Math.max(typeName.lastIndexOf('.'), typeName.lastIndexOf('$')) + 1);
+            this.lowerCaseSimpleName = simpleName.toLowerCase(Locale.ROOT);
+        }
+
+        /**
+         * Checks if a call with a resolved owner type belongs to this API.
+         *
+         * @param ownerType  the owner type of the invoked method
+         * @param calledName the invoked method name
+         * @return {@code true} if the owner is a subtype of the configured type and the method matches
+         */
+        boolean matches(Type ownerType, String calledName) {
+            return (methodName == null || methodName.equals(calledName)) && ownerType.isSubtypeOf(typeName);
+        }
+
+        /**
+         * Name-based fallback for unresolved calls: the receiver is named after the configured type.
+         *
+         * @param receiverName the simple name of the receiver
+         * @param calledName   the invoked method name
+         * @return {@code true} if the receiver name contains the configured type's simple name
+         */
+        boolean matchesByName(String receiverName, String calledName) {
+            return (methodName == null || methodName.equals(calledName)) &&
+                receiverName.toLowerCase(Locale.ROOT).contains(lowerCaseSimpleName);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.sonar.jdbc.checks;
+
+import org.sonar.plugins.java.api.semantic.Symbol;
+import org.sonar.plugins.java.api.tree.*;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Shared close-tracking for JDBC resources held in local variables.
+ *
+ * <p>Complements {@link JdbcStreamMethods#isInTryWithResources(MethodInvocationTree)}: resources
+ * that are not declared in try-with-resources are still released on all paths when the
+ * {@code finally} block of the try statement guarding their acquisition closes them, either
+ * directly ({@code con.close()}) or through a release utility such as
+ * {@code DataSourceUtils.releaseConnection(con, dataSource)}. Resources whose ownership is
+ * transferred to the caller by returning them are not this method's responsibility.</p>
+ *
+ * @since 1.1.0
+ * @see JdbcStreamMethods
+ */
+final class ResourceReleases {
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private ResourceReleases() {
+        // Utility class - private constructor
+    }
+
+    /**
+     * Checks if a variable is released on all paths by a {@code finally} block guarding its acquisition.
+     *
+     * <p>The acquisition is guarded when it is inside the {@code try} block of a try statement,
+     * or when the statement acquiring the resource is immediately followed by the try statement:
+     * any other code in between may throw before the {@code finally} block is entered, and a
+     * {@code finally} block that ends before the acquisition does not release it at all.</p>
+     *
+     * <p>A release is a call to one of {@code releaseMethods} either on the variable itself
+     * ({@code variable.close()}) or taking the variable as an argument
+     * ({@code DataSourceUtils.releaseConnection(variable, dataSource)}).</p>
+     *
+     * @param variable       the symbol of the variable holding the resource
+     * @param acquisition    the expression acquiring the resource
+     * @param releaseMethods names of the methods releasing the resource
+     * @return {@code true} if a guarding {@code finally} block releases the variable
+     */
+    static boolean isReleasedInFinally(Symbol variable, Tree acquisition, Set<String> releaseMethods) {
+        Tree child = acquisition;
+        Tree parent = acquisition.parent();
+        boolean acquiringStatement = true;
+        while (parent != null && !parent.is(Tree.Kind.METHOD, Tree.Kind.CONSTRUCTOR, Tree.Kind.LAMBDA_EXPRESSION,
+            Tree.Kind.CLASS, Tree.Kind.ENUM, Tree.Kind.RECORD)) {
+            if (parent.is(Tree.Kind.TRY_STATEMENT)) {
+                TryStatementTree tryStatement = (TryStatementTree) parent;
+                if (child == tryStatement.block() && releasesIn(tryStatement.finallyBlock(), variable, releaseMethods)) {
+                    return true;
+                }
+            } else if (acquiringStatement && parent.is(Tree.Kind.BLOCK)) {
+                // Only the statement acquiring the resource may precede its guarding try statement
+                acquiringStatement = false;
+                StatementTree next = nextStatement((BlockTree) parent, (StatementTree) child);
+                if (next != null && next.is(Tree.Kind.TRY_STATEMENT) &&
+                    releasesIn(((TryStatementTree) next).finallyBlock(), variable, releaseMethods)) {
+                    return true;
+                }
+            }
+            child = parent;
+            parent = parent.parent();
+        }
+        return false;
+    }
+
+    /**
+     * Returns the statement following another one in a block.
+     *
+     * @param block     the block
+     * @param statement a statement of the block
+     * @return the next statement, or {@code null} if the statement is the last one
+     */
+    private static StatementTree nextStatement(BlockTree block, StatementTree statement) {
+        List<StatementTree> statements = block.body();
+        int index = statements.indexOf(statement);
+        return index >= 0 && index + 1 < statements.size() ? statements.get(index + 1) : null;
+    }
+
+    /**
+     * Checks if a {@code finally} block releases a variable, at any nesting level.
+     *
+     * @param finallyBlock   the finally block, may be {@code null}
+     * @param variable       the symbol of the variable holding the resource
+     * @param releaseMethods names of the methods releasing the resource
+     * @return {@code true} if the block contains a release call on the variable
+     */
+    private static boolean releasesIn(BlockTree finallyBlock, Symbol variable, Set<String> releaseMethods) {
+        if (finallyBlock == null) {
+            return false;
+        }
+        boolean[] released = {false};
+        finallyBlock.accept(new BaseTreeVisitor() {
+            @Override
+            public void visitMethodInvocation(MethodInvocationTree mit) {
+                String methodName = JdbcStreamMethods.getMethodName(mit);
+                if (methodName != null && releaseMethods.contains(methodName) && isReleaseOf(mit, variable)) {
+                    released[0] = true;
+                }
+                super.visitMethodInvocation(mit);
+            }
+        });
+        return released[0];
+    }
+
+    /**
+     * Checks if a release call targets a variable as receiver or argument.
+     *
+     * @param mit      the release call
+     * @param variable the symbol of the variable holding the resource
+     * @return {@code true} if the variable is released
+     */
+    private static boolean isReleaseOf(MethodInvocationTree mit, Symbol variable) {
+        if (refersTo(JdbcStreamMethods.getReceiver(mit), variable)) {
+            return true;
+        }
+        for (ExpressionTree argument : mit.arguments()) {
+            if (refersTo(argument, variable)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a variable is returned within the given scope, handing the resource over to the caller.
+     *
+     * <p>Return statements of lambdas and nested classes are ignored, since they do not leave
+     * the enclosing method.</p>
+     *
+     * @param variable the symbol of the variable holding the resource
+     * @param scope    the tree to search, typically the enclosing method body
+     * @return {@code true} if the variable is returned
+     */
+    static boolean isReturned(Symbol variable, Tree scope) {
+        boolean[] returned = {false};
+        scope.accept(new BaseTreeVisitor() {
+            @Override
+            public void visitReturnStatement(ReturnStatementTree tree) {
+                if (refersTo(tree.expression(), variable)) {
+                    returned[0] = true;
+                }
+            }
+
+            @Override
+            public void visitLambdaExpression(LambdaExpressionTree tree) {
+                // Returning from a lambda does not leave the enclosing method
+            }
+
+            @Override
+            public void visitClass(ClassTree tree) {
+                // Returning from a nested class does not leave the enclosing method
+            }
+        });
+        return returned[0];
+    }
+
+    /**
+     * Checks if an expression is a plain reference to the given variable.
+     *
+     * @param expression the expression, may be {@code null}
+     * @param variable   the variable symbol
+     * @return {@code true} if the expression, without parentheses and casts, is an identifier of the variable
+     */
+    static boolean refersTo(ExpressionTree expression, Symbol variable) {
+        ExpressionTree unwrapped = JdbcStreamMethods.skipParenthesesAndCasts(expression);
+        return unwrapped != null && unwrapped.is(Tree.Kind.IDENTIFIER) &&
+            ((IdentifierTree) unwrapped).symbol() == variable;
+    }
+}
@@ -0,0 +1,326 @@
+package com.example.sonar.jdbc.checks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory catalog of the tables, columns and indexes declared by DDL scripts.
+ *
+ * <p>Scripts are applied one statement at a time, in the order they would run against the
+ * database, so that Flyway-style migrations adding and dropping indexes end up in their
+ * final state. The catalog understands {@code CREATE TABLE} with inline and table-level
+ * {@code PRIMARY KEY}, {@code UNIQUE} and MySQL {@code INDEX}/{@code KEY} definitions,
+ * {@code CREATE INDEX}, {@code ALTER TABLE ... ADD} of columns and constraints, and
+ * {@code DROP INDEX}/{@code DROP TABLE}. Other statements, such as inserts, are ignored.
+ * Foreign keys do not count as indexes, since most databases do not create one for
+ * them.</p>
+ *
+ * <p>Like {@link SqlStatements}, this is deliberately not a SQL parser: it works on
+ * {@linkplain SqlStatements#normalize(String) normalized} text with patterns, and names
+ * are kept in lower case without schema or quotes.</p>
+ *
+ * @since 1.1.0
+ * @see UnindexedPredicateCheck
+ */
+final class SchemaCatalog {
+
+    private static final String IDENTIFIER = "[A-Z0-9_.\"`\\[\\]]+";
+    private static final Pattern CREATE_TABLE = Pattern.compile(
+        "^CREATE (?:(?:GLOBAL |LOCAL )?(?:TEMPORARY |TEMP )|UNLOGGED )?TABLE (?:IF NOT EXISTS )?(" + IDENTIFIER + ") ?\\(");
+    private static final Pattern CREATE_INDEX = Pattern.compile(
+        "^CREATE (?:UNIQUE )?INDEX (?:CONCURRENTLY )?(?:IF NOT EXISTS )?(?:(" + IDENTIFIER + ") )?ON (?:ONLY )?(" +
+            IDENTIFIER + ") ?(?:USING \\w+ ?)?\\(");
+    private static final Pattern ALTER_TABLE = Pattern.compile(
+        "^ALTER TABLE (?:IF EXISTS )?(?:ONLY )?(" + IDENTIFIER + ") (.*)$");
+    private static final Pattern DROP_INDEX = Pattern.compile(
+        "^DROP INDEX (?:CONCURRENTLY )?(?:IF EXISTS )?(" + IDENTIFIER + ")(?: ON (" + IDENTIFIER + "))?");
+    private static final Pattern DROP_TABLE = Pattern.compile("^DROP TABLE (?:IF EXISTS )?(" + IDENTIFIER + ")");
+    private static final Pattern CONSTRAINT_NAME = Pattern.compile("^CONSTRAINT " + IDENTIFIER + " ");
+    private static final Pattern KEY_DEFINITION = Pattern.compile(
+        "^(?:PRIMARY KEY|UNIQUE(?: KEY| INDEX)?|KEY|INDEX)(?: " + IDENTIFIER + ")? ?\\(");
+    private static final Pattern INLINE_KEY = Pattern.compile("\\b(?:PRIMARY KEY|UNIQUE)\\b");
+    private static final Pattern COLUMN_NAME = Pattern.compile("^[A-Z_\"`\\[][A-Z0-9_\"`\\]]*$");
+    private static final Set<String> NON_COLUMN_DEFINITIONS = Set.of(
+        "CONSTRAINT", "PRIMARY", "UNIQUE", "KEY", "INDEX", "FOREIGN", "CHECK", "EXCLUDE", "LIKE", "FULLTEXT", "SPATIAL"
+    );
+
+    private final Map<String, Table> tables = new HashMap<>();
+    private final Map<String, Index> indexesByName = new HashMap<>();
+
+    /**
+     * Applies all statements of a DDL script to the catalog.
+     *
+     * @param script the content of the script
+     */
+    void apply(String script) {
+        for (String statement : splitStatements(SqlStatements.normalize(script))) {
+            applyStatement(statement.trim());
+        }
+    }
+
+    /**
+     * Checks if the catalog declares a column of a table.
+     *
+     * @param table  the lower-case table name
+     * @param column the lower-case column name
+     * @return {@code true} if the table is declared with the column
+     */
+    boolean hasColumn(String table, String column) {
+        Table declared = tables.get(table);
+        return declared != null && declared.columns.contains(column);
+    }
+
+    /**
+     * Checks if an index supports a column of a query: the column leads an index, or follows
+     * only columns that the query also restricts.
+     *
+     * @param table      the lower-case table name
+     * @param column     the lower-case column name
+     * @param restricted the lower-case columns of the same table that the query restricts
+     * @return {@code true} if the database can use an index for the column
+     */
+    boolean isIndexed(String table, String column, Set<String> restricted) {
+        Table declared = tables.get(table);
+        if (declared == null) {
+            return false;
+        }
+        for (Index index : declared.indexes) {
+            int position = index.columns.indexOf(column);
+            if (position >= 0 && restricted.containsAll(index.columns.subList(0, position))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the catalog declares any table.
+     *
+     * @return {@code true} if no table was found in the applied scripts
+     */
+    boolean isEmpty() {
+        return tables.isEmpty();
+    }
+
+    /**
+     * Applies one normalized DDL statement.
+     *
+     * @param statement the statement, without terminating semicolon
+     */
+    private void applyStatement(String statement) {
+        Matcher matcher = CREATE_TABLE.matcher(statement);
+        if (matcher.find()) {
+            Table table = new Table();
+            tables.put(name(matcher.group(1)), table);
+            String body = parenthesized(statement, matcher.end() - 1);
+            for (String definition : splitTopLevel(body)) {
+                addDefinition(table, definition.trim());
+            }
+            return;
+        }
+        matcher = CREATE_INDEX.matcher(statement);
+        if (matcher.find()) {
+            Table table = tables.get(name(matcher.group(2)));
+            Index index = index(parenthesized(statement, matcher.end() - 1));
+            if (table != null && index != null) {
+                table.indexes.add(index);
+                if (matcher.group(1) != null) {
+                    indexesByName.put(name(matcher.group(1)), index);
+                }
+            }
+            return;
+        }
+        matcher = ALTER_TABLE.matcher(statement);
+        if (matcher.find()) {
+            Table table = tables.get(name(matcher.group(1)));
+            if (table != null) {
+                for (String action : splitTopLevel(matcher.group(2))) {
+                    alter(table, action.trim());
+                }
+            }
+            return;
+        }
+        matcher = DROP_INDEX.matcher(statement);
+        if (matcher.find()) {
+            Index index = indexesByName.remove(name(matcher.group(1)));
+            if (index != null) {
+                tables.values().forEach(table -> table.indexes.remove(index));
+            }
+            return;
+        }
+        matcher = DROP_TABLE.matcher(statement);
+        if (matcher.find()) {
+            tables.remove(name(matcher.group(1)));
+        }
+    }
+
+    /**
+     * Applies one action of an {@code ALTER TABLE} statement.
+     *
+     * @param table  the altered table
+     * @param action the action, e.g. {@code ADD CONSTRAINT UK_CODE UNIQUE (CODE)}
+     */
+    private static void alter(Table table, String action) {
+        if (!action.startsWith("ADD ")) {
+            return;
+        }
+        String definition = action.substring("ADD ".length());
+        if (definition.startsWith("COLUMN ")) {
+            definition = definition.substring("COLUMN ".length());
+        }
+        if (definition.startsWith("IF NOT EXISTS ")) {
+            definition = definition.substring("IF NOT EXISTS ".length());
+        }
+        addDefinition(table, definition);
+    }
+
+    /**
+     * Adds a column or constraint definition of a {@code CREATE TABLE} or {@code ALTER TABLE}.
+     *
+     * @param table      the table
+     * @param definition the definition, e.g. {@code EMAIL VARCHAR(255) NOT NULL UNIQUE}
+     */
+    private static void addDefinition(Table table, String definition) {
+        String withoutName = CONSTRAINT_NAME.matcher(definition).replaceFirst("");
+        Matcher key = KEY_DEFINITION.matcher(withoutName);
+        if (key.find()) {
+            Index index = index(parenthesized(withoutName, key.end() - 1));
+            if (index != null) {
+                table.indexes.add(index);
+            }
+            return;
+        }
+        int space = definition.indexOf(' ');
+        String first = space < 0 ? definition : definition.substring(0, space);
+        if (definition.isEmpty() || NON_COLUMN_DEFINITIONS.contains(first) || !COLUMN_NAME.matcher(first).matches()) {
+            return;
+        }
+        String column = name(first);
+        table.columns.add(column);
+        if (space >= 0 && INLINE_KEY.matcher(definition.substring(space)).find()) {
+            table.indexes.add(new Index(List.of(column)));
+        }
+    }
+
+    /**
+     * Builds an index from its parenthesized column list.
+     *
+     * @param columnList the column list, e.g. {@code CUSTOMER_ID, CREATED_AT DESC}
+     * @return the index on its leading plain columns, or {@code null} if it starts with an expression
+     */
+    private static Index index(String columnList) {
+        List<String> columns = new ArrayList<>();
+        for (String element : splitTopLevel(columnList)) {
+            String trimmed = element.trim();
+            int space = trimmed.indexOf(' ');
+            String column = space < 0 ? trimmed : trimmed.substring(0, space);
+            if (!COLUMN_NAME.matcher(column).matches()) {
+                // Expression indexes only support their expression, and stop the usable prefix
+                break;
+            }
+            columns.add(name(column));
+        }
+        return columns.isEmpty() ? null : new Index(columns);
+    }
+
+    /**
+     * Splits a normalized script into statements at semicolons.
+     *
+     * @param script the normalized script, without string literals or comments
+     * @return the statements
+     */
+    private static List<String> splitStatements(String script) {
+        List<String> statements = new ArrayList<>();
+        for (String statement : script.split(";")) {
+            if (!statement.isBlank()) {
+                statements.add(statement);
+            }
+        }
+        return statements;
+    }
+
+    /**
+     * Returns the text between an opening parenthesis and its matching closing parenthesis.
+     *
+     * @param text the text
+     * @param open the index of the opening parenthesis
+     * @return the enclosed text, up to the end of the text if the parenthesis is not closed
+     */
+    private static String parenthesized(String text, int open) {
+        int depth = 0;
+        for (int i = open; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')' && --depth == 0) {
+                return text.substring(open + 1, i);
+            }
+        }
+        return text.substring(Math.min(open + 1, text.length()));
+    }
+
+    /**
+     * Splits a list at the commas that are not nested in parentheses.
+     *
+     * @param list the list, e.g. the body of a {@code CREATE TABLE}
+     * @return the elements
+     */
+    private static List<String> splitTopLevel(String list) {
+        List<String> elements = new ArrayList<>();
+        int depth = 0;
+        int start = 0;
+        for (int i = 0; i < list.length(); i++) {
+            char c = list.charAt(i);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                elements.add(list.substring(start, i));
+                start = i + 1;
+            }
+        }
+        elements.add(list.substring(start));
+        return elements;
+    }
+
+    /**
+     * Returns the catalog name of a table, index or column as written in DDL.
+     *
+     * @param identifier the possibly qualified and quoted identifier
+     * @return the lower-case name without schema and quotes
+     */
+    static String name(String identifier) {
+        String unquoted = identifier.replaceAll("[\"`\\[\\]]", "");
+        return unquoted.substring(unquoted.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Declared columns and indexes of one table.
+     */
+    private static final class Table {
+
+        private final Set<String> columns = new LinkedHashSet<>();
+        private final List<Index> indexes = new ArrayList<>();
+    }
+
+    /**
+     * Ordered columns of one index or key.
+     */
+    private static final class Index {
+
+        private final List<String> columns;
+
+        Index(List<String> columns) {
+            this.columns = Collections.unmodifiableList(columns);
+        }
+    }
+}
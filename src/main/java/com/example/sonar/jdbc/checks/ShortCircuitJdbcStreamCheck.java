@@ -0,0 +1,144 @@
+package com.example.sonar.jdbc.checks;
+
+import org.sonar.check.Rule;
+import org.sonar.plugins.java.api.IssuableSubscriptionVisitor;
+import org.sonar.plugins.java.api.JavaFileScannerContext;
+import org.sonar.plugins.java.api.tree.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * SonarQube check to detect JDBC streams opened to read only their first rows.
+ *
+ * <p>{@code findFirst()}, {@code findAny()}, {@code anyMatch()} and {@code limit(n)} stop
+ * consuming a stream early, but the query behind a connection-holding stream is unaware of
+ * it. The database still plans and starts executing the full query, may sort or materialize
+ * the whole result, and the driver opens a cursor and fetches a first batch of rows just for
+ * one of them.</p>
+ *
+ * <p>The rule reports these operations, {@code limit(n)} with a constant of at most
+ * {@value #MAX_SMALL_LIMIT}, on streams whose resolved SQL contains no {@code LIMIT},
+ * {@code FETCH FIRST}, {@code FETCH NEXT}, {@code TOP} or {@code ROWNUM}.</p>
+ *
+ * <h2>Example of Noncompliant Code</h2>
+ * <pre>{@code
+ * try (Stream<User> users = jdbcClient.sql("SELECT * FROM users WHERE active").query(User.class).stream()) {
+ *     return users.findFirst(); // Noncompliant
+ * }
+ * }</pre>
+ *
+ * <h2>Example of Compliant Code</h2>
+ * <pre>{@code
+ * return jdbcClient.sql("SELECT * FROM users WHERE active ORDER BY id FETCH FIRST 1 ROW ONLY")
+ *     .query(User.class)
+ *     .optional();
+ * }</pre>
+ *
+ * @since 1.1.0
+ * @see StreamConsumers
+ * @see SqlStatements
+ */
+@Rule(key = "ShortCircuitJdbcStream")
+public class ShortCircuitJdbcStreamCheck extends IssuableSubscriptionVisitor {
+
+    private static final String MESSAGE =
+        "Limit the query to the rows needed with LIMIT or FETCH FIRST and read them with optional(), single() or list() " +
+        "instead of streaming the whole result for \"%s\".";
+    private static final String SECONDARY_QUERY = "Query without row limit.";
+
+    static final int MAX_SMALL_LIMIT = 100;
+
+    private static final String METHOD_LIMIT = "limit";
+    private static final Set<String> SHORT_CIRCUIT_TERMINALS = Set.of("findFirst", "findAny", "anyMatch");
+
+    private static final List<String> ROW_LIMITING_KEYWORDS = List.of(
+        "LIMIT", "FETCH FIRST", "FETCH NEXT", "TOP", "ROWNUM"
+    );
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return a singleton list containing {@link Tree.Kind#METHOD_INVOCATION}
+     */
+    @Override
+    public List<Tree.Kind> nodesToVisit() {
+        return Collections.singletonList(Tree.Kind.METHOD_INVOCATION);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Reports short-circuiting operations applied to a stream acquisition whose SQL does not
+     * limit its rows.</p>
+     *
+     * @param tree the AST node to visit, guaranteed to be a {@link MethodInvocationTree}
+     */
+    @Override
+    public void visitNode(Tree tree) {
+        MethodInvocationTree acquisition = (MethodInvocationTree) tree;
+        if (!JdbcStreamMethods.isConnectionHoldingStream(acquisition)) {
+            return;
+        }
+        String sql = SqlStatements.resolve(SqlStatements.sqlArgument(acquisition));
+        if (sql == null || limitsRows(SqlStatements.normalize(sql))) {
+            return;
+        }
+        for (MethodInvocationTree operation : StreamConsumers.chainedOperations(acquisition)) {
+            if (isShortCircuit(operation)) {
+                reportIssue(methodName(operation), String.format(MESSAGE, JdbcStreamMethods.getMethodName(operation)),
+                    List.of(new JavaFileScannerContext.Location(SECONDARY_QUERY, acquisition)), null);
+                return;
+            }
+            // Operations beyond a terminal apply to its result, not to the stream
+            if (!JdbcStreamMethods.isStreamDerivation(operation)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Checks if a stream operation only needs the first rows.
+     *
+     * @param operation an operation applied to the stream
+     * @return {@code true} for {@code findFirst}, {@code findAny}, {@code anyMatch} and a small constant {@code limit}
+     */
+    private static boolean isShortCircuit(MethodInvocationTree operation) {
+        String name = JdbcStreamMethods.getMethodName(operation);
+        if (SHORT_CIRCUIT_TERMINALS.contains(name)) {
+            return true;
+        }
+        if (!METHOD_LIMIT.equals(name) || operation.arguments().size() != 1) {
+            return false;
+        }
+        Optional<Object> limit = operation.arguments().get(0).asConstant();
+        return limit.isPresent() && limit.get() instanceof Number && ((Number) limit.get()).longValue() <= MAX_SMALL_LIMIT;
+    }
+
+    /**
+     * Checks if normalized SQL limits the number of returned rows.
+     *
+     * @param normalizedSql the normalized SQL
+     * @return {@code true} if a row-limiting clause is present
+     */
+    private static boolean limitsRows(String normalizedSql) {
+        return ROW_LIMITING_KEYWORDS.stream().anyMatch(keyword -> SqlStatements.containsKeyword(normalizedSql, keyword));
+    }
+
+    /**
+     * Returns the method name of an invocation, to report on the operation rather than on the
+     * whole chain, which may start several lines above.
+     *
+     * @param operation the method invocation
+     * @return the method identifier, or the invocation itself for unqualified calls
+     */
+    private static Tree methodName(MethodInvocationTree operation) {
+        ExpressionTree methodSelect = operation.methodSelect();
+        if (methodSelect.is(Tree.Kind.MEMBER_SELECT)) {
+            return ((MemberSelectExpressionTree) methodSelect).identifier();
+        }
+        return operation;
+    }
+}
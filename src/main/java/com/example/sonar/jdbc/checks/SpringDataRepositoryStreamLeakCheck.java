@@ -0,0 +1,195 @@
+package com.example.sonar.jdbc.checks;
+
+import org.sonar.check.Rule;
+import org.sonar.plugins.java.api.IssuableSubscriptionVisitor;
+import org.sonar.plugins.java.api.semantic.Symbol;
+import org.sonar.plugins.java.api.semantic.Type;
+import org.sonar.plugins.java.api.tree.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * SonarQube check to detect Spring Data repository query methods returning a {@link java.util.stream.Stream}
+ * that are used without try-with-resources or outside of a transaction.
+ *
+ * <p>Spring Data JDBC and JPA implement {@code Stream<T>} query methods on top of an open
+ * result set, so the returned stream holds a database connection exactly like
+ * {@code JdbcClient.stream()}. It must be closed, and Spring Data JPA additionally requires a
+ * surrounding transaction to keep the connection open while the stream is consumed.</p>
+ *
+ * <h2>Detection Strategy</h2>
+ * <ul>
+ *   <li><strong>Semantic analysis:</strong> The invoked method returns {@code Stream} and is declared
+ *       by an interface extending {@code org.springframework.data.repository.Repository}</li>
+ *   <li><strong>Declaration heuristics:</strong> When Spring Data is not on the classpath, the repository
+ *       interface declared in the analyzed sources extends a type named like {@code *Repository}</li>
+ *   <li><strong>Name-based heuristics:</strong> When the method cannot be resolved at all, a {@code stream*}
+ *       method called on a receiver named like a repository</li>
+ * </ul>
+ *
+ * <h2>Example of Noncompliant Code</h2>
+ * <pre>{@code
+ * public long countPending() {
+ *     return orderRepository.streamAllByStatus("pending").count(); // Noncompliant
+ * }
+ * }</pre>
+ *
+ * <h2>Example of Compliant Code</h2>
+ * <pre>{@code
+ * @Transactional(readOnly = true)
+ * public long countPending() {
+ *     try (Stream<Order> orders = orderRepository.streamAllByStatus("pending")) {
+ *         return orders.count();
+ *     }
+ * }
+ * }</pre>
+ *
+ * @since 1.1.0
+ * @see SpringJdbcStreamLeakCheck
+ * @see TransactionalScopes
+ */
+@Rule(key = "SpringDataRepositoryStreamLeak")
+public class SpringDataRepositoryStreamLeakCheck extends IssuableSubscriptionVisitor {
+
+    private static final String MESSAGE_NOT_CLOSED =
+        "This repository stream holds a database connection and must be used within a try-with-resources statement.";
+    private static final String MESSAGE_NO_TRANSACTION =
+        "This repository stream must be consumed within a transaction (@Transactional or TransactionTemplate).";
+    private static final String MESSAGE_BOTH =
+        "This repository stream holds a database connection and must be used within a try-with-resources statement inside a transaction.";
+
+    private static final String FQN_STREAM = "java.util.stream.Stream";
+    private static final String FQN_REPOSITORY = "org.springframework.data.repository.Repository";
+    private static final String REPOSITORY_SUFFIX = "Repository";
+    private static final String STREAM_METHOD_PREFIX = "stream";
+    private static final Set<String> REPOSITORY_RECEIVER_SUFFIXES = Set.of("repository", "repo");
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return a singleton list containing {@link Tree.Kind#METHOD_INVOCATION}
+     */
+    @Override
+    public List<Tree.Kind> nodesToVisit() {
+        return Collections.singletonList(Tree.Kind.METHOD_INVOCATION);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Reports repository stream calls missing try-with-resources, a transactional scope, or both.</p>
+     *
+     * @param tree the AST node to visit, guaranteed to be a {@link MethodInvocationTree}
+     */
+    @Override
+    public void visitNode(Tree tree) {
+        MethodInvocationTree mit = (MethodInvocationTree) tree;
+        if (!isRepositoryStreamMethod(mit)) {
+            return;
+        }
+
+        boolean closed = JdbcStreamMethods.isInTryWithResources(mit);
+        boolean transactional = TransactionalScopes.isInTransactionalScope(mit);
+        if (!closed && !transactional) {
+            reportIssue(mit, MESSAGE_BOTH);
+        } else if (!closed) {
+            reportIssue(mit, MESSAGE_NOT_CLOSED);
+        } else if (!transactional) {
+            reportIssue(mit, MESSAGE_NO_TRANSACTION);
+        }
+    }
+
+    /**
+     * Determines if a method invocation calls a Spring Data repository query method returning a stream.
+     *
+     * @param mit the method invocation
+     * @return {@code true} if the invoked method is a streaming repository query method
+     */
+    private static boolean isRepositoryStreamMethod(MethodInvocationTree mit) {
+        Symbol.MethodSymbol methodSymbol = mit.methodSymbol();
+        if (methodSymbol.isUnknown()) {
+            return looksLikeRepositoryStreamCall(mit);
+        }
+        if (!methodSymbol.returnType().type().is(FQN_STREAM)) {
+            return false;
+        }
+        Symbol owner = methodSymbol.owner();
+        return owner != null && owner.isTypeSymbol() && isRepositoryType((Symbol.TypeSymbol) owner);
+    }
+
+    /**
+     * Checks if a type is a Spring Data repository interface.
+     *
+     * <p>Uses the type hierarchy when Spring Data is resolved. Otherwise, inspects the
+     * {@code extends} clause of the interface declaration when it is part of the analyzed
+     * sources, accepting unresolved super-interfaces named like {@code CrudRepository}.</p>
+     *
+     * @param typeSymbol the declaring type of the invoked method
+     * @return {@code true} if the type is a repository interface
+     */
+    private static boolean isRepositoryType(Symbol.TypeSymbol typeSymbol) {
+        if (!typeSymbol.isInterface()) {
+            return false;
+        }
+        if (typeSymbol.type().isSubtypeOf(FQN_REPOSITORY)) {
+            return true;
+        }
+        ClassTree declaration = typeSymbol.declaration();
+        if (declaration == null) {
+            return false;
+        }
+        for (TypeTree superInterface : declaration.superInterfaces()) {
+            Type type = superInterface.symbolType();
+            if (type.isUnknown()) {
+                String name = TransactionalScopes.simpleName(rawType(superInterface));
+                if (name != null && name.endsWith(REPOSITORY_SUFFIX)) {
+                    return true;
+                }
+            } else if (isRepositoryType(type.symbol())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Strips type arguments from a type tree.
+     *
+     * @param typeTree the type tree, e.g. {@code CrudRepository<Order, Long>}
+     * @return the raw type tree, e.g. {@code CrudRepository}
+     */
+    private static Tree rawType(TypeTree typeTree) {
+        if (typeTree.is(Tree.Kind.PARAMETERIZED_TYPE)) {
+            return ((ParameterizedTypeTree) typeTree).type();
+        }
+        return typeTree;
+    }
+
+    /**
+     * Name-based fallback for unresolved invocations: a {@code stream*} derived query method
+     * called on a receiver named like a repository.
+     *
+     * @param mit the method invocation
+     * @return {@code true} if the call looks like a streaming repository query
+     */
+    private static boolean looksLikeRepositoryStreamCall(MethodInvocationTree mit) {
+        String methodName = JdbcStreamMethods.getMethodName(mit);
+        if (methodName == null || !methodName.startsWith(STREAM_METHOD_PREFIX)) {
+            return false;
+        }
+        String receiverName = TransactionalScopes.simpleName(JdbcStreamMethods.getReceiver(mit));
+        if (receiverName == null) {
+            return false;
+        }
+        String lowerCaseName = receiverName.toLowerCase(Locale.ROOT);
+        for (String suffix : REPOSITORY_RECEIVER_SUFFIXES) {
+            if (lowerCaseName.endsWith(suffix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
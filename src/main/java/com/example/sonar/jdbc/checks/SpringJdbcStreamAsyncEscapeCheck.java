@@ -0,0 +1,448 @@
+package com.example.sonar.jdbc.checks;
+
+import org.sonar.check.Rule;
+import org.sonar.plugins.java.api.IssuableSubscriptionVisitor;
+import org.sonar.plugins.java.api.JavaFileScannerContext;
+import org.sonar.plugins.java.api.semantic.Symbol;
+import org.sonar.plugins.java.api.semantic.Type;
+import org.sonar.plugins.java.api.tree.*;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * SonarQube check to detect connection-holding JDBC streams that escape into another thread.
+ *
+ * <p>A stream returned by {@code JdbcClient.stream()} or {@code JdbcTemplate.queryForStream()}
+ * keeps its database connection until it is closed. When such a stream (or an iterator or
+ * spliterator derived from it) is captured by a task submitted to an executor, a
+ * {@code CompletableFuture}, a Reactor publisher or returned from an {@code @Async} method,
+ * the connection is held across the thread hop. Either nobody closes it, or a
+ * try-with-resources on the submitting thread closes it while the other thread is still
+ * consuming it. This rule therefore reports these hand-overs even when the acquisition is
+ * inside try-with-resources.</p>
+ *
+ * <h2>Example of Noncompliant Code</h2>
+ * <pre>{@code
+ * try (Stream<User> users = jdbcClient.sql("SELECT * FROM users").query(User.class).stream()) {
+ *     executor.submit(() -> users.forEach(this::process)); // Noncompliant - closed while in use
+ * }
+ * }</pre>
+ *
+ * <h2>Example of Compliant Code</h2>
+ * <pre>{@code
+ * executor.submit(() -> {
+ *     try (Stream<User> users = jdbcClient.sql("SELECT * FROM users").query(User.class).stream()) {
+ *         users.forEach(this::process);
+ *     }
+ * });
+ * }</pre>
+ *
+ * @since 1.1.0
+ * @see SpringJdbcStreamLeakCheck
+ */
+@Rule(key = "SpringJdbcStreamAsyncEscape")
+public class SpringJdbcStreamAsyncEscapeCheck extends IssuableSubscriptionVisitor {
+
+    private static final String MESSAGE_CAPTURED =
+        "This JDBC stream is handed over to another thread; open, consume and close it within the asynchronous task.";
+    private static final String MESSAGE_RETURNED =
+        "This JDBC stream is returned to another thread; consume and close it where it is opened.";
+    private static final String SECONDARY_ACQUISITION = "Database connection acquired here.";
+
+    private static final String FQN_ASYNC_ANNOTATION = "org.springframework.scheduling.annotation.Async";
+    private static final String ASYNC_ANNOTATION = "Async";
+
+    private static final Set<String> EXECUTOR_METHODS = Set.of(
+        "execute", "submit", "invokeAll", "invokeAny",
+        "schedule", "scheduleAtFixedRate", "scheduleWithFixedDelay",
+        "submitCompletable", "submitListenable"
+    );
+
+    // Owner type -> methods that run their arguments on another thread or defer them to subscription time
+    private static final Map<String, Set<String>> ASYNC_METHODS_BY_OWNER = Map.of(
+        "java.util.concurrent.CompletableFuture", Set.of("supplyAsync", "runAsync"),
+        "java.util.concurrent.Executor", EXECUTOR_METHODS,
+        "org.springframework.core.task.TaskExecutor", EXECUTOR_METHODS,
+        "org.springframework.scheduling.TaskScheduler", Set.of("schedule", "scheduleAtFixedRate", "scheduleWithFixedDelay"),
+        "java.lang.Thread", Set.of("startVirtualThread"),
+        "java.lang.Thread$Builder", Set.of("start", "unstarted"),
+        "reactor.core.publisher.Flux",
+        Set.of("fromStream", "fromIterable", "defer", "create", "generate", "publishOn", "subscribeOn"),
+        "reactor.core.publisher.Mono", Set.of("fromCallable", "fromSupplier", "defer", "create")
+    );
+
+    // Result types of methods whose name ends with ASYNC_SUFFIX and run their arguments asynchronously
+    private static final Set<String> ASYNC_RESULT_TYPES = Set.of(
+        "java.util.concurrent.Future", "java.util.concurrent.CompletionStage"
+    );
+    private static final String ASYNC_SUFFIX = "Async";
+
+    // Reactor factories that open a supplied stream on subscription and close it on termination
+    private static final Set<String> CLOSING_STREAM_FACTORIES = Set.of("fromStream");
+
+    // Result wrappers commonly returned from @Async methods
+    private static final Set<String> ASYNC_RESULT_WRAPPERS = Set.of(
+        "completedFuture", "completedStage", "just", "AsyncResult"
+    );
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>This check visits method and constructor declarations, since capturing a stream
+     * requires following the local variables it is assigned to.</p>
+     *
+     * @return a list containing {@link Tree.Kind#METHOD} and {@link Tree.Kind#CONSTRUCTOR}
+     */
+    @Override
+    public List<Tree.Kind> nodesToVisit() {
+        return Arrays.asList(Tree.Kind.METHOD, Tree.Kind.CONSTRUCTOR);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Scans the method body in source order, tracking local variables that hold a
+     * connection-holding stream and reporting when one of them, or a fresh acquisition,
+     * reaches an asynchronous API.</p>
+     *
+     * @param tree the AST node to visit, guaranteed to be a {@link MethodTree}
+     */
+    @Override
+    public void visitNode(Tree tree) {
+        MethodTree method = (MethodTree) tree;
+        BlockTree body = method.block();
+        if (body == null) {
+            return;
+        }
+        body.accept(new MethodBodyVisitor(isAsyncMethod(method)));
+    }
+
+    /**
+     * Checks if a method is annotated with Spring's {@code @Async}.
+     *
+     * @param method the method declaration
+     * @return {@code true} if the method runs on a task executor when invoked through its proxy
+     */
+    private static boolean isAsyncMethod(MethodTree method) {
+        for (AnnotationTree annotation : method.modifiers().annotations()) {
+            Type type = annotation.symbolType();
+            if (type.is(FQN_ASYNC_ANNOTATION)) {
+                return true;
+            }
+            if (type.isUnknown() && annotation.annotationType().is(Tree.Kind.IDENTIFIER) &&
+                ASYNC_ANNOTATION.equals(((IdentifierTree) annotation.annotationType()).name())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Determines if a method invocation hands its arguments over to another thread.
+     *
+     * <p>Uses the owner type when semantic information is available. Otherwise, falls back
+     * to the receiver name: static calls on a known owner ({@code CompletableFuture.supplyAsync})
+     * or instance calls on receivers named like executors ({@code taskExecutor.submit}).
+     * Other methods ending with {@code Async}, such as {@code thenApplyAsync}, are asynchronous
+     * when they are known to return a {@code Future} or {@code CompletionStage}.</p>
+     *
+     * @param mit the method invocation
+     * @return {@code true} if arguments of this call may run on another thread
+     */
+    private static boolean isAsyncApiCall(MethodInvocationTree mit) {
+        String methodName = JdbcStreamMethods.getMethodName(mit);
+        if (methodName == null) {
+            return false;
+        }
+        Type ownerType = JdbcStreamMethods.knownOwnerType(mit);
+        if (ownerType != null) {
+            if (methodName.endsWith(ASYNC_SUFFIX) && returnsAsyncResult(mit)) {
+                return true;
+            }
+            for (Map.Entry<String, Set<String>> entry : ASYNC_METHODS_BY_OWNER.entrySet()) {
+                if (entry.getValue().contains(methodName) && ownerType.isSubtypeOf(entry.getKey())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        ExpressionTree receiver = JdbcStreamMethods.getReceiver(mit);
+        if (receiver == null || !receiver.is(Tree.Kind.IDENTIFIER)) {
+            return false;
+        }
+        String receiverName = ((IdentifierTree) receiver).name();
+        for (Map.Entry<String, Set<String>> entry : ASYNC_METHODS_BY_OWNER.entrySet()) {
+            if (entry.getValue().contains(methodName) && entry.getKey().endsWith("." + receiverName)) {
+                return true;
+            }
+        }
+        String lowerCaseName = receiverName.toLowerCase(Locale.ROOT);
+        return EXECUTOR_METHODS.contains(methodName) &&
+            (lowerCaseName.contains("executor") || lowerCaseName.contains("scheduler"));
+    }
+
+    /**
+     * Checks if a method returns a handle on an asynchronous computation.
+     *
+     * @param mit the method invocation, whose symbol is known
+     * @return {@code true} if the return type is a {@code Future} or {@code CompletionStage}
+     */
+    private static boolean returnsAsyncResult(MethodInvocationTree mit) {
+        Type returnType = mit.symbolType();
+        for (String asyncResultType : ASYNC_RESULT_TYPES) {
+            if (returnType.isSubtypeOf(asyncResultType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a class instantiation starts a new thread with its arguments, e.g. {@code new Thread(task)}.
+     *
+     * @param newClass the instantiation
+     * @return {@code true} if the instantiated class is {@link Thread} or a subclass
+     */
+    private static boolean isThreadCreation(NewClassTree newClass) {
+        Type type = newClass.symbolType();
+        if (!type.isUnknown()) {
+            return type.isSubtypeOf("java.lang.Thread");
+        }
+        TypeTree identifier = newClass.identifier();
+        return identifier.is(Tree.Kind.IDENTIFIER) && "Thread".equals(((IdentifierTree) identifier).name());
+    }
+
+    /**
+     * Visits one method body, tracking stream-holding locals and reporting escapes.
+     *
+     * <p>Nested class declarations are skipped because their methods are visited separately.</p>
+     */
+    private class MethodBodyVisitor extends BaseTreeVisitor {
+
+        private final boolean asyncMethod;
+        private final Set<Symbol> trackedVariables = new HashSet<>();
+        private final Map<Symbol, Tree> acquisitions = new HashMap<>();
+        private final Set<Tree> reported = new HashSet<>();
+        private int lambdaDepth;
+
+        MethodBodyVisitor(boolean asyncMethod) {
+            this.asyncMethod = asyncMethod;
+        }
+
+        @Override
+        public void visitVariable(VariableTree tree) {
+            track(tree.symbol(), tree.initializer());
+            super.visitVariable(tree);
+        }
+
+        @Override
+        public void visitAssignmentExpression(AssignmentExpressionTree tree) {
+            ExpressionTree variable = JdbcStreamMethods.skipParenthesesAndCasts(tree.variable());
+            if (variable.is(Tree.Kind.IDENTIFIER)) {
+                track(((IdentifierTree) variable).symbol(), tree.expression());
+            }
+            super.visitAssignmentExpression(tree);
+        }
+
+        @Override
+        public void visitMethodInvocation(MethodInvocationTree tree) {
+            if (isAsyncApiCall(tree)) {
+                boolean closesSuppliedStream = CLOSING_STREAM_FACTORIES.contains(JdbcStreamMethods.getMethodName(tree));
+                checkAsyncArguments(tree.arguments(), closesSuppliedStream);
+            }
+            super.visitMethodInvocation(tree);
+        }
+
+        @Override
+        public void visitNewClass(NewClassTree tree) {
+            if (isThreadCreation(tree)) {
+                checkAsyncArguments(tree.arguments(), false);
+            }
+            // Anonymous class bodies are scanned for captures only, not as part of this method
+            scan(tree.enclosingExpression());
+            scan(tree.identifier());
+            scan(tree.arguments());
+        }
+
+        @Override
+        public void visitLambdaExpression(LambdaExpressionTree tree) {
+            lambdaDepth++;
+            super.visitLambdaExpression(tree);
+            lambdaDepth--;
+        }
+
+        @Override
+        public void visitReturnStatement(ReturnStatementTree tree) {
+            if (asyncMethod && lambdaDepth == 0) {
+                ExpressionTree returned = unwrapAsyncResult(tree.expression());
+                if (JdbcStreamMethods.isConnectionHoldingExpression(returned, trackedVariables)) {
+                    report(returned, MESSAGE_RETURNED);
+                }
+            }
+            super.visitReturnStatement(tree);
+        }
+
+        @Override
+        public void visitClass(ClassTree tree) {
+            // Nested and local classes are visited as separate methods
+        }
+
+        /**
+         * Starts tracking a variable when it is assigned a connection-holding stream.
+         *
+         * @param symbol      the assigned variable
+         * @param initializer the assigned value, may be {@code null}
+         */
+        private void track(Symbol symbol, ExpressionTree initializer) {
+            if (symbol.isUnknown() || !symbol.isVariableSymbol()) {
+                return;
+            }
+            if (JdbcStreamMethods.isConnectionHoldingExpression(initializer, trackedVariables)) {
+                trackedVariables.add(symbol);
+                acquisitions.putIfAbsent(symbol, initializer);
+            }
+        }
+
+        /**
+         * Checks the arguments of an asynchronous API for connection-holding streams.
+         *
+         * <p>An argument escapes when it is itself a connection-holding stream (e.g.
+         * {@code Flux.fromStream(stream)}), when it is a lambda, method reference or anonymous
+         * class capturing a tracked variable, or when it is a lambda returning a freshly
+         * acquired stream to the asynchronous pipeline. Reactor's {@code Flux.fromStream(Supplier)}
+         * closes the supplied stream itself, so returning a fresh acquisition is fine there.</p>
+         *
+         * @param arguments            the arguments passed to the asynchronous API
+         * @param closesSuppliedStream whether the API closes streams returned by supplier arguments
+         */
+        private void checkAsyncArguments(Arguments arguments, boolean closesSuppliedStream) {
+            for (ExpressionTree argument : arguments) {
+                ExpressionTree unwrapped = JdbcStreamMethods.skipParenthesesAndCasts(argument);
+                if (JdbcStreamMethods.isConnectionHoldingExpression(unwrapped, trackedVariables)) {
+                    report(unwrapped, MESSAGE_CAPTURED);
+                } else if (unwrapped.is(Tree.Kind.LAMBDA_EXPRESSION)) {
+                    checkLambda((LambdaExpressionTree) unwrapped, closesSuppliedStream);
+                } else if (unwrapped.is(Tree.Kind.METHOD_REFERENCE)) {
+                    reportCaptures(((MethodReferenceTree) unwrapped).expression());
+                } else if (unwrapped.is(Tree.Kind.NEW_CLASS)) {
+                    reportCaptures(((NewClassTree) unwrapped).classBody());
+                }
+            }
+        }
+
+        /**
+         * Checks a lambda passed to an asynchronous API for captured or returned streams.
+         *
+         * @param lambda               the lambda expression
+         * @param closesSuppliedStream whether the API closes a stream returned by the lambda
+         */
+        private void checkLambda(LambdaExpressionTree lambda, boolean closesSuppliedStream) {
+            Tree body = lambda.body();
+            if (!closesSuppliedStream) {
+                if (body instanceof ExpressionTree) {
+                    reportFreshAcquisition((ExpressionTree) body);
+                } else if (body.is(Tree.Kind.BLOCK)) {
+                    for (StatementTree statement : ((BlockTree) body).body()) {
+                        if (statement.is(Tree.Kind.RETURN_STATEMENT)) {
+                            reportFreshAcquisition(((ReturnStatementTree) statement).expression());
+                        }
+                    }
+                }
+            }
+            reportCaptures(body);
+        }
+
+        /**
+         * Reports an expression returned by an asynchronous task if it acquires a new
+         * connection-holding stream, ignoring tracked variables which are reported as captures.
+         *
+         * @param returned the expression returned by the task, may be {@code null}
+         */
+        private void reportFreshAcquisition(ExpressionTree returned) {
+            if (JdbcStreamMethods.isConnectionHoldingExpression(returned, Set.of())) {
+                report(returned, MESSAGE_RETURNED);
+            }
+        }
+
+        /**
+         * Reports the first reference to each tracked variable within the given subtree.
+         *
+         * @param tree the subtree executed on another thread, may be {@code null}
+         */
+        private void reportCaptures(Tree tree) {
+            if (tree == null || trackedVariables.isEmpty()) {
+                return;
+            }
+            Set<Symbol> captured = new HashSet<>();
+            tree.accept(new BaseTreeVisitor() {
+                @Override
+                public void visitIdentifier(IdentifierTree identifier) {
+                    Symbol symbol = identifier.symbol();
+                    if (trackedVariables.contains(symbol) && captured.add(symbol)) {
+                        report(identifier, MESSAGE_CAPTURED);
+                    }
+                }
+            });
+        }
+
+        /**
+         * Unwraps result holders such as {@code CompletableFuture.completedFuture(stream)}.
+         *
+         * @param expression the returned expression, may be {@code null}
+         * @return the wrapped value, or the expression itself if it is not a known wrapper
+         */
+        private ExpressionTree unwrapAsyncResult(ExpressionTree expression) {
+            ExpressionTree current = JdbcStreamMethods.skipParenthesesAndCasts(expression);
+            if (current == null) {
+                return null;
+            }
+            Arguments arguments = null;
+            if (current.is(Tree.Kind.METHOD_INVOCATION)) {
+                MethodInvocationTree mit = (MethodInvocationTree) current;
+                String methodName = JdbcStreamMethods.getMethodName(mit);
+                if (methodName != null && ASYNC_RESULT_WRAPPERS.contains(methodName)) {
+                    arguments = mit.arguments();
+                }
+            } else if (current.is(Tree.Kind.NEW_CLASS)) {
+                NewClassTree newClass = (NewClassTree) current;
+                TypeTree identifier = newClass.identifier();
+                if (identifier.is(Tree.Kind.PARAMETERIZED_TYPE)) {
+                    identifier = ((ParameterizedTypeTree) identifier).type();
+                }
+                if (identifier.is(Tree.Kind.IDENTIFIER) &&
+                    ASYNC_RESULT_WRAPPERS.contains(((IdentifierTree) identifier).name())) {
+                    arguments = newClass.arguments();
+                }
+            }
+            return arguments != null && arguments.size() == 1 ? arguments.get(0) : current;
+        }
+
+        /**
+         * Reports an issue once per tree, pointing to the acquisition as secondary location
+         * when the escaping expression is a tracked variable.
+         *
+         * @param tree    the escaping expression
+         * @param message the issue message
+         */
+        private void report(Tree tree, String message) {
+            if (!reported.add(tree)) {
+                return;
+            }
+            Tree acquisition = null;
+            if (tree.is(Tree.Kind.IDENTIFIER)) {
+                acquisition = acquisitions.get(((IdentifierTree) tree).symbol());
+            }
+            List<JavaFileScannerContext.Location> secondaries = acquisition == null
+                ? List.of()
+                : List.of(new JavaFileScannerContext.Location(SECONDARY_ACQUISITION, acquisition));
+            reportIssue(tree, message, secondaries, null);
+        }
+    }
+}
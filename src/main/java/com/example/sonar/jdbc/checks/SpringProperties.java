@@ -0,0 +1,287 @@
+package com.example.sonar.jdbc.checks;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Minimal reader of Spring Boot {@code .properties} and YAML configuration files.
+ *
+ * <p>Both formats are flattened into dotted keys with their value and line, which is all the
+ * configuration rules need to locate their issues. Keys are matched the way Spring Boot binds
+ * them: {@linkplain #canonical(String) canonical} keys ignore case, dashes and underscores, so
+ * {@code maximum-pool-size} and {@code maximumPoolSize} are the same property. Profile
+ * documents ({@code ---} in YAML) are merged, later values overriding earlier ones.</p>
+ *
+ * <p>This is not a full YAML parser: sequences, anchors, flow collections and multi-line
+ * scalars are skipped, since connection pool settings are plain nested mappings.</p>
+ *
+ * @since 1.1.0
+ * @see DataSourceConfigurationCheck
+ */
+final class SpringProperties {
+
+    private static final String DOCUMENT_SEPARATOR = "---";
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private SpringProperties() {
+        // Utility class - private constructor
+    }
+
+    /**
+     * Reads a configuration file.
+     *
+     * @param fileName the file name, whose extension selects the format
+     * @param content  the file content
+     * @return the properties by canonical key, in file order
+     */
+    static Map<String, Property> parse(String fileName, String content) {
+        String lowerCaseName = fileName.toLowerCase(Locale.ROOT);
+        if (lowerCaseName.endsWith(".yml") || lowerCaseName.endsWith(".yaml")) {
+            return parseYaml(content);
+        }
+        return parseProperties(content);
+    }
+
+    /**
+     * Returns the canonical form of a property key, as compared by Spring Boot relaxed binding.
+     *
+     * @param key the key as written
+     * @return the key in lower case, without dashes and underscores
+     */
+    static String canonical(String key) {
+        return key.toLowerCase(Locale.ROOT).replace("-", "").replace("_", "");
+    }
+
+    /**
+     * Reads a {@code .properties} file, including continuation lines.
+     *
+     * @param content the file content
+     * @return the properties by canonical key
+     */
+    private static Map<String, Property> parseProperties(String content) {
+        Map<String, Property> properties = new LinkedHashMap<>();
+        String[] lines = content.split("\\r?\\n|\\r", -1);
+        for (int i = 0; i < lines.length; i++) {
+            int line = i + 1;
+            StringBuilder logicalLine = new StringBuilder(lines[i].stripLeading());
+            while (endsWithContinuation(logicalLine) && i + 1 < lines.length) {
+                logicalLine.setLength(logicalLine.length() - 1);
+                logicalLine.append(lines[++i].stripLeading());
+            }
+            String text = logicalLine.toString();
+            if (text.isEmpty() || text.startsWith("#") || text.startsWith("!")) {
+                continue;
+            }
+            int separator = keyEnd(text);
+            String key = text.substring(0, separator).replace("\\", "");
+            String value = text.substring(separator).stripLeading();
+            if (!value.isEmpty() && (value.charAt(0) == '=' || value.charAt(0) == ':')) {
+                value = value.substring(1);
+            }
+            put(properties, key, value.strip(), line);
+        }
+        return properties;
+    }
+
+    /**
+     * Reads the nested mappings of a YAML file.
+     *
+     * @param content the file content
+     * @return the properties by canonical key
+     */
+    private static Map<String, Property> parseYaml(String content) {
+        Map<String, Property> properties = new LinkedHashMap<>();
+        Deque<Parent> parents = new ArrayDeque<>();
+        String[] lines = content.split("\\r?\\n|\\r", -1);
+        for (int i = 0; i < lines.length; i++) {
+            String text = withoutYamlComment(lines[i]).stripTrailing();
+            String trimmed = text.strip();
+            if (trimmed.equals(DOCUMENT_SEPARATOR) || trimmed.startsWith(DOCUMENT_SEPARATOR + " ")) {
+                parents.clear();
+                continue;
+            }
+            int colon = yamlKeyEnd(trimmed);
+            if (trimmed.isEmpty() || trimmed.startsWith("-") || colon < 0) {
+                continue;
+            }
+            int indent = text.length() - text.stripLeading().length();
+            while (!parents.isEmpty() && parents.peek().indent >= indent) {
+                parents.pop();
+            }
+            String key = unquote(trimmed.substring(0, colon).strip());
+            String path = parents.isEmpty() ? key : parents.peek().path + "." + key;
+            String value = trimmed.substring(colon + 1).strip();
+            if (value.isEmpty()) {
+                parents.push(new Parent(indent, path));
+            } else if (!value.startsWith("|") && !value.startsWith(">")) {
+                put(properties, path, unquote(value), i + 1);
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * Adds a property, replacing an earlier value of the same canonical key.
+     *
+     * @param properties the properties read so far
+     * @param key        the key as written
+     * @param value      the value
+     * @param line       the line of the key
+     */
+    private static void put(Map<String, Property> properties, String key, String value, int line) {
+        String canonicalKey = canonical(key);
+        // Re-inserted so that the iteration order follows the last definition
+        properties.remove(canonicalKey);
+        properties.put(canonicalKey, new Property(key, value, line));
+    }
+
+    /**
+     * Checks if a {@code .properties} line continues on the next line.
+     *
+     * @param text the line
+     * @return {@code true} if the line ends with an odd number of backslashes
+     */
+    private static boolean endsWithContinuation(CharSequence text) {
+        int backslashes = 0;
+        for (int i = text.length() - 1; i >= 0 && text.charAt(i) == '\\'; i--) {
+            backslashes++;
+        }
+        return backslashes % 2 == 1;
+    }
+
+    /**
+     * Returns the end of the key of a {@code .properties} line.
+     *
+     * @param text the line, without leading whitespace
+     * @return the index of the first unescaped {@code =}, {@code :} or whitespace, or the line length
+     */
+    private static int keyEnd(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '=' || c == ':' || Character.isWhitespace(c)) {
+                return i;
+            }
+        }
+        return text.length();
+    }
+
+    /**
+     * Returns the colon ending the key of a YAML mapping entry.
+     *
+     * @param trimmed the line, without surrounding whitespace
+     * @return the index of the first colon followed by a space or the end of line, or {@code -1}
+     */
+    private static int yamlKeyEnd(String trimmed) {
+        char quote = 0;
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (quote != 0) {
+                quote = c == quote ? 0 : quote;
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == ':' && (i + 1 == trimmed.length() || trimmed.charAt(i + 1) == ' ')) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Removes a trailing YAML comment.
+     *
+     * @param line the line
+     * @return the line up to the first {@code #} that starts a comment outside quotes
+     */
+    private static String withoutYamlComment(String line) {
+        char quote = 0;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quote != 0) {
+                quote = c == quote ? 0 : quote;
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '#' && (i == 0 || Character.isWhitespace(line.charAt(i - 1)))) {
+                return line.substring(0, i);
+            }
+        }
+        return line;
+    }
+
+    /**
+     * Removes the quotes around a YAML scalar.
+     *
+     * @param value the scalar
+     * @return the value without surrounding single or double quotes
+     */
+    private static String unquote(String value) {
+        if (value.length() >= 2 && (value.charAt(0) == '"' || value.charAt(0) == '\'') &&
+            value.charAt(value.length() - 1) == value.charAt(0)) {
+            return value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+
+    /**
+     * A configuration property and where it is defined.
+     */
+    static final class Property {
+
+        private final String key;
+        private final String value;
+        private final int line;
+
+        Property(String key, String value, int line) {
+            this.key = key;
+            this.value = value;
+            this.line = line;
+        }
+
+        /**
+         * Returns the key as written, with the parent keys of YAML files.
+         *
+         * @return the dotted key
+         */
+        String key() {
+            return key;
+        }
+
+        /**
+         * Returns the value as written, without YAML quotes.
+         *
+         * @return the value
+         */
+        String value() {
+            return value;
+        }
+
+        /**
+         * Returns the line of the key.
+         *
+         * @return the 1-based line
+         */
+        int line() {
+            return line;
+        }
+    }
+
+    /**
+     * An enclosing YAML mapping key.
+     */
+    private static final class Parent {
+
+        private final int indent;
+        private final String path;
+
+        Parent(int indent, String path) {
+            this.indent = indent;
+            this.path = path;
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package com.example.sonar.jdbc.checks;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sonar.check.Rule;
+import org.sonar.check.RuleProperty;
+import org.sonar.plugins.java.api.InputFileScannerContext;
+import org.sonar.plugins.java.api.IssuableSubscriptionVisitor;
+import org.sonar.plugins.java.api.ModuleScannerContext;
+import org.sonar.plugins.java.api.internal.EndOfAnalysis;
+import org.sonar.plugins.java.api.semantic.Type;
+import org.sonar.plugins.java.api.tree.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * SonarQube check to collect every SQL statement issued through JDBC into a project inventory.
+ *
+ * <p>Query-level performance reviews and index planning need the list of statements an
+ * application runs, long before they show up in the slow query log. This check extracts the
+ * SQL argument of every Spring JDBC and plain JDBC call, resolving literals, text blocks,
+ * constants and concatenations, and replacing the parts that depend on runtime values by
+ * {@code ?}. Statements are {@linkplain SqlStatements#normalize(String) normalized} and
+ * deduplicated by a fingerprint that ignores literal values, so the same query written in
+ * several places is listed once, as normalized at its first occurrence, with all its
+ * locations and the JDBC APIs used to run it.</p>
+ *
+ * <p>At the end of the analysis the inventory is written to {@code reportFile}, one statement
+ * at a time. Memory stays bounded on large projects: at most {@code maxStatements} distinct
+ * statements and {@value #MAX_LOCATIONS} locations per statement are kept, and further
+ * occurrences are only counted. Unchanged files are parsed too in incremental analyses, since
+ * the inventory is written anew each time. The check raises no issues.</p>
+ *
+ * @since 1.1.0
+ * @see SqlStatements
+ * @see JsonReports
+ */
+@Rule(key = "SqlInventory")
+public class SqlInventoryCheck extends IssuableSubscriptionVisitor implements EndOfAnalysis {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SqlInventoryCheck.class);
+
+    static final String DEFAULT_REPORT_FILE = "jdbc-sql-inventory.json";
+    static final int MAX_LOCATIONS = 20;
+    private static final int FINGERPRINT_LENGTH = 16;
+
+    /**
+     * Path of the JSON inventory, absolute or relative to the working directory of the analysis.
+     */
+    @RuleProperty(
+        key = "reportFile",
+        description = "Path of the JSON inventory, absolute or relative to the working directory of the analysis",
+        defaultValue = DEFAULT_REPORT_FILE)
+    public String reportFile = DEFAULT_REPORT_FILE;
+
+    /**
+     * Maximum number of distinct statements kept in memory and written to the inventory.
+     */
+    @RuleProperty(
+        key = "maxStatements",
+        description = "Maximum number of distinct statements in the inventory; further statements are only counted",
+        defaultValue = "10000")
+    public int maxStatements = 10_000;
+
+    private final Map<String, InventoryEntry> entries = new LinkedHashMap<>();
+    private long omittedOccurrences;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return a singleton list containing {@link Tree.Kind#METHOD_INVOCATION}
+     */
+    @Override
+    public List<Tree.Kind> nodesToVisit() {
+        return Collections.singletonList(Tree.Kind.METHOD_INVOCATION);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The inventory lists the statements of every file, so unchanged files are parsed
+     * too.</p>
+     *
+     * @param context the context of the unchanged file
+     * @return always {@code false}
+     */
+    @Override
+    public boolean scanWithoutParsing(InputFileScannerContext context) {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Adds the SQL of a JDBC call to the inventory when at least part of it is constant.</p>
+     *
+     * @param tree the AST node to visit, guaranteed to be a {@link MethodInvocationTree}
+     */
+    @Override
+    public void visitNode(Tree tree) {
+        MethodInvocationTree mit = (MethodInvocationTree) tree;
+        ExpressionTree sqlArgument = SqlStatements.receivedSqlArgument(mit);
+        if (sqlArgument == null) {
+            return;
+        }
+        String sql = SqlStatements.resolve(sqlArgument);
+        boolean dynamic = sql == null;
+        if (dynamic) {
+            sql = SqlStatements.resolveTemplate(sqlArgument);
+        }
+        String normalized = sql == null ? "" : SqlStatements.normalize(sql);
+        String fingerprintText = SqlStatements.fingerprint(normalized);
+        if (fingerprintText.isEmpty()) {
+            return;
+        }
+        String fingerprint = hash(fingerprintText);
+        InventoryEntry entry = entries.get(fingerprint);
+        if (entry == null) {
+            if (entries.size() >= maxStatements) {
+                omittedOccurrences++;
+                return;
+            }
+            entry = new InventoryEntry(normalized);
+            entries.put(fingerprint, entry);
+        }
+        entry.add(apiName(mit), context.getInputFile().toString(),
+            sqlArgument.firstToken().range().start().line(), dynamic);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Writes the inventory, then releases it.</p>
+     *
+     * @param context the module context
+     */
+    @Override
+    public void endOfAnalysis(ModuleScannerContext context) {
+        if (omittedOccurrences > 0) {
+            LOG.warn("The SQL inventory is limited to {} statements; {} further occurrences were omitted",
+                maxStatements, omittedOccurrences);
+        }
+        File file = reportPath(context.getWorkingDirectory());
+        if (file != null && !entries.isEmpty()) {
+            writeReport(file);
+        }
+        entries.clear();
+        omittedOccurrences = 0;
+    }
+
+    /**
+     * Resolves the configured report path.
+     *
+     * @param workingDirectory the working directory of the analysis, may be {@code null}
+     * @return the report file, or {@code null} if it is relative and there is no working directory
+     */
+    private File reportPath(File workingDirectory) {
+        File file = new File(reportFile);
+        if (file.isAbsolute()) {
+            return file;
+        }
+        return workingDirectory == null ? null : new File(workingDirectory, reportFile);
+    }
+
+    /**
+     * Writes the inventory as a JSON document, one statement at a time.
+     *
+     * @param file the report file
+     */
+    private void writeReport(File file) {
+        try {
+            File directory = file.getAbsoluteFile().getParentFile();
+            if (directory != null) {
+                Files.createDirectories(directory.toPath());
+            }
+            try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+                writer.write("{\n  \"statements\": [");
+                boolean first = true;
+                for (Map.Entry<String, InventoryEntry> entry : entries.entrySet()) {
+                    writer.write(first ? "\n" : ",\n");
+                    entry.getValue().write(writer, entry.getKey());
+                    first = false;
+                }
+                writer.write(String.format("\n  ],\n  \"omittedOccurrences\": %d\n}\n", omittedOccurrences));
+            }
+        } catch (IOException e) {
+            LOG.warn("Unable to write the SQL inventory {}", file, e);
+        }
+    }
+
+    /**
+     * Returns a short, stable hash of a statement fingerprint.
+     *
+     * @param fingerprintText the fingerprint text
+     * @return the first {@value #FINGERPRINT_LENGTH} hexadecimal digits of its SHA-256 digest
+     */
+    private static String hash(String fingerprintText) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(fingerprintText.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(FINGERPRINT_LENGTH);
+            for (int i = 0; i < FINGERPRINT_LENGTH / 2; i++) {
+                hex.append(String.format("%02x", digest[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Returns the name of the JDBC API used by a call, e.g. {@code JdbcClient.sql}.
+     *
+     * <p>Without semantic information, the type is taken from the declaration of the receiver,
+     * or else the receiver name is used.</p>
+     *
+     * @param mit the JDBC call receiving the SQL
+     * @return the simple owner type name and method name
+     */
+    private static String apiName(MethodInvocationTree mit) {
+        String methodName = JdbcStreamMethods.getMethodName(mit);
+        Type ownerType = JdbcStreamMethods.knownOwnerType(mit);
+        String owner = ownerType == null ? null : ownerType.name();
+        if (owner == null) {
+            ExpressionTree receiver = JdbcStreamMethods.getReceiver(mit);
+            owner = ClassMembers.declaredTypeName(receiver);
+            if (owner == null) {
+                owner = TransactionalScopes.simpleName(JdbcStreamMethods.skipParenthesesAndCasts(receiver));
+            }
+        }
+        return owner == null ? methodName : owner + "." + methodName;
+    }
+
+    /**
+     * One distinct statement of the inventory and where it is used.
+     */
+    private static final class InventoryEntry {
+
+        // Normalized SQL of the first occurrence, literal values included
+        private final String sql;
+        private final Set<String> apis = new LinkedHashSet<>();
+        private final List<String> files = new ArrayList<>();
+        private final List<Integer> lines = new ArrayList<>();
+        private long occurrences;
+        private boolean dynamic;
+
+        InventoryEntry(String sql) {
+            this.sql = sql;
+        }
+
+        /**
+         * Records one occurrence of the statement.
+         *
+         * @param api     the JDBC API running the statement
+         * @param file    the file of the occurrence
+         * @param line    the line of the SQL argument
+         * @param dynamic whether part of the SQL depends on runtime values
+         */
+        void add(String api, String file, int line, boolean dynamic) {
+            apis.add(api);
+            if (files.size() < MAX_LOCATIONS) {
+                files.add(file);
+                lines.add(line);
+            }
+            occurrences++;
+            this.dynamic |= dynamic;
+        }
+
+        /**
+         * Writes the statement as a JSON object.
+         *
+         * @param writer      the report writer
+         * @param fingerprint the fingerprint hash of the statement
+         * @throws IOException if writing fails
+         */
+        void write(Writer writer, String fingerprint) throws IOException {
+            writer.write(String.format("    {\"fingerprint\": \"%s\", \"sql\": \"%s\", \"dynamic\": %b, \"occurrences\": %d,\n",
+                fingerprint, JsonReports.escape(sql), dynamic, occurrences));
+            List<String> quotedApis = new ArrayList<>(apis.size());
+            apis.forEach(api -> quotedApis.add("\"" + JsonReports.escape(api) + "\""));
+            writer.write("      \"apis\": [" + String.join(", ", quotedApis) + "],\n");
+            writer.write("      \"locations\": [");
+            for (int i = 0; i < files.size(); i++) {
+                writer.write(String.format("%s{\"file\": \"%s\", \"line\": %d}",
+                    i == 0 ? "" : ", ", JsonReports.escape(files.get(i)), lines.get(i)));
+            }
+            writer.write("]}");
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package com.example.sonar.jdbc.checks;
+
+import org.sonar.plugins.java.api.semantic.Symbol;
+import org.sonar.plugins.java.api.tree.*;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Shared extraction and light-weight analysis of SQL passed to Spring JDBC.
+ *
+ * <p>Rules that look at the SQL text first locate the SQL argument of a call
+ * ({@link #sqlArgument(MethodInvocationTree)}), then resolve it to a string when it is
+ * built from literals, text blocks and constants ({@link #resolve(ExpressionTree)}), and
+ * finally inspect the {@linkplain #normalize(String) normalized} text with simple keyword
+ * matching. This is deliberately not a SQL parser: it only has to be good enough to tell
+ * whether a query restricts its rows.</p>
+ *
+ * @since 1.1.0
+ * @see JdbcStreamMethods
+ */
+final class SqlStatements {
+
+    private static final String METHOD_SQL = "sql";
+    private static final int MAX_RESOLUTION_DEPTH = 5;
+    private static final String PLACEHOLDER = "?";
+
+    // Spring JDBC and plain JDBC methods whose SQL is passed as the first argument
+    private static final Set<String> SQL_METHODS = Set.of(
+        METHOD_SQL, "query", "queryForObject", "queryForList", "queryForMap", "queryForRowSet", "queryForStream",
+        "update", "batchUpdate", "execute", "call",
+        "prepareStatement", "prepareCall", "executeQuery", "executeUpdate", "executeLargeUpdate", "addBatch"
+    );
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern LINE_COMMENT = Pattern.compile("--[^\\n]*");
+    private static final Pattern BLOCK_COMMENT = Pattern.compile("/\\*.*?\\*/", Pattern.DOTALL);
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    // Escape sequences of string literals, which constant resolution keeps as written
+    private static final Pattern ESCAPED_WHITESPACE = Pattern.compile("\\\\[nrtf]");
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("(?<![\\w.$:])\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\?(?:\\s*,\\s*\\?)+");
+    private static final Pattern MAIN_TABLE = Pattern.compile("\\bFROM\\s+([A-Z0-9_.\"`\\[\\]]+)");
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private SqlStatements() {
+        // Utility class - private constructor
+    }
+
+    /**
+     * Returns the expression holding the SQL of a Spring JDBC call.
+     *
+     * <p>For {@code JdbcClient} chains, this is the argument of the {@code sql(...)} call in the
+     * receiver chain. For {@code JdbcTemplate} and {@code NamedParameterJdbcTemplate}, it is the
+     * first argument when it is a {@code String} (or of unknown type).</p>
+     *
+     * @param mit the JDBC call, e.g. the terminal {@code list()} of a {@code JdbcClient} chain
+     * @return the SQL expression, or {@code null} if none is found
+     */
+    static ExpressionTree sqlArgument(MethodInvocationTree mit) {
+        MethodInvocationTree sqlCall = sqlCall(mit);
+        if (sqlCall != null) {
+            return sqlCall.arguments().get(0);
+        }
+        if (mit.arguments().isEmpty()) {
+            return null;
+        }
+        ExpressionTree first = mit.arguments().get(0);
+        if (first.symbolType().isUnknown() || first.symbolType().is("java.lang.String")) {
+            return first;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the SQL argument of the JDBC call that receives it, e.g. the argument of
+     * {@code JdbcClient.sql(...)}, {@code JdbcTemplate.queryForStream(...)} or
+     * {@code Connection.prepareStatement(...)}.
+     *
+     * <p>Unlike {@link #sqlArgument(MethodInvocationTree)}, the other calls of a
+     * {@code JdbcClient} chain return {@code null}, so that each SQL argument is found once.</p>
+     *
+     * @param mit the method invocation
+     * @return the SQL argument, or {@code null} if the call is not a JDBC call taking SQL
+     */
+    static ExpressionTree receivedSqlArgument(MethodInvocationTree mit) {
+        String methodName = JdbcStreamMethods.getMethodName(mit);
+        if (methodName == null || !SQL_METHODS.contains(methodName)) {
+            return null;
+        }
+        ExpressionTree sqlArgument = sqlArgument(mit);
+        if (sqlArgument == null || sqlArgument.parent() != mit.arguments() || !JdbcStreamMethods.isJdbcAccess(mit)) {
+            return null;
+        }
+        return sqlArgument;
+    }
+
+    /**
+     * Returns the {@code sql(...)} call of a {@code JdbcClient} chain.
+     *
+     * @param mit the call to start from, included in the search
+     * @return the single-argument {@code sql} invocation, or {@code null} if the chain has none
+     */
+    static MethodInvocationTree sqlCall(MethodInvocationTree mit) {
+        ExpressionTree current = mit;
+        for (int depth = 0; current != null && depth <= JdbcStreamMethods.MAX_CHAIN_DEPTH; depth++) {
+            current = JdbcStreamMethods.skipParenthesesAndCasts(current);
+            if (current == null || !current.is(Tree.Kind.METHOD_INVOCATION)) {
+                return null;
+            }
+            MethodInvocationTree call = (MethodInvocationTree) current;
+            if (METHOD_SQL.equals(JdbcStreamMethods.getMethodName(call)) && call.arguments().size() == 1) {
+                return call;
+            }
+            current = JdbcStreamMethods.getReceiver(call);
+        }
+        return null;
+    }
+
+    /**
+     * Resolves an expression to its string value when it is built only from compile-time
+     * constants, or from effectively final local variables initialized with them.
+     *
+     * @param expression the expression, may be {@code null}
+     * @return the string value, or {@code null} if it depends on runtime values
+     */
+    static String resolve(ExpressionTree expression) {
+        return resolve(expression, 0);
+    }
+
+    /**
+     * Resolves an expression to its string value, bounded by {@link #MAX_RESOLUTION_DEPTH}.
+     *
+     * @param expression the expression, may be {@code null}
+     * @param depth      the number of variables followed so far
+     * @return the string value, or {@code null} if it cannot be resolved
+     */
+    private static String resolve(ExpressionTree expression, int depth) {
+        ExpressionTree unwrapped = JdbcStreamMethods.skipParenthesesAndCasts(expression);
+        if (unwrapped == null || depth > MAX_RESOLUTION_DEPTH) {
+            return null;
+        }
+        Optional<String> constant = unwrapped.asConstant(String.class);
+        if (constant.isPresent()) {
+            return constant.get();
+        }
+        if (unwrapped.is(Tree.Kind.PLUS)) {
+            BinaryExpressionTree concatenation = (BinaryExpressionTree) unwrapped;
+            String left = resolve(concatenation.leftOperand(), depth);
+            String right = left == null ? null : resolve(concatenation.rightOperand(), depth);
+            return right == null ? null : left + right;
+        }
+        if (unwrapped.is(Tree.Kind.IDENTIFIER)) {
+            VariableTree declaration = effectivelyFinalDeclaration(((IdentifierTree) unwrapped).symbol());
+            return declaration == null ? null : resolve(declaration.initializer(), depth + 1);
+        }
+        return null;
+    }
+
+    /**
+     * Resolves an expression to SQL text in which the parts that depend on runtime values are
+     * replaced by a {@code ?} placeholder, e.g. {@code "SELECT * FROM orders WHERE id = " + id}
+     * becomes {@code SELECT * FROM orders WHERE id = ?}.
+     *
+     * @param expression the expression, may be {@code null}
+     * @return the SQL template, or {@code null} if no part of the expression is constant
+     * @see #resolve(ExpressionTree)
+     */
+    static String resolveTemplate(ExpressionTree expression) {
+        return resolveTemplate(expression, 0);
+    }
+
+    /**
+     * Resolves an expression to an SQL template, bounded by {@link #MAX_RESOLUTION_DEPTH}.
+     *
+     * @param expression the expression, may be {@code null}
+     * @param depth      the number of variables followed so far
+     * @return the SQL template, or {@code null} if no part of the expression is constant
+     */
+    private static String resolveTemplate(ExpressionTree expression, int depth) {
+        String constant = resolve(expression, depth);
+        ExpressionTree unwrapped = JdbcStreamMethods.skipParenthesesAndCasts(expression);
+        if (constant != null || unwrapped == null || depth > MAX_RESOLUTION_DEPTH) {
+            return constant;
+        }
+        if (unwrapped.is(Tree.Kind.PLUS)) {
+            BinaryExpressionTree concatenation = (BinaryExpressionTree) unwrapped;
+            String left = resolveTemplate(concatenation.leftOperand(), depth);
+            String right = resolveTemplate(concatenation.rightOperand(), depth);
+            if (left == null && right == null) {
+                return null;
+            }
+            return (left == null ? PLACEHOLDER : left) + (right == null ? PLACEHOLDER : right);
+        }
+        if (unwrapped.is(Tree.Kind.IDENTIFIER)) {
+            VariableTree declaration = effectivelyFinalDeclaration(((IdentifierTree) unwrapped).symbol());
+            return declaration == null ? null : resolveTemplate(declaration.initializer(), depth + 1);
+        }
+        return null;
+    }
+
+    /**
+     * Replaces a reference to an effectively final local variable by its initializer.
+     *
+     * @param expression the expression, may be {@code null}
+     * @return the initializer of the referenced variable, or the unwrapped expression itself
+     */
+    static ExpressionTree followLocalVariable(ExpressionTree expression) {
+        ExpressionTree unwrapped = JdbcStreamMethods.skipParenthesesAndCasts(expression);
+        if (unwrapped != null && unwrapped.is(Tree.Kind.IDENTIFIER)) {
+            VariableTree declaration = effectivelyFinalDeclaration(((IdentifierTree) unwrapped).symbol());
+            if (declaration != null) {
+                return JdbcStreamMethods.skipParenthesesAndCasts(declaration.initializer());
+            }
+        }
+        return unwrapped;
+    }
+
+    /**
+     * Returns the declaration of a local variable that is initialized and never reassigned.
+     *
+     * @param symbol the variable symbol
+     * @return the declaration, or {@code null} for fields, parameters and reassigned variables
+     */
+    private static VariableTree effectivelyFinalDeclaration(Symbol symbol) {
+        if (!symbol.isVariableSymbol() || !symbol.isLocalVariable()) {
+            return null;
+        }
+        VariableTree declaration = ((Symbol.VariableSymbol) symbol).declaration();
+        if (declaration == null || declaration.initializer() == null) {
+            return null;
+        }
+        for (IdentifierTree usage : symbol.usages()) {
+            Tree parent = usage.parent();
+            if (parent instanceof AssignmentExpressionTree && ((AssignmentExpressionTree) parent).variable() == usage) {
+                return null;
+            }
+        }
+        return declaration;
+    }
+
+    /**
+     * Normalizes SQL for keyword matching: string literals are replaced by {@code ?}, comments
+     * are removed, whitespace and whitespace escape sequences are collapsed and the text is
+     * converted to upper case.
+     *
+     * @param sql the raw SQL
+     * @return the normalized SQL
+     */
+    static String normalize(String sql) {
+        String withoutLiterals = STRING_LITERAL.matcher(sql).replaceAll("?");
+        String unescaped = ESCAPED_WHITESPACE.matcher(withoutLiterals).replaceAll(" ");
+        String withoutComments = BLOCK_COMMENT.matcher(LINE_COMMENT.matcher(unescaped).replaceAll(" ")).replaceAll(" ");
+        return WHITESPACE.matcher(withoutComments).replaceAll(" ").trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Normalizes SQL like {@link #normalize(String)}, but removes string literals instead of
+     * replacing them by {@code ?}, so that every remaining {@code ?} is a bind parameter.
+     *
+     * @param sql the raw SQL
+     * @return the normalized SQL without string literals
+     */
+    static String normalizeParameters(String sql) {
+        return normalize(STRING_LITERAL.matcher(sql).replaceAll(" "));
+    }
+
+    /**
+     * Reduces normalized SQL to the shape shared by all executions of the same statement:
+     * numeric literals are replaced by {@code ?} and lists of placeholders by a single one.
+     *
+     * @param normalizedSql the normalized SQL
+     * @return the fingerprint text, equal for statements that only differ by their values
+     */
+    static String fingerprint(String normalizedSql) {
+        String withoutNumbers = NUMERIC_LITERAL.matcher(normalizedSql).replaceAll(PLACEHOLDER);
+        return PLACEHOLDER_LIST.matcher(withoutNumbers).replaceAll(PLACEHOLDER);
+    }
+
+    /**
+     * Checks if normalized SQL contains a keyword or keyword sequence as whole words.
+     *
+     * @param normalizedSql the normalized SQL
+     * @param keyword       the upper-case keyword, e.g. {@code FETCH FIRST}
+     * @return {@code true} if the keyword occurs
+     */
+    static boolean containsKeyword(String normalizedSql, String keyword) {
+        int index = normalizedSql.indexOf(keyword);
+        while (index >= 0) {
+            int end = index + keyword.length();
+            boolean startsWord = index == 0 || !isWordCharacter(normalizedSql.charAt(index - 1));
+            boolean endsWord = end == normalizedSql.length() || !isWordCharacter(normalizedSql.charAt(end));
+            if (startsWord && endsWord) {
+                return true;
+            }
+            index = normalizedSql.indexOf(keyword, index + 1);
+        }
+        return false;
+    }
+
+    /**
+     * Returns the first table of the {@code FROM} clause.
+     *
+     * @param normalizedSql the normalized SQL
+     * @return the lower-case table name without schema and quotes, or {@code null} if there is no {@code FROM}
+     */
+    static String mainTable(String normalizedSql) {
+        Matcher matcher = MAIN_TABLE.matcher(normalizedSql);
+        if (!matcher.find()) {
+            return null;
+        }
+        String table = matcher.group(1).replaceAll("[\"`\\[\\]]", "");
+        return table.substring(table.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Checks if a character can be part of an SQL identifier or keyword.
+     *
+     * @param c the character
+     * @return {@code true} for letters, digits and underscores
+     */
+    private static boolean isWordCharacter(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+}
@@ -0,0 +1,378 @@
+package com.example.sonar.jdbc.checks;
+
+import org.sonar.plugins.java.api.semantic.Symbol;
+import org.sonar.plugins.java.api.tree.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Shared detection of the code that runs while a connection-holding stream is open.
+ *
+ * <p>The consumption scope of a stream returned by a method of {@link JdbcStreamMethods} is
+ * made of:</p>
+ * <ul>
+ *   <li>the arguments (typically lambdas) of the operations chained on the stream, such as
+ *       {@code forEach}, {@code map} or {@code collect}</li>
+ *   <li>for a stream stored in a local variable, the arguments of operations chained on each
+ *       usage, and the body of a {@code while (iterator.hasNext())} loop over its iterator</li>
+ *   <li>for a stream declared as try-with-resources resource, the whole try block</li>
+ * </ul>
+ *
+ * <p>Calls found in a consumption scope are also followed into methods declared in the same
+ * file, so that work delegated to a local helper is attributed to the call of that helper.</p>
+ *
+ * @since 1.1.0
+ * @see JdbcStreamMethods
+ */
+final class StreamConsumers {
+
+    private static final int MAX_HELPER_DEPTH = 3;
+    private static final String METHOD_HAS_NEXT = "hasNext";
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private StreamConsumers() {
+        // Utility class - private constructor
+    }
+
+    /**
+     * Returns the trees that run while the stream returned by an acquisition is open.
+     *
+     * @param acquisition a connection-holding stream acquisition
+     * @return the consumption scopes, possibly empty when the stream escapes the method
+     */
+    static List<Tree> consumptionScopes(MethodInvocationTree acquisition) {
+        List<Tree> scopes = new ArrayList<>();
+        List<MethodInvocationTree> operations = new ArrayList<>();
+        VariableTree variable = localVariableInitializedWith(collectChainedCalls(acquisition, operations));
+        collectArguments(operations, scopes);
+        if (variable == null) {
+            return scopes;
+        }
+        TryStatementTree tryStatement = declaringTryStatement(variable);
+        if (tryStatement != null) {
+            scopes.add(tryStatement.block());
+            return scopes;
+        }
+        for (IdentifierTree usage : variable.symbol().usages()) {
+            List<MethodInvocationTree> usageOperations = new ArrayList<>();
+            Tree whileLoop = whileLoopOnHasNext(collectChainedCalls(usage, usageOperations));
+            collectArguments(usageOperations, scopes);
+            if (whileLoop != null) {
+                scopes.add(((WhileStatementTree) whileLoop).statement());
+            }
+        }
+        return scopes;
+    }
+
+    /**
+     * Returns the operations applied to the stream returned by an acquisition: the calls
+     * chained on it and, when it is stored in a local variable, the calls chained on each
+     * usage of that variable.
+     *
+     * @param acquisition a connection-holding stream acquisition
+     * @return the chained calls, innermost first for each chain
+     */
+    static List<MethodInvocationTree> chainedOperations(MethodInvocationTree acquisition) {
+        List<MethodInvocationTree> operations = new ArrayList<>();
+        VariableTree variable = localVariableInitializedWith(collectChainedCalls(acquisition, operations));
+        if (variable != null) {
+            for (IdentifierTree usage : variable.symbol().usages()) {
+                collectChainedCalls(usage, operations);
+            }
+        }
+        return operations;
+    }
+
+    /**
+     * Searches consumption scopes for calls matching a predicate, following calls to methods
+     * declared in the same file.
+     *
+     * @param scopes the consumption scopes
+     * @param target the predicate identifying the calls to find
+     * @return the matches, in source order of their call sites
+     */
+    static List<Match> findCalls(List<Tree> scopes, Predicate<MethodInvocationTree> target) {
+        List<Match> matches = new ArrayList<>();
+        for (Tree scope : scopes) {
+            scope.accept(new ScopeVisitor(target, matches));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the local variable initialized with an expression.
+     *
+     * @param expression the expression
+     * @return the local variable, or {@code null} if the expression is not a local variable initializer
+     */
+    private static VariableTree localVariableInitializedWith(Tree expression) {
+        Tree parent = expression.parent();
+        if (parent == null || !parent.is(Tree.Kind.VARIABLE) || ((VariableTree) parent).initializer() != expression) {
+            return null;
+        }
+        VariableTree variable = (VariableTree) parent;
+        return variable.symbol().isLocalVariable() ? variable : null;
+    }
+
+    /**
+     * Walks up the operations chained on a stream expression.
+     *
+     * @param start      the stream expression
+     * @param operations the list receiving each chained call
+     * @return the outermost call of the chain, or {@code start} if nothing is chained on it
+     */
+    private static Tree collectChainedCalls(Tree start, List<MethodInvocationTree> operations) {
+        Tree current = start;
+        for (int depth = 0; depth <= JdbcStreamMethods.MAX_CHAIN_DEPTH; depth++) {
+            Tree parent = current.parent();
+            while (parent != null && parent.is(Tree.Kind.PARENTHESIZED_EXPRESSION, Tree.Kind.TYPE_CAST)) {
+                current = parent;
+                parent = parent.parent();
+            }
+            if (parent == null || !parent.is(Tree.Kind.MEMBER_SELECT) || parent.parent() == null ||
+                !parent.parent().is(Tree.Kind.METHOD_INVOCATION)) {
+                return current;
+            }
+            MethodInvocationTree chained = (MethodInvocationTree) parent.parent();
+            operations.add(chained);
+            current = chained;
+        }
+        return current;
+    }
+
+    /**
+     * Adds the arguments of calls to a list of scopes.
+     *
+     * @param calls  the calls
+     * @param scopes the list receiving the arguments
+     */
+    private static void collectArguments(List<MethodInvocationTree> calls, List<Tree> scopes) {
+        for (MethodInvocationTree call : calls) {
+            scopes.addAll(call.arguments());
+        }
+    }
+
+    /**
+     * Returns the try-with-resources statement declaring a variable as resource.
+     *
+     * @param variable the variable
+     * @return the try statement, or {@code null} if the variable is not a resource
+     */
+    private static TryStatementTree declaringTryStatement(VariableTree variable) {
+        Tree declarationParent = variable.parent();
+        if (declarationParent != null && declarationParent.parent() != null &&
+            declarationParent.parent().is(Tree.Kind.TRY_STATEMENT)) {
+            TryStatementTree tryStatement = (TryStatementTree) declarationParent.parent();
+            if (tryStatement.resourceList().contains(variable)) {
+                return tryStatement;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the {@code while} loop whose condition is a {@code hasNext()} call.
+     *
+     * @param tree the outermost call of a chain on an iterator variable
+     * @return the loop, or {@code null} if the tree is not such a condition
+     */
+    private static Tree whileLoopOnHasNext(Tree tree) {
+        if (!tree.is(Tree.Kind.METHOD_INVOCATION) ||
+            !METHOD_HAS_NEXT.equals(JdbcStreamMethods.getMethodName((MethodInvocationTree) tree))) {
+            return null;
+        }
+        Tree parent = tree.parent();
+        if (parent != null && parent.is(Tree.Kind.WHILE_STATEMENT) && ((WhileStatementTree) parent).condition() == tree) {
+            return parent;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the body of a method declared in the analyzed file.
+     *
+     * @param symbol the symbol of an invoked or referenced method
+     * @return the body, or {@code null} for unknown, abstract and external methods
+     */
+    private static BlockTree localBody(Symbol symbol) {
+        if (!symbol.isMethodSymbol() || symbol.isUnknown()) {
+            return null;
+        }
+        MethodTree declaration = ((Symbol.MethodSymbol) symbol).declaration();
+        return declaration == null ? null : declaration.block();
+    }
+
+    /**
+     * Returns the body of the local method invoked by a call.
+     *
+     * <p>When the invoked method cannot be resolved, typically because an argument is a lambda
+     * parameter of unknown type, an unqualified or {@code this.} call is matched by name and
+     * number of parameters against the methods of the enclosing class.</p>
+     *
+     * @param call the method invocation
+     * @return the body, or {@code null} if the invoked method is not declared in the analyzed file
+     */
+    private static BlockTree localBody(MethodInvocationTree call) {
+        Symbol.MethodSymbol symbol = call.methodSymbol();
+        if (!symbol.isUnknown()) {
+            return localBody(symbol);
+        }
+        ExpressionTree receiver = JdbcStreamMethods.getReceiver(call);
+        if (receiver != null && !(receiver.is(Tree.Kind.IDENTIFIER) && "this".equals(((IdentifierTree) receiver).name()))) {
+            return null;
+        }
+        String name = JdbcStreamMethods.getMethodName(call);
+        Tree current = call.parent();
+        while (current != null && !current.is(Tree.Kind.CLASS, Tree.Kind.ENUM, Tree.Kind.RECORD, Tree.Kind.INTERFACE)) {
+            current = current.parent();
+        }
+        if (current == null) {
+            return null;
+        }
+        for (Tree member : ((ClassTree) current).members()) {
+            if (member.is(Tree.Kind.METHOD)) {
+                MethodTree method = (MethodTree) member;
+                if (method.simpleName().name().equals(name) && method.parameters().size() == call.arguments().size()) {
+                    return method.block();
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A call found in a consumption scope.
+     */
+    static final class Match {
+
+        private final Tree site;
+        private final MethodInvocationTree target;
+
+        Match(Tree site, MethodInvocationTree target) {
+            this.site = site;
+            this.target = target;
+        }
+
+        /**
+         * Returns the tree in the consumption scope: the matching call itself, or the call or
+         * method reference leading to the local helper that performs it.
+         *
+         * @return the call site
+         */
+        Tree site() {
+            return site;
+        }
+
+        /**
+         * Returns the matching call.
+         *
+         * @return the call, inside a local helper when {@link #isIndirect()}
+         */
+        MethodInvocationTree target() {
+            return target;
+        }
+
+        /**
+         * Checks if the matching call is performed by a local helper method.
+         *
+         * @return {@code true} if the site is a helper call or method reference
+         */
+        boolean isIndirect() {
+            return site != target;
+        }
+
+        /**
+         * Returns the name of the helper method invoked or referenced at the site.
+         *
+         * @return the method name, or {@code null} for direct matches
+         */
+        String helperName() {
+            if (site.is(Tree.Kind.METHOD_REFERENCE)) {
+                return ((MethodReferenceTree) site).method().name();
+            }
+            return isIndirect() ? JdbcStreamMethods.getMethodName((MethodInvocationTree) site) : null;
+        }
+    }
+
+    /**
+     * Finds matching calls in a consumption scope, descending into local helper methods.
+     */
+    private static final class ScopeVisitor extends BaseTreeVisitor {
+
+        private final Predicate<MethodInvocationTree> target;
+        private final List<Match> matches;
+
+        ScopeVisitor(Predicate<MethodInvocationTree> target, List<Match> matches) {
+            this.target = target;
+            this.matches = matches;
+        }
+
+        /**
+         * Records matching calls and calls of local helpers performing one.
+         *
+         * @param tree the method invocation
+         */
+        @Override
+        public void visitMethodInvocation(MethodInvocationTree tree) {
+            if (target.test(tree)) {
+                matches.add(new Match(tree, tree));
+            } else {
+                MethodInvocationTree inHelper = findInHelper(localBody(tree), new HashSet<>(), 0);
+                if (inHelper != null) {
+                    matches.add(new Match(tree, inHelper));
+                }
+            }
+            super.visitMethodInvocation(tree);
+        }
+
+        /**
+         * Records references to local helpers performing a matching call.
+         *
+         * @param tree the method reference
+         */
+        @Override
+        public void visitMethodReference(MethodReferenceTree tree) {
+            MethodInvocationTree inHelper = findInHelper(localBody(tree.method().symbol()), new HashSet<>(), 0);
+            if (inHelper != null) {
+                matches.add(new Match(tree, inHelper));
+            }
+            super.visitMethodReference(tree);
+        }
+
+        /**
+         * Searches the body of a local method, and the local methods it calls, for a matching call.
+         *
+         * @param body    the body of the method, {@code null} if it is not declared in the analyzed file
+         * @param visited the bodies already searched
+         * @param depth   the number of helpers followed so far
+         * @return the first matching call, or {@code null} if there is none
+         */
+        private MethodInvocationTree findInHelper(BlockTree body, Set<Tree> visited, int depth) {
+            if (body == null || depth >= MAX_HELPER_DEPTH || !visited.add(body)) {
+                return null;
+            }
+            MethodInvocationTree[] found = {null};
+            body.accept(new BaseTreeVisitor() {
+                @Override
+                public void visitMethodInvocation(MethodInvocationTree tree) {
+                    if (found[0] != null) {
+                        return;
+                    }
+                    if (target.test(tree)) {
+                        found[0] = tree;
+                        return;
+                    }
+                    found[0] = findInHelper(localBody(tree), visited, depth + 1);
+                    super.visitMethodInvocation(tree);
+                }
+            });
+            return found[0];
+        }
+    }
+}
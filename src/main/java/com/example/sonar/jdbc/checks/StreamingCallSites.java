@@ -0,0 +1,57 @@
+package com.example.sonar.jdbc.checks;
+
+
+/**
+ * Counts the connection-holding stream call sites found in each module.
+ *
+ * <p>{@link SpringJdbcStreamLeakCheck} records the call sites of every file while the Java
+ * files are analyzed, and the DataSource configuration sensor consumes the count of the same
+ * module afterwards, to compare the connection pool size with the number of places that can
+ * hold a connection for the whole duration of a stream. The counts are kept by file URI in
+ * the {@linkplain FileRecords registry} shared with the connection pressure measures, so the
+ * sensor of each module sums those of its own files.</p>
+ *
+ * <p>The count is only complete when {@link SpringJdbcStreamLeakCheck} is active and every
+ * file of the module is analyzed.</p>
+ *
+ * @since 1.1.0
+ * @see DataSourceConfigurationCheck
+ */
+public final class StreamingCallSites {
+
+    private static final FileRecords<Integer> RECORDS = new FileRecords<>("streamingCallSites");
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private StreamingCallSites() {
+        // Utility class - private constructor
+    }
+
+    /**
+     * Records the streaming call sites of one file, replacing those of a previous analysis.
+     *
+     * @param fileUri   the URI of the file
+     * @param callSites the number of streaming call sites of the file
+     */
+    static void record(String fileUri, int callSites) {
+        RECORDS.record(fileUri, callSites);
+    }
+
+    /**
+     * Returns the number of streaming call sites of the files of a module and forgets them.
+     *
+     * @param fileUris the URIs of the files of the module
+     * @return the number of call sites recorded for these files, {@code 0} if none
+     */
+    public static int consume(Iterable<String> fileUris) {
+        int callSites = 0;
+        for (String fileUri : fileUris) {
+            Integer fileCallSites = RECORDS.consume(fileUri);
+            if (fileCallSites != null) {
+                callSites += fileCallSites;
+            }
+        }
+        return callSites;
+    }
+}
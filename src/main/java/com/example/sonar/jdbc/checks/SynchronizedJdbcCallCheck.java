@@ -0,0 +1,153 @@
+package com.example.sonar.jdbc.checks;
+
+import org.sonar.check.Rule;
+import org.sonar.check.RuleProperty;
+import org.sonar.plugins.java.api.IssuableSubscriptionVisitor;
+import org.sonar.plugins.java.api.JavaFileScannerContext;
+import org.sonar.plugins.java.api.JavaVersion;
+import org.sonar.plugins.java.api.JavaVersionAwareVisitor;
+import org.sonar.plugins.java.api.tree.*;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SonarQube check to detect JDBC streams consumed inside {@code synchronized} code on virtual threads.
+ *
+ * <p>From Java 21 to Java 23, a virtual thread blocking inside a {@code synchronized} method or
+ * block stays pinned to its carrier thread. Iterating a JDBC stream there pins the carrier for
+ * the whole cursor lifetime, every fetch round-trip included; a few such threads exhaust the
+ * carrier pool and stall all other virtual threads. {@code java.util.concurrent.locks.ReentrantLock}
+ * does not pin.</p>
+ *
+ * <p>The rule reports connection-holding stream acquisitions inside {@code synchronized} methods
+ * and blocks, lambdas included. With the {@code allJdbcCalls} property, every JDBC call is
+ * reported. It only runs on projects whose Java version is 21 to 23: Java 24 no longer pins
+ * virtual threads in {@code synchronized} (JEP 491).</p>
+ *
+ * <h2>Example of Noncompliant Code</h2>
+ * <pre>{@code
+ * synchronized void export() {
+ *     try (Stream<Order> orders = jdbcTemplate.queryForStream(SQL, ORDER_MAPPER)) { // Noncompliant
+ *         orders.forEach(writer::write);
+ *     }
+ * }
+ * }</pre>
+ *
+ * <h2>Example of Compliant Code</h2>
+ * <pre>{@code
+ * void export() {
+ *     lock.lock();
+ *     try (Stream<Order> orders = jdbcTemplate.queryForStream(SQL, ORDER_MAPPER)) {
+ *         orders.forEach(writer::write);
+ *     } finally {
+ *         lock.unlock();
+ *     }
+ * }
+ * }</pre>
+ *
+ * @since 1.1.0
+ * @see JdbcStreamMethods
+ */
+@Rule(key = "SynchronizedJdbcCall")
+public class SynchronizedJdbcCallCheck extends IssuableSubscriptionVisitor implements JavaVersionAwareVisitor {
+
+    private static final String MESSAGE_STREAM =
+        "Replace this \"synchronized\" with a ReentrantLock; consuming this JDBC stream pins the virtual thread's carrier for the whole cursor lifetime.";
+    private static final String MESSAGE_CALL =
+        "Replace this \"synchronized\" with a ReentrantLock; this JDBC call pins the virtual thread's carrier while it waits on the database.";
+    private static final String SECONDARY_SYNCHRONIZED = "Monitor held here.";
+
+    /**
+     * Whether all JDBC calls are reported, and not only connection-holding streams.
+     */
+    @RuleProperty(
+        key = "allJdbcCalls",
+        description = "Report every JDBC call inside synchronized code, not only connection-holding streams",
+        defaultValue = "false")
+    public boolean allJdbcCalls = false;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param version the Java version of the analyzed project
+     * @return {@code true} for Java 21 to 23, where virtual threads are pinned in {@code synchronized}
+     */
+    @Override
+    public boolean isCompatibleWithJavaVersion(JavaVersion version) {
+        return version.isJava21Compatible() && !version.isJava24Compatible();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return a singleton list containing {@link Tree.Kind#METHOD_INVOCATION}
+     */
+    @Override
+    public List<Tree.Kind> nodesToVisit() {
+        return Collections.singletonList(Tree.Kind.METHOD_INVOCATION);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Reports stream acquisitions, or all JDBC calls when configured, that run while a
+     * monitor is held.</p>
+     *
+     * @param tree the AST node to visit, guaranteed to be a {@link MethodInvocationTree}
+     */
+    @Override
+    public void visitNode(Tree tree) {
+        MethodInvocationTree mit = (MethodInvocationTree) tree;
+        boolean stream = JdbcStreamMethods.isConnectionHoldingStream(mit);
+        if (!stream && !(allJdbcCalls && JdbcStreamMethods.isJdbcAccess(mit))) {
+            return;
+        }
+        Tree monitor = enclosingSynchronized(mit);
+        if (monitor != null) {
+            reportIssue(mit, stream ? MESSAGE_STREAM : MESSAGE_CALL,
+                List.of(new JavaFileScannerContext.Location(SECONDARY_SYNCHRONIZED, monitor)), null);
+        }
+    }
+
+    /**
+     * Returns the {@code synchronized} construct holding a monitor while a tree runs.
+     *
+     * <p>Lambdas are looked through, since callbacks such as {@code forEach} consumers run
+     * while the monitor is held.</p>
+     *
+     * @param tree the tree to start from
+     * @return the {@code synchronized} keyword of the statement or method, or {@code null} if there is none
+     */
+    private static Tree enclosingSynchronized(Tree tree) {
+        Tree current = tree.parent();
+        while (current != null) {
+            if (current.is(Tree.Kind.SYNCHRONIZED_STATEMENT)) {
+                return ((SynchronizedStatementTree) current).synchronizedKeyword();
+            }
+            if (current.is(Tree.Kind.METHOD, Tree.Kind.CONSTRUCTOR)) {
+                return synchronizedModifier(((MethodTree) current).modifiers());
+            }
+            if (current.is(Tree.Kind.CLASS, Tree.Kind.ENUM, Tree.Kind.RECORD, Tree.Kind.INTERFACE)) {
+                return null;
+            }
+            current = current.parent();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the {@code synchronized} modifier of a method.
+     *
+     * @param modifiers the method modifiers
+     * @return the modifier keyword, or {@code null} if the method is not synchronized
+     */
+    private static Tree synchronizedModifier(ModifiersTree modifiers) {
+        for (ModifierKeywordTree modifier : modifiers.modifiers()) {
+            if (modifier.modifier() == Modifier.SYNCHRONIZED) {
+                return modifier;
+            }
+        }
+        return null;
+    }
+}
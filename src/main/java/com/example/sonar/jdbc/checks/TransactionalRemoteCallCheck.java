@@ -0,0 +1,156 @@
+package com.example.sonar.jdbc.checks;
+
+import org.sonar.check.Rule;
+import org.sonar.check.RuleProperty;
+import org.sonar.plugins.java.api.IssuableSubscriptionVisitor;
+import org.sonar.plugins.java.api.JavaFileScannerContext;
+import org.sonar.plugins.java.api.tree.*;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SonarQube check to detect remote or blocking calls inside transactional scopes that access the database.
+ *
+ * <p>A Spring-managed transaction binds a pooled connection to the thread from its start until
+ * commit or rollback. An HTTP call between two JDBC statements therefore pins the connection
+ * for the full remote latency, and under load the pool runs dry with
+ * {@code connection-timeout} errors even though the database itself is idle.</p>
+ *
+ * <p>A transactional scope is a method or class annotated with {@code @Transactional}, or a
+ * callback passed to {@code TransactionTemplate.execute()} (see {@link TransactionalScopes}).
+ * An issue is raised on every remote call in a scope that also contains JDBC access, with the
+ * transaction boundary as secondary location.</p>
+ *
+ * <p>Remote and blocking calls are configured with the {@code remoteCalls} rule property as a
+ * comma-separated list of fully qualified type names, each optionally followed by
+ * {@code #methodName}. Methods of interfaces annotated with {@code @FeignClient} are always
+ * treated as remote calls.</p>
+ *
+ * <h2>Example of Noncompliant Code</h2>
+ * <pre>{@code
+ * @Transactional
+ * public void placeOrder(Order order) {
+ *     jdbcTemplate.update("INSERT INTO orders ...", ...);
+ *     restTemplate.postForObject(paymentUrl, order, Receipt.class); // Noncompliant
+ *     jdbcTemplate.update("UPDATE orders SET status = 'paid' ...", ...);
+ * }
+ * }</pre>
+ *
+ * <h2>Example of Compliant Code</h2>
+ * <pre>{@code
+ * public void placeOrder(Order order) {
+ *     orderWriter.insert(order);                                  // own short transaction
+ *     Receipt receipt = restTemplate.postForObject(paymentUrl, order, Receipt.class);
+ *     orderWriter.markPaid(order, receipt);                       // own short transaction
+ * }
+ * }</pre>
+ *
+ * @since 1.1.0
+ * @see TransactionalScopes
+ */
+@Rule(key = "TransactionalRemoteCall")
+public class TransactionalRemoteCallCheck extends IssuableSubscriptionVisitor {
+
+    private static final String MESSAGE =
+        "Move this remote call out of the transaction; it holds a pooled database connection for the whole call.";
+    private static final String SECONDARY_BOUNDARY = "Transaction boundary.";
+
+    /**
+     * Comma-separated list of remote or blocking APIs, as {@code fully.qualified.Type} or
+     * {@code fully.qualified.Type#method}.
+     */
+    @RuleProperty(
+        key = "remoteCalls",
+        description = "Comma-separated list of remote or blocking APIs: fully qualified type names, optionally followed by #method",
+        defaultValue = RemoteCalls.DEFAULT_REMOTE_CALLS)
+    public String remoteCalls = RemoteCalls.DEFAULT_REMOTE_CALLS;
+
+    private RemoteCalls remoteApis;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return a singleton list containing {@link Tree.Kind#METHOD_INVOCATION}
+     */
+    @Override
+    public List<Tree.Kind> nodesToVisit() {
+        return Collections.singletonList(Tree.Kind.METHOD_INVOCATION);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Reports remote calls whose enclosing transactional scope also performs JDBC access.</p>
+     *
+     * @param tree the AST node to visit, guaranteed to be a {@link MethodInvocationTree}
+     */
+    @Override
+    public void visitNode(Tree tree) {
+        MethodInvocationTree mit = (MethodInvocationTree) tree;
+        if (!remoteApis().isRemoteCall(mit)) {
+            return;
+        }
+        Tree boundary = TransactionalScopes.enclosingTransactionBoundary(mit);
+        if (boundary == null) {
+            return;
+        }
+        // A TransactionTemplate callback delimits its own scope; annotations cover the enclosing method
+        Tree scope = boundary.is(Tree.Kind.METHOD_INVOCATION) ? ((MethodInvocationTree) boundary).arguments() : enclosingMethod(mit);
+        if (scope != null && containsJdbcAccess(scope)) {
+            reportIssue(mit, MESSAGE, List.of(new JavaFileScannerContext.Location(SECONDARY_BOUNDARY, boundary)), null);
+        }
+    }
+
+    /**
+     * Returns the remote APIs configured by the {@code remoteCalls} rule property.
+     *
+     * @return the parsed remote calls
+     */
+    private RemoteCalls remoteApis() {
+        if (remoteApis == null) {
+            remoteApis = RemoteCalls.parse(remoteCalls);
+        }
+        return remoteApis;
+    }
+
+    /**
+     * Checks if a scope contains a JDBC call.
+     *
+     * @param scope the transactional scope
+     * @return {@code true} if any invocation in the scope accesses the database
+     */
+    private boolean containsJdbcAccess(Tree scope) {
+        boolean[] found = {false};
+        scope.accept(new BaseTreeVisitor() {
+            @Override
+            public void visitMethodInvocation(MethodInvocationTree tree) {
+                if (JdbcStreamMethods.isJdbcAccess(tree)) {
+                    found[0] = true;
+                } else {
+                    super.visitMethodInvocation(tree);
+                }
+            }
+
+            @Override
+            public void visitClass(ClassTree tree) {
+                // Nested classes do not run in the transaction
+            }
+        });
+        return found[0];
+    }
+
+    /**
+     * Returns the method or constructor declaration enclosing a tree.
+     *
+     * @param tree the tree
+     * @return the enclosing method, or {@code null} outside of methods
+     */
+    private static Tree enclosingMethod(Tree tree) {
+        Tree current = tree.parent();
+        while (current != null && !current.is(Tree.Kind.METHOD, Tree.Kind.CONSTRUCTOR)) {
+            current = current.parent();
+        }
+        return current;
+    }
+}
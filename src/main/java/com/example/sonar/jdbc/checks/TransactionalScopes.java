@@ -0,0 +1,196 @@
+package com.example.sonar.jdbc.checks;
+
+import org.sonar.plugins.java.api.semantic.Type;
+import org.sonar.plugins.java.api.tree.*;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Shared detection of Spring-managed transactional scopes.
+ *
+ * <p>A tree is inside a transactional scope when it is lexically contained in a method
+ * or class annotated with {@code @Transactional}, or in a callback passed to
+ * {@code TransactionTemplate.execute()} / {@code executeWithoutResult()}. Transactions
+ * explicitly suspended with {@code Propagation.NOT_SUPPORTED} or {@code Propagation.NEVER}
+ * do not count.</p>
+ *
+ * <p>Like the stream detection of {@link JdbcStreamMethods}, semantic type information
+ * is used when available, with a fallback on simple names otherwise.</p>
+ *
+ * @since 1.1.0
+ * @see JdbcStreamMethods
+ */
+final class TransactionalScopes {
+
+    private static final String TRANSACTIONAL = "Transactional";
+    private static final Set<String> FQN_TRANSACTIONAL_ANNOTATIONS = Set.of(
+        "org.springframework.transaction.annotation.Transactional",
+        "jakarta.transaction.Transactional",
+        "javax.transaction.Transactional"
+    );
+
+    private static final String FQN_TRANSACTION_OPERATIONS =
+        "org.springframework.transaction.support.TransactionOperations";
+    private static final Set<String> TRANSACTION_TEMPLATE_METHODS = Set.of("execute", "executeWithoutResult");
+
+    // Propagation values that run the annotated method without a transaction
+    private static final Set<String> NON_TRANSACTIONAL_PROPAGATIONS = Set.of("NOT_SUPPORTED", "NEVER");
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private TransactionalScopes() {
+        // Utility class - private constructor
+    }
+
+    /**
+     * Returns the innermost transaction boundary enclosing a tree.
+     *
+     * <p>The boundary is the {@code @Transactional} annotation of the enclosing method or
+     * class, or the {@code TransactionTemplate} invocation whose callback contains the tree.</p>
+     *
+     * @param tree the tree to start from
+     * @return the boundary tree, or {@code null} if the tree does not run in a transaction
+     */
+    static Tree enclosingTransactionBoundary(Tree tree) {
+        Tree child = tree;
+        Tree current = tree.parent();
+        while (current != null) {
+            if (current.is(Tree.Kind.METHOD_INVOCATION) && isTransactionTemplateCallback((MethodInvocationTree) current, child)) {
+                return current;
+            }
+            if (current.is(Tree.Kind.METHOD, Tree.Kind.CONSTRUCTOR)) {
+                AnnotationTree annotation = transactionalAnnotation(((MethodTree) current).modifiers());
+                if (annotation != null) {
+                    return isNonTransactional(annotation) ? null : annotation;
+                }
+            }
+            if (current.is(Tree.Kind.CLASS, Tree.Kind.INTERFACE, Tree.Kind.ENUM, Tree.Kind.RECORD)) {
+                AnnotationTree annotation = transactionalAnnotation(((ClassTree) current).modifiers());
+                if (annotation != null) {
+                    return isNonTransactional(annotation) ? null : annotation;
+                }
+            }
+            child = current;
+            current = current.parent();
+        }
+        return null;
+    }
+
+    /**
+     * Checks if a tree runs within a transaction.
+     *
+     * @param tree the tree to check
+     * @return {@code true} if a transaction boundary encloses the tree
+     * @see #enclosingTransactionBoundary(Tree)
+     */
+    static boolean isInTransactionalScope(Tree tree) {
+        return enclosingTransactionBoundary(tree) != null;
+    }
+
+    /**
+     * Returns the {@code @Transactional} annotation among the given modifiers.
+     *
+     * @param modifiers the modifiers of a method or class
+     * @return the annotation, or {@code null} if there is none
+     */
+    static AnnotationTree transactionalAnnotation(ModifiersTree modifiers) {
+        for (AnnotationTree annotation : modifiers.annotations()) {
+            Type type = annotation.symbolType();
+            for (String fqn : FQN_TRANSACTIONAL_ANNOTATIONS) {
+                if (type.is(fqn)) {
+                    return annotation;
+                }
+            }
+            if (type.isUnknown() && TRANSACTIONAL.equals(simpleName(annotation.annotationType()))) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the value of a boolean or enum attribute of an annotation as written in source.
+     *
+     * <p>Enum constants are returned by their simple name ({@code Propagation.NEVER} yields
+     * {@code NEVER}); boolean literals by their text.</p>
+     *
+     * @param annotation    the annotation
+     * @param attributeName the attribute name
+     * @return the attribute value, or {@code null} if the attribute is absent or not a simple constant
+     */
+    static String attributeValue(AnnotationTree annotation, String attributeName) {
+        for (ExpressionTree argument : annotation.arguments()) {
+            if (argument.is(Tree.Kind.ASSIGNMENT)) {
+                AssignmentExpressionTree assignment = (AssignmentExpressionTree) argument;
+                if (attributeName.equals(simpleName(assignment.variable()))) {
+                    ExpressionTree value = assignment.expression();
+                    if (value.is(Tree.Kind.BOOLEAN_LITERAL)) {
+                        return ((LiteralTree) value).value();
+                    }
+                    return simpleName(value);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks if a {@code @Transactional} annotation suspends transactions instead of starting one.
+     *
+     * @param annotation the transactional annotation
+     * @return {@code true} for {@code Propagation.NOT_SUPPORTED} and {@code Propagation.NEVER}
+     */
+    private static boolean isNonTransactional(AnnotationTree annotation) {
+        String propagation = attributeValue(annotation, "propagation");
+        return propagation != null && NON_TRANSACTIONAL_PROPAGATIONS.contains(propagation);
+    }
+
+    /**
+     * Checks if a method invocation is a {@code TransactionTemplate} call and the given
+     * child is one of its callback arguments.
+     *
+     * @param mit   the method invocation
+     * @param child the child of the invocation on the path to the analyzed tree
+     * @return {@code true} if the child runs inside the template's transaction
+     */
+    private static boolean isTransactionTemplateCallback(MethodInvocationTree mit, Tree child) {
+        if (child != mit.arguments() && !mit.arguments().contains(child)) {
+            return false;
+        }
+        String methodName = JdbcStreamMethods.getMethodName(mit);
+        if (methodName == null || !TRANSACTION_TEMPLATE_METHODS.contains(methodName)) {
+            return false;
+        }
+        Type ownerType = JdbcStreamMethods.knownOwnerType(mit);
+        if (ownerType != null) {
+            return ownerType.isSubtypeOf(FQN_TRANSACTION_OPERATIONS);
+        }
+        String receiverName = simpleName(JdbcStreamMethods.getReceiver(mit));
+        if (receiverName == null) {
+            return false;
+        }
+        String lowerCaseName = receiverName.toLowerCase(Locale.ROOT);
+        return lowerCaseName.contains("transaction") || lowerCaseName.startsWith("tx");
+    }
+
+    /**
+     * Returns the rightmost simple name of an identifier or member select expression.
+     *
+     * @param tree the tree, may be {@code null}
+     * @return the simple name, or {@code null} for other kinds of trees
+     */
+    static String simpleName(Tree tree) {
+        if (tree == null) {
+            return null;
+        }
+        if (tree.is(Tree.Kind.IDENTIFIER)) {
+            return ((IdentifierTree) tree).name();
+        }
+        if (tree.is(Tree.Kind.MEMBER_SELECT)) {
+            return ((MemberSelectExpressionTree) tree).identifier().name();
+        }
+        return null;
+    }
+}
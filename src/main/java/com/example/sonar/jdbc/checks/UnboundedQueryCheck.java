@@ -0,0 +1,255 @@
+package com.example.sonar.jdbc.checks;
+
+import org.sonar.check.Rule;
+import org.sonar.check.RuleProperty;
+import org.sonar.plugins.java.api.IssuableSubscriptionVisitor;
+import org.sonar.plugins.java.api.semantic.Type;
+import org.sonar.plugins.java.api.tree.*;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * SonarQube check to detect queries materialized into a list without any row-limiting clause.
+ *
+ * <p>{@code JdbcClient...list()}, {@code JdbcTemplate.query(sql, rowMapper)} and
+ * {@code queryForList(...)} load every row of the result into the heap. For a query like
+ * {@code SELECT * FROM orders} without {@code WHERE}, {@code LIMIT}, {@code FETCH FIRST},
+ * {@code TOP} or {@code ROWNUM}, memory use grows with the table.</p>
+ *
+ * <p>Only SQL resolvable at analysis time (literals, text blocks, constants and their
+ * concatenation) is analyzed. Two rule properties narrow the scope:</p>
+ * <ul>
+ *   <li>{@code largeTables}: when set, only queries on these tables are reported</li>
+ *   <li>{@code smallTables}: lookup tables that are never reported</li>
+ * </ul>
+ *
+ * <h2>Example of Noncompliant Code</h2>
+ * <pre>{@code
+ * List<Order> orders = jdbcClient.sql("SELECT * FROM orders").query(Order.class).list(); // Noncompliant
+ * }</pre>
+ *
+ * <h2>Example of Compliant Code</h2>
+ * <pre>{@code
+ * List<Order> orders = jdbcClient.sql("SELECT * FROM orders WHERE id > ? ORDER BY id LIMIT 500")
+ *     .param(lastId).query(Order.class).list();
+ * }</pre>
+ *
+ * @since 1.1.0
+ * @see SqlStatements
+ */
+@Rule(key = "UnboundedQuery")
+public class UnboundedQueryCheck extends IssuableSubscriptionVisitor {
+
+    private static final String MESSAGE_FORMAT =
+        "Restrict this query on \"%s\" with WHERE or LIMIT, paginate it, or stream it with a fetch size " +
+        "instead of loading the whole table into memory.";
+
+    private static final String FQN_JDBC_CLIENT = "org.springframework.jdbc.core.simple.JdbcClient";
+    private static final String FQN_LIST = "java.util.List";
+    private static final String FQN_ROW_MAPPER = "org.springframework.jdbc.core.RowMapper";
+    private static final String FQN_ROW_CALLBACK_HANDLER = "org.springframework.jdbc.core.RowCallbackHandler";
+    private static final String FQN_RESULT_SET_EXTRACTOR = "org.springframework.jdbc.core.ResultSetExtractor";
+    private static final List<String> FQN_TEMPLATE_OPERATIONS = List.of(
+        "org.springframework.jdbc.core.JdbcOperations",
+        "org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations"
+    );
+
+    private static final String METHOD_QUERY = "query";
+    private static final String METHOD_QUERY_FOR_LIST = "queryForList";
+    private static final Set<String> CLIENT_LIST_METHODS = Set.of("list", "set", "listOfRows");
+
+    // Clauses that restrict the number of returned rows
+    private static final List<String> ROW_LIMITING_KEYWORDS = List.of(
+        "WHERE", "LIMIT", "FETCH FIRST", "FETCH NEXT", "TOP", "ROWNUM"
+    );
+
+    // Aggregate-only select lists return a single row unless grouped
+    private static final Pattern AGGREGATE_SELECT = Pattern.compile("^SELECT (COUNT|SUM|MIN|MAX|AVG)\\s*\\(");
+
+    /**
+     * Comma-separated list of tables known to be large; when empty, all tables are checked.
+     */
+    @RuleProperty(
+        key = "largeTables",
+        description = "Comma-separated list of tables known to be large. When set, only queries on these tables are reported.",
+        defaultValue = "")
+    public String largeTables = "";
+
+    /**
+     * Comma-separated list of small lookup tables that may be loaded completely.
+     */
+    @RuleProperty(
+        key = "smallTables",
+        description = "Comma-separated list of small lookup tables that may be loaded completely",
+        defaultValue = "")
+    public String smallTables = "";
+
+    private Set<String> largeTableNames;
+    private Set<String> smallTableNames;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return a singleton list containing {@link Tree.Kind#METHOD_INVOCATION}
+     */
+    @Override
+    public List<Tree.Kind> nodesToVisit() {
+        return Collections.singletonList(Tree.Kind.METHOD_INVOCATION);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Reports list-materializing calls whose resolved SQL selects from a table without
+     * restricting the returned rows.</p>
+     *
+     * @param tree the AST node to visit, guaranteed to be a {@link MethodInvocationTree}
+     */
+    @Override
+    public void visitNode(Tree tree) {
+        MethodInvocationTree mit = (MethodInvocationTree) tree;
+        if (!isListMaterializingQuery(mit)) {
+            return;
+        }
+        String sql = SqlStatements.resolve(SqlStatements.sqlArgument(mit));
+        if (sql == null) {
+            return;
+        }
+        String normalizedSql = SqlStatements.normalize(sql);
+        String table = SqlStatements.mainTable(normalizedSql);
+        if (table != null && isUnbounded(normalizedSql) && isCheckedTable(table)) {
+            reportIssue(mit, String.format(MESSAGE_FORMAT, table));
+        }
+    }
+
+    /**
+     * Determines if a method invocation executes a query and collects all rows into a list.
+     *
+     * @param mit the method invocation
+     * @return {@code true} for {@code JdbcClient} list terminals, {@code queryForList} and
+     *         {@code query} overloads returning a {@code List}
+     */
+    private static boolean isListMaterializingQuery(MethodInvocationTree mit) {
+        String methodName = JdbcStreamMethods.getMethodName(mit);
+        if (methodName == null) {
+            return false;
+        }
+        Type ownerType = JdbcStreamMethods.knownOwnerType(mit);
+        if (ownerType != null) {
+            if (CLIENT_LIST_METHODS.contains(methodName)) {
+                return ownerType.fullyQualifiedName().startsWith(FQN_JDBC_CLIENT);
+            }
+            boolean templateQuery = METHOD_QUERY_FOR_LIST.equals(methodName) ||
+                (METHOD_QUERY.equals(methodName) && returnsList(mit));
+            return templateQuery && FQN_TEMPLATE_OPERATIONS.stream().anyMatch(ownerType::isSubtypeOf);
+        }
+        if (CLIENT_LIST_METHODS.contains(methodName)) {
+            return SqlStatements.sqlCall(mit) != null;
+        }
+        if (!JdbcStreamMethods.looksLikeJdbcTemplateCall(mit)) {
+            return false;
+        }
+        return METHOD_QUERY_FOR_LIST.equals(methodName) || (METHOD_QUERY.equals(methodName) && !hasRowCallback(mit));
+    }
+
+    /**
+     * Determines if a resolved {@code query} overload returns a list of mapped rows.
+     *
+     * <p>The callback argument decides rather than the resolved return type, because overload
+     * resolution falls back to an arbitrary candidate when the mapped type cannot be resolved.</p>
+     *
+     * @param mit a {@code query} invocation on a resolved JDBC template
+     * @return {@code true} for the {@code RowMapper} overloads
+     */
+    private static boolean returnsList(MethodInvocationTree mit) {
+        Arguments arguments = mit.arguments();
+        if (!arguments.isEmpty()) {
+            Type callbackType = arguments.get(arguments.size() - 1).symbolType();
+            if (callbackType.isUnknown()) {
+                return !hasRowCallback(mit);
+            }
+            if (callbackType.isSubtypeOf(FQN_ROW_MAPPER)) {
+                return true;
+            }
+            if (callbackType.isSubtypeOf(FQN_ROW_CALLBACK_HANDLER) || callbackType.isSubtypeOf(FQN_RESULT_SET_EXTRACTOR)) {
+                return false;
+            }
+        }
+        Type returnType = mit.methodSymbol().returnType().type();
+        return returnType.isSubtypeOf(FQN_LIST);
+    }
+
+    /**
+     * Name-based fallback distinguishing {@code query(sql, rowMapper)} from the overloads taking a
+     * {@code RowCallbackHandler} or {@code ResultSetExtractor}, whose lambdas take a single parameter.
+     *
+     * @param mit an unresolved {@code query} invocation
+     * @return {@code true} if the last argument is a single-parameter lambda
+     */
+    private static boolean hasRowCallback(MethodInvocationTree mit) {
+        Arguments arguments = mit.arguments();
+        if (arguments.isEmpty()) {
+            return false;
+        }
+        ExpressionTree last = JdbcStreamMethods.skipParenthesesAndCasts(arguments.get(arguments.size() - 1));
+        return last != null && last.is(Tree.Kind.LAMBDA_EXPRESSION) &&
+            ((LambdaExpressionTree) last).parameters().size() == 1;
+    }
+
+    /**
+     * Checks if normalized SQL lacks every row-limiting clause.
+     *
+     * @param normalizedSql the normalized SQL
+     * @return {@code true} if the query returns all rows of its tables
+     */
+    private static boolean isUnbounded(String normalizedSql) {
+        if (AGGREGATE_SELECT.matcher(normalizedSql).find() && !SqlStatements.containsKeyword(normalizedSql, "GROUP BY")) {
+            return false;
+        }
+        for (String keyword : ROW_LIMITING_KEYWORDS) {
+            if (SqlStatements.containsKeyword(normalizedSql, keyword)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Applies the {@code largeTables} and {@code smallTables} rule properties.
+     *
+     * @param table the lower-case main table of the query
+     * @return {@code true} if queries on the table are checked
+     */
+    private boolean isCheckedTable(String table) {
+        if (largeTableNames == null) {
+            largeTableNames = tableNames(largeTables);
+            smallTableNames = tableNames(smallTables);
+        }
+        if (smallTableNames.contains(table)) {
+            return false;
+        }
+        return largeTableNames.isEmpty() || largeTableNames.contains(table);
+    }
+
+    /**
+     * Parses a comma-separated list of table names.
+     *
+     * @param property the property value
+     * @return the lower-case table names, blank entries skipped
+     */
+    private static Set<String> tableNames(String property) {
+        Set<String> names = new HashSet<>();
+        for (String entry : property.split(",")) {
+            String name = entry.trim().toLowerCase(Locale.ROOT);
+            if (!name.isEmpty()) {
+                names.add(name);
+            }
+        }
+        return names;
+    }
+}
@@ -0,0 +1,399 @@
+package com.example.sonar.jdbc.checks;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sonar.check.Rule;
+import org.sonar.check.RuleProperty;
+import org.sonar.plugins.java.api.IssuableSubscriptionVisitor;
+import org.sonar.plugins.java.api.tree.ExpressionTree;
+import org.sonar.plugins.java.api.tree.MethodInvocationTree;
+import org.sonar.plugins.java.api.tree.Tree;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * SonarQube check to detect queries filtering, joining or sorting on columns without index.
+ *
+ * <p>A query restricting rows on a column that no index starts with makes the database scan
+ * the whole table, which goes unnoticed on test data and degrades with every row added in
+ * production. The schema is usually in the same repository, as {@code schema.sql} files or
+ * Flyway migrations, so the missing index can be found before deployment.</p>
+ *
+ * <p>The check reads the {@code *.sql} scripts found under {@code schemaDirectories} of the
+ * module, {@code src/main/resources} by default so that test fixtures are ignored, applies them in migration order to a {@link SchemaCatalog}, and compares the
+ * constant SQL of every JDBC call with it. A table of the query is reported when none of the
+ * columns it is filtered on in {@code WHERE} is supported by an index, when it is joined on
+ * a column without index, or when it is only sorted on columns without index. An index
+ * supports a column when the column leads the index, or follows columns the query also
+ * restricts. Tables and columns missing from the scripts are ignored, and nothing is
+ * reported when no script declares a table.</p>
+ *
+ * <h2>Example of Noncompliant Code</h2>
+ * <pre>{@code
+ * // CREATE TABLE orders (id BIGINT PRIMARY KEY, status VARCHAR(50), ...);
+ * jdbcTemplate.queryForStream("SELECT * FROM orders WHERE status = ?", ORDER_MAPPER, status); // Noncompliant
+ * }</pre>
+ *
+ * <h2>Example of Compliant Code</h2>
+ * <pre>{@code
+ * // CREATE INDEX idx_orders_status ON orders (status);
+ * jdbcTemplate.queryForStream("SELECT * FROM orders WHERE status = ?", ORDER_MAPPER, status);
+ * }</pre>
+ *
+ * @since 1.1.0
+ * @see SchemaCatalog
+ * @see SqlStatements
+ */
+@Rule(key = "UnindexedPredicate")
+public class UnindexedPredicateCheck extends IssuableSubscriptionVisitor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(UnindexedPredicateCheck.class);
+
+    private static final String MESSAGE_ONE =
+        "Add an index for %s; no index of the schema supports filtering, joining or sorting on this column.";
+    private static final String MESSAGE_MANY =
+        "Add an index for %s; no index of the schema supports filtering, joining or sorting on these columns.";
+
+    private static final String DEFAULT_SCHEMA_DIRECTORIES = "src/main/resources";
+    private static final int VERSION_PART_WIDTH = 20;
+    private static final long MAX_SCRIPT_SIZE = 5L * 1024 * 1024;
+    private static final List<String> BUILD_FILES = List.of("pom.xml", "build.gradle", "build.gradle.kts");
+    private static final Set<String> SKIPPED_DIRECTORIES = Set.of("target", "build", "out", "bin", "node_modules");
+    private static final Pattern FLYWAY_VERSIONED = Pattern.compile("^V(\\d+(?:[._]\\d+)*)__.*", Pattern.CASE_INSENSITIVE);
+    private static final Pattern FLYWAY_REPEATABLE = Pattern.compile("^R__.*", Pattern.CASE_INSENSITIVE);
+
+    private static final Set<String> QUERY_STATEMENTS = Set.of("SELECT", "WITH", "UPDATE", "DELETE");
+    private static final Pattern TABLE_REFERENCE = Pattern.compile(
+        "\\b(?:FROM|JOIN|UPDATE)\\s+([A-Z0-9_.\"`\\[\\]]+)(?:\\s+(?:AS\\s+)?([A-Z_][A-Z0-9_]*))?");
+    private static final Pattern CLAUSE = Pattern.compile(
+        "\\b(WHERE|ON|ORDER BY|GROUP BY|HAVING|LIMIT|OFFSET|FETCH|SET|FROM|JOIN|UNION|VALUES|RETURNING|FOR|SELECT|WINDOW)\\b");
+    private static final String OPERATOR = "(?:=|<>|!=|<=|>=|<|>|\\bNOT IN\\b|\\bIN\\b|\\bNOT LIKE\\b|\\bLIKE\\b|\\bILIKE\\b|\\bBETWEEN\\b|\\bIS\\b)";
+    private static final String COLUMN = "(?:([A-Z_][A-Z0-9_]*)\\.)?([A-Z_][A-Z0-9_]*)";
+    private static final Pattern COLUMN_BEFORE_OPERATOR = Pattern.compile("(?<![\\w.:$])" + COLUMN + "\\s*" + OPERATOR);
+    private static final Pattern COLUMN_AFTER_OPERATOR = Pattern.compile(OPERATOR + "\\s*" + COLUMN + "(?![\\w.(])");
+    private static final Pattern ORDER_COLUMN = Pattern.compile("^\\s*" + COLUMN + "(?:\\s+(?:ASC|DESC|NULLS FIRST|NULLS LAST))*\\s*$");
+
+    // Words that can follow a table name but are not an alias
+    private static final Set<String> NON_ALIASES = Set.of(
+        "WHERE", "ON", "JOIN", "INNER", "LEFT", "RIGHT", "FULL", "CROSS", "NATURAL", "OUTER", "ORDER", "GROUP",
+        "HAVING", "LIMIT", "OFFSET", "FETCH", "SET", "UNION", "USING", "RETURNING", "FOR", "WINDOW", "AS"
+    );
+
+    /**
+     * Comma-separated directories searched recursively for DDL scripts, relative to the module root.
+     */
+    @RuleProperty(
+        key = "schemaDirectories",
+        description = "Comma-separated directories, relative to the module root, searched recursively for DDL and migration scripts (*.sql)",
+        defaultValue = DEFAULT_SCHEMA_DIRECTORIES)
+    public String schemaDirectories = DEFAULT_SCHEMA_DIRECTORIES;
+
+    private final Map<Path, SchemaCatalog> catalogs = new HashMap<>();
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return a singleton list containing {@link Tree.Kind#METHOD_INVOCATION}
+     */
+    @Override
+    public List<Tree.Kind> nodesToVisit() {
+        return Collections.singletonList(Tree.Kind.METHOD_INVOCATION);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Reports the SQL argument of a JDBC query when the schema has no index for the columns
+     * of one of its tables.</p>
+     *
+     * @param tree the AST node to visit, guaranteed to be a {@link MethodInvocationTree}
+     */
+    @Override
+    public void visitNode(Tree tree) {
+        ExpressionTree sqlArgument = SqlStatements.receivedSqlArgument((MethodInvocationTree) tree);
+        String sql = sqlArgument == null ? null : SqlStatements.resolve(sqlArgument);
+        if (sql == null) {
+            return;
+        }
+        String normalizedSql = SqlStatements.normalize(sql);
+        int firstSpace = normalizedSql.indexOf(' ');
+        if (firstSpace < 0 || !QUERY_STATEMENTS.contains(normalizedSql.substring(0, firstSpace))) {
+            return;
+        }
+        SchemaCatalog catalog = catalog();
+        if (catalog == null || catalog.isEmpty()) {
+            return;
+        }
+        List<String> unindexed = unindexedColumns(normalizedSql, catalog);
+        if (!unindexed.isEmpty()) {
+            String columns = unindexed.stream().map(column -> "\"" + column + "\"").collect(Collectors.joining(", "));
+            reportIssue(sqlArgument, String.format(unindexed.size() == 1 ? MESSAGE_ONE : MESSAGE_MANY, columns));
+        }
+    }
+
+    /**
+     * Returns the columns of a query that need an index.
+     *
+     * @param normalizedSql the normalized query
+     * @param catalog       the schema catalog
+     * @return the unindexed columns as {@code table.column}, in query order
+     */
+    private static List<String> unindexedColumns(String normalizedSql, SchemaCatalog catalog) {
+        Map<String, String> tables = tableAliases(normalizedSql);
+        Map<String, Set<String>> filtered = new LinkedHashMap<>();
+        Map<String, Set<String>> joined = new LinkedHashMap<>();
+        Map<String, Set<String>> sorted = new LinkedHashMap<>();
+        Matcher clause = CLAUSE.matcher(normalizedSql);
+        String keyword = null;
+        int start = 0;
+        while (true) {
+            boolean found = clause.find();
+            String segment = normalizedSql.substring(start, found ? clause.start() : normalizedSql.length());
+            if ("WHERE".equals(keyword) || "HAVING".equals(keyword)) {
+                addPredicateColumns(segment, tables, catalog, filtered);
+            } else if ("ON".equals(keyword)) {
+                addPredicateColumns(segment, tables, catalog, joined);
+            } else if ("ORDER BY".equals(keyword)) {
+                addOrderColumns(segment, tables, catalog, sorted);
+            }
+            if (!found) {
+                break;
+            }
+            keyword = clause.group(1);
+            start = clause.end();
+        }
+
+        List<String> unindexed = new ArrayList<>();
+        Set<String> reportedTables = new LinkedHashSet<>(filtered.keySet());
+        reportedTables.addAll(joined.keySet());
+        reportedTables.addAll(sorted.keySet());
+        for (String table : reportedTables) {
+            Set<String> where = filtered.getOrDefault(table, Collections.emptySet());
+            Set<String> on = joined.getOrDefault(table, Collections.emptySet());
+            Set<String> restricted = new HashSet<>(where);
+            restricted.addAll(on);
+            boolean filterIndexed = where.stream().anyMatch(column -> catalog.isIndexed(table, column, restricted));
+            if (filterIndexed) {
+                continue;
+            }
+            where.forEach(column -> unindexed.add(table + "." + column));
+            on.stream()
+                .filter(column -> !catalog.isIndexed(table, column, restricted))
+                .forEach(column -> unindexed.add(table + "." + column));
+            Set<String> order = sorted.getOrDefault(table, Collections.emptySet());
+            if (restricted.isEmpty() && order.stream().noneMatch(column -> catalog.isIndexed(table, column, restricted))) {
+                order.forEach(column -> unindexed.add(table + "." + column));
+            }
+        }
+        return unindexed;
+    }
+
+    /**
+     * Maps the tables and aliases of a query to the tables they refer to.
+     *
+     * @param normalizedSql the normalized query
+     * @return the upper-case table names and aliases, mapped to lower-case catalog table names
+     */
+    private static Map<String, String> tableAliases(String normalizedSql) {
+        Map<String, String> tables = new LinkedHashMap<>();
+        Matcher matcher = TABLE_REFERENCE.matcher(normalizedSql);
+        while (matcher.find()) {
+            if (matcher.group(1).startsWith("(")) {
+                continue;
+            }
+            String table = SchemaCatalog.name(matcher.group(1));
+            tables.put(table.toUpperCase(Locale.ROOT), table);
+            String alias = matcher.group(2);
+            if (alias != null && !NON_ALIASES.contains(alias)) {
+                tables.put(alias, table);
+            }
+        }
+        return tables;
+    }
+
+    /**
+     * Adds the columns compared in a {@code WHERE}, {@code HAVING} or {@code ON} clause.
+     *
+     * @param segment the text of the clause
+     * @param tables  the tables and aliases of the query
+     * @param catalog the schema catalog
+     * @param columns the columns found so far, by table
+     */
+    private static void addPredicateColumns(String segment, Map<String, String> tables, SchemaCatalog catalog,
+                                            Map<String, Set<String>> columns) {
+        for (Pattern pattern : List.of(COLUMN_BEFORE_OPERATOR, COLUMN_AFTER_OPERATOR)) {
+            Matcher matcher = pattern.matcher(segment);
+            while (matcher.find()) {
+                addColumn(matcher.group(1), matcher.group(2), tables, catalog, columns);
+            }
+        }
+    }
+
+    /**
+     * Adds the plain columns of an {@code ORDER BY} clause.
+     *
+     * @param segment the text of the clause
+     * @param tables  the tables and aliases of the query
+     * @param catalog the schema catalog
+     * @param columns the columns found so far, by table
+     */
+    private static void addOrderColumns(String segment, Map<String, String> tables, SchemaCatalog catalog,
+                                        Map<String, Set<String>> columns) {
+        for (String item : segment.split(",")) {
+            Matcher matcher = ORDER_COLUMN.matcher(item);
+            if (matcher.matches()) {
+                addColumn(matcher.group(1), matcher.group(2), tables, catalog, columns);
+            }
+        }
+    }
+
+    /**
+     * Resolves a column reference to a table of the catalog and adds it.
+     *
+     * <p>Unqualified columns are resolved when exactly one table of the query declares them.
+     * Columns of tables or columns missing from the catalog are ignored.</p>
+     *
+     * @param qualifier the table name or alias, or {@code null}
+     * @param name      the upper-case column name
+     * @param tables    the tables and aliases of the query
+     * @param catalog   the schema catalog
+     * @param columns   the columns found so far, by table
+     */
+    private static void addColumn(String qualifier, String name, Map<String, String> tables, SchemaCatalog catalog,
+                                  Map<String, Set<String>> columns) {
+        String column = name.toLowerCase(Locale.ROOT);
+        String table = null;
+        if (qualifier != null) {
+            table = tables.get(qualifier);
+        } else {
+            Set<String> candidates = tables.values().stream()
+                .filter(candidate -> catalog.hasColumn(candidate, column))
+                .collect(Collectors.toSet());
+            if (candidates.size() == 1) {
+                table = candidates.iterator().next();
+            }
+        }
+        if (table != null && catalog.hasColumn(table, column)) {
+            columns.computeIfAbsent(table, key -> new LinkedHashSet<>()).add(column);
+        }
+    }
+
+    /**
+     * Returns the schema catalog of the module containing the current file, building it on first use.
+     *
+     * @return the catalog, or {@code null} if the module root cannot be found
+     */
+    private SchemaCatalog catalog() {
+        Path root = moduleRoot(Paths.get(context.getInputFile().uri()));
+        if (root == null) {
+            return null;
+        }
+        return catalogs.computeIfAbsent(root, this::buildCatalog);
+    }
+
+    /**
+     * Reads and applies the DDL scripts of a module in migration order.
+     *
+     * @param root the module root
+     * @return the catalog, empty if no script declares a table
+     */
+    private SchemaCatalog buildCatalog(Path root) {
+        SchemaCatalog catalog = new SchemaCatalog();
+        List<Path> scripts = new ArrayList<>();
+        for (String directory : schemaDirectories.split(",")) {
+            Path start = root.resolve(directory.trim()).normalize();
+            if (Files.isDirectory(start)) {
+                try (Stream<Path> files = Files.walk(start)) {
+                    files.filter(file -> file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".sql"))
+                        .filter(file -> !isSkipped(start.relativize(file)))
+                        .forEach(scripts::add);
+                } catch (IOException | RuntimeException e) {
+                    LOG.warn("Unable to list the DDL scripts of {}", start, e);
+                }
+            }
+        }
+        scripts.stream().distinct().sorted(Comparator.comparing(UnindexedPredicateCheck::migrationOrder)).forEach(script -> {
+            try {
+                if (Files.size(script) <= MAX_SCRIPT_SIZE) {
+                    catalog.apply(Files.readString(script, StandardCharsets.UTF_8));
+                }
+            } catch (IOException | RuntimeException e) {
+                LOG.warn("Unable to read the DDL script {}", script, e);
+            }
+        });
+        return catalog;
+    }
+
+    /**
+     * Checks if a script lies in a build output, dependency or hidden directory.
+     *
+     * @param relativePath the path of the script relative to the searched directory
+     * @return {@code true} if a directory of the path is skipped
+     */
+    private static boolean isSkipped(Path relativePath) {
+        for (int i = 0; i < relativePath.getNameCount() - 1; i++) {
+            String name = relativePath.getName(i).toString();
+            if (SKIPPED_DIRECTORIES.contains(name) || name.startsWith(".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a sort key running plain scripts first, then Flyway versioned migrations by
+     * version, then Flyway repeatable migrations.
+     *
+     * @param script the script
+     * @return the sort key
+     */
+    private static String migrationOrder(Path script) {
+        String fileName = script.getFileName().toString();
+        Matcher versioned = FLYWAY_VERSIONED.matcher(fileName);
+        if (versioned.matches()) {
+            StringBuilder key = new StringBuilder("1");
+            for (String part : versioned.group(1).split("[._]")) {
+                // Zero-padded so that V10 sorts after V2
+                key.append("0".repeat(Math.max(0, VERSION_PART_WIDTH - part.length()))).append(part).append('.');
+            }
+            return key.append(script).toString();
+        }
+        return (FLYWAY_REPEATABLE.matcher(fileName).matches() ? "2" : "0") + script;
+    }
+
+    /**
+     * Returns the root of the module containing a file, identified by its build file.
+     *
+     * @param file the analyzed file
+     * @return the nearest enclosing directory with a Maven or Gradle build file, or {@code null}
+     */
+    private static Path moduleRoot(Path file) {
+        for (Path directory = file.getParent(); directory != null; directory = directory.getParent()) {
+            for (String buildFile : BUILD_FILES) {
+                if (Files.isRegularFile(directory.resolve(buildFile))) {
+                    return directory;
+                }
+            }
+        }
+        return null;
+    }
+}
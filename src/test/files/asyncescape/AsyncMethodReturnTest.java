@@ -0,0 +1,38 @@
+package test.files.asyncescape;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Async;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+/**
+ * Tests detection of JDBC streams returned from @Async methods.
+ * EXPECTED: 2 issues - the list-returning and non-async methods are not flagged
+ */
+class AsyncMethodReturnTest {
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> mapper;
+
+    @Async
+    CompletableFuture<Stream<Order>> wrappedStream() {
+        return CompletableFuture.completedFuture(jdbcTemplate.queryForStream("SELECT * FROM orders", mapper)); // Noncompliant {{This JDBC stream is returned to another thread; consume and close it where it is opened.}}
+    }
+
+    @Async
+    Stream<Order> filteredStream() {
+        Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders", mapper);
+        return orders.filter(order -> order.amount > 100); // Noncompliant
+    }
+
+    @Async
+    CompletableFuture<List<Order>> materializedList() {
+        return CompletableFuture.completedFuture(jdbcTemplate.query("SELECT * FROM orders", mapper));
+    }
+
+    Stream<Order> synchronousStream() {
+        return jdbcTemplate.queryForStream("SELECT * FROM orders", mapper);
+    }
+}
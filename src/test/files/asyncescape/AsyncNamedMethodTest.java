@@ -0,0 +1,31 @@
+package test.files.asyncescape;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+/**
+ * Tests that only methods ending with Async that return a future are treated as asynchronous.
+ * EXPECTED: 1 issue - stream captured by thenRunAsync; the local processAsync helper is not asynchronous
+ */
+class AsyncNamedMethodTest {
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> mapper;
+
+    void thenRunAsync(CompletableFuture<Void> ready) {
+        Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders", mapper);
+        ready.thenRunAsync(() -> orders.forEach(order -> System.out.println(order.id))); // Noncompliant
+    }
+
+    void synchronousHelperNamedAsync() {
+        try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders", mapper)) {
+            processAsync(() -> orders.forEach(order -> System.out.println(order.id)));
+        }
+    }
+
+    private void processAsync(Runnable task) {
+        task.run();
+    }
+}
@@ -0,0 +1,25 @@
+package test.files.asyncescape;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+/**
+ * Tests detection of JDBC streams crossing CompletableFuture boundaries.
+ * EXPECTED: 2 issues - one returned from supplyAsync, one captured by runAsync
+ */
+class CompletableFutureTest {
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> mapper;
+
+    CompletableFuture<Stream<Order>> supplyStream() {
+        return CompletableFuture.supplyAsync(() -> jdbcTemplate.queryForStream("SELECT * FROM orders", mapper)); // Noncompliant {{This JDBC stream is returned to another thread; consume and close it where it is opened.}}
+    }
+
+    void runWithCapturedStream() {
+        Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders", mapper);
+        CompletableFuture.runAsync(() -> orders.forEach(order -> System.out.println(order.id))); // Noncompliant
+    }
+}
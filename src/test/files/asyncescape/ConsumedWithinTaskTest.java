@@ -0,0 +1,41 @@
+package test.files.asyncescape;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import test.files.shared.TestModels.User;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Tests that streams opened, consumed and closed within the asynchronous task are NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class ConsumedWithinTaskTest {
+    private JdbcClient jdbcClient;
+    private ExecutorService executor;
+
+    void submitTask() {
+        executor.submit(() -> {
+            try (Stream<User> users = jdbcClient.sql("SELECT * FROM users").query(User.class).stream()) {
+                users.forEach(user -> System.out.println(user.name));
+            }
+        });
+    }
+
+    CompletableFuture<List<String>> supplyNames() {
+        return CompletableFuture.supplyAsync(() -> {
+            try (Stream<User> users = jdbcClient.sql("SELECT * FROM users").query(User.class).stream()) {
+                return users.map(user -> user.name).collect(Collectors.toList());
+            }
+        });
+    }
+
+    void consumeOnCallingThread() {
+        try (Stream<User> users = jdbcClient.sql("SELECT * FROM users").query(User.class).stream()) {
+            List<String> names = users.map(user -> user.name).collect(Collectors.toList());
+            executor.submit(() -> names.forEach(System.out::println));
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package test.files.asyncescape;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import test.files.shared.TestModels.User;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Stream;
+
+/**
+ * Tests detection of JDBC streams captured by tasks submitted to an executor.
+ * EXPECTED: 3 issues - captures are reported even inside try-with-resources
+ */
+class ExecutorCaptureTest {
+    private JdbcClient jdbcClient;
+    private ExecutorService executor;
+
+    void lambdaCapture() {
+        try (Stream<User> users = jdbcClient.sql("SELECT * FROM users").query(User.class).stream()) {
+            executor.submit(() -> users.forEach(user -> System.out.println(user.name))); // Noncompliant {{This JDBC stream is handed over to another thread; open, consume and close it within the asynchronous task.}}
+        }
+    }
+
+    void methodReferenceCapture() {
+        try (Stream<User> users = jdbcClient.sql("SELECT * FROM users").query(User.class).stream()) {
+            executor.execute(users::close); // Noncompliant
+        }
+    }
+
+    void iteratorCapture() {
+        try (Stream<User> users = jdbcClient.sql("SELECT * FROM users").query(User.class).stream()) {
+            Iterator<User> iterator = users.iterator();
+            new Thread(() -> {
+                while (iterator.hasNext()) { // Noncompliant
+                    System.out.println(iterator.next().name);
+                }
+            }).start();
+        }
+    }
+}
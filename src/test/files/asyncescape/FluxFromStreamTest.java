@@ -0,0 +1,26 @@
+package test.files.asyncescape;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import reactor.core.publisher.Flux;
+import test.files.shared.TestModels.Order;
+import java.util.stream.Stream;
+
+/**
+ * Tests detection of JDBC streams passed to Reactor publishers.
+ * EXPECTED: 1 issue - the supplier variant is closed by Reactor and not flagged
+ */
+class FluxFromStreamTest {
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> mapper;
+
+    Flux<Order> eagerStream() {
+        try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders", mapper)) {
+            return Flux.fromStream(orders); // Noncompliant
+        }
+    }
+
+    Flux<Order> suppliedStream() {
+        return Flux.fromStream(() -> jdbcTemplate.queryForStream("SELECT * FROM orders", mapper));
+    }
+}
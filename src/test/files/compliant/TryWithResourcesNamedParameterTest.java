@@ -0,0 +1,23 @@
+package test.files.compliant;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import test.files.shared.TestModels.User;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Tests that NamedParameterJdbcOperations.queryForStream() in try-with-resources is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class TryWithResourcesNamedParameterTest {
+    private NamedParameterJdbcOperations namedJdbcOperations;
+    private RowMapper<User> rowMapper;
+
+    void testCase() {
+        try (Stream<User> users = namedJdbcOperations.queryForStream(
+            "SELECT * FROM users WHERE age > :age", Map.of("age", 18), rowMapper)) {
+            users.forEach(user -> System.out.println(user.name));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package test.files.connectionleak;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.StatementCallback;
+import java.sql.ResultSet;
+
+/**
+ * Tests detection of JDBC resources escaping JdbcTemplate.execute() callbacks.
+ * EXPECTED: 3 issues - result sets and statements returned from callbacks, mapped values are fine
+ */
+class CallbackEscapeTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    ResultSet resultSetFromConnectionCallback() {
+        return jdbcTemplate.execute((ConnectionCallback<ResultSet>) con ->
+            con.createStatement().executeQuery("SELECT * FROM orders")); // Noncompliant {{Do not return this JDBC resource from the callback; it outlives the connection released by JdbcTemplate.}}
+    }
+
+    ResultSet resultSetFromStatementCallback() {
+        return jdbcTemplate.execute((StatementCallback<ResultSet>) statement -> {
+            ResultSet rs = statement.executeQuery("SELECT * FROM orders");
+            return rs; // Noncompliant {{Do not return this JDBC resource from the callback; it outlives the connection released by JdbcTemplate.}}
+        });
+    }
+
+    java.sql.Statement statementFromCallback() {
+        return jdbcTemplate.execute((StatementCallback<java.sql.Statement>) statement -> statement); // Noncompliant {{Do not return this JDBC resource from the callback; it outlives the connection released by JdbcTemplate.}}
+    }
+
+    Integer mappedValue() {
+        return jdbcTemplate.execute((ConnectionCallback<Integer>) con -> {
+            try (ResultSet rs = con.createStatement().executeQuery("SELECT count(*) FROM orders")) {
+                rs.next();
+                return rs.getInt(1);
+            }
+        });
+    }
+}
@@ -0,0 +1,68 @@
+package test.files.connectionleak;
+
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.support.JdbcUtils;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Tests that raw JDBC resources released on all paths, or handed over to the caller, are not reported.
+ * EXPECTED: 0 issues
+ */
+class ReleasedConnectionTest {
+
+    private DataSource dataSource;
+
+    int tryWithResources() throws SQLException {
+        try (Connection con = dataSource.getConnection();
+             Statement statement = con.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT count(*) FROM orders")) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    void closedInFinally() throws SQLException {
+        Connection con = dataSource.getConnection();
+        try {
+            con.setAutoCommit(false);
+        } finally {
+            con.close();
+        }
+    }
+
+    void closedWithJdbcUtils() throws SQLException {
+        Connection con = null;
+        Statement statement = null;
+        try {
+            con = dataSource.getConnection();
+            statement = con.createStatement();
+            statement.execute("DELETE FROM orders");
+        } finally {
+            JdbcUtils.closeStatement(statement);
+            JdbcUtils.closeConnection(con);
+        }
+    }
+
+    void releasedWithDataSourceUtils() throws SQLException {
+        Connection con = DataSourceUtils.getConnection(dataSource);
+        try {
+            con.createStatement().close();
+        } finally {
+            DataSourceUtils.releaseConnection(con, dataSource);
+        }
+    }
+
+    Connection handedOverToCaller() throws SQLException {
+        return dataSource.getConnection();
+    }
+
+    Connection handedOverViaVariable() throws SQLException {
+        Connection con = dataSource.getConnection();
+        con.setReadOnly(true);
+        return con;
+    }
+}
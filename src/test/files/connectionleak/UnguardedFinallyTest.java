@@ -0,0 +1,37 @@
+package test.files.connectionleak;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Tests that a finally block only releases the connection whose acquisition it guards.
+ * EXPECTED: 2 issues - finally block ending before the acquisition, throwing code between acquisition and try
+ */
+class UnguardedFinallyTest {
+
+    private DataSource dataSource;
+
+    void finallyBeforeAcquisition() throws SQLException {
+        Connection con = null;
+        try {
+            System.out.println("preparing");
+        } finally {
+            if (con != null) {
+                con.close();
+            }
+        }
+        con = dataSource.getConnection(); // Noncompliant {{Use try-with-resources or close this connection in a finally block to return it to the pool.}}
+        con.setAutoCommit(false);
+    }
+
+    void throwingCodeBeforeTry() throws SQLException {
+        Connection con = dataSource.getConnection(); // Noncompliant
+        con.setAutoCommit(false);
+        try {
+            con.createStatement().execute("DELETE FROM orders");
+        } finally {
+            con.close();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package test.files.connectionleak;
+
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Tests detection of raw JDBC resources that are not released on all paths.
+ * EXPECTED: 7 issues - connections, statements and result sets closed only on the happy path or never
+ */
+class UnreleasedConnectionTest {
+
+    private DataSource dataSource;
+
+    int closedOnlyOnHappyPath() throws SQLException {
+        Connection con = dataSource.getConnection(); // Noncompliant {{Use try-with-resources or close this connection in a finally block to return it to the pool.}}
+        Statement statement = con.createStatement(); // Noncompliant {{Use try-with-resources or close this statement in a finally block.}}
+        ResultSet rs = statement.executeQuery("SELECT count(*) FROM orders"); // Noncompliant {{Use try-with-resources or close this result set in a finally block.}}
+        rs.next();
+        int count = rs.getInt(1);
+        con.close();
+        return count;
+    }
+
+    boolean neverClosed() throws SQLException {
+        return dataSource.getConnection().isValid(1); // Noncompliant {{Use try-with-resources or close this connection in a finally block to return it to the pool.}}
+    }
+
+    void closedDirectlyInsteadOfReleased() throws SQLException {
+        Connection con = DataSourceUtils.getConnection(dataSource); // Noncompliant {{Release this connection with DataSourceUtils.releaseConnection() in a finally block.}}
+        try {
+            con.createStatement().execute("DELETE FROM orders");
+        } finally {
+            con.close();
+        }
+    }
+
+    void utilsConnectionInTryWithResources() throws SQLException {
+        try (Connection con = DataSourceUtils.getConnection(dataSource)) { // Noncompliant {{Release this connection with DataSourceUtils.releaseConnection() in a finally block.}}
+            con.createStatement().execute("DELETE FROM orders");
+        }
+    }
+
+    void statementNotClosed() throws SQLException {
+        try (Connection con = dataSource.getConnection()) {
+            PreparedStatement statement = con.prepareStatement("UPDATE orders SET status = ?"); // Noncompliant {{Use try-with-resources or close this statement in a finally block.}}
+            statement.setString(1, "done");
+            statement.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package test.files.connectionpressure;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.web.client.RestTemplate;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Tests the connection pressure measures of a file.
+ * EXPECTED: 0 issues - the check only records 4 streaming call sites, 1 unmanaged stream,
+ * 3 N+1 candidates and 1 stream consumed with blocking calls
+ */
+class ConnectionPressureTest {
+
+    @interface MustBeClosed {
+    }
+
+    private JdbcTemplate jdbcTemplate;
+    private RestTemplate restTemplate;
+    private RowMapper<Order> orderMapper;
+
+    void perRowQuery() {
+        try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper)) {
+            orders.forEach(order -> jdbcTemplate.queryForObject("SELECT count(*) FROM items WHERE order_id = ?", Integer.class, order.id));
+        }
+    }
+
+    void unmanagedStream() {
+        jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper).forEach(this::markSent);
+    }
+
+    private void markSent(Order order) {
+        jdbcTemplate.update("UPDATE orders SET status = 'sent' WHERE id = ?", order.id);
+    }
+
+    void updateInLoop(List<String> ids) {
+        for (String id : ids) {
+            jdbcTemplate.update("UPDATE orders SET status = 'archived' WHERE id = ?", id);
+        }
+    }
+
+    void remoteCallPerRow() {
+        try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper)) {
+            orders.forEach(order -> restTemplate.postForObject("http://shipping/orders", order, String.class));
+        }
+    }
+
+    @MustBeClosed
+    Stream<Order> openOrders() {
+        return jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper);
+    }
+
+    int batchOutsideLoop(List<Object[]> ids) {
+        return jdbcTemplate.batchUpdate("UPDATE orders SET status = 'sent' WHERE id = ?", ids).length;
+    }
+}
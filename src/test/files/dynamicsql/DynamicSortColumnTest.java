@@ -0,0 +1,22 @@
+package test.files.dynamicsql;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+
+/**
+ * Tests that a sort column and direction concatenated into SQL are NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class DynamicSortColumnTest {
+
+    private static final String SELECT_ORDERS = "SELECT * FROM orders";
+
+    private JdbcClient jdbcClient;
+
+    List<Order> dynamicSortColumn(String column, String direction) {
+        return jdbcClient.sql(SELECT_ORDERS + " ORDER BY " + column + " " + direction)
+            .query(Order.class)
+            .list();
+    }
+}
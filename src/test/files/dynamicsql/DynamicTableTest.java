@@ -0,0 +1,20 @@
+package test.files.dynamicsql;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+
+/**
+ * Tests that a table name concatenated into SQL is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class DynamicTableTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    List<Order> dynamicTable(String tenant) {
+        return jdbcTemplate.query("SELECT * FROM orders_" + tenant + " WHERE id = ?", orderMapper, 1L);
+    }
+}
@@ -0,0 +1,20 @@
+package test.files.dynamicsql;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+
+/**
+ * Tests that a schema name formatted into SQL is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class FormattedIdentifierTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    List<Order> formattedIdentifier(String schema) {
+        return jdbcTemplate.query(String.format("SELECT * FROM %s.orders WHERE status = ?", schema), orderMapper, "new");
+    }
+}
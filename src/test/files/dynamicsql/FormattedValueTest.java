@@ -0,0 +1,20 @@
+package test.files.dynamicsql;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+
+/**
+ * Tests detection of a value formatted into SQL with String.format.
+ * EXPECTED: 1 issue
+ */
+class FormattedValueTest {
+
+    private JdbcClient jdbcClient;
+
+    List<Order> formatted(String status) {
+        return jdbcClient.sql(String.format("SELECT * FROM orders WHERE status = '%s'", status)) // Noncompliant
+            .query(Order.class)
+            .list();
+    }
+}
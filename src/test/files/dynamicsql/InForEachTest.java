@@ -0,0 +1,18 @@
+package test.files.dynamicsql;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.List;
+
+/**
+ * Tests detection of a value concatenated into SQL executed in a forEach lambda.
+ * EXPECTED: 1 issue
+ */
+class InForEachTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    void inForEach(List<String> customers) {
+        customers.forEach(customer ->
+            jdbcTemplate.update("DELETE FROM carts WHERE customer LIKE " + customer)); // Noncompliant {{Bind this value as a parameter instead of building it into the SQL; this loop creates a new statement and execution plan per iteration.}}
+    }
+}
@@ -0,0 +1,21 @@
+package test.files.dynamicsql;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+
+/**
+ * Tests detection of an IN list concatenated into SQL held by a local variable.
+ * EXPECTED: 1 issue
+ */
+class InListViaLocalVariableTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    List<Order> inListViaLocalVariable(String idList) {
+        String sql = "SELECT * FROM orders WHERE id IN (" + idList + ")";
+        return jdbcTemplate.query(sql, orderMapper); // Noncompliant
+    }
+}
@@ -0,0 +1,23 @@
+package test.files.dynamicsql;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+
+/**
+ * Tests that values bound to named placeholders are NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class NamedPlaceholdersTest {
+
+    private static final String SELECT_ORDERS = "SELECT * FROM orders";
+
+    private JdbcClient jdbcClient;
+
+    List<Order> placeholders(String status) {
+        return jdbcClient.sql(SELECT_ORDERS + " WHERE status = :status")
+            .param("status", status)
+            .query(Order.class)
+            .list();
+    }
+}
@@ -0,0 +1,13 @@
+package test.files.dynamicsql;
+
+
+/**
+ * Tests that concatenation outside of SQL is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class NotSqlTest {
+
+    void notSql(String name) {
+        System.out.println("id = " + name);
+    }
+}
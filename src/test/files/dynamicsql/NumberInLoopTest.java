@@ -0,0 +1,19 @@
+package test.files.dynamicsql;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.List;
+
+/**
+ * Tests detection of a number concatenated into SQL executed in a loop.
+ * EXPECTED: 1 issue
+ */
+class NumberInLoopTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    void numberInLoop(List<Long> ids) {
+        for (long id : ids) {
+            jdbcTemplate.update("UPDATE orders SET status = 'shipped' WHERE id = " + id); // Noncompliant {{Bind this value as a parameter instead of building it into the SQL; this loop creates a new statement and execution plan per iteration.}}
+        }
+    }
+}
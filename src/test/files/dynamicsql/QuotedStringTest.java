@@ -0,0 +1,22 @@
+package test.files.dynamicsql;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+
+/**
+ * Tests detection of a quoted string value concatenated into SQL.
+ * EXPECTED: 1 issue
+ */
+class QuotedStringTest {
+
+    private static final String SELECT_ORDERS = "SELECT * FROM orders";
+
+    private JdbcClient jdbcClient;
+
+    List<Order> quotedString(String status) {
+        return jdbcClient.sql(SELECT_ORDERS + " WHERE status = '" + status + "'") // Noncompliant {{Bind this value as a parameter instead of building it into the SQL; every distinct value creates a new statement and execution plan.}}
+            .query(Order.class)
+            .list();
+    }
+}
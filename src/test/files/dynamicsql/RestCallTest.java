@@ -0,0 +1,26 @@
+package test.files.dynamicsql;
+
+import org.springframework.web.client.RestOperations;
+import org.springframework.web.client.RestTemplate;
+import java.util.List;
+
+/**
+ * Tests that values concatenated into the URL of a REST call are NOT flagged, even when the
+ * receiver name looks like a JDBC operations object.
+ * EXPECTED: 0 issues
+ */
+class RestCallTest {
+
+    private RestTemplate restTemplate;
+    private RestOperations orderOperations;
+
+    String restTemplateUrl(String base, long id) {
+        return restTemplate.getForObject(base + "/orders?id=" + id, String.class);
+    }
+
+    void operationsUrlInLoop(String base, List<Long> ids) {
+        for (long id : ids) {
+            orderOperations.getForObject(base + "/orders?id=" + id, String.class);
+        }
+    }
+}
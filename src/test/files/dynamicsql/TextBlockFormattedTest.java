@@ -0,0 +1,22 @@
+package test.files.dynamicsql;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+
+/**
+ * Tests detection of a value formatted into a text block with formatted().
+ * EXPECTED: 1 issue
+ */
+class TextBlockFormattedTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    List<Order> textBlockFormatted(int limit) {
+        return jdbcTemplate.query("""
+            SELECT * FROM orders ORDER BY id LIMIT %d
+            """.formatted(limit), orderMapper); // Noncompliant@-2
+    }
+}
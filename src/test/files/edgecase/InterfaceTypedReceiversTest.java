@@ -0,0 +1,33 @@
+package test.files.edgecase;
+
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Tests semantic detection of stream entry points reached through interface-typed fields
+ * whose names do not match any heuristic. Analyzed with spring-jdbc on the classpath.
+ * EXPECTED: 4 issues - one per entry point, the try-with-resources usage is not flagged
+ */
+class InterfaceTypedReceiversTest {
+    private JdbcOperations ops;
+    private NamedParameterJdbcOperations named;
+    private NamedParameterJdbcTemplate npt;
+    private JdbcClient.StatementSpec spec;
+    private RowMapper<String> mapper;
+
+    void testCase() {
+        Stream<String> a = ops.queryForStream("SELECT name FROM users", mapper); // Noncompliant
+        Stream<String> b = named.queryForStream("SELECT name FROM users WHERE id = :id", Map.of("id", 1), mapper); // Noncompliant
+        Stream<String> c = npt.queryForStream("SELECT name FROM users WHERE id = :id", Map.of("id", 1), mapper); // Noncompliant
+        Stream<String> d = spec.query(String.class).stream(); // Noncompliant
+
+        try (Stream<String> e = named.queryForStream("SELECT name FROM users", Map.of(), mapper)) {
+            e.forEach(System.out::println);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package test.files.endpointroundtrips;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Tests the round trip estimate with loopIterations = 2 and maxRoundTrips = 2.
+ * EXPECTED: 1 issue on countNested() - nested loops
+ */
+@RestController
+class ConfiguredRoundTripController {
+
+    private RoundTripService service;
+
+    // Compliant: 1 + 2 round trips would be reported, 2 are not
+    @GetMapping("/users/twice")
+    public long countTwice() {
+        return service.countActiveUsers() + service.countActiveUsers();
+    }
+
+    @GetMapping("/users/nested")
+    public long countNested() { // Noncompliant {{Reduce the database work of this endpoint; it makes an estimated 4 JDBC round trips and 4 connection acquisitions per request, above the limit of 2.}}
+        long total = 0;
+        for (int i = 0; i < 100; i++) {
+            for (int j = 0; j < 100; j++) {
+                total += service.countActiveUsers();
+            }
+        }
+        return total;
+    }
+}
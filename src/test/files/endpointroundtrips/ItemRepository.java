@@ -0,0 +1,28 @@
+package test.files.endpointroundtrips;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+/**
+ * Repository interface and implementation called by the endpoints of the round trip tests.
+ * EXPECTED: 0 issues - issues are raised on the endpoints
+ */
+interface ItemRepository {
+
+    List<String> findItems(String orderId);
+}
+
+@Repository
+class JdbcItemRepository implements ItemRepository {
+
+    private JdbcClient jdbcClient;
+
+    @Override
+    public List<String> findItems(String orderId) {
+        return jdbcClient.sql("SELECT name FROM items WHERE order_id = ?")
+            .param(orderId)
+            .query(String.class)
+            .list();
+    }
+}
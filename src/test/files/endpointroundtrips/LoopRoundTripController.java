@@ -0,0 +1,30 @@
+package test.files.endpointroundtrips;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import test.files.shared.TestModels.Order;
+
+/**
+ * Tests the round trip estimate of an endpoint querying per order in a loop through a repository in another file.
+ * EXPECTED: 1 issue on ordersWithItems() - 11 round trips and 11 acquisitions
+ */
+@RestController
+class LoopRoundTripController {
+
+    private final RoundTripService service;
+    private final ItemRepository itemRepository;
+
+    LoopRoundTripController(RoundTripService service, ItemRepository itemRepository) {
+        this.service = service;
+        this.itemRepository = itemRepository;
+    }
+
+    @GetMapping("/orders")
+    public int ordersWithItems() { // Noncompliant {{Reduce the database work of this endpoint; it makes an estimated 11 JDBC round trips and 11 connection acquisitions per request, above the limit of 10.}}
+        int items = 0;
+        for (Order order : service.findOrders()) {
+            items += itemRepository.findItems(order.id).size();
+        }
+        return items;
+    }
+}
@@ -0,0 +1,39 @@
+package test.files.endpointroundtrips;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Tests that the cost of a method evaluated while a recursive call is cut is not reused by other endpoints.
+ * EXPECTED: 1 issue on childrenThrice() - 3 x (1 + 4) round trips
+ */
+@RestController
+class MutualRecursionController {
+
+    private JdbcTemplate jdbcTemplate;
+
+    // Compliant: 4 + 1 round trips, children() calling back into parents() is cut
+    @GetMapping("/parents")
+    public int parentsFirst() {
+        return parents(0);
+    }
+
+    @GetMapping("/children")
+    public int childrenThrice() { // Noncompliant {{Reduce the database work of this endpoint; it makes an estimated 15 JDBC round trips and 15 connection acquisitions per request, above the limit of 10.}}
+        return children(0) + children(1) + children(2);
+    }
+
+    private int parents(int id) {
+        jdbcTemplate.update("UPDATE nodes SET visited = true WHERE id = ?", id);
+        jdbcTemplate.update("UPDATE nodes SET visited = true WHERE parent_id = ?", id);
+        jdbcTemplate.update("UPDATE nodes SET visited = true WHERE child_id = ?", id);
+        Integer parent = jdbcTemplate.queryForObject("SELECT parent_id FROM nodes WHERE id = ?", Integer.class, id);
+        return parent == null ? 0 : children(parent);
+    }
+
+    private int children(int id) {
+        Integer child = jdbcTemplate.queryForObject("SELECT MIN(id) FROM nodes WHERE parent_id = ?", Integer.class, id);
+        return child == null ? 0 : parents(child);
+    }
+}
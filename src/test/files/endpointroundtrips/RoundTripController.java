@@ -0,0 +1,39 @@
+package test.files.endpointroundtrips;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Tests endpoints whose round trip estimate stays under the limit.
+ * EXPECTED: 0 issues
+ */
+@RestController
+class RoundTripController {
+
+    private final RoundTripService service;
+
+    RoundTripController(RoundTripService service) {
+        this.service = service;
+    }
+
+    // Compliant: a single query
+    @GetMapping("/users/count")
+    public long countUsers() {
+        return service.countActiveUsers();
+    }
+
+    // Compliant: recursion is cut
+    @GetMapping("/categories")
+    public int categories() {
+        return service.walkCategories(0);
+    }
+
+    // Compliant: not an endpoint
+    public long notAnEndpoint() {
+        long total = 0;
+        for (int i = 0; i < 100; i++) {
+            total += countUsers() + countUsers();
+        }
+        return total;
+    }
+}
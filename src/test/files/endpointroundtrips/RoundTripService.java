@@ -0,0 +1,41 @@
+package test.files.endpointroundtrips;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+
+/**
+ * Service called by the endpoints of the round trip tests.
+ * EXPECTED: 0 issues - issues are raised on the endpoints
+ */
+@Service
+class RoundTripService {
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcClient jdbcClient;
+    private RowMapper<Order> orderMapper;
+
+    public long countActiveUsers() {
+        return jdbcClient.sql("SELECT COUNT(*) FROM users WHERE active")
+            .query(Long.class)
+            .single();
+    }
+
+    public List<Order> findOrders() {
+        return jdbcTemplate.query("SELECT * FROM orders", orderMapper);
+    }
+
+    @Transactional
+    public void markAllExported() {
+        findOrders().forEach(order -> jdbcTemplate.update("UPDATE orders SET exported = true WHERE id = ?", order.id));
+    }
+
+    public int walkCategories(int depth) {
+        Integer children = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM categories WHERE depth = ?", Integer.class, depth);
+        return children == null || children == 0 ? 0 : walkCategories(depth + 1);
+    }
+}
@@ -0,0 +1,23 @@
+package test.files.endpointroundtrips;
+
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Tests the round trip estimate of an endpoint writing per row inside a transactional service method.
+ * EXPECTED: 1 issue on export() - 11 round trips and 1 acquisition
+ */
+@RestController
+class TransactionalRoundTripController {
+
+    private final RoundTripService service;
+
+    TransactionalRoundTripController(RoundTripService service) {
+        this.service = service;
+    }
+
+    @PostMapping("/orders/export")
+    public void export() { // Noncompliant {{Reduce the database work of this endpoint; it makes an estimated 11 JDBC round trips and 1 connection acquisition per request, above the limit of 10.}}
+        service.markAllExported();
+    }
+}
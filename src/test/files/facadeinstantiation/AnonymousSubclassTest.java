@@ -0,0 +1,18 @@
+package test.files.facadeinstantiation;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import javax.sql.DataSource;
+
+/**
+ * Tests that an anonymous JdbcTemplate subclass is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+@Configuration
+class AnonymousSubclassTest {
+
+    JdbcTemplate customized(DataSource dataSource) {
+        return new JdbcTemplate(dataSource) {
+        };
+    }
+}
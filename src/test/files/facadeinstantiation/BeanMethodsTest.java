@@ -0,0 +1,25 @@
+package test.files.facadeinstantiation;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import javax.sql.DataSource;
+
+/**
+ * Tests that facades created by @Bean methods are NOT flagged.
+ * EXPECTED: 0 issues
+ */
+@Configuration
+class BeanMethodsTest {
+
+    @Bean
+    JdbcTemplate jdbcTemplate(DataSource dataSource) {
+        return new JdbcTemplate(dataSource);
+    }
+
+    @Bean
+    JdbcClient jdbcClient(DataSource dataSource) {
+        return JdbcClient.create(dataSource);
+    }
+}
@@ -0,0 +1,27 @@
+package test.files.facadeinstantiation;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import test.files.shared.TestModels.Order;
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Tests that a JdbcClient created once in the constructor is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+@RestController
+class CreatedInConstructorTest {
+
+    private final JdbcClient client;
+
+    CreatedInConstructorTest(DataSource dataSource) {
+        this.client = JdbcClient.create(dataSource);
+    }
+
+    @GetMapping("/cached")
+    List<Order> cached() {
+        return client.sql("SELECT * FROM orders WHERE status = 'new'").query(Order.class).list();
+    }
+}
@@ -0,0 +1,19 @@
+package test.files.facadeinstantiation;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * Tests that facades created by field initializers and static initializers are NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class FieldInitializersTest {
+
+    private static final JdbcTemplate SHARED;
+
+    private final NamedParameterJdbcTemplate named = new NamedParameterJdbcTemplate(new JdbcTemplate());
+
+    static {
+        SHARED = new JdbcTemplate();
+    }
+}
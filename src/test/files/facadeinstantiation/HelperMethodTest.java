@@ -0,0 +1,15 @@
+package test.files.facadeinstantiation;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import javax.sql.DataSource;
+
+/**
+ * Tests detection of a JdbcTemplate created by a plain helper method.
+ * EXPECTED: 1 issue
+ */
+class HelperMethodTest {
+
+    JdbcTemplate template(DataSource dataSource) {
+        return new JdbcTemplate(dataSource); // Noncompliant {{Create this JdbcTemplate once, as a bean or in the constructor, instead of on every call.}}
+    }
+}
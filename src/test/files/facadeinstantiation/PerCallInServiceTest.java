@@ -0,0 +1,23 @@
+package test.files.facadeinstantiation;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import javax.sql.DataSource;
+
+/**
+ * Tests detection of a JdbcTemplate created on every call of a service method.
+ * EXPECTED: 1 issue
+ */
+@Service
+class PerCallInServiceTest {
+
+    private final DataSource dataSource;
+
+    PerCallInServiceTest(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    int countOrders() {
+        return new JdbcTemplate(dataSource).queryForObject("SELECT COUNT(*) FROM orders", Integer.class); // Noncompliant {{Inject this JdbcTemplate or create it in the constructor; this service method creates it again on every call.}}
+    }
+}
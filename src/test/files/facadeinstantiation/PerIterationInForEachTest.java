@@ -0,0 +1,18 @@
+package test.files.facadeinstantiation;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Service;
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Tests detection of a JdbcClient created on every iteration of a forEach lambda.
+ * EXPECTED: 1 issue
+ */
+@Service
+class PerIterationInForEachTest {
+
+    void archiveAll(List<DataSource> shards) {
+        shards.forEach(shard -> JdbcClient.create(shard).sql("DELETE FROM orders WHERE archived").update()); // Noncompliant {{Move this JdbcClient out of the loop and reuse it; it is created again on every iteration.}}
+    }
+}
@@ -0,0 +1,20 @@
+package test.files.facadeinstantiation;
+
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Tests detection of a NamedParameterJdbcTemplate created on every iteration of a for-each loop.
+ * EXPECTED: 1 issue
+ */
+@Service
+class PerIterationInLoopTest {
+
+    void archive(List<DataSource> shards) {
+        for (DataSource shard : shards) {
+            new NamedParameterJdbcTemplate(shard).getJdbcOperations().update("DELETE FROM orders WHERE archived"); // Noncompliant {{Move this NamedParameterJdbcTemplate out of the loop and reuse it; it is created again on every iteration.}}
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package test.files.facadeinstantiation;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import test.files.shared.TestModels.Order;
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Tests detection of a JdbcClient created on every request by a controller method.
+ * EXPECTED: 1 issue
+ */
+@RestController
+class PerRequestInControllerTest {
+
+    private final DataSource dataSource;
+
+    PerRequestInControllerTest(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @GetMapping("/orders")
+    List<Order> orders() {
+        JdbcClient perRequest = JdbcClient.create(dataSource); // Noncompliant {{Inject this JdbcClient or create it in the constructor; this controller method creates it again on every call.}}
+        return perRequest.sql("SELECT * FROM orders WHERE status = 'new'").query(Order.class).list();
+    }
+}
@@ -0,0 +1,18 @@
+package test.files.heavyweightcopy;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests detection of an unlimited result copied into a list of maps with JdbcClient.
+ * EXPECTED: 1 issue
+ */
+class ClientListOfRowsTest {
+
+    private JdbcClient jdbcClient;
+
+    List<Map<String, Object>> clientListOfRows() {
+        return jdbcClient.sql("SELECT * FROM orders").query().listOfRows(); // Noncompliant {{Map the rows to a typed record with a RowMapper, or stream them, instead of copying this unlimited result into a list of maps.}}
+    }
+}
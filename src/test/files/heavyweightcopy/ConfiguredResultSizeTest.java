@@ -0,0 +1,22 @@
+package test.files.heavyweightcopy;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests the smallResultRows rule property, set to 1000.
+ * EXPECTED: 1 issue - a limit above the configured size
+ */
+class ConfiguredResultSizeTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    List<Map<String, Object>> withinConfiguredSize() {
+        return jdbcTemplate.queryForList("SELECT * FROM orders LIMIT 500");
+    }
+
+    List<Map<String, Object>> aboveConfiguredSize() {
+        return jdbcTemplate.queryForList("SELECT * FROM orders LIMIT 5000"); // Noncompliant
+    }
+}
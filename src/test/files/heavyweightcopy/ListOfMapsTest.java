@@ -0,0 +1,18 @@
+package test.files.heavyweightcopy;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests detection of a large limited result copied into a list of maps with JdbcTemplate.
+ * EXPECTED: 1 issue
+ */
+class ListOfMapsTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    List<Map<String, Object>> listOfMaps(String status) {
+        return jdbcTemplate.queryForList("SELECT * FROM orders WHERE status = ? LIMIT 5000", status); // Noncompliant {{Map the rows to a typed record with a RowMapper, or stream them, instead of copying the result into a list of maps.}}
+    }
+}
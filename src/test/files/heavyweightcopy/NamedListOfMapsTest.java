@@ -0,0 +1,18 @@
+package test.files.heavyweightcopy;
+
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests detection of a result copied into a list of maps with NamedParameterJdbcTemplate.
+ * EXPECTED: 1 issue
+ */
+class NamedListOfMapsTest {
+
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    List<Map<String, Object>> namedListOfMaps(Map<String, Object> params) {
+        return namedParameterJdbcTemplate.queryForList("SELECT * FROM orders WHERE status = :status", params); // Noncompliant
+    }
+}
@@ -0,0 +1,20 @@
+package test.files.heavyweightcopy;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.rowset.SqlRowSet;
+import java.util.List;
+
+/**
+ * Tests detection of a small result copied into a SqlRowSet on every loop iteration.
+ * EXPECTED: 1 issue
+ */
+class RowSetInLoopTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    void inLoop(List<String> statuses) {
+        for (String status : statuses) {
+            SqlRowSet rows = jdbcTemplate.queryForRowSet("SELECT * FROM orders WHERE status = ? LIMIT 10", status); // Noncompliant {{Map the rows to a typed record with a RowMapper, or stream them, instead of copying the result into a disconnected SqlRowSet on every iteration.}}
+        }
+    }
+}
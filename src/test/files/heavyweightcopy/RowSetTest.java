@@ -0,0 +1,17 @@
+package test.files.heavyweightcopy;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.rowset.SqlRowSet;
+
+/**
+ * Tests detection of an unlimited result copied into a SqlRowSet.
+ * EXPECTED: 1 issue
+ */
+class RowSetTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    SqlRowSet rowSet() {
+        return jdbcTemplate.queryForRowSet("SELECT * FROM orders"); // Noncompliant {{Map the rows to a typed record with a RowMapper, or stream them, instead of copying this unlimited result into a disconnected SqlRowSet.}}
+    }
+}
@@ -0,0 +1,17 @@
+package test.files.heavyweightcopy;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.rowset.SqlRowSet;
+
+/**
+ * Tests that a small result limited with FETCH FIRST is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class SmallFetchFirstTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    SqlRowSet smallFetchFirst() {
+        return jdbcTemplate.queryForRowSet("SELECT * FROM orders ORDER BY id FETCH FIRST 20 ROWS ONLY");
+    }
+}
@@ -0,0 +1,18 @@
+package test.files.heavyweightcopy;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests that a small result limited with LIMIT is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class SmallLimitTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    List<Map<String, Object>> smallResult() {
+        return jdbcTemplate.queryForList("SELECT * FROM orders ORDER BY amount DESC LIMIT 10");
+    }
+}
@@ -0,0 +1,17 @@
+package test.files.heavyweightcopy;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.List;
+
+/**
+ * Tests that a list of typed elements is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class TypedElementsTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    List<String> typedElements() {
+        return jdbcTemplate.queryForList("SELECT status FROM orders", String.class);
+    }
+}
@@ -0,0 +1,20 @@
+package test.files.heavyweightcopy;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+
+/**
+ * Tests that rows mapped with a RowMapper are NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class TypedRowsTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    List<Order> typedRows() {
+        return jdbcTemplate.query("SELECT * FROM orders", orderMapper);
+    }
+}
@@ -0,0 +1,18 @@
+package test.files.heavyweightcopy;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests detection of a result of unknown SQL copied into a list of maps.
+ * EXPECTED: 1 issue
+ */
+class UnknownSqlTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    List<Map<String, Object>> unknownSql(String sql) {
+        return jdbcTemplate.queryForList(sql); // Noncompliant {{Map the rows to a typed record with a RowMapper, or stream them, instead of copying the result into a list of maps.}}
+    }
+}
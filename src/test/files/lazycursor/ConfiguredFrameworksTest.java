@@ -0,0 +1,23 @@
+package test.files.lazycursor;
+
+import jakarta.persistence.EntityManager;
+import org.jooq.DSLContext;
+import test.files.shared.TestModels.Order;
+
+/**
+ * Tests that only the frameworks configured in the rule property are checked.
+ * EXPECTED: 1 issue - the JPA stream, jOOQ is disabled
+ */
+class ConfiguredFrameworksTest {
+
+    private DSLContext dsl;
+    private EntityManager entityManager;
+
+    void jooqDisabled() {
+        dsl.selectFrom("orders").fetchLazy().fetchNext();
+    }
+
+    long jpaEnabled() {
+        return entityManager.createNativeQuery("SELECT * FROM orders").getResultStream().count(); // Noncompliant {{Use try-with-resources or close this JPA result stream in a finally block; it holds a database connection until closed.}}
+    }
+}
@@ -0,0 +1,61 @@
+package test.files.lazycursor;
+
+import jakarta.persistence.EntityManager;
+import org.apache.ibatis.cursor.Cursor;
+import org.hibernate.Session;
+import org.jooq.DSLContext;
+import test.files.shared.TestModels.Order;
+
+/**
+ * Tests that closed or returned lazy cursors, and look-alike methods without chain evidence, are not reported.
+ * EXPECTED: 0 issues
+ */
+class ManagedLazyCursorTest {
+
+    interface OrderMapper {
+        Cursor<Order> scanOrders();
+    }
+
+    private DSLContext dsl;
+    private OrderMapper orderMapper;
+    private EntityManager entityManager;
+    private Session session;
+    private ReportService reportService;
+
+    void tryWithResources() {
+        try (var cursor = dsl.selectFrom("orders").fetchLazy()) {
+            while (cursor.hasNext()) {
+                cursor.fetchNext();
+            }
+        }
+    }
+
+    void closedInFinally() {
+        Cursor<Order> cursor = orderMapper.scanOrders();
+        try {
+            cursor.forEach(System.out::println);
+        } finally {
+            cursor.close();
+        }
+    }
+
+    Object returnedToCaller() {
+        return entityManager.createQuery("select o from Order o", Order.class).getResultStream();
+    }
+
+    Object returnedViaVariable() {
+        var results = session.createQuery("from Order", Order.class).scroll();
+        return results;
+    }
+
+    void lookAlikeWithoutChainEvidence() {
+        reportService.fetchLazy();
+        reportService.scroll();
+    }
+
+    interface ReportService {
+        void fetchLazy();
+
+        void scroll();
+    }
+}
@@ -0,0 +1,57 @@
+package test.files.lazycursor;
+
+import jakarta.persistence.EntityManager;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.SqlSession;
+import org.hibernate.Session;
+import org.jooq.DSLContext;
+import test.files.shared.TestModels.Order;
+
+/**
+ * Tests detection of unclosed lazy cursors when the frameworks are not on the classpath.
+ * EXPECTED: 6 issues - one for each framework API, recognized by chain heuristics
+ */
+class UnclosedLazyCursorTest {
+
+    interface OrderMapper {
+        Cursor<Order> scanOrders();
+    }
+
+    private DSLContext dsl;
+    private SqlSession sqlSession;
+    private OrderMapper orderMapper;
+    private EntityManager entityManager;
+    private Session session;
+
+    void jooqFetchLazy() {
+        var cursor = dsl.selectFrom("orders").fetchLazy(); // Noncompliant {{Use try-with-resources or close this jOOQ cursor in a finally block; it holds a database connection until closed.}}
+        while (cursor.hasNext()) {
+            cursor.fetchNext();
+        }
+    }
+
+    long jooqFetchStream() {
+        return dsl.fetchStream("SELECT * FROM orders").count(); // Noncompliant {{Use try-with-resources or close this jOOQ cursor in a finally block; it holds a database connection until closed.}}
+    }
+
+    void myBatisSelectCursor() {
+        sqlSession.selectCursor("orders.scan").forEach(System.out::println); // Noncompliant {{Use try-with-resources or close this MyBatis cursor in a finally block; it holds a database connection until closed.}}
+    }
+
+    void myBatisMapperCursor() {
+        orderMapper.scanOrders().forEach(System.out::println); // Noncompliant {{Use try-with-resources or close this MyBatis cursor in a finally block; it holds a database connection until closed.}}
+    }
+
+    void jpaResultStream() {
+        entityManager.createQuery("select o from Order o", Order.class) // Noncompliant {{Use try-with-resources or close this JPA result stream in a finally block; it holds a database connection until closed.}}
+            .getResultStream()
+            .forEach(System.out::println);
+    }
+
+    void hibernateScroll() {
+        var results = session.createQuery("from Order", Order.class).scroll(); // Noncompliant {{Use try-with-resources or close this Hibernate ScrollableResults in a finally block; it holds a database connection until closed.}}
+        while (results.next()) {
+            results.get();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package test.files.mustbeclosed;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.stream.Stream;
+
+/**
+ * Tests SpringJdbcStreamLeakCheck configured with a custom annotation instead of @MustBeClosed.
+ * EXPECTED: 2 issues - unmanaged call to a method annotated with the configured annotation and
+ * stream returned by a method whose annotation is not configured
+ */
+class CustomContractTest {
+
+    @interface CursorOwner {
+    }
+
+    @interface MustBeClosed {
+    }
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    @CursorOwner
+    Stream<Order> openOrders() {
+        return jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper);
+    }
+
+    @MustBeClosed
+    Stream<Order> legacyOrders() {
+        return jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper); // Noncompliant
+    }
+
+    long countOpen() {
+        return openOrders().count(); // Noncompliant
+    }
+
+    long countLegacy() {
+        return legacyOrders().count();
+    }
+}
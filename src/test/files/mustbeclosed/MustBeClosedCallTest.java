@@ -0,0 +1,62 @@
+package test.files.mustbeclosed;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Tests SpringJdbcStreamLeakCheck on calls to methods annotated with @MustBeClosed.
+ * EXPECTED: 4 issues - unmanaged call to an annotated method, call chained on an annotated
+ * method, stream returned from a lambda of an annotated method and stream returned by an
+ * unannotated method
+ */
+class MustBeClosedCallTest {
+
+    @interface MustBeClosed {
+    }
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    @MustBeClosed
+    Stream<Order> openOrders(String status) {
+        return jdbcTemplate.queryForStream("SELECT * FROM orders WHERE status = ?", orderMapper, status);
+    }
+
+    @MustBeClosed
+    Stream<Order> allOrders() {
+        Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper);
+        return orders;
+    }
+
+    @MustBeClosed
+    Stream<Order> shippedOrders() {
+        return openOrders("SHIPPED");
+    }
+
+    long countPending() {
+        Stream<Order> orders = openOrders("PENDING"); // Noncompliant {{This stream holds a database connection and must be used within a try-with-resources statement.}}
+        return orders.count();
+    }
+
+    long countAll() {
+        return allOrders().count(); // Noncompliant
+    }
+
+    long countPendingCorrectly() {
+        try (Stream<Order> orders = openOrders("PENDING")) {
+            return orders.count();
+        }
+    }
+
+    @MustBeClosed
+    Supplier<Stream<Order>> deferredOrders() {
+        return () -> jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper); // Noncompliant
+    }
+
+    Stream<Order> unannotated() {
+        return jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper); // Noncompliant
+    }
+}
@@ -0,0 +1,80 @@
+package test.files.mustbeclosed;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import test.files.shared.TestModels.Order;
+import test.files.shared.TestModels.User;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Tests the @MustBeClosed contract on methods returning connection-holding streams.
+ * EXPECTED: 5 issues - returned queryForStream, JdbcClient stream returned through a local,
+ * returned derived stream, returned iterator and returned call to an annotated method
+ */
+class MustBeClosedContractTest {
+
+    @interface MustBeClosed {
+    }
+
+    interface OrderRepository {
+        Stream<Order> findAll();
+    }
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcClient jdbcClient;
+    private RowMapper<Order> orderMapper;
+
+    Stream<Order> getOrdersByStatus(String status) { // Noncompliant {{Annotate this method with @MustBeClosed; it returns a stream holding a database connection that its callers must close.}}
+        return jdbcTemplate.queryForStream("SELECT * FROM orders WHERE status = ?", orderMapper, status);
+    }
+
+    Stream<User> allUsers() { // Noncompliant
+        Stream<User> users = jdbcClient.sql("SELECT * FROM users").query(User.class).stream();
+        return users;
+    }
+
+    Stream<Order> recentOrders() { // Noncompliant
+        return jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper).limit(100);
+    }
+
+    Iterator<Order> orderIterator() { // Noncompliant
+        return jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper).iterator();
+    }
+
+    Stream<Order> pendingOrders() { // Noncompliant
+        return openOrders("PENDING");
+    }
+
+    @MustBeClosed
+    Stream<Order> openOrders(String status) {
+        return jdbcTemplate.queryForStream("SELECT * FROM orders WHERE status = ?", orderMapper, status);
+    }
+
+    @MustBeClosed
+    Stream<Order> shippedOrders() {
+        return openOrders("SHIPPED");
+    }
+
+    List<Order> consumedOrders() {
+        try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper)) {
+            return orders.collect(Collectors.toList());
+        }
+    }
+
+    long countOrders() {
+        try (Stream<Order> orders = openOrders("PENDING")) {
+            return orders.count();
+        }
+    }
+
+    Supplier<Stream<Order>> deferredOrders() {
+        return () -> {
+            return jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper);
+        };
+    }
+}
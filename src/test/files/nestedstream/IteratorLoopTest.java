@@ -0,0 +1,28 @@
+package test.files.nestedstream;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import test.files.shared.TestModels.User;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Tests detection of a JDBC stream opened in a loop over another stream's iterator.
+ * EXPECTED: 1 issue
+ */
+class IteratorLoopTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+    private RowMapper<User> userMapper;
+
+    void iteratorLoop() {
+        Iterator<User> users = jdbcTemplate.queryForStream("SELECT * FROM users", userMapper).iterator();
+        while (users.hasNext()) {
+            User user = users.next();
+            Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders WHERE user_name = ?", orderMapper, user.name); // Noncompliant
+            orders.close();
+        }
+    }
+}
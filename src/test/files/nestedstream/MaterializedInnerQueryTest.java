@@ -0,0 +1,28 @@
+package test.files.nestedstream;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import test.files.shared.TestModels.User;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Tests that a materialized query run while a stream is consumed is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class MaterializedInnerQueryTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+    private RowMapper<User> userMapper;
+
+    void materializedInnerQuery() {
+        try (Stream<User> users = jdbcTemplate.queryForStream("SELECT * FROM users", userMapper)) {
+            users.forEach(user -> {
+                List<Order> orders = jdbcTemplate.query("SELECT * FROM orders WHERE user_name = ?", orderMapper, user.name);
+                orders.forEach(System.out::println);
+            });
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package test.files.nestedstream;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import test.files.shared.TestModels.Order;
+import test.files.shared.TestModels.User;
+
+/**
+ * Tests detection of a JDBC stream opened in the chained forEach of another stream.
+ * EXPECTED: 1 issue
+ */
+class NestedInChainedForEachTest {
+
+    private JdbcClient jdbcClient;
+
+    void nestedInChainedForEach() {
+        jdbcClient.sql("SELECT * FROM users").query(User.class).stream()
+            .filter(user -> user.age > 18)
+            .forEach(user -> jdbcClient.sql("SELECT * FROM orders WHERE user_name = ?").param(user.name).query(Order.class).stream().close()); // Noncompliant
+    }
+}
@@ -0,0 +1,28 @@
+package test.files.nestedstream;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import test.files.shared.TestModels.User;
+import java.util.stream.Stream;
+
+/**
+ * Tests detection of a JDBC stream opened in the forEach of another stream.
+ * EXPECTED: 1 issue
+ */
+class NestedInTryBlockTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+    private RowMapper<User> userMapper;
+
+    void nestedInTryBlock() {
+        try (Stream<User> users = jdbcTemplate.queryForStream("SELECT * FROM users", userMapper)) {
+            users.forEach(user -> {
+                try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders WHERE user_name = ?", orderMapper, user.name)) { // Noncompliant {{Do not open this JDBC stream while another one is being consumed; each holds its own pooled connection.}}
+                    orders.forEach(System.out::println);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package test.files.nestedstream;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import test.files.shared.TestModels.User;
+import java.util.stream.Stream;
+
+/**
+ * Tests that streams opened one after the other are NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class SequentialStreamsTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+    private RowMapper<User> userMapper;
+
+    void sequentialStreams() {
+        try (Stream<User> users = jdbcTemplate.queryForStream("SELECT * FROM users", userMapper)) {
+            users.forEach(System.out::println);
+        }
+        try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper)) {
+            orders.forEach(System.out::println);
+        }
+    }
+}
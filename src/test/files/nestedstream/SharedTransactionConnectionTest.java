@@ -0,0 +1,32 @@
+package test.files.nestedstream;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.annotation.Transactional;
+import test.files.shared.TestModels.Order;
+import test.files.shared.TestModels.User;
+import java.util.stream.Stream;
+
+/**
+ * Tests that nested streams sharing the connection of a transaction are NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class SharedTransactionConnectionTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+    private RowMapper<User> userMapper;
+
+    @Transactional(readOnly = true)
+    void sharedTransactionConnection() {
+        try (Stream<User> users = jdbcTemplate.queryForStream("SELECT * FROM users", userMapper)) {
+            users.forEach(this::printOrders);
+        }
+    }
+
+    private void printOrders(User user) {
+        try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders WHERE user_name = ?", orderMapper, user.name)) {
+            orders.forEach(System.out::println);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package test.files.nestedstream;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import test.files.shared.TestModels.User;
+import java.util.stream.Stream;
+
+/**
+ * Tests detection of a helper opening a JDBC stream passed as method reference to forEach.
+ * EXPECTED: 1 issue
+ */
+class ThroughMethodReferenceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+    private RowMapper<User> userMapper;
+
+    void throughMethodReference() {
+        try (Stream<User> users = jdbcTemplate.queryForStream("SELECT * FROM users", userMapper)) {
+            users.forEach(this::printOrders); // Noncompliant {{Do not call "printOrders" while a JDBC stream is being consumed; it opens a second stream holding its own pooled connection.}}
+        }
+    }
+
+    private void printOrders(User user) {
+        try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders WHERE user_name = ?", orderMapper, user.name)) {
+            orders.forEach(System.out::println);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package test.files.noncompliant;
+
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.User;
+import java.util.stream.Stream;
+
+/**
+ * Tests detection of queryForStream() called through an injected JdbcOperations interface,
+ * both as a plain identifier and as a field accessed through this.
+ * EXPECTED: 2 issues
+ */
+class JdbcOperationsQueryForStreamTest {
+    private final JdbcOperations jdbcOperations;
+    private RowMapper<User> rowMapper;
+
+    JdbcOperationsQueryForStreamTest(JdbcOperations jdbcOperations) {
+        this.jdbcOperations = jdbcOperations;
+    }
+
+    void testCase() {
+        Stream<User> users = jdbcOperations.queryForStream("SELECT * FROM users", rowMapper); // Noncompliant {{This stream holds a database connection and must be used within a try-with-resources statement.}}
+        users.forEach(user -> System.out.println(user.name));
+
+        long count = this.jdbcOperations.queryForStream("SELECT * FROM users", rowMapper).count(); // Noncompliant {{This stream holds a database connection and must be used within a try-with-resources statement.}}
+    }
+}
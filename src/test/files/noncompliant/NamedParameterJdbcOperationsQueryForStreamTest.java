@@ -0,0 +1,20 @@
+package test.files.noncompliant;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import test.files.shared.TestModels.User;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Tests detection of queryForStream() called through an injected NamedParameterJdbcOperations interface.
+ * EXPECTED: 1 issue
+ */
+class NamedParameterJdbcOperationsQueryForStreamTest {
+    private NamedParameterJdbcOperations namedJdbcOperations;
+    private RowMapper<User> rowMapper;
+
+    Stream<User> testCase(int minAge) {
+        return namedJdbcOperations.queryForStream("SELECT * FROM users WHERE age > :age", Map.of("age", minAge), rowMapper); // Noncompliant {{This stream holds a database connection and must be used within a try-with-resources statement.}}
+    }
+}
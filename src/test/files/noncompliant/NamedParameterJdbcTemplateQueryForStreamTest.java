@@ -0,0 +1,27 @@
+package test.files.noncompliant;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import test.files.shared.TestModels.User;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Tests detection of NamedParameterJdbcTemplate.queryForStream() without try-with-resources.
+ * EXPECTED: 2 issues - one per overload (Map and SqlParameterSource parameters)
+ */
+class NamedParameterJdbcTemplateQueryForStreamTest {
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private RowMapper<User> rowMapper;
+
+    void testCase() {
+        Stream<User> byMap = namedParameterJdbcTemplate.queryForStream( // Noncompliant {{This stream holds a database connection and must be used within a try-with-resources statement.}}
+            "SELECT * FROM users WHERE age > :age", Map.of("age", 18), rowMapper);
+        byMap.forEach(user -> System.out.println(user.name));
+
+        Stream<User> bySource = namedParameterJdbcTemplate.queryForStream( // Noncompliant {{This stream holds a database connection and must be used within a try-with-resources statement.}}
+            "SELECT * FROM users WHERE age > :age", new MapSqlParameterSource("age", 18), rowMapper);
+        bySource.forEach(user -> System.out.println(user.name));
+    }
+}
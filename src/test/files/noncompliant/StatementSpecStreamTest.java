@@ -0,0 +1,18 @@
+package test.files.noncompliant;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import test.files.shared.TestModels.User;
+import java.util.stream.Stream;
+
+/**
+ * Tests detection of stream() on a query started from an interface-typed JdbcClient.StatementSpec field.
+ * EXPECTED: 1 issue
+ */
+class StatementSpecStreamTest {
+    private JdbcClient.StatementSpec usersStatement;
+
+    void testCase() {
+        Stream<User> users = usersStatement.query(User.class).stream(); // Noncompliant {{This stream holds a database connection and must be used within a try-with-resources statement.}}
+        users.forEach(user -> System.out.println(user.name));
+    }
+}
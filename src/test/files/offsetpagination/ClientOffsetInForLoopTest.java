@@ -0,0 +1,28 @@
+package test.files.offsetpagination;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+
+/**
+ * Tests detection of JdbcClient OFFSET pagination driven by a for loop counter.
+ * EXPECTED: 1 issue
+ */
+class ClientOffsetInForLoopTest {
+
+    private static final int PAGE_SIZE = 500;
+
+    private JdbcClient jdbcClient;
+
+    void forLoopWithClient() {
+        for (int page = 0; ; page++) {
+            List<Order> orders = jdbcClient.sql("SELECT * FROM orders ORDER BY id LIMIT 500 OFFSET :offset") // Noncompliant {{Replace this OFFSET pagination driven by "page" with keyset pagination; every page rescans all previous rows.}}
+                .param("offset", page * PAGE_SIZE)
+                .query(Order.class)
+                .list();
+            if (orders.isEmpty()) {
+                break;
+            }
+        }
+    }
+}
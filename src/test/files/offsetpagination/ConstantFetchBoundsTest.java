@@ -0,0 +1,20 @@
+package test.files.offsetpagination;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.List;
+
+/**
+ * Tests that FETCH NEXT with constant bounds inside a loop is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class ConstantFetchBoundsTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    void fetchNextWithConstantBounds(List<String> statuses) {
+        for (String status : statuses) {
+            System.out.println(status);
+            jdbcTemplate.queryForList("SELECT id FROM orders ORDER BY id FETCH NEXT 10 ROWS ONLY");
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package test.files.offsetpagination;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import test.files.shared.TestModels.Order;
+
+/**
+ * Tests detection of OFFSET ... FETCH NEXT pagination driven by a while loop counter.
+ * EXPECTED: 1 issue
+ */
+class FetchNextInWhileLoopTest {
+
+    private JdbcClient jdbcClient;
+
+    void fetchNextInWhileLoop(int pages) {
+        int page = 0;
+        while (page < pages) {
+            jdbcClient.sql("SELECT * FROM orders ORDER BY id OFFSET :skip ROWS FETCH NEXT 100 ROWS ONLY") // Noncompliant
+                .param("skip", page++ * 100)
+                .query(Order.class)
+                .list();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package test.files.offsetpagination;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests that the driver of an OFFSET pagination is the parameter bound to the OFFSET placeholder,
+ * not a loop-varying filter value bound before it.
+ * EXPECTED: 1 issue
+ */
+class FilterAndOffsetInLoopTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    void filterAndOffset(List<String> statuses) {
+        for (String status : statuses) {
+            int offset = 0;
+            List<Map<String, Object>> rows;
+            do {
+                rows = jdbcTemplate.queryForList("SELECT id FROM orders WHERE status = ? ORDER BY id LIMIT 10 OFFSET ?", status, offset); // Noncompliant {{Replace this OFFSET pagination driven by "offset" with keyset pagination; every page rescans all previous rows.}}
+                offset += 10;
+            } while (!rows.isEmpty());
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package test.files.offsetpagination;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import java.util.List;
+
+/**
+ * Tests that a loop over the values of a WHERE filter is NOT flagged when the paging bounds are constant.
+ * EXPECTED: 0 issues
+ */
+class FilterLoopWithFetchNextTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcClient jdbcClient;
+
+    void positionalFilter(List<String> statuses) {
+        for (String status : statuses) {
+            jdbcTemplate.queryForList("SELECT id FROM orders WHERE status = ? ORDER BY id FETCH NEXT 10 ROWS ONLY", status);
+        }
+    }
+
+    void namedFilter(List<String> statuses) {
+        for (String status : statuses) {
+            jdbcClient.sql("SELECT id FROM orders WHERE status = :status ORDER BY id FETCH NEXT 10 ROWS ONLY")
+                .param("status", status)
+                .query(Long.class)
+                .list();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package test.files.offsetpagination;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+
+/**
+ * Tests that keyset pagination inside a loop is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class KeysetPaginationTest {
+
+    private JdbcClient jdbcClient;
+
+    void keysetPagination() {
+        long lastId = 0;
+        while (true) {
+            List<Order> orders = jdbcClient.sql("SELECT * FROM orders WHERE id > :lastId ORDER BY id LIMIT 500")
+                .param("lastId", lastId)
+                .query(Order.class)
+                .list();
+            if (orders.isEmpty()) {
+                break;
+            }
+            lastId++;
+        }
+    }
+}
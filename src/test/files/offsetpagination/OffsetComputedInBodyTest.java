@@ -0,0 +1,20 @@
+package test.files.offsetpagination;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.List;
+
+/**
+ * Tests detection of OFFSET pagination in a loop whose offset is computed in the loop body.
+ * EXPECTED: 1 issue - reported without naming a driver variable
+ */
+class OffsetComputedInBodyTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    void offsetComputedInBody(List<Integer> pages) {
+        for (Integer ignored : pages) {
+            int skip = ignored * 10;
+            jdbcTemplate.queryForList("SELECT id FROM orders ORDER BY id LIMIT 10 OFFSET ?", skip); // Noncompliant {{Replace this OFFSET pagination inside a loop with keyset pagination; every page rescans all previous rows.}}
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package test.files.offsetpagination;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+
+/**
+ * Tests detection of Oracle ROWNUM pagination driven by a loop variable.
+ * EXPECTED: 1 issue
+ */
+class OracleRownumTest {
+
+    private static final int PAGE_SIZE = 500;
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    void oracleRownum() {
+        for (int start = 0; start < 10_000; start += PAGE_SIZE) {
+            jdbcTemplate.query("SELECT * FROM (SELECT o.*, ROWNUM rn FROM orders o) WHERE rn > ? AND rn <= ?", // Noncompliant {{Replace this OFFSET pagination driven by "start" with keyset pagination; every page rescans all previous rows.}}
+                orderMapper, start, start + PAGE_SIZE);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package test.files.offsetpagination;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+
+/**
+ * Tests that a single OFFSET page outside of any loop is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class SinglePageOutsideLoopTest {
+
+    private static final int PAGE_SIZE = 500;
+    private static final String PAGE_QUERY = "SELECT * FROM orders ORDER BY id LIMIT ? OFFSET ?";
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    void singlePageOutsideLoop(int offset) {
+        jdbcTemplate.query(PAGE_QUERY, orderMapper, PAGE_SIZE, offset);
+    }
+}
@@ -0,0 +1,28 @@
+package test.files.offsetpagination;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+
+/**
+ * Tests detection of JdbcTemplate OFFSET pagination driven by a variable advanced in a do-while loop.
+ * EXPECTED: 1 issue
+ */
+class TemplateOffsetInDoWhileTest {
+
+    private static final int PAGE_SIZE = 500;
+    private static final String PAGE_QUERY = "SELECT * FROM orders ORDER BY id LIMIT ? OFFSET ?";
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    void whileLoopWithTemplate() {
+        int offset = 0;
+        List<Order> orders;
+        do {
+            orders = jdbcTemplate.query(PAGE_QUERY, orderMapper, PAGE_SIZE, offset); // Noncompliant {{Replace this OFFSET pagination driven by "offset" with keyset pagination; every page rescans all previous rows.}}
+            offset += PAGE_SIZE;
+        } while (!orders.isEmpty());
+    }
+}
@@ -0,0 +1,21 @@
+package test.files.perrowwrite;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import test.files.shared.TestModels.Order;
+import java.util.stream.Stream;
+
+/**
+ * Tests detection of a JdbcClient update per row of a JDBC stream.
+ * EXPECTED: 1 issue
+ */
+class ClientUpdateTest {
+
+    private JdbcClient jdbcClient;
+
+    void clientUpdate() {
+        try (Stream<Order> orders = jdbcClient.sql("SELECT * FROM orders").query(Order.class).stream()) {
+            orders.filter(order -> order.amount > 100)
+                .forEach(order -> jdbcClient.sql("UPDATE orders SET flagged = true WHERE id = ?").param(order.id).update()); // Noncompliant
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package test.files.perrowwrite;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.stream.Stream;
+
+/**
+ * Tests detection of a helper writing per row of a JDBC stream.
+ * EXPECTED: 1 issue
+ */
+class HelperCallTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    void helperCall() {
+        try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper)) {
+            orders.forEach(order -> markSent(order)); // Noncompliant {{Collect the rows in chunks and write them with batchUpdate; "markSent" writes once per row while the stream holds its connection.}}
+        }
+    }
+
+    private void markSent(Order order) {
+        jdbcTemplate.update("UPDATE orders SET status = 'sent' WHERE id = ?", order.id);
+    }
+}
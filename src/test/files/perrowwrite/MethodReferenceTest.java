@@ -0,0 +1,23 @@
+package test.files.perrowwrite;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+
+/**
+ * Tests detection of a writing helper passed as method reference to forEach.
+ * EXPECTED: 1 issue
+ */
+class MethodReferenceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    void methodReference() {
+        jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper).forEach(this::markSent); // Noncompliant
+    }
+
+    private void markSent(Order order) {
+        jdbcTemplate.update("UPDATE orders SET status = 'sent' WHERE id = ?", order.id);
+    }
+}
@@ -0,0 +1,24 @@
+package test.files.perrowwrite;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionTemplate;
+import test.files.shared.TestModels.Order;
+import java.util.stream.Stream;
+
+/**
+ * Tests that a non-JDBC call per streamed row is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class NotAWriteTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private RowMapper<Order> orderMapper;
+
+    void notAWrite() {
+        try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper)) {
+            orders.forEach(order -> transactionTemplate.execute(status -> order.id));
+        }
+    }
+}
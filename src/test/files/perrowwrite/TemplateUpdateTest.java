@@ -0,0 +1,22 @@
+package test.files.perrowwrite;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.stream.Stream;
+
+/**
+ * Tests detection of a JdbcTemplate update per row of a JDBC stream.
+ * EXPECTED: 1 issue
+ */
+class TemplateUpdateTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    void templateUpdate() {
+        try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders WHERE status = 'pending'", orderMapper)) {
+            orders.forEach(order -> jdbcTemplate.update("UPDATE orders SET status = 'sent' WHERE id = ?", order.id)); // Noncompliant {{Collect the rows in chunks and write them with batchUpdate; this write runs once per row while the stream holds its connection.}}
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package test.files.perrowwrite;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Tests that a batch update after the stream is closed is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class WriteAfterStreamClosedTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    void writeAfterStreamClosed() {
+        List<String> ids;
+        try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper)) {
+            ids = orders.map(order -> order.id).collect(Collectors.toList());
+        }
+        jdbcTemplate.batchUpdate("UPDATE orders SET status = 'sent' WHERE id = ?", ids, ids.size(),
+            (ps, id) -> ps.setString(1, id));
+    }
+}
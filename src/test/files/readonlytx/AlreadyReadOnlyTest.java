@@ -0,0 +1,27 @@
+package test.files.readonlytx;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import test.files.shared.TestModels.Order;
+import java.util.stream.Stream;
+
+/**
+ * Tests that a streaming method in a read-only transaction is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+@Service
+class AlreadyReadOnlyTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    // Compliant: already read-only
+    @Transactional(readOnly = true)
+    public long readOnlyTransaction() {
+        try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper)) {
+            return orders.count();
+        }
+    }
+}
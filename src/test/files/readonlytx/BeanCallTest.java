@@ -0,0 +1,43 @@
+package test.files.readonlytx;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import test.files.shared.TestModels.Order;
+import java.util.stream.Stream;
+
+/**
+ * Tests that streaming methods calling other beans, repositories or an EntityManager are NOT flagged,
+ * since these calls may write.
+ * EXPECTED: 0 issues
+ */
+@Service
+class BeanCallTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+    private AuditRepository auditRepository;
+    private EntityManager entityManager;
+
+    @Transactional
+    public long repositoryCall() {
+        try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper)) {
+            long count = orders.count();
+            auditRepository.record("export", count);
+            return count;
+        }
+    }
+
+    @Transactional
+    public void entityManagerCall() {
+        try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper)) {
+            orders.forEach(order -> this.entityManager.persist(order));
+        }
+    }
+
+    interface AuditRepository {
+        void record(String action, long rows);
+    }
+}
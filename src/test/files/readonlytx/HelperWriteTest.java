@@ -0,0 +1,37 @@
+package test.files.readonlytx;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import test.files.shared.TestModels.Order;
+import java.util.stream.Stream;
+
+/**
+ * Tests that a streaming method writing through a helper of the same class is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+@Service
+class HelperWriteTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    @Transactional
+    public void helperCall() {
+        try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper)) {
+            orders.forEach(order -> markExported(order));
+        }
+    }
+
+    @Transactional
+    public void helperReference() {
+        try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper)) {
+            orders.forEach(this::markExported);
+        }
+    }
+
+    private void markExported(Order order) {
+        jdbcTemplate.update("UPDATE orders SET exported = true WHERE id = ?", order.id);
+    }
+}
@@ -0,0 +1,26 @@
+package test.files.readonlytx;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import test.files.shared.TestModels.Order;
+import java.util.stream.Stream;
+
+/**
+ * Tests that a streaming method inheriting a read-only class transaction is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+@Repository
+@Transactional(readOnly = true)
+class InheritedReadOnlyTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    public long inherited() {
+        try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper)) {
+            return orders.count();
+        }
+    }
+}
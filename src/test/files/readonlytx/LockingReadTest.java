@@ -0,0 +1,27 @@
+package test.files.readonlytx;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import test.files.shared.TestModels.Order;
+import java.util.stream.Stream;
+
+/**
+ * Tests that a locking read in a read-write transaction is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+@Service
+class LockingReadTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    // Compliant: locking read needs a read-write transaction
+    @Transactional
+    public long lockingRead() {
+        try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders FOR UPDATE SKIP LOCKED", orderMapper)) {
+            return orders.count();
+        }
+    }
+}
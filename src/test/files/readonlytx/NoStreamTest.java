@@ -0,0 +1,19 @@
+package test.files.readonlytx;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Tests that a read-only method without stream is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+@Service
+class NoStreamTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    // Compliant: no stream
+    public int noStream() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders", Integer.class);
+    }
+}
@@ -0,0 +1,24 @@
+package test.files.readonlytx;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import test.files.shared.TestModels.Order;
+import java.util.stream.Stream;
+
+/**
+ * Tests detection of a read-only streaming repository method without transaction.
+ * EXPECTED: 1 issue
+ */
+@Repository
+class NoTransactionInRepositoryTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    public long noTransaction() { // Noncompliant
+        try (Stream<Order> orders = jdbcTemplate.queryForStream("WITH recent AS (SELECT * FROM orders) SELECT * FROM recent", orderMapper)) {
+            return orders.count();
+        }
+    }
+}
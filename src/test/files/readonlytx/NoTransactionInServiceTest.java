@@ -0,0 +1,25 @@
+package test.files.readonlytx;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Service;
+import test.files.shared.TestModels.User;
+import java.util.stream.Stream;
+
+/**
+ * Tests detection of a read-only streaming service method without transaction.
+ * EXPECTED: 1 issue
+ */
+@Service
+class NoTransactionInServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcClient jdbcClient;
+
+    public long noTransaction() { // Noncompliant {{Annotate this method with "@Transactional(readOnly = true)"; it only reads, but its JDBC stream runs without a read-only transaction on the primary.}}
+        int total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Integer.class);
+        try (Stream<User> users = jdbcClient.sql("SELECT * FROM users").query(User.class).stream()) {
+            return users.count() + total;
+        }
+    }
+}
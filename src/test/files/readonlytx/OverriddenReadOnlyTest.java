@@ -0,0 +1,27 @@
+package test.files.readonlytx;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import test.files.shared.TestModels.Order;
+import java.util.stream.Stream;
+
+/**
+ * Tests detection of a read-write transaction overriding a read-only class transaction.
+ * EXPECTED: 1 issue
+ */
+@Repository
+@Transactional(readOnly = true)
+class OverriddenReadOnlyTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    @Transactional
+    public long overridden() { // Noncompliant {{Declare this transaction with "readOnly = true"; this method only reads, but its JDBC stream runs in a read-write transaction on the primary.}}
+        try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper)) {
+            return orders.count();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package test.files.readonlytx;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import test.files.shared.TestModels.Order;
+import java.util.stream.Stream;
+
+/**
+ * Tests that a stream read in a TransactionTemplate callback is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+@Service
+class ProgrammaticTransactionTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private RowMapper<Order> orderMapper;
+
+    // Compliant: the transaction is configured on the template
+    public Long programmaticTransaction() {
+        return transactionTemplate.execute(status -> {
+            try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper)) {
+                return orders.count();
+            }
+        });
+    }
+}
@@ -0,0 +1,32 @@
+package test.files.readonlytx;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import test.files.shared.TestModels.Order;
+import java.io.PrintStream;
+import java.util.stream.Stream;
+
+/**
+ * Tests detection of a read-only streaming method whose other calls only reach JDK objects and read-only helpers.
+ * EXPECTED: 1 issue
+ */
+@Service
+class ReadOnlyHelperTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+    private PrintStream out;
+
+    @Transactional
+    public void export() { // Noncompliant {{Declare this transaction with "readOnly = true"; this method only reads, but its JDBC stream runs in a read-write transaction on the primary.}}
+        try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper)) {
+            orders.forEach(order -> out.println(format(order)));
+        }
+    }
+
+    private String format(Order order) {
+        return order.id + ";" + order.amount;
+    }
+}
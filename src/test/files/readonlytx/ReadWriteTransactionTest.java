@@ -0,0 +1,26 @@
+package test.files.readonlytx;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import test.files.shared.TestModels.Order;
+import java.util.stream.Stream;
+
+/**
+ * Tests detection of a read-only streaming method in a read-write transaction.
+ * EXPECTED: 1 issue
+ */
+@Service
+class ReadWriteTransactionTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    @Transactional
+    public long readWriteTransaction() { // Noncompliant {{Declare this transaction with "readOnly = true"; this method only reads, but its JDBC stream runs in a read-write transaction on the primary.}}
+        try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders WHERE status = ?", orderMapper, "new")) {
+            return orders.count();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package test.files.readonlytx;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import test.files.shared.TestModels.Order;
+import java.util.stream.Stream;
+
+/**
+ * Tests that a streaming method that also writes with JdbcTemplate is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+@Service
+class ReadsAndWritesTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    // Compliant: the method also writes
+    @Transactional
+    public void readsAndWrites() {
+        try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper)) {
+            orders.forEach(order -> System.out.println(order.id));
+        }
+        jdbcTemplate.update("UPDATE orders SET exported = true");
+    }
+}
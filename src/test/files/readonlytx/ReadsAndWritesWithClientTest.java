@@ -0,0 +1,24 @@
+package test.files.readonlytx;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Service;
+import test.files.shared.TestModels.User;
+import java.util.stream.Stream;
+
+/**
+ * Tests that a streaming method that also writes with JdbcClient is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+@Service
+class ReadsAndWritesWithClientTest {
+
+    private JdbcClient jdbcClient;
+
+    // Compliant: JdbcClient write
+    public void readsAndWritesWithClient() {
+        try (Stream<User> users = jdbcClient.sql("SELECT * FROM users").query(User.class).stream()) {
+            users.forEach(user -> System.out.println(user.name));
+        }
+        jdbcClient.sql("DELETE FROM users WHERE age < 0").update();
+    }
+}
@@ -0,0 +1,24 @@
+package test.files.remotecall;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Tests that a remote call between two short TransactionTemplate callbacks is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class BetweenShortTransactionsTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RestTemplate restTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    void remoteCallBetweenShortTransactions(long orderId) {
+        transactionTemplate.executeWithoutResult(status ->
+            jdbcTemplate.update("INSERT INTO orders (id, status) VALUES (?, 'new')", orderId));
+        restTemplate.postForObject("http://payments/charge", orderId, String.class);
+        transactionTemplate.executeWithoutResult(status ->
+            jdbcTemplate.update("UPDATE orders SET status = 'paid' WHERE id = ?", orderId));
+    }
+}
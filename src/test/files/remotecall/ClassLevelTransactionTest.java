@@ -0,0 +1,23 @@
+package test.files.remotecall;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Tests detection of a REST call in a method of a class annotated with @Transactional.
+ * EXPECTED: 1 issue
+ */
+class ClassLevelTransactionTest {
+
+    @Transactional
+    static class TransactionalService {
+        private JdbcTemplate jdbcTemplate;
+        private RestTemplate restTemplate;
+
+        void classLevelTransaction(long orderId) {
+            restTemplate.delete("http://inventory/reservations/" + orderId); // Noncompliant
+            jdbcTemplate.update("DELETE FROM reservations WHERE order_id = ?", orderId);
+        }
+    }
+}
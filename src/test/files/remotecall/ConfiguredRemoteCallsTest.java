@@ -0,0 +1,25 @@
+package test.files.remotecall;
+
+import com.example.inventory.InventoryGateway;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Tests that the remoteCalls rule property replaces the default remote APIs.
+ * EXPECTED: 2 issues - the configured gateway and Thread.sleep, RestTemplate is no longer listed
+ */
+class ConfiguredRemoteCallsTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RestTemplate restTemplate;
+    private InventoryGateway inventoryGateway;
+
+    @Transactional
+    void reserve(long orderId) throws InterruptedException {
+        jdbcTemplate.update("UPDATE orders SET status = 'reserved' WHERE id = ?", orderId);
+        inventoryGateway.reserve(orderId); // Noncompliant
+        Thread.sleep(100); // Noncompliant
+        restTemplate.postForObject("http://payments/charge", orderId, String.class);
+    }
+}
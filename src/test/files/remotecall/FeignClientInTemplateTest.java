@@ -0,0 +1,27 @@
+package test.files.remotecall;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Tests detection of a Feign client call in a TransactionTemplate callback with JDBC access.
+ * EXPECTED: 1 issue
+ */
+class FeignClientInTemplateTest {
+
+    @FeignClient(name = "payments")
+    interface PaymentClient {
+        String charge(long orderId);
+    }
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private PaymentClient paymentClient;
+
+    void templateCallback(long orderId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE orders SET status = 'paid' WHERE id = ?", orderId);
+            paymentClient.charge(orderId); // Noncompliant
+        });
+    }
+}
@@ -0,0 +1,23 @@
+package test.files.remotecall;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+/**
+ * Tests detection of a JDK HttpClient call in a @Transactional method with JDBC access.
+ * EXPECTED: 1 issue
+ */
+class JdkHttpClientTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private HttpClient httpClient;
+
+    @Transactional
+    String jdkHttpClient(HttpRequest request) throws Exception {
+        jdbcTemplate.queryForObject("SELECT status FROM orders WHERE id = 1", String.class);
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString()).body(); // Noncompliant
+    }
+}
@@ -0,0 +1,22 @@
+package test.files.remotecall;
+
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Tests that messaging and remote calls in a @Transactional method without JDBC access are NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class MessagingWithoutJdbcTest {
+
+    private RestTemplate restTemplate;
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @Transactional
+    void messagingWithoutJdbcAccess(long orderId) {
+        // Neither template runs JDBC statements
+        kafkaTemplate.send("orders", String.valueOf(orderId));
+        restTemplate.postForObject("http://payments/charge", orderId, String.class);
+    }
+}
@@ -0,0 +1,19 @@
+package test.files.remotecall;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Tests that a remote call outside any transaction is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class NoTransactionTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RestTemplate restTemplate;
+
+    void noTransaction(long orderId) {
+        jdbcTemplate.update("INSERT INTO orders (id, status) VALUES (?, 'new')", orderId);
+        restTemplate.postForObject("http://payments/charge", orderId, String.class);
+    }
+}
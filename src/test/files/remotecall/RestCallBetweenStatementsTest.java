@@ -0,0 +1,22 @@
+package test.files.remotecall;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Tests detection of a REST call between the statements of a @Transactional method.
+ * EXPECTED: 1 issue
+ */
+class RestCallBetweenStatementsTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RestTemplate restTemplate;
+
+    @Transactional
+    void restCallBetweenStatements(long orderId) {
+        jdbcTemplate.update("INSERT INTO orders (id, status) VALUES (?, 'new')", orderId);
+        restTemplate.postForObject("http://payments/charge", orderId, String.class); // Noncompliant {{Move this remote call out of the transaction; it holds a pooled database connection for the whole call.}}
+        jdbcTemplate.update("UPDATE orders SET status = 'paid' WHERE id = ?", orderId);
+    }
+}
@@ -0,0 +1,19 @@
+package test.files.remotecall;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Tests detection of Thread.sleep() in a @Transactional method with JDBC access.
+ * EXPECTED: 1 issue
+ */
+class SleepInTransactionTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    void sleepingInTransaction(long orderId) throws InterruptedException {
+        jdbcTemplate.update("UPDATE orders SET status = 'waiting' WHERE id = ?", orderId);
+        Thread.sleep(1000); // Noncompliant
+    }
+}
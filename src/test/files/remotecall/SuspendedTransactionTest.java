@@ -0,0 +1,22 @@
+package test.files.remotecall;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Tests that a remote call in a suspended transaction is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class SuspendedTransactionTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RestTemplate restTemplate;
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void suspendedTransaction(long orderId) {
+        jdbcTemplate.update("UPDATE orders SET status = 'paid' WHERE id = ?", orderId);
+        restTemplate.postForObject("http://payments/charge", orderId, String.class);
+    }
+}
@@ -0,0 +1,18 @@
+package test.files.remotecall;
+
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Tests that a remote call in a @Transactional method without JDBC access is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class TransactionWithoutJdbcTest {
+
+    private RestTemplate restTemplate;
+
+    @Transactional
+    String transactionWithoutJdbcAccess(long orderId) {
+        return restTemplate.getForObject("http://inventory/" + orderId, String.class);
+    }
+}
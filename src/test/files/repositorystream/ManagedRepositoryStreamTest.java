@@ -0,0 +1,45 @@
+package test.files.repositorystream;
+
+import org.springframework.data.repository.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import test.files.shared.TestModels.Order;
+import java.util.stream.Stream;
+
+/**
+ * Tests that repository streams closed by try-with-resources inside a transaction are NOT flagged,
+ * and that suspended transactions do not count as transactional scope.
+ * EXPECTED: 1 issue - only the NOT_SUPPORTED propagation
+ */
+@Transactional(readOnly = true)
+class ManagedRepositoryStreamTest {
+
+    interface OrderRepository extends Repository<Order, Long> {
+        Stream<Order> streamAllByStatus(String status);
+    }
+
+    private OrderRepository orderRepository;
+    private TransactionTemplate transactionTemplate;
+
+    long classLevelTransaction() {
+        try (Stream<Order> orders = orderRepository.streamAllByStatus("pending")) {
+            return orders.count();
+        }
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    long suspendedTransaction() {
+        try (Stream<Order> orders = orderRepository.streamAllByStatus("pending")) { // Noncompliant
+            return orders.count();
+        }
+    }
+
+    Long transactionTemplate() {
+        return transactionTemplate.execute(status -> {
+            try (Stream<Order> orders = orderRepository.streamAllByStatus("pending")) {
+                return orders.count();
+            }
+        });
+    }
+}
@@ -0,0 +1,41 @@
+package test.files.repositorystream;
+
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.transaction.annotation.Transactional;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Tests detection of repository stream query methods without try-with-resources or transaction.
+ * EXPECTED: 3 issues - one for each missing guarantee, list-returning methods are ignored
+ */
+class UnmanagedRepositoryStreamTest {
+
+    interface OrderRepository extends CrudRepository<Order, Long> {
+        Stream<Order> findAllByStatus(String status);
+
+        List<Order> findByStatus(String status);
+    }
+
+    private OrderRepository orderRepository;
+
+    long neitherClosedNorTransactional() {
+        return orderRepository.findAllByStatus("pending").count(); // Noncompliant {{This repository stream holds a database connection and must be used within a try-with-resources statement inside a transaction.}}
+    }
+
+    @Transactional(readOnly = true)
+    long transactionalButNotClosed() {
+        return orderRepository.findAllByStatus("pending").count(); // Noncompliant {{This repository stream holds a database connection and must be used within a try-with-resources statement.}}
+    }
+
+    long closedButNotTransactional() {
+        try (Stream<Order> orders = orderRepository.findAllByStatus("pending")) { // Noncompliant {{This repository stream must be consumed within a transaction (@Transactional or TransactionTemplate).}}
+            return orders.count();
+        }
+    }
+
+    int materialized() {
+        return orderRepository.findByStatus("pending").size();
+    }
+}
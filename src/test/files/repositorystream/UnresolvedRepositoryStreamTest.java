@@ -0,0 +1,21 @@
+package test.files.repositorystream;
+
+import test.files.shared.TestModels.Order;
+import java.util.stream.Stream;
+
+/**
+ * Tests the name-based fallback when the repository interface cannot be resolved.
+ * EXPECTED: 1 issue - only stream* methods on repository-named receivers
+ */
+class UnresolvedRepositoryStreamTest {
+    private UnknownOrderRepository orderRepository;
+    private UnknownOrderService orderService;
+
+    void testCase() {
+        Stream<Order> orders = orderRepository.streamAllByStatus("pending"); // Noncompliant
+        orders.forEach(order -> System.out.println(order.id));
+
+        orderService.streamAllByStatus("pending").forEach(order -> System.out.println(order.id));
+        orderRepository.findAll().stream().forEach(order -> System.out.println(order.id));
+    }
+}
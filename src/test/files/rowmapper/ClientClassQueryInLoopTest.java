@@ -0,0 +1,19 @@
+package test.files.rowmapper;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import test.files.shared.TestModels.Order;
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Tests detection of a class query on a JdbcClient created on every loop iteration.
+ * EXPECTED: 1 issue
+ */
+class ClientClassQueryInLoopTest {
+
+    private DataSource dataSource;
+
+    void clientClassQueryInLoop(List<Long> ids) {
+        ids.forEach(id -> JdbcClient.create(dataSource).sql("SELECT * FROM orders WHERE id = ?").param(id).query(Order.class).single()); // Noncompliant {{Reuse a shared JdbcClient or pass a static final RowMapper instead of "Order.class"; this JdbcClient is created on every iteration, and so is its cached reflective row mapper.}}
+    }
+}
@@ -0,0 +1,28 @@
+package test.files.rowmapper;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import test.files.shared.TestModels.User;
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Tests detection of a class query on a JdbcClient created in the method.
+ * EXPECTED: 2 issues - client created at the root of the chain and held by a local variable
+ */
+class ClientClassQueryTest {
+
+    private DataSource dataSource;
+
+    List<User> createdInChain() {
+        return JdbcClient.create(dataSource).sql("SELECT * FROM users WHERE active")
+            .query(User.class) // Noncompliant {{Reuse a shared JdbcClient or pass a static final RowMapper instead of "User.class"; this JdbcClient is created on every call, and so is its cached reflective row mapper.}}
+            .list();
+    }
+
+    List<User> createdInLocalVariable() {
+        JdbcClient client = JdbcClient.create(dataSource);
+        return client.sql("SELECT * FROM users WHERE active")
+            .query(User.class) // Noncompliant
+            .list();
+    }
+}
@@ -0,0 +1,35 @@
+package test.files.rowmapper;
+
+import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.DataClassRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import test.files.shared.TestModels.Order;
+import test.files.shared.TestModels.User;
+import java.util.List;
+
+/**
+ * Tests that mappers held by constants and fields are NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class ConstantMappersTest {
+
+    private static final RowMapper<Order> ORDER_MAPPER = new BeanPropertyRowMapper<>(Order.class);
+    private static final RowMapper<User> USER_MAPPER = (rs, rowNum) -> new User();
+
+    private final RowMapper<User> userMapper;
+    private JdbcTemplate jdbcTemplate;
+    private JdbcClient jdbcClient;
+
+    ConstantMappersTest() {
+        this.userMapper = DataClassRowMapper.newInstance(User.class);
+    }
+
+    List<Order> constants() {
+        List<Order> orders = jdbcTemplate.query("SELECT * FROM orders WHERE status = 'new'", ORDER_MAPPER);
+        jdbcClient.sql("SELECT * FROM users").query(USER_MAPPER).list();
+        jdbcClient.sql("SELECT * FROM users").query(userMapper).list();
+        return orders;
+    }
+}
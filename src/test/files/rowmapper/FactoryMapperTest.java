@@ -0,0 +1,20 @@
+package test.files.rowmapper;
+
+import org.springframework.jdbc.core.DataClassRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.User;
+import java.util.List;
+
+/**
+ * Tests detection of a DataClassRowMapper created by its factory method on every call.
+ * EXPECTED: 1 issue
+ */
+class FactoryMapperTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    List<User> factory() {
+        return jdbcTemplate.query("SELECT * FROM users WHERE active", DataClassRowMapper.newInstance(User.class)); // Noncompliant {{Hoist this DataClassRowMapper into a static final constant or use an explicit RowMapper; its reflective setup runs on every call.}}
+    }
+}
@@ -0,0 +1,26 @@
+package test.files.rowmapper;
+
+import org.springframework.jdbc.core.DataClassRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests detection of a DataClassRowMapper created on every loop iteration.
+ * EXPECTED: 1 issue
+ */
+class MapperInLoopTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    List<Order> inLoop(List<String> statuses) {
+        List<Order> orders = new ArrayList<>();
+        for (String status : statuses) {
+            orders.addAll(jdbcTemplate.query("SELECT * FROM orders WHERE status = ?",
+                new DataClassRowMapper<Order>(Order.class), status)); // Noncompliant {{Hoist this DataClassRowMapper out of the loop into a static final constant or use an explicit RowMapper; its reflective setup runs on every iteration.}}
+        }
+        return orders;
+    }
+}
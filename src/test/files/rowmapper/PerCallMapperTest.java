@@ -0,0 +1,21 @@
+package test.files.rowmapper;
+
+import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+
+/**
+ * Tests detection of a BeanPropertyRowMapper created on every call.
+ * EXPECTED: 1 issue
+ */
+class PerCallMapperTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    List<Order> perCall(String status) {
+        return jdbcTemplate.query("SELECT * FROM orders WHERE status = ?",
+            new BeanPropertyRowMapper<>(Order.class), status); // Noncompliant {{Hoist this BeanPropertyRowMapper into a static final constant or use an explicit RowMapper; its reflective setup runs on every call.}}
+    }
+}
@@ -0,0 +1,25 @@
+package test.files.rowmapper;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import test.files.shared.TestModels.Order;
+import test.files.shared.TestModels.User;
+import java.util.List;
+
+/**
+ * Tests that class queries on a shared JdbcClient are NOT flagged, since the client caches its row mappers.
+ * EXPECTED: 0 issues
+ */
+class SharedClientClassQueryTest {
+
+    private JdbcClient jdbcClient;
+
+    List<User> sharedClient() {
+        return jdbcClient.sql("SELECT * FROM users WHERE active")
+            .query(User.class)
+            .list();
+    }
+
+    void sharedClientInLoop(List<Long> ids) {
+        ids.forEach(id -> jdbcClient.sql("SELECT * FROM orders WHERE id = ?").param(id).query(Order.class).single());
+    }
+}
@@ -0,0 +1,19 @@
+package test.files.rowmapper;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import java.util.List;
+
+/**
+ * Tests that JdbcClient queries of simple types are NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class SimpleTypesTest {
+
+    private JdbcClient jdbcClient;
+
+    List<String> simpleTypes() {
+        List<String> names = jdbcClient.sql("SELECT name FROM users").query(String.class).list();
+        Long count = jdbcClient.sql("SELECT COUNT(*) FROM orders").query(Long.class).single();
+        return names;
+    }
+}
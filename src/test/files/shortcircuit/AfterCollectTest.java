@@ -0,0 +1,26 @@
+package test.files.shortcircuit;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.User;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Tests that findFirst on a collected list is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class AfterCollectTest {
+
+    private static final String ALL_USERS = "SELECT * FROM users";
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<User> userMapper;
+
+    Optional<User> afterCollect() {
+        try (Stream<User> users = jdbcTemplate.queryForStream(ALL_USERS, userMapper)) {
+            return users.collect(Collectors.toList()).stream().findFirst();
+        }
+    }
+}
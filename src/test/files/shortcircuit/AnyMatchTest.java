@@ -0,0 +1,22 @@
+package test.files.shortcircuit;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.stream.Stream;
+
+/**
+ * Tests detection of anyMatch on a JDBC stream without row limit.
+ * EXPECTED: 1 issue
+ */
+class AnyMatchTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    boolean anyMatch() {
+        try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper)) {
+            return orders.anyMatch(order -> order.amount > 1000); // Noncompliant {{Limit the query to the rows needed with LIMIT or FETCH FIRST and read them with optional(), single() or list() instead of streaming the whole result for "anyMatch".}}
+        }
+    }
+}
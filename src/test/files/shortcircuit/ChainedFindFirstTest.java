@@ -0,0 +1,21 @@
+package test.files.shortcircuit;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Tests detection of findFirst on a stream chained on a JDBC stream.
+ * EXPECTED: 1 issue
+ */
+class ChainedFindFirstTest {
+
+    private JdbcClient jdbcClient;
+
+    Optional<String> chained() {
+        try (Stream<String> names = jdbcClient.sql("SELECT name FROM users ORDER BY name").query(String.class).stream()
+                .map(String::trim)) {
+            return names.findFirst(); // Noncompliant
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package test.files.shortcircuit;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import test.files.shared.TestModels.User;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Tests that findFirst on a query limited with FETCH FIRST is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class FetchFirstLimitedSqlTest {
+
+    private JdbcClient jdbcClient;
+
+    Optional<User> limitedSql() {
+        try (Stream<User> users = jdbcClient.sql("SELECT * FROM users ORDER BY id FETCH FIRST 1 ROW ONLY").query(User.class).stream()) {
+            return users.findFirst();
+        }
+    }
+}
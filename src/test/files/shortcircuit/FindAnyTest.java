@@ -0,0 +1,23 @@
+package test.files.shortcircuit;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Tests detection of findAny on a JDBC stream without row limit.
+ * EXPECTED: 1 issue
+ */
+class FindAnyTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    Optional<Order> findAny() {
+        try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders WHERE amount > 100", orderMapper)) {
+            return orders.findAny(); // Noncompliant
+        }
+    }
+}
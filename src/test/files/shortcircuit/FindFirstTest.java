@@ -0,0 +1,23 @@
+package test.files.shortcircuit;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import test.files.shared.TestModels.User;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Tests detection of findFirst on a JDBC stream without row limit.
+ * EXPECTED: 1 issue
+ */
+class FindFirstTest {
+
+    private static final String ALL_USERS = "SELECT * FROM users";
+
+    private JdbcClient jdbcClient;
+
+    Optional<User> findFirst() {
+        try (Stream<User> users = jdbcClient.sql(ALL_USERS).query(User.class).stream()) {
+            return users.findFirst(); // Noncompliant {{Limit the query to the rows needed with LIMIT or FETCH FIRST and read them with optional(), single() or list() instead of streaming the whole result for "findFirst".}}
+        }
+    }
+}
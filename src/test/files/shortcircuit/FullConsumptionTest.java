@@ -0,0 +1,24 @@
+package test.files.shortcircuit;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.User;
+import java.util.stream.Stream;
+
+/**
+ * Tests that a fully consumed JDBC stream is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class FullConsumptionTest {
+
+    private static final String ALL_USERS = "SELECT * FROM users";
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<User> userMapper;
+
+    long fullConsumption() {
+        try (Stream<User> users = jdbcTemplate.queryForStream(ALL_USERS, userMapper)) {
+            return users.count();
+        }
+    }
+}
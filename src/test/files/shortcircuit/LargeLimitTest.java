@@ -0,0 +1,26 @@
+package test.files.shortcircuit;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.User;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Tests that a large stream limit is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class LargeLimitTest {
+
+    private static final String ALL_USERS = "SELECT * FROM users";
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<User> userMapper;
+
+    List<User> largeLimit() {
+        try (Stream<User> users = jdbcTemplate.queryForStream(ALL_USERS, userMapper)) {
+            return users.limit(100_000).collect(Collectors.toList());
+        }
+    }
+}
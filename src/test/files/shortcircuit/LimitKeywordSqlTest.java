@@ -0,0 +1,23 @@
+package test.files.shortcircuit;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Tests that findFirst on a query limited with LIMIT is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class LimitKeywordSqlTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    Optional<Order> limitedSqlWithLimitKeyword() {
+        try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders ORDER BY id LIMIT 1", orderMapper)) {
+            return orders.findFirst();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package test.files.shortcircuit;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.User;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Tests detection of a small stream limit on a JDBC stream without row limit.
+ * EXPECTED: 1 issue
+ */
+class SmallLimitTest {
+
+    private static final String ALL_USERS = "SELECT * FROM users";
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<User> userMapper;
+
+    List<User> smallLimit() {
+        try (Stream<User> users = jdbcTemplate.queryForStream(ALL_USERS, userMapper)) {
+            return users.filter(user -> user.age > 18).limit(10).collect(Collectors.toList()); // Noncompliant
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package test.files.shortcircuit;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.User;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Tests that findFirst on SQL that cannot be resolved is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class UnknownSqlTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<User> userMapper;
+
+    Optional<User> unknownSql(String sql) {
+        try (Stream<User> users = jdbcTemplate.queryForStream(sql, userMapper)) {
+            return users.findFirst();
+        }
+    }
+}
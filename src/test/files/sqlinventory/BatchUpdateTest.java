@@ -0,0 +1,17 @@
+package test.files.sqlinventory;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.List;
+
+/**
+ * Tests extraction of the SQL of a batch update.
+ * EXPECTED: 0 issues - the check only writes the inventory, which lists 1 statement
+ */
+class BatchUpdateTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    int[] cancelAll(List<Object[]> ids) {
+        return jdbcTemplate.batchUpdate("UPDATE orders SET status = 'cancelled' WHERE id = ?", ids);
+    }
+}
@@ -0,0 +1,20 @@
+package test.files.sqlinventory;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+
+/**
+ * Tests that SQL concatenated with a variable is listed as dynamic.
+ * EXPECTED: 0 issues - the check only writes the inventory, which lists 1 statement
+ */
+class ConcatenatedValueTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    List<Order> byCustomer(long customerId) {
+        return jdbcTemplate.query("SELECT * FROM orders WHERE customer_id = " + customerId, orderMapper);
+    }
+}
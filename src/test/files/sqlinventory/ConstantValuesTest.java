@@ -0,0 +1,23 @@
+package test.files.sqlinventory;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+
+/**
+ * Tests that constant values are listed as resolved.
+ * EXPECTED: 0 issues - the check only writes the inventory, which lists 1 statement
+ */
+class ConstantValuesTest {
+
+    private static final String PAGE_SIZE = "25";
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    List<Order> firstPage() {
+        // Constant values are listed as resolved
+        return jdbcTemplate.query("SELECT * FROM customers ORDER BY id LIMIT " + PAGE_SIZE, orderMapper);
+    }
+}
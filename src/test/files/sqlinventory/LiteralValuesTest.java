@@ -0,0 +1,22 @@
+package test.files.sqlinventory;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+
+/**
+ * Tests that statements differing by literal values are listed once.
+ * EXPECTED: 0 issues - the check only writes the inventory, which lists 1 statement
+ */
+class LiteralValuesTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    List<Order> recent() {
+        // Literal values do not make a new statement
+        jdbcTemplate.query("SELECT * FROM orders ORDER BY id DESC LIMIT 10", orderMapper);
+        return jdbcTemplate.query("SELECT * FROM orders ORDER BY id DESC LIMIT 50", orderMapper);
+    }
+}
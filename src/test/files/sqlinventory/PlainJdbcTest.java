@@ -0,0 +1,23 @@
+package test.files.sqlinventory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Tests extraction of the SQL of a plain JDBC prepared statement.
+ * EXPECTED: 0 issues - the check only writes the inventory, which lists 1 statement
+ */
+class PlainJdbcTest {
+
+    private DataSource dataSource;
+
+    void plainJdbc(long id) throws SQLException {
+        try (Connection connection = dataSource.getConnection("reporting", "secret");
+             PreparedStatement statement = connection.prepareStatement("DELETE FROM orders WHERE id = ?")) {
+            statement.setLong(1, id);
+            statement.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package test.files.sqlinventory;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Tests that one statement written differently is listed once.
+ * EXPECTED: 0 issues - the check only writes the inventory, which lists 1 statement
+ */
+class SameStatementTest {
+
+    private static final String ORDER_COLUMNS = "id, customer_id, status";
+    private static final String ORDERS_BY_STATUS = "SELECT " + ORDER_COLUMNS + " FROM orders WHERE status = ?";
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcClient jdbcClient;
+    private RowMapper<Order> orderMapper;
+
+    Stream<Order> streamByStatus(String status) {
+        return jdbcTemplate.queryForStream(ORDERS_BY_STATUS, orderMapper, status);
+    }
+
+    List<Order> listByStatus(String status) {
+        // Same statement as above, written differently
+        return jdbcClient.sql("select id, customer_id, status\n  from orders\n where status = ?")
+            .param(status)
+            .query(Order.class)
+            .list();
+    }
+}
@@ -0,0 +1,20 @@
+package test.files.sqlinventory;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Tests extraction of SQL written as a text block.
+ * EXPECTED: 0 issues - the check only writes the inventory, which lists 1 statement
+ */
+class TextBlockTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    int archive() {
+        return jdbcTemplate.update("""
+            UPDATE orders
+               SET status = 'archived'
+             WHERE created_at < now() - interval '1 year'
+            """);
+    }
+}
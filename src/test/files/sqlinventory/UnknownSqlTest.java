@@ -0,0 +1,21 @@
+package test.files.sqlinventory;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+
+/**
+ * Tests that SQL only known to the caller is not listed.
+ * EXPECTED: 0 issues - the check only writes the inventory, which lists no statement
+ */
+class UnknownSqlTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    List<Order> passedThrough(String sql) {
+        // The SQL is only known to the caller
+        return jdbcTemplate.query(sql, orderMapper);
+    }
+}
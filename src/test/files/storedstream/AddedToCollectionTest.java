@@ -0,0 +1,24 @@
+package test.files.storedstream;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Tests detection of a JDBC stream added to a collection field.
+ * EXPECTED: 1 issue
+ */
+class AddedToCollectionTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+    private final List<Stream<Order>> cursors = new ArrayList<>();
+
+    void addedToCollection() {
+        Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper);
+        cursors.add(orders); // Noncompliant {{Do not put this JDBC stream into a collection; its connection stays borrowed for as long as the collection holds it.}}
+    }
+}
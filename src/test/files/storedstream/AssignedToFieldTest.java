@@ -0,0 +1,21 @@
+package test.files.storedstream;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.stream.Stream;
+
+/**
+ * Tests detection of a JDBC stream assigned to a field.
+ * EXPECTED: 1 issue
+ */
+class AssignedToFieldTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+    private Stream<Order> openOrders;
+
+    void assignedToField() {
+        this.openOrders = jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper); // Noncompliant
+    }
+}
@@ -0,0 +1,23 @@
+package test.files.storedstream;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.stream.Stream;
+
+/**
+ * Tests that a JDBC stream consumed where it is opened is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class ConsumedLocallyTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    // Compliant: consumed and closed where it is opened
+    long consumedLocally() {
+        try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper)) {
+            return orders.count();
+        }
+    }
+}
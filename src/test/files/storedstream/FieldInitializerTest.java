@@ -0,0 +1,16 @@
+package test.files.storedstream;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import test.files.shared.TestModels.User;
+import java.util.stream.Stream;
+
+/**
+ * Tests detection of a JDBC stream opened by a field initializer.
+ * EXPECTED: 1 issue
+ */
+class FieldInitializerTest {
+
+    private JdbcClient jdbcClient;
+
+    private final Stream<User> allUsers = jdbcClient.sql("SELECT * FROM users").query(User.class).stream(); // Noncompliant {{Do not store this JDBC stream in a field; its connection stays borrowed for as long as the owning object lives.}}
+}
@@ -0,0 +1,23 @@
+package test.files.storedstream;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Tests detection of a JDBC stream iterator assigned to a field.
+ * EXPECTED: 1 issue
+ */
+class IteratorAssignedToFieldTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+    private Iterator<Order> pending;
+
+    void iteratorAssignedToField() {
+        Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders WHERE status = 'pending'", orderMapper);
+        pending = orders.iterator(); // Noncompliant {{Do not store this JDBC iterator in a field; its connection stays borrowed for as long as the owning object lives.}}
+    }
+}
@@ -0,0 +1,28 @@
+package test.files.storedstream;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Tests that materialized rows stored in state are NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class MaterializedRowsStoredTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+    private Stream<Order> openOrders;
+
+    // Compliant: the materialized rows are stored, not the stream
+    void materializedRowsStored() {
+        List<Order> orders = new ArrayList<>();
+        try (Stream<Order> stream = jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper)) {
+            stream.forEach(orders::add);
+        }
+        this.openOrders = null;
+    }
+}
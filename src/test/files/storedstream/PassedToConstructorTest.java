@@ -0,0 +1,38 @@
+package test.files.storedstream;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.stream.Stream;
+
+/**
+ * Tests detection of a JDBC stream passed to a constructor.
+ * EXPECTED: 1 issue
+ */
+class PassedToConstructorTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    OrderCursor passedToConstructor() {
+        Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper);
+        return new OrderCursor(orders); // Noncompliant {{Do not pass this JDBC stream to a constructor; its connection stays borrowed for as long as the created object lives.}}
+    }
+
+    static class OrderCursor implements AutoCloseable {
+        private final Stream<Order> orders;
+
+        OrderCursor(Stream<Order> orders) {
+            this.orders = orders;
+        }
+
+        Order next() {
+            return orders.findFirst().orElse(null);
+        }
+
+        @Override
+        public void close() {
+            orders.close();
+        }
+    }
+}
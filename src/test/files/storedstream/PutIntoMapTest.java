@@ -0,0 +1,23 @@
+package test.files.storedstream;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Tests detection of a JDBC stream iterator put into a map field.
+ * EXPECTED: 1 issue
+ */
+class PutIntoMapTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+    private final Map<String, Iterator<Order>> cursorsByStatus = new HashMap<>();
+
+    void putIntoMap(String status) {
+        cursorsByStatus.put(status, jdbcTemplate.queryForStream("SELECT * FROM orders WHERE status = ?", orderMapper, status).iterator()); // Noncompliant
+    }
+}
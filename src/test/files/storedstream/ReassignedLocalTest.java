@@ -0,0 +1,25 @@
+package test.files.storedstream;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.stream.Stream;
+
+/**
+ * Tests that a JDBC stream assigned to a local variable is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class ReassignedLocalTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    // Compliant: a local variable is not long-lived state
+    void reassignedLocal() {
+        Stream<Order> orders;
+        orders = jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper);
+        try (Stream<Order> same = orders) {
+            same.forEach(System.out::println);
+        }
+    }
+}
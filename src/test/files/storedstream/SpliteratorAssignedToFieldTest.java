@@ -0,0 +1,22 @@
+package test.files.storedstream;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.Spliterator;
+
+/**
+ * Tests detection of a JDBC stream spliterator assigned to a field through a local variable.
+ * EXPECTED: 1 issue
+ */
+class SpliteratorAssignedToFieldTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+    private Spliterator<Order> split;
+
+    void spliteratorAssignedToField() {
+        Spliterator<Order> local = jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper).spliterator();
+        split = local; // Noncompliant {{Do not store this JDBC spliterator in a field; its connection stays borrowed for as long as the owning object lives.}}
+    }
+}
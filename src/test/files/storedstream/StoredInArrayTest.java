@@ -0,0 +1,19 @@
+package test.files.storedstream;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import test.files.shared.TestModels.Order;
+import java.util.stream.Stream;
+
+/**
+ * Tests detection of a JDBC stream stored in an array field.
+ * EXPECTED: 1 issue
+ */
+class StoredInArrayTest {
+
+    private JdbcClient jdbcClient;
+    private final Stream<?>[] slots = new Stream<?>[4];
+
+    void storedInArray() {
+        slots[0] = jdbcClient.sql("SELECT * FROM orders").query(Order.class).stream().filter(order -> order.amount > 0); // Noncompliant
+    }
+}
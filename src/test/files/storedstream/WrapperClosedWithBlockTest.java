@@ -0,0 +1,40 @@
+package test.files.storedstream;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.stream.Stream;
+
+/**
+ * Tests that a wrapper closed by try-with-resources is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class WrapperClosedWithBlockTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    // Compliant: the wrapper is a try-with-resources resource and closes the stream
+    void wrapperClosedWithBlock() {
+        try (OrderCursor cursor = new OrderCursor(jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper))) {
+            cursor.next();
+        }
+    }
+
+    static class OrderCursor implements AutoCloseable {
+        private final Stream<Order> orders;
+
+        OrderCursor(Stream<Order> orders) {
+            this.orders = orders;
+        }
+
+        Order next() {
+            return orders.findFirst().orElse(null);
+        }
+
+        @Override
+        public void close() {
+            orders.close();
+        }
+    }
+}
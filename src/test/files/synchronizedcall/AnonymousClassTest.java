@@ -0,0 +1,28 @@
+package test.files.synchronizedcall;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.stream.Stream;
+
+/**
+ * Tests that a JDBC stream consumed in an anonymous class declared in a synchronized method is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class AnonymousClassTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    synchronized void anonymousClass() {
+        Runnable later = new Runnable() {
+            @Override
+            public void run() {
+                try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper)) {
+                    orders.forEach(System.out::println);
+                }
+            }
+        };
+        new Thread(later).start();
+    }
+}
@@ -0,0 +1,22 @@
+package test.files.synchronizedcall;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.stream.Stream;
+
+/**
+ * Tests that the rule only applies to the Java versions whose virtual threads are pinned by synchronized.
+ * EXPECTED: 1 issue on Java 21 to 23 - 0 issues on Java 17, before virtual threads, and on Java 24, which no longer pins them
+ */
+class JavaVersionTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    synchronized void synchronizedMethod() {
+        try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper)) { // Noncompliant
+            orders.forEach(System.out::println);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package test.files.synchronizedcall;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Tests detection of a JDBC stream consumed in a lambda called within a synchronized block.
+ * EXPECTED: 1 issue
+ */
+class LambdaInSynchronizedBlockTest {
+
+    private final Object monitor = new Object();
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    void lambdaInSynchronizedBlock(List<String> statuses) {
+        synchronized (monitor) {
+            statuses.forEach(status -> {
+                try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders WHERE status = ?", orderMapper, status)) { // Noncompliant
+                    orders.forEach(System.out::println);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package test.files.synchronizedcall;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+
+/**
+ * Tests that a materialized query in a synchronized method is NOT flagged by default.
+ * EXPECTED: 0 issues
+ */
+class MaterializedQueryTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    synchronized List<Order> materializedQuery() {
+        return jdbcTemplate.query("SELECT * FROM orders WHERE status = 'new'", orderMapper);
+    }
+}
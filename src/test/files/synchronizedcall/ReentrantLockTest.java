@@ -0,0 +1,27 @@
+package test.files.synchronizedcall;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Tests that a JDBC stream consumed while holding a ReentrantLock is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class ReentrantLockTest {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    void reentrantLock() {
+        lock.lock();
+        try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper)) {
+            orders.forEach(System.out::println);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package test.files.synchronizedcall;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import test.files.shared.TestModels.Order;
+import java.util.stream.Stream;
+
+/**
+ * Tests detection of a JDBC stream consumed in a synchronized block.
+ * EXPECTED: 1 issue
+ */
+class SynchronizedBlockTest {
+
+    private final Object monitor = new Object();
+    private JdbcClient jdbcClient;
+
+    void synchronizedBlock() {
+        synchronized (monitor) {
+            try (Stream<Order> orders = jdbcClient.sql("SELECT * FROM orders").query(Order.class).stream()) { // Noncompliant
+                orders.forEach(System.out::println);
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package test.files.synchronizedcall;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Tests detection of all JDBC calls while a monitor is held, with allJdbcCalls enabled.
+ * EXPECTED: 3 issues - materialized query, update and stream in synchronized code
+ */
+class SynchronizedJdbcCallTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    synchronized List<Order> materializedQuery() {
+        return jdbcTemplate.query("SELECT * FROM orders WHERE status = 'new'", orderMapper); // Noncompliant {{Replace this "synchronized" with a ReentrantLock; this JDBC call pins the virtual thread's carrier while it waits on the database.}}
+    }
+
+    void update(String id) {
+        synchronized (this) {
+            jdbcTemplate.update("UPDATE orders SET status = 'sent' WHERE id = ?", id); // Noncompliant
+        }
+    }
+
+    synchronized long stream() {
+        try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper)) { // Noncompliant {{Replace this "synchronized" with a ReentrantLock; consuming this JDBC stream pins the virtual thread's carrier for the whole cursor lifetime.}}
+            return orders.count();
+        }
+    }
+
+    List<Order> unsynchronized() {
+        return jdbcTemplate.query("SELECT * FROM orders WHERE status = 'new'", orderMapper);
+    }
+}
@@ -0,0 +1,22 @@
+package test.files.synchronizedcall;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.stream.Stream;
+
+/**
+ * Tests detection of a JDBC stream consumed in a synchronized method.
+ * EXPECTED: 1 issue
+ */
+class SynchronizedMethodTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    synchronized void synchronizedMethod() {
+        try (Stream<Order> orders = jdbcTemplate.queryForStream("SELECT * FROM orders", orderMapper)) { // Noncompliant {{Replace this "synchronized" with a ReentrantLock; consuming this JDBC stream pins the virtual thread's carrier for the whole cursor lifetime.}}
+            orders.forEach(System.out::println);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package test.files.unboundedquery;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests that an aggregate query is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class AggregateTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    List<Map<String, Object>> aggregate() {
+        return jdbcTemplate.queryForList("SELECT count(*) FROM orders");
+    }
+}
@@ -0,0 +1,18 @@
+package test.files.unboundedquery;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+
+/**
+ * Tests detection of a JdbcClient list query on an unrestricted literal.
+ * EXPECTED: 1 issue
+ */
+class ClientListTest {
+
+    private JdbcClient jdbcClient;
+
+    List<Order> clientList() {
+        return jdbcClient.sql("SELECT * FROM orders").query(Order.class).list(); // Noncompliant {{Restrict this query on "orders" with WHERE or LIMIT, paginate it, or stream it with a fetch size instead of loading the whole table into memory.}}
+    }
+}
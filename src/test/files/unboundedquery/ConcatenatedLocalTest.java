@@ -0,0 +1,22 @@
+package test.files.unboundedquery;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+
+/**
+ * Tests detection of unrestricted SQL concatenated in a local variable.
+ * EXPECTED: 1 issue
+ */
+class ConcatenatedLocalTest {
+
+    private static final RowMapper<Order> ORDER_MAPPER = (rs, rowNum) -> new Order();
+
+    private JdbcTemplate jdbcTemplate;
+
+    List<Order> concatenatedLocal() {
+        String sql = "SELECT * " + "FROM customers";
+        return jdbcTemplate.query(sql, ORDER_MAPPER); // Noncompliant
+    }
+}
@@ -0,0 +1,26 @@
+package test.files.unboundedquery;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+
+/**
+ * Tests the largeTables and smallTables rule properties.
+ * EXPECTED: 1 issue - only "orders" is configured as large, "countries" is a small lookup table
+ */
+class ConfiguredTablesTest {
+
+    private JdbcClient jdbcClient;
+
+    List<Order> largeTable() {
+        return jdbcClient.sql("SELECT * FROM ORDERS").query(Order.class).list(); // Noncompliant
+    }
+
+    List<String> notConfigured() {
+        return jdbcClient.sql("SELECT name FROM customers").query(String.class).list();
+    }
+
+    List<String> smallTable() {
+        return jdbcClient.sql("SELECT code FROM countries").query(String.class).list();
+    }
+}
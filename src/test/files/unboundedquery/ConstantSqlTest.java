@@ -0,0 +1,22 @@
+package test.files.unboundedquery;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+
+/**
+ * Tests detection of a JdbcTemplate query on an unrestricted constant.
+ * EXPECTED: 1 issue
+ */
+class ConstantSqlTest {
+
+    private static final String ALL_ORDERS = "SELECT * FROM orders";
+    private static final RowMapper<Order> ORDER_MAPPER = (rs, rowNum) -> new Order();
+
+    private JdbcTemplate jdbcTemplate;
+
+    List<Order> templateQueryWithConstant() {
+        return jdbcTemplate.query(ALL_ORDERS, ORDER_MAPPER); // Noncompliant
+    }
+}
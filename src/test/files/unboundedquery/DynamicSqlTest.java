@@ -0,0 +1,21 @@
+package test.files.unboundedquery;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+
+/**
+ * Tests that SQL built from a runtime table name is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class DynamicSqlTest {
+
+    private static final RowMapper<Order> ORDER_MAPPER = (rs, rowNum) -> new Order();
+
+    private JdbcTemplate jdbcTemplate;
+
+    List<Order> dynamicSql(String table) {
+        return jdbcTemplate.query("SELECT * FROM " + table, ORDER_MAPPER);
+    }
+}
@@ -0,0 +1,21 @@
+package test.files.unboundedquery;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+
+/**
+ * Tests that a query limited with FETCH FIRST is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class FetchFirstTest {
+
+    private static final RowMapper<Order> ORDER_MAPPER = (rs, rowNum) -> new Order();
+
+    private JdbcTemplate jdbcTemplate;
+
+    List<Order> fetchFirst() {
+        return jdbcTemplate.query("SELECT * FROM orders ORDER BY id FETCH FIRST 10 ROWS ONLY", ORDER_MAPPER);
+    }
+}
@@ -0,0 +1,21 @@
+package test.files.unboundedquery;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+
+/**
+ * Tests that a query limited with LIMIT is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class LimitTest {
+
+    private static final RowMapper<Order> ORDER_MAPPER = (rs, rowNum) -> new Order();
+
+    private JdbcTemplate jdbcTemplate;
+
+    List<Order> limited() {
+        return jdbcTemplate.query("SELECT * FROM orders ORDER BY id LIMIT 100", ORDER_MAPPER);
+    }
+}
@@ -0,0 +1,18 @@
+package test.files.unboundedquery;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests detection of queryForList() on an unrestricted, ordered query.
+ * EXPECTED: 1 issue
+ */
+class QueryForListTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    List<Map<String, Object>> queryForList() {
+        return jdbcTemplate.queryForList("SELECT id, status FROM public.orders ORDER BY id"); // Noncompliant
+    }
+}
@@ -0,0 +1,18 @@
+package test.files.unboundedquery;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+
+/**
+ * Tests that a query restricted with WHERE is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class RestrictedTest {
+
+    private JdbcClient jdbcClient;
+
+    List<Order> restricted(String status) {
+        return jdbcClient.sql("SELECT * FROM orders WHERE status = :status").param("status", status).query(Order.class).list();
+    }
+}
@@ -0,0 +1,18 @@
+package test.files.unboundedquery;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Tests that a query processed row by row with a RowCallbackHandler is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class RowCallbackHandlerTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    void rowCallbackHandler() {
+        jdbcTemplate.query("SELECT * FROM orders", rs -> {
+            System.out.println(rs.getLong("id"));
+        });
+    }
+}
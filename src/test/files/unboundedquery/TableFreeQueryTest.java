@@ -0,0 +1,16 @@
+package test.files.unboundedquery;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+/**
+ * Tests that a query without a table is NOT flagged, whatever its string literals contain.
+ * EXPECTED: 0 issues
+ */
+class TableFreeQueryTest {
+
+    private JdbcClient jdbcClient;
+
+    String stringLiteralContainingKeyword() {
+        return jdbcClient.sql("SELECT 'no LIMIT here' AS note").query(String.class).single();
+    }
+}
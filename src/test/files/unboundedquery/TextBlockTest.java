@@ -0,0 +1,23 @@
+package test.files.unboundedquery;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+
+/**
+ * Tests detection of an unrestricted text block whose WHERE is only in a comment.
+ * EXPECTED: 1 issue - on the line of the text block
+ */
+class TextBlockTest {
+
+    private JdbcClient jdbcClient;
+
+    List<Order> textBlock() { // Noncompliant@+1
+        return jdbcClient.sql("""
+                SELECT o.*
+                  FROM order_items o -- WHERE is only in this comment
+                """)
+            .query(Order.class)
+            .list();
+    }
+}
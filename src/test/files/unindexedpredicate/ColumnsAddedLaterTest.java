@@ -0,0 +1,22 @@
+package test.files.unindexedpredicate;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import test.files.shared.TestModels.User;
+import java.util.List;
+
+/**
+ * Tests detection of a filter on columns without index, one of them added by a later migration.
+ * EXPECTED: 1 issue
+ */
+class ColumnsAddedLaterTest {
+
+    private JdbcClient jdbcClient;
+
+    List<User> bySegmentAndCountry(String segment, String country) {
+        return jdbcClient.sql("SELECT * FROM customers WHERE segment = :segment AND country = :country") // Noncompliant {{Add an index for "customers.segment", "customers.country"; no index of the schema supports filtering, joining or sorting on these columns.}}
+            .param("segment", segment)
+            .param("country", country)
+            .query(User.class)
+            .list();
+    }
+}
@@ -0,0 +1,21 @@
+package test.files.unindexedpredicate;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+
+/**
+ * Tests that a filter on the leading column of a composite index, sorted by its second column, is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class CompositeLeadingColumnTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    List<Order> byCustomer(long customerId) {
+        // Leading column of the composite index, which also serves the sort
+        return jdbcTemplate.query("SELECT * FROM orders WHERE customer_id = ? ORDER BY created_at DESC", orderMapper, customerId);
+    }
+}
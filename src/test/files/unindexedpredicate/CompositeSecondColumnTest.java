@@ -0,0 +1,20 @@
+package test.files.unindexedpredicate;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+
+/**
+ * Tests detection of a filter on the second column of a composite index only.
+ * EXPECTED: 1 issue
+ */
+class CompositeSecondColumnTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    List<Order> since(java.sql.Timestamp from) {
+        return jdbcTemplate.query("SELECT * FROM orders WHERE created_at > ?", orderMapper, from); // Noncompliant {{Add an index for "orders.created_at"; no index of the schema supports filtering, joining or sorting on this column.}}
+    }
+}
@@ -0,0 +1,20 @@
+package test.files.unindexedpredicate;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.stream.Stream;
+
+/**
+ * Tests detection of a filter on a column whose index was dropped by a later migration.
+ * EXPECTED: 1 issue
+ */
+class DroppedIndexTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    Stream<Order> byStatus(String status) {
+        return jdbcTemplate.queryForStream("SELECT * FROM orders WHERE status = ?", orderMapper, status); // Noncompliant {{Add an index for "orders.status"; no index of the schema supports filtering, joining or sorting on this column.}}
+    }
+}
@@ -0,0 +1,20 @@
+package test.files.unindexedpredicate;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+
+/**
+ * Tests that a filter on a column chosen at runtime is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class DynamicColumnTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    List<Order> dynamic(String column) {
+        return jdbcTemplate.query("SELECT * FROM orders WHERE " + column + " = ?", orderMapper, 1);
+    }
+}
@@ -0,0 +1,19 @@
+package test.files.unindexedpredicate;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import test.files.shared.TestModels.User;
+import java.util.List;
+
+/**
+ * Tests that a filter on an expression is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class ExpressionTest {
+
+    private JdbcClient jdbcClient;
+
+    List<User> byLowerName(String name) {
+        // Expressions are not compared with expression indexes
+        return jdbcClient.sql("SELECT * FROM customers WHERE lower(name) = ?").param(name).query(User.class).list();
+    }
+}
@@ -0,0 +1,23 @@
+package test.files.unindexedpredicate;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+
+/**
+ * Tests that a join on a primary key filtered on a unique column is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class IndexedJoinTest {
+
+    private static final String ORDER_COLUMNS = "o.id, o.customer_id, o.status";
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    List<Order> byCustomerEmail(String email) {
+        return jdbcTemplate.query("SELECT " + ORDER_COLUMNS + " FROM orders o JOIN customers c ON c.id = o.customer_id WHERE c.email = ?",
+            orderMapper, email);
+    }
+}
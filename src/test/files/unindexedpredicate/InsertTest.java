@@ -0,0 +1,16 @@
+package test.files.unindexedpredicate;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Tests that an insert is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class InsertTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    int insert(long customerId) {
+        return jdbcTemplate.update("INSERT INTO orders (customer_id, status) VALUES (?, 'new')", customerId);
+    }
+}
@@ -0,0 +1,19 @@
+package test.files.unindexedpredicate;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+
+/**
+ * Tests that a filter on the primary key is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class PrimaryKeyTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    Order byId(long id) {
+        return jdbcTemplate.queryForObject("SELECT * FROM orders WHERE id = ?", orderMapper, id);
+    }
+}
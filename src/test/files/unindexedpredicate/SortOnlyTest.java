@@ -0,0 +1,18 @@
+package test.files.unindexedpredicate;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import test.files.shared.TestModels.User;
+import java.util.List;
+
+/**
+ * Tests detection of a sort on a column without index.
+ * EXPECTED: 1 issue
+ */
+class SortOnlyTest {
+
+    private JdbcClient jdbcClient;
+
+    List<User> firstPage() {
+        return jdbcClient.sql("SELECT * FROM customers ORDER BY name LIMIT 20").query(User.class).list(); // Noncompliant {{Add an index for "customers.name"; no index of the schema supports filtering, joining or sorting on this column.}}
+    }
+}
@@ -0,0 +1,27 @@
+package test.files.unindexedpredicate;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+
+/**
+ * Tests detection of a join on a foreign key without index.
+ * EXPECTED: 1 issue
+ */
+class UnindexedForeignKeyJoinTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    List<Order> withItems() {
+        return jdbcTemplate.query(
+            """
+            SELECT o.*
+              FROM orders AS o
+              JOIN order_items i ON i.order_id = o.id
+             WHERE o.id = ?
+            """, // Noncompliant@-5 {{Add an index for "order_items.order_id"; no index of the schema supports filtering, joining or sorting on this column.}}
+            orderMapper);
+    }
+}
@@ -0,0 +1,18 @@
+package test.files.unindexedpredicate;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import test.files.shared.TestModels.User;
+
+/**
+ * Tests that a filter on a column with a unique constraint added by a later migration is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class UniqueConstraintTest {
+
+    private JdbcClient jdbcClient;
+
+    User byCode(String code) {
+        // Unique constraint added by a later migration
+        return jdbcClient.sql("SELECT * FROM customers WHERE code = :code").param("code", code).query(User.class).single();
+    }
+}
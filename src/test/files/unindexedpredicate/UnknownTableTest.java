@@ -0,0 +1,20 @@
+package test.files.unindexedpredicate;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import test.files.shared.TestModels.Order;
+import java.util.List;
+
+/**
+ * Tests that a query on a table missing from the schema is NOT flagged.
+ * EXPECTED: 0 issues
+ */
+class UnknownTableTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RowMapper<Order> orderMapper;
+
+    List<Order> unknownTable(String actor) {
+        return jdbcTemplate.query("SELECT * FROM audit_log WHERE actor = ?", orderMapper, actor);
+    }
+}
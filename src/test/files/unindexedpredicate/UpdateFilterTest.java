@@ -0,0 +1,16 @@
+package test.files.unindexedpredicate;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Tests detection of an update filtered on a column without index.
+ * EXPECTED: 1 issue
+ */
+class UpdateFilterTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    int cancel(String status) {
+        return jdbcTemplate.update("UPDATE orders SET status = 'cancelled' WHERE status = ?", status); // Noncompliant {{Add an index for "orders.status"; no index of the schema supports filtering, joining or sorting on this column.}}
+    }
+}
@@ -0,0 +1,4 @@
+/* The status index was replaced by a partial index in a later release, then dropped */
+DROP INDEX IF EXISTS idx_orders_status;
+ALTER TABLE customers ADD CONSTRAINT uk_customers_code UNIQUE (code);
+ALTER TABLE customers ADD COLUMN segment VARCHAR(20);
@@ -0,0 +1,25 @@
+-- Flyway migrations: applied in version order, V10 after V2
+CREATE TABLE IF NOT EXISTS public.customers (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    country VARCHAR(2),
+    code VARCHAR(20)
+);
+
+CREATE TABLE orders (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    customer_id BIGINT NOT NULL REFERENCES customers(id),
+    status VARCHAR(50) DEFAULT 'pending; not shipped',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_orders PRIMARY KEY (id)
+);
+
+CREATE TABLE order_items (
+    id BIGINT PRIMARY KEY,
+    order_id BIGINT NOT NULL,
+    sku VARCHAR(40) NOT NULL,
+    CONSTRAINT fk_items_order FOREIGN KEY (order_id) REFERENCES orders (id)
+);
+
+INSERT INTO customers (name, email) VALUES ('Alice', 'alice@example.com');
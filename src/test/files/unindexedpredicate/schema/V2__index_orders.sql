@@ -0,0 +1,3 @@
+CREATE INDEX idx_orders_status ON orders (status);
+CREATE INDEX idx_orders_customer_created ON orders (customer_id, created_at DESC);
+CREATE INDEX idx_customers_lower_name ON customers (lower(name));
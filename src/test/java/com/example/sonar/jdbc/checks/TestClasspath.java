@@ -0,0 +1,38 @@
+package com.example.sonar.jdbc.checks;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Provides the analysis classpath for tests that rely on semantic type resolution.
+ *
+ * <p>By default the check verifier analyzes test files without any library on the
+ * classpath, so Spring types are unknown and the checks use their name-based heuristics.
+ * Tests passing {@link #springJdbc()} to {@code CheckVerifier.withClassPath()} exercise
+ * the semantic detection path instead.</p>
+ *
+ * @since 1.1.0
+ */
+public final class TestClasspath {
+
+    private TestClasspath() {
+        // Utility class - private constructor
+    }
+
+    /**
+     * Returns the Spring jars of the test runtime classpath (spring-jdbc and its dependencies).
+     *
+     * @return the Spring jar files; never {@code null}
+     */
+    public static List<File> springJdbc() {
+        List<File> jars = new ArrayList<>();
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            File file = new File(entry);
+            if (file.getName().startsWith("spring-") && file.getName().endsWith(".jar")) {
+                jars.add(file);
+            }
+        }
+        return jars;
+    }
+}
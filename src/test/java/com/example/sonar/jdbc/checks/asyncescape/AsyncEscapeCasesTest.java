@@ -0,0 +1,72 @@
+package com.example.sonar.jdbc.checks.asyncescape;
+
+import com.example.sonar.jdbc.checks.SpringJdbcStreamAsyncEscapeCheck;
+import org.junit.jupiter.api.Test;
+import org.sonar.java.checks.verifier.CheckVerifier;
+
+/**
+ * Tests for the SpringJdbcStreamAsyncEscapeCheck.
+ *
+ * <p>Each test method validates exactly ONE pattern of a connection-holding stream
+ * crossing a thread boundary:</p>
+ * <ul>
+ *   <li>Streams and iterators captured by executor tasks and threads</li>
+ *   <li>Streams returned from or captured by {@code CompletableFuture} tasks</li>
+ *   <li>Streams returned from {@code @Async} methods</li>
+ *   <li>Streams passed to Reactor publishers</li>
+ *   <li>Methods ending with {@code Async}, asynchronous only when they return a future</li>
+ * </ul>
+ *
+ * @since 1.1.0
+ * @see SpringJdbcStreamAsyncEscapeCheck
+ */
+class AsyncEscapeCasesTest {
+
+    @Test
+    void testAsyncEscape_executorCapture() {
+        CheckVerifier.newVerifier()
+            .onFile("src/test/files/asyncescape/ExecutorCaptureTest.java")
+            .withCheck(new SpringJdbcStreamAsyncEscapeCheck())
+            .verifyIssues();
+    }
+
+    @Test
+    void testAsyncEscape_completableFuture() {
+        CheckVerifier.newVerifier()
+            .onFile("src/test/files/asyncescape/CompletableFutureTest.java")
+            .withCheck(new SpringJdbcStreamAsyncEscapeCheck())
+            .verifyIssues();
+    }
+
+    @Test
+    void testAsyncEscape_asyncMethodReturn() {
+        CheckVerifier.newVerifier()
+            .onFile("src/test/files/asyncescape/AsyncMethodReturnTest.java")
+            .withCheck(new SpringJdbcStreamAsyncEscapeCheck())
+            .verifyIssues();
+    }
+
+    @Test
+    void testAsyncEscape_fluxFromStream() {
+        CheckVerifier.newVerifier()
+            .onFile("src/test/files/asyncescape/FluxFromStreamTest.java")
+            .withCheck(new SpringJdbcStreamAsyncEscapeCheck())
+            .verifyIssues();
+    }
+
+    @Test
+    void testAsyncEscape_asyncNamedMethod() {
+        CheckVerifier.newVerifier()
+            .onFile("src/test/files/asyncescape/AsyncNamedMethodTest.java")
+            .withCheck(new SpringJdbcStreamAsyncEscapeCheck())
+            .verifyIssues();
+    }
+
+    @Test
+    void testAsyncEscape_consumedWithinTaskNotFlagged() {
+        CheckVerifier.newVerifier()
+            .onFile("src/test/files/asyncescape/ConsumedWithinTaskTest.java")
+            .withCheck(new SpringJdbcStreamAsyncEscapeCheck())
+            .verifyNoIssues();
+    }
+}
@@ -86,4 +86,12 @@ class CompliantCasesTest {
             .withCheck(new SpringJdbcStreamLeakCheck())
             .verifyNoIssues();
     }
+
+    @Test
+    void testCompliant_tryWithResourcesNamedParameter() {
+        CheckVerifier.newVerifier()
+            .onFile("src/test/files/compliant/TryWithResourcesNamedParameterTest.java")
+            .withCheck(new SpringJdbcStreamLeakCheck())
+            .verifyNoIssues();
+    }
 }
@@ -0,0 +1,59 @@
+package com.example.sonar.jdbc.checks.connectionleak;
+
+import com.example.sonar.jdbc.checks.DataSourceConnectionLeakCheck;
+import com.example.sonar.jdbc.checks.TestClasspath;
+import org.junit.jupiter.api.Test;
+import org.sonar.java.checks.verifier.CheckVerifier;
+
+/**
+ * Tests for the DataSourceConnectionLeakCheck.
+ *
+ * <p>Each test method validates one group of raw JDBC resource usages:</p>
+ * <ul>
+ *   <li>Connections, statements and result sets not released on all paths</li>
+ *   <li>Resources released by try-with-resources, {@code finally} blocks or returned to the caller</li>
+ *   <li>{@code finally} blocks that do not guard the acquisition</li>
+ *   <li>Resources escaping {@code JdbcTemplate.execute()} callbacks</li>
+ * </ul>
+ *
+ * @since 1.1.0
+ * @see DataSourceConnectionLeakCheck
+ */
+class ConnectionLeakCasesTest {
+
+    @Test
+    void testConnectionLeak_unreleased() {
+        CheckVerifier.newVerifier()
+            .onFile("src/test/files/connectionleak/UnreleasedConnectionTest.java")
+            .withCheck(new DataSourceConnectionLeakCheck())
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyIssues();
+    }
+
+    @Test
+    void testConnectionLeak_released() {
+        CheckVerifier.newVerifier()
+            .onFile("src/test/files/connectionleak/ReleasedConnectionTest.java")
+            .withCheck(new DataSourceConnectionLeakCheck())
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyNoIssues();
+    }
+
+    @Test
+    void testConnectionLeak_unguardedFinally() {
+        CheckVerifier.newVerifier()
+            .onFile("src/test/files/connectionleak/UnguardedFinallyTest.java")
+            .withCheck(new DataSourceConnectionLeakCheck())
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyIssues();
+    }
+
+    @Test
+    void testConnectionLeak_callbackEscape() {
+        CheckVerifier.newVerifier()
+            .onFile("src/test/files/connectionleak/CallbackEscapeTest.java")
+            .withCheck(new DataSourceConnectionLeakCheck())
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyIssues();
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.sonar.jdbc.checks.connectionpressure;
+
+import com.example.sonar.jdbc.checks.ConnectionPressureCheck;
+import com.example.sonar.jdbc.checks.ConnectionPressureMeasures;
+import com.example.sonar.jdbc.checks.ConnectionPressureMeasures.FileMeasures;
+import com.example.sonar.jdbc.checks.TestClasspath;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sonar.api.batch.fs.InputFile;
+import org.sonar.java.checks.verifier.CheckVerifier;
+import org.sonar.java.checks.verifier.internal.InternalReadCache;
+import org.sonar.java.checks.verifier.internal.InternalWriteCache;
+
+import java.io.File;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the ConnectionPressureCheck.
+ *
+ * <p>Each test method validates one configuration:</p>
+ * <ul>
+ *   <li>Streams, loops and stream consumers with name-based heuristics only</li>
+ *   <li>The same file with Spring JDBC on the classpath</li>
+ *   <li>No blocking calls configured</li>
+ *   <li>Other must-be-closed annotations configured, so the annotated method no longer hands its stream over</li>
+ *   <li>A module analyzed within a project, so the sensor of the module sees another working directory than the check</li>
+ *   <li>An unchanged file in an incremental analysis, which is measured all the same</li>
+ * </ul>
+ *
+ * @since 1.1.0
+ * @see ConnectionPressureCheck
+ */
+class ConnectionPressureCasesTest {
+
+    private static final String FILE = "src/test/files/connectionpressure/ConnectionPressureTest.java";
+
+    private static final String FILE_URI = new File(FILE).getAbsoluteFile().toURI().toString();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testConnectionPressure_heuristics() {
+        FileMeasures measures = measures(new ConnectionPressureCheck(), false);
+
+        assertThat(measures.streamingCallSites()).isEqualTo(4);
+        assertThat(measures.unmanagedStreams()).isEqualTo(1);
+        assertThat(measures.nPlusOneCandidates()).isEqualTo(3);
+        assertThat(measures.blockingStreamConsumers()).isEqualTo(1);
+    }
+
+    @Test
+    void testConnectionPressure_semantic() {
+        FileMeasures measures = measures(new ConnectionPressureCheck(), true);
+
+        assertThat(measures.streamingCallSites()).isEqualTo(4);
+        assertThat(measures.unmanagedStreams()).isEqualTo(1);
+        assertThat(measures.nPlusOneCandidates()).isEqualTo(3);
+        assertThat(measures.blockingStreamConsumers()).isEqualTo(1);
+    }
+
+    @Test
+    void testConnectionPressure_noBlockingCalls() {
+        ConnectionPressureCheck check = new ConnectionPressureCheck();
+        check.blockingCalls = "";
+
+        FileMeasures measures = measures(check, true);
+
+        assertThat(measures.streamingCallSites()).isEqualTo(4);
+        assertThat(measures.blockingStreamConsumers()).isZero();
+    }
+
+    @Test
+    void testConnectionPressure_customAnnotations() {
+        ConnectionPressureCheck check = new ConnectionPressureCheck();
+        check.mustBeClosedAnnotations = "CursorOwner";
+
+        FileMeasures measures = measures(check, true);
+
+        assertThat(measures.streamingCallSites()).isEqualTo(4);
+        assertThat(measures.unmanagedStreams()).isEqualTo(2);
+    }
+
+    @Test
+    void testConnectionPressure_moduleWorkingDirectory() {
+        Path projectWorkDir = tempDir.resolve("project");
+        CheckVerifier.newVerifier()
+            .onFile(FILE)
+            .withCheck(new ConnectionPressureCheck())
+            .withProjectLevelWorkDir(projectWorkDir.toString())
+            .verifyNoIssues();
+
+        // the sensor of the module has its own working directory, so it looks the measures up by file
+        FileMeasures measures = ConnectionPressureMeasures.consume(FILE_URI);
+
+        assertThat(measures).isNotNull();
+        assertThat(measures.streamingCallSites()).isEqualTo(4);
+        assertThat(ConnectionPressureMeasures.consume(FILE_URI)).isNull();
+    }
+
+    @Test
+    void testConnectionPressure_unchangedFile() {
+        InternalWriteCache previousAnalysis = new InternalWriteCache();
+        unchangedFileVerifier(new InternalReadCache(), previousAnalysis).verifyNoIssues();
+        ConnectionPressureMeasures.consume(FILE_URI);
+
+        // the content hash of the previous analysis lets the file be skipped, unless the check needs it parsed
+        unchangedFileVerifier(new InternalReadCache().putAll(previousAnalysis), new InternalWriteCache()).verifyNoIssues();
+        FileMeasures measures = ConnectionPressureMeasures.consume(FILE_URI);
+
+        assertThat(measures).isNotNull();
+        assertThat(measures.streamingCallSites()).isEqualTo(4);
+    }
+
+    /**
+     * Runs the check on the test file and returns the measures it records.
+     *
+     * @param check    the check
+     * @param semantic whether Spring JDBC is on the classpath
+     * @return the measures of the test file
+     */
+    private FileMeasures measures(ConnectionPressureCheck check, boolean semantic) {
+        CheckVerifier verifier = CheckVerifier.newVerifier()
+            .onFile(FILE)
+            .withCheck(check)
+            .withProjectLevelWorkDir(tempDir.toString());
+        if (semantic) {
+            verifier.withClassPath(TestClasspath.springJdbc());
+        }
+        verifier.verifyNoIssues();
+
+        FileMeasures measures = ConnectionPressureMeasures.consume(FILE_URI);
+        assertThat(measures).isNotNull();
+        return measures;
+    }
+
+    /**
+     * Returns a verifier of the test file as an unchanged file of an incremental analysis.
+     *
+     * @param readCache  the cache of the previous analysis
+     * @param writeCache the cache of this analysis
+     * @return the verifier
+     */
+    private CheckVerifier unchangedFileVerifier(InternalReadCache readCache, InternalWriteCache writeCache) {
+        return CheckVerifier.newVerifier()
+            .addFiles(InputFile.Status.SAME, FILE)
+            .withCheck(new ConnectionPressureCheck())
+            .withCache(readCache, writeCache.bind(readCache))
+            .withProjectLevelWorkDir(tempDir.toString());
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.sonar.jdbc.checks.datasourceconfig;
+
+import com.example.sonar.jdbc.checks.DataSourceConfigurationCheck;
+import com.example.sonar.jdbc.checks.DataSourceConfigurationCheck.ConfigurationIssue;
+import com.example.sonar.jdbc.checks.SpringJdbcStreamLeakCheck;
+import com.example.sonar.jdbc.checks.StreamingCallSites;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sonar.java.checks.verifier.CheckVerifier;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the DataSourceConfigurationCheck.
+ *
+ * <p>Each test method validates one configuration:</p>
+ * <ul>
+ *   <li>A properties file with two pools, compared with the streaming call sites of the module</li>
+ *   <li>The same file in a module without streaming call sites</li>
+ *   <li>A profile-specific properties file, whose missing settings come from the base file</li>
+ *   <li>A YAML file with profile documents and nested keys</li>
+ *   <li>The same YAML file with a larger {@code maxPoolSize}</li>
+ *   <li>The configuration of the example application</li>
+ *   <li>Streaming call sites recorded with the working directory of the project, counted from the files of a module</li>
+ * </ul>
+ *
+ * @since 1.1.0
+ * @see DataSourceConfigurationCheck
+ */
+class DataSourceConfigurationCasesTest {
+
+    private static final String PROPERTIES = "src/test/files/datasourceconfig/application.properties";
+    private static final String PROFILE_PROPERTIES = "src/test/files/datasourceconfig/application-prod.properties";
+    private static final String YAML = "src/test/files/datasourceconfig/application.yml";
+    private static final String STREAMING_FILE = "src/test/files/noncompliant/JdbcTemplateQueryForStreamTest.java";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testDataSourceConfiguration_properties() throws IOException {
+        List<ConfigurationIssue> issues = scan(new DataSourceConfigurationCheck(), PROPERTIES, 4);
+
+        assertThat(issues).extracting(ConfigurationIssue::line).containsExactly(2, 4, 5, 6, 7, 10);
+        assertThat(issues.get(0).message()).contains("cachePrepStmts=true");
+        assertThat(issues.get(1).message()).isEqualTo("Increase \"maximum-pool-size\" above 4; this pool of 3 " +
+            "connections is exhausted as soon as the 4 streaming call sites of the module run together.");
+        assertThat(issues.get(2).message()).contains("at most 30000 ms");
+        assertThat(issues.get(3).message()).contains("at least 2000 ms");
+        assertThat(issues.get(4).message()).contains("\"max-lifetime\"");
+        assertThat(issues.get(5).message()).startsWith("Remove \"prepareThreshold=0\"");
+    }
+
+    @Test
+    void testDataSourceConfiguration_propertiesWithoutStreams() throws IOException {
+        List<ConfigurationIssue> issues = scan(new DataSourceConfigurationCheck(), PROPERTIES, 0);
+
+        assertThat(issues).extracting(ConfigurationIssue::line).containsExactly(2, 5, 6, 7, 10);
+    }
+
+    @Test
+    void testDataSourceConfiguration_profileProperties() throws IOException {
+        List<ConfigurationIssue> issues = scan(new DataSourceConfigurationCheck(), PROFILE_PROPERTIES, 4);
+
+        assertThat(issues).extracting(ConfigurationIssue::line).containsExactly(2);
+        assertThat(issues.get(0).message()).startsWith("Increase \"maximum-pool-size\" above 4;");
+    }
+
+    @Test
+    void testDataSourceConfiguration_yaml() throws IOException {
+        List<ConfigurationIssue> issues = scan(new DataSourceConfigurationCheck(), YAML, 12);
+
+        assertThat(issues).extracting(ConfigurationIssue::line).containsExactly(4, 6, 9);
+        assertThat(issues.get(0).message()).isEqualTo("Set \"leak-detection-threshold\" for this pool; " +
+            "the 12 streaming call sites of the module can leak connections unnoticed.");
+        assertThat(issues.get(1).message()).startsWith("Reduce \"maximum-pool-size\" to at most 50;");
+        assertThat(issues.get(2).message()).startsWith("Remove \"preparedStatementCacheQueries=0\"");
+    }
+
+    @Test
+    void testDataSourceConfiguration_yamlWithLargerMaximum() throws IOException {
+        DataSourceConfigurationCheck check = new DataSourceConfigurationCheck();
+        check.maxPoolSize = 200;
+
+        assertThat(scan(check, YAML, 12)).extracting(ConfigurationIssue::line).containsExactly(4, 9);
+    }
+
+    @Test
+    void testDataSourceConfiguration_exampleApplication() throws IOException {
+        String file = "example/src/main/resources/application.properties";
+
+        assertThat(scan(new DataSourceConfigurationCheck(), file, 2)).isEmpty();
+        assertThat(scan(new DataSourceConfigurationCheck(), file, 3)).extracting(ConfigurationIssue::line).containsExactly(8);
+    }
+
+    @Test
+    void testDataSourceConfiguration_moduleStreamingCallSites() {
+        CheckVerifier.newVerifier()
+            .onFile(STREAMING_FILE)
+            .withCheck(new SpringJdbcStreamLeakCheck())
+            .withProjectLevelWorkDir(tempDir.resolve("project").toString())
+            .verifyIssues();
+
+        // the sensor of the module has its own working directory, so it counts the call sites of its files
+        List<String> moduleFiles = List.of(new File(STREAMING_FILE).getAbsoluteFile().toURI().toString());
+
+        assertThat(StreamingCallSites.consume(moduleFiles)).isEqualTo(1);
+        assertThat(StreamingCallSites.consume(moduleFiles)).isZero();
+    }
+
+    /**
+     * Runs the check on a configuration file.
+     *
+     * @param check              the configured check
+     * @param file               the file, relative to the project root
+     * @param streamingCallSites the number of streaming call sites of the module
+     * @return the issues
+     * @throws IOException if the file cannot be read
+     */
+    private static List<ConfigurationIssue> scan(DataSourceConfigurationCheck check, String file, int streamingCallSites)
+        throws IOException {
+        Path path = Path.of(file);
+        return check.scan(path.getFileName().toString(), Files.readString(path, StandardCharsets.UTF_8), streamingCallSites);
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.sonar.jdbc.checks.dynamicsql;
+
+import com.example.sonar.jdbc.checks.DynamicSqlConcatenationCheck;
+import com.example.sonar.jdbc.checks.TestClasspath;
+import org.junit.jupiter.api.Test;
+import org.sonar.java.checks.verifier.CheckVerifier;
+
+/**
+ * Tests for the DynamicSqlConcatenationCheck.
+ *
+ * <p>Each test method validates exactly ONE pattern, with name-based heuristics only and
+ * with Spring JDBC on the classpath:</p>
+ * <ul>
+ *   <li>Number concatenated into SQL inside a loop</li>
+ *   <li>Quoted string value concatenated into SQL</li>
+ *   <li>Value formatted into SQL with String.format</li>
+ *   <li>Value formatted into a text block</li>
+ *   <li>IN list concatenated through a local variable</li>
+ *   <li>Value concatenated into SQL inside forEach</li>
+ *   <li>Dynamic table name</li>
+ *   <li>Dynamic sort column and direction</li>
+ *   <li>Identifier formatted into SQL</li>
+ *   <li>Values bound to named placeholders</li>
+ *   <li>String concatenation that is not SQL</li>
+ *   <li>Values concatenated into the URL of a REST call</li>
+ * </ul>
+ *
+ * @since 1.1.0
+ * @see DynamicSqlConcatenationCheck
+ */
+class DynamicSqlCasesTest {
+
+    private static final String DIRECTORY = "src/test/files/dynamicsql/";
+
+    @Test
+    void testDynamicSql_numberInLoop() {
+        verifyIssues("NumberInLoopTest.java");
+    }
+
+    @Test
+    void testDynamicSql_quotedString() {
+        verifyIssues("QuotedStringTest.java");
+    }
+
+    @Test
+    void testDynamicSql_formattedValue() {
+        verifyIssues("FormattedValueTest.java");
+    }
+
+    @Test
+    void testDynamicSql_textBlockFormatted() {
+        verifyIssues("TextBlockFormattedTest.java");
+    }
+
+    @Test
+    void testDynamicSql_inListViaLocalVariable() {
+        verifyIssues("InListViaLocalVariableTest.java");
+    }
+
+    @Test
+    void testDynamicSql_inForEach() {
+        verifyIssues("InForEachTest.java");
+    }
+
+    @Test
+    void testDynamicSql_dynamicTable() {
+        verifyNoIssues("DynamicTableTest.java");
+    }
+
+    @Test
+    void testDynamicSql_dynamicSortColumn() {
+        verifyNoIssues("DynamicSortColumnTest.java");
+    }
+
+    @Test
+    void testDynamicSql_formattedIdentifier() {
+        verifyNoIssues("FormattedIdentifierTest.java");
+    }
+
+    @Test
+    void testDynamicSql_namedPlaceholders() {
+        verifyNoIssues("NamedPlaceholdersTest.java");
+    }
+
+    @Test
+    void testDynamicSql_notSql() {
+        verifyNoIssues("NotSqlTest.java");
+    }
+
+    @Test
+    void testDynamicSql_restCall() {
+        verifyNoIssues("RestCallTest.java");
+    }
+
+    /**
+     * Verifies the issues expected in a test file, with and without Spring JDBC on the classpath.
+     *
+     * @param fileName the file name in {@code src/test/files/dynamicsql}
+     */
+    private static void verifyIssues(String fileName) {
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new DynamicSqlConcatenationCheck())
+            .verifyIssues();
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new DynamicSqlConcatenationCheck())
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyIssues();
+    }
+
+    /**
+     * Verifies that a test file raises no issue, with and without Spring JDBC on the classpath.
+     *
+     * @param fileName the file name in {@code src/test/files/dynamicsql}
+     */
+    private static void verifyNoIssues(String fileName) {
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new DynamicSqlConcatenationCheck())
+            .verifyNoIssues();
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new DynamicSqlConcatenationCheck())
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyNoIssues();
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.sonar.jdbc.checks.edgecase;
 
 import com.example.sonar.jdbc.checks.SpringJdbcStreamLeakCheck;
+import com.example.sonar.jdbc.checks.TestClasspath;
 import org.junit.jupiter.api.Test;
 import org.sonar.java.checks.verifier.CheckVerifier;
 
@@ -12,6 +13,7 @@ import org.sonar.java.checks.verifier.CheckVerifier;
  *   <li>JDBC streams within lambda expressions</li>
  *   <li>Streams passed as method arguments</li>
  *   <li>Name-based heuristic fallback for JdbcTemplate detection</li>
+ *   <li>Semantic detection through Spring JDBC interfaces</li>
  * </ul>
  *
  * @since 1.0.0
@@ -59,4 +61,14 @@ class EdgeCaseTest {
             .withCheck(new SpringJdbcStreamLeakCheck())
             .verifyNoIssues();
     }
+
+    @Test
+    void testEdgeCase_interfaceTypedReceiversWithSemantic() {
+        // Receiver names match no heuristic, so only the resolved Spring JDBC types can detect them
+        CheckVerifier.newVerifier()
+            .onFile("src/test/files/edgecase/InterfaceTypedReceiversTest.java")
+            .withCheck(new SpringJdbcStreamLeakCheck())
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyIssues();
+    }
 }
@@ -0,0 +1,151 @@
+package com.example.sonar.jdbc.checks.endpointroundtrips;
+
+import com.example.sonar.jdbc.checks.EndpointRoundTripsCheck;
+import com.example.sonar.jdbc.checks.TestClasspath;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sonar.api.batch.fs.InputFile;
+import org.sonar.java.checks.verifier.CheckVerifier;
+import org.sonar.java.checks.verifier.internal.InternalReadCache;
+import org.sonar.java.checks.verifier.internal.InternalWriteCache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the EndpointRoundTripsCheck.
+ *
+ * <p>The check reports once every file is analyzed, so each controller fixture is analyzed
+ * together with the services and repositories it calls. Each test method validates one
+ * pattern:</p>
+ * <ul>
+ *   <li>Endpoints under the limit, recursive services and methods that are not endpoints</li>
+ *   <li>An endpoint querying a repository in another file once per order in a loop</li>
+ *   <li>An endpoint writing per row inside a transactional service method</li>
+ *   <li>Mutually recursive methods first evaluated from another endpoint, whose cut costs are not reused</li>
+ *   <li>Loop weight and threshold configured through the rule properties</li>
+ *   <li>Unchanged files of an incremental analysis, which are analyzed all the same</li>
+ * </ul>
+ *
+ * <p>Unless stated otherwise, every fixture is verified with name-based heuristics only and
+ * with Spring JDBC on the classpath.</p>
+ *
+ * @since 1.1.0
+ * @see EndpointRoundTripsCheck
+ */
+class EndpointRoundTripsCasesTest {
+
+    private static final String DIRECTORY = "src/test/files/endpointroundtrips/";
+
+    private static final List<String> CALLEES = List.of(
+        DIRECTORY + "RoundTripService.java",
+        DIRECTORY + "ItemRepository.java"
+    );
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testEndpointRoundTrips_underLimit() {
+        CheckVerifier.newVerifier()
+            .onFiles(files("RoundTripController.java"))
+            .withCheck(new EndpointRoundTripsCheck())
+            .verifyNoIssues();
+        CheckVerifier.newVerifier()
+            .onFiles(files("RoundTripController.java"))
+            .withCheck(new EndpointRoundTripsCheck())
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyNoIssues();
+    }
+
+    @Test
+    void testEndpointRoundTrips_queryInLoop() {
+        verifyIssues("LoopRoundTripController.java");
+    }
+
+    @Test
+    void testEndpointRoundTrips_transactionalWrites() {
+        verifyIssues("TransactionalRoundTripController.java");
+    }
+
+    @Test
+    void testEndpointRoundTrips_mutualRecursion() {
+        verifyIssues("MutualRecursionController.java");
+    }
+
+    @Test
+    void testEndpointRoundTrips_configured() {
+        EndpointRoundTripsCheck check = new EndpointRoundTripsCheck();
+        check.loopIterations = 2;
+        check.maxRoundTrips = 2;
+
+        CheckVerifier.newVerifier()
+            .onFiles(files("ConfiguredRoundTripController.java"))
+            .withCheck(check)
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyIssues();
+    }
+
+    @Test
+    void testEndpointRoundTrips_unchangedFiles() throws IOException {
+        InternalWriteCache previousAnalysis = new InternalWriteCache();
+        unchangedFilesVerifier(new InternalReadCache(), previousAnalysis).verifyIssues();
+
+        // the content hashes of the previous analysis let every file be skipped, unless the check needs them parsed
+        unchangedFilesVerifier(new InternalReadCache().putAll(previousAnalysis), new InternalWriteCache()).verifyIssues();
+
+        String report = Files.readString(tempDir.resolve("jdbc-endpoint-round-trips.json"), StandardCharsets.UTF_8);
+        assertThat(report).contains("\"endpoint\": \"LoopRoundTripController.ordersWithItems\"")
+            .contains("\"roundTrips\": 11, \"connectionAcquisitions\": 11");
+    }
+
+    /**
+     * Verifies the issues of a controller, with heuristics only and with Spring JDBC on the
+     * classpath.
+     *
+     * @param controller the controller file name
+     */
+    private static void verifyIssues(String controller) {
+        CheckVerifier.newVerifier()
+            .onFiles(files(controller))
+            .withCheck(new EndpointRoundTripsCheck())
+            .verifyIssues();
+        CheckVerifier.newVerifier()
+            .onFiles(files(controller))
+            .withCheck(new EndpointRoundTripsCheck())
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyIssues();
+    }
+
+    /**
+     * Returns a verifier of a controller and its callees as unchanged files of an incremental
+     * analysis.
+     *
+     * @param readCache  the cache of the previous analysis
+     * @param writeCache the cache of this analysis
+     * @return the verifier
+     */
+    private CheckVerifier unchangedFilesVerifier(InternalReadCache readCache, InternalWriteCache writeCache) {
+        return CheckVerifier.newVerifier()
+            .addFiles(InputFile.Status.SAME, files("LoopRoundTripController.java"))
+            .withCheck(new EndpointRoundTripsCheck())
+            .withCache(readCache, writeCache.bind(readCache))
+            .withProjectLevelWorkDir(tempDir.toString());
+    }
+
+    /**
+     * Returns the given controller followed by the services and repositories it calls.
+     *
+     * @param controller the controller file name
+     * @return the files to analyze together
+     */
+    private static List<String> files(String controller) {
+        return Stream.concat(Stream.of(DIRECTORY + controller), CALLEES.stream()).toList();
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.sonar.jdbc.checks.facadeinstantiation;
+
+import com.example.sonar.jdbc.checks.JdbcFacadeInstantiationCheck;
+import com.example.sonar.jdbc.checks.TestClasspath;
+import org.junit.jupiter.api.Test;
+import org.sonar.java.checks.verifier.CheckVerifier;
+
+/**
+ * Tests for the JdbcFacadeInstantiationCheck.
+ *
+ * <p>Each test method validates exactly ONE pattern, with name-based heuristics only and
+ * with Spring JDBC on the classpath:</p>
+ * <ul>
+ *   <li>JdbcClient created on every request by a controller method</li>
+ *   <li>JdbcClient created once in the constructor</li>
+ *   <li>JdbcTemplate created on every call of a service method</li>
+ *   <li>NamedParameterJdbcTemplate created in a for-each loop</li>
+ *   <li>JdbcClient created in a forEach lambda</li>
+ *   <li>JdbcTemplate created by a plain helper method</li>
+ *   <li>Facades created by @Bean methods</li>
+ *   <li>Facades created by field and static initializers</li>
+ *   <li>Anonymous JdbcTemplate subclass</li>
+ * </ul>
+ *
+ * @since 1.1.0
+ * @see JdbcFacadeInstantiationCheck
+ */
+class FacadeInstantiationCasesTest {
+
+    private static final String DIRECTORY = "src/test/files/facadeinstantiation/";
+
+    @Test
+    void testFacadeInstantiation_perRequestInController() {
+        verifyIssues("PerRequestInControllerTest.java");
+    }
+
+    @Test
+    void testFacadeInstantiation_createdInConstructor() {
+        verifyNoIssues("CreatedInConstructorTest.java");
+    }
+
+    @Test
+    void testFacadeInstantiation_perCallInService() {
+        verifyIssues("PerCallInServiceTest.java");
+    }
+
+    @Test
+    void testFacadeInstantiation_perIterationInLoop() {
+        verifyIssues("PerIterationInLoopTest.java");
+    }
+
+    @Test
+    void testFacadeInstantiation_perIterationInForEach() {
+        verifyIssues("PerIterationInForEachTest.java");
+    }
+
+    @Test
+    void testFacadeInstantiation_helperMethod() {
+        verifyIssues("HelperMethodTest.java");
+    }
+
+    @Test
+    void testFacadeInstantiation_beanMethods() {
+        verifyNoIssues("BeanMethodsTest.java");
+    }
+
+    @Test
+    void testFacadeInstantiation_fieldInitializers() {
+        verifyNoIssues("FieldInitializersTest.java");
+    }
+
+    @Test
+    void testFacadeInstantiation_anonymousSubclass() {
+        verifyNoIssues("AnonymousSubclassTest.java");
+    }
+
+    /**
+     * Verifies the issues expected in a test file, with and without Spring JDBC on the classpath.
+     *
+     * @param fileName the file name in {@code src/test/files/facadeinstantiation}
+     */
+    private static void verifyIssues(String fileName) {
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new JdbcFacadeInstantiationCheck())
+            .verifyIssues();
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new JdbcFacadeInstantiationCheck())
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyIssues();
+    }
+
+    /**
+     * Verifies that a test file raises no issue, with and without Spring JDBC on the classpath.
+     *
+     * @param fileName the file name in {@code src/test/files/facadeinstantiation}
+     */
+    private static void verifyNoIssues(String fileName) {
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new JdbcFacadeInstantiationCheck())
+            .verifyNoIssues();
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new JdbcFacadeInstantiationCheck())
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyNoIssues();
+    }
+}
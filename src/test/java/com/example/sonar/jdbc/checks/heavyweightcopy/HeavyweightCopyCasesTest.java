@@ -0,0 +1,129 @@
+package com.example.sonar.jdbc.checks.heavyweightcopy;
+
+import com.example.sonar.jdbc.checks.HeavyweightResultCopyCheck;
+import com.example.sonar.jdbc.checks.TestClasspath;
+import org.junit.jupiter.api.Test;
+import org.sonar.java.checks.verifier.CheckVerifier;
+
+/**
+ * Tests for the HeavyweightResultCopyCheck.
+ *
+ * <p>Each test method validates exactly ONE pattern, with name-based heuristics only and
+ * with Spring JDBC on the classpath:</p>
+ * <ul>
+ *   <li>Unlimited result copied into a SqlRowSet</li>
+ *   <li>Large limited result copied into a list of maps with JdbcTemplate</li>
+ *   <li>Result copied into a list of maps with NamedParameterJdbcTemplate</li>
+ *   <li>Unlimited result copied into a list of maps with JdbcClient</li>
+ *   <li>Small result copied into a SqlRowSet on every loop iteration</li>
+ *   <li>Result of unknown SQL copied into a list of maps</li>
+ *   <li>Small result limited with LIMIT</li>
+ *   <li>Small result limited with FETCH FIRST</li>
+ *   <li>List of typed elements</li>
+ *   <li>Rows mapped with a RowMapper</li>
+ *   <li>Small results configured through the {@code smallResultRows} rule property</li>
+ * </ul>
+ *
+ * @since 1.1.0
+ * @see HeavyweightResultCopyCheck
+ */
+class HeavyweightCopyCasesTest {
+
+    private static final String DIRECTORY = "src/test/files/heavyweightcopy/";
+
+    @Test
+    void testHeavyweightCopy_rowSet() {
+        verifyIssues("RowSetTest.java");
+    }
+
+    @Test
+    void testHeavyweightCopy_listOfMaps() {
+        verifyIssues("ListOfMapsTest.java");
+    }
+
+    @Test
+    void testHeavyweightCopy_namedListOfMaps() {
+        verifyIssues("NamedListOfMapsTest.java");
+    }
+
+    @Test
+    void testHeavyweightCopy_clientListOfRows() {
+        verifyIssues("ClientListOfRowsTest.java");
+    }
+
+    @Test
+    void testHeavyweightCopy_rowSetInLoop() {
+        verifyIssues("RowSetInLoopTest.java");
+    }
+
+    @Test
+    void testHeavyweightCopy_unknownSql() {
+        verifyIssues("UnknownSqlTest.java");
+    }
+
+    @Test
+    void testHeavyweightCopy_smallLimit() {
+        verifyNoIssues("SmallLimitTest.java");
+    }
+
+    @Test
+    void testHeavyweightCopy_smallFetchFirst() {
+        verifyNoIssues("SmallFetchFirstTest.java");
+    }
+
+    @Test
+    void testHeavyweightCopy_typedElements() {
+        verifyNoIssues("TypedElementsTest.java");
+    }
+
+    @Test
+    void testHeavyweightCopy_typedRows() {
+        verifyNoIssues("TypedRowsTest.java");
+    }
+
+    @Test
+    void testHeavyweightCopy_configuredSize() {
+        HeavyweightResultCopyCheck check = new HeavyweightResultCopyCheck();
+        check.smallResultRows = 1000;
+
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + "ConfiguredResultSizeTest.java")
+            .withCheck(check)
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyIssues();
+    }
+
+    /**
+     * Verifies the issues expected in a test file, with and without Spring JDBC on the classpath.
+     *
+     * @param fileName the file name in {@code src/test/files/heavyweightcopy}
+     */
+    private static void verifyIssues(String fileName) {
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new HeavyweightResultCopyCheck())
+            .verifyIssues();
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new HeavyweightResultCopyCheck())
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyIssues();
+    }
+
+    /**
+     * Verifies that a test file raises no issue, with and without Spring JDBC on the classpath.
+     *
+     * @param fileName the file name in {@code src/test/files/heavyweightcopy}
+     */
+    private static void verifyNoIssues(String fileName) {
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new HeavyweightResultCopyCheck())
+            .verifyNoIssues();
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new HeavyweightResultCopyCheck())
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyNoIssues();
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.sonar.jdbc.checks.lazycursor;
+
+import com.example.sonar.jdbc.checks.LazyCursorLeakCheck;
+import org.junit.jupiter.api.Test;
+import org.sonar.java.checks.verifier.CheckVerifier;
+
+/**
+ * Tests for the LazyCursorLeakCheck.
+ *
+ * <p>Each test method validates one group of lazy cursor usages:</p>
+ * <ul>
+ *   <li>Unclosed jOOQ, MyBatis, JPA and Hibernate cursors recognized by chain heuristics</li>
+ *   <li>Cursors closed by try-with-resources or {@code finally} blocks, or returned to the caller</li>
+ *   <li>Restriction of the checked frameworks through the {@code frameworks} rule property</li>
+ * </ul>
+ *
+ * @since 1.1.0
+ * @see LazyCursorLeakCheck
+ */
+class LazyCursorCasesTest {
+
+    @Test
+    void testLazyCursor_unclosed() {
+        CheckVerifier.newVerifier()
+            .onFile("src/test/files/lazycursor/UnclosedLazyCursorTest.java")
+            .withCheck(new LazyCursorLeakCheck())
+            .verifyIssues();
+    }
+
+    @Test
+    void testLazyCursor_managed() {
+        CheckVerifier.newVerifier()
+            .onFile("src/test/files/lazycursor/ManagedLazyCursorTest.java")
+            .withCheck(new LazyCursorLeakCheck())
+            .verifyNoIssues();
+    }
+
+    @Test
+    void testLazyCursor_configuredFrameworks() {
+        LazyCursorLeakCheck check = new LazyCursorLeakCheck();
+        check.frameworks = "jpa, hibernate";
+
+        CheckVerifier.newVerifier()
+            .onFile("src/test/files/lazycursor/ConfiguredFrameworksTest.java")
+            .withCheck(check)
+            .verifyIssues();
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.sonar.jdbc.checks.mustbeclosed;
+
+import com.example.sonar.jdbc.checks.MustBeClosedContractCheck;
+import com.example.sonar.jdbc.checks.SpringJdbcStreamLeakCheck;
+import com.example.sonar.jdbc.checks.TestClasspath;
+import org.junit.jupiter.api.Test;
+import org.sonar.java.checks.verifier.CheckVerifier;
+
+/**
+ * Tests for the MustBeClosedContractCheck and for the {@code @MustBeClosed} contracts of the
+ * SpringJdbcStreamLeakCheck.
+ *
+ * <p>Each test method validates one configuration:</p>
+ * <ul>
+ *   <li>Methods returning JDBC streams with and without the annotation, with name-based heuristics only</li>
+ *   <li>The same methods with Spring JDBC on the classpath</li>
+ *   <li>Calls to annotated methods checked like {@code queryForStream()}, with name-based heuristics only</li>
+ *   <li>The same calls with Spring JDBC on the classpath</li>
+ *   <li>A custom annotation configured instead of {@code @MustBeClosed}</li>
+ * </ul>
+ *
+ * @since 1.1.0
+ * @see MustBeClosedContractCheck
+ * @see SpringJdbcStreamLeakCheck
+ */
+class MustBeClosedCasesTest {
+
+    private static final String CONTRACT_FILE = "src/test/files/mustbeclosed/MustBeClosedContractTest.java";
+    private static final String CALL_FILE = "src/test/files/mustbeclosed/MustBeClosedCallTest.java";
+
+    @Test
+    void testMustBeClosedContract_heuristics() {
+        CheckVerifier.newVerifier()
+            .onFile(CONTRACT_FILE)
+            .withCheck(new MustBeClosedContractCheck())
+            .verifyIssues();
+    }
+
+    @Test
+    void testMustBeClosedContract_semantic() {
+        CheckVerifier.newVerifier()
+            .onFile(CONTRACT_FILE)
+            .withCheck(new MustBeClosedContractCheck())
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyIssues();
+    }
+
+    @Test
+    void testMustBeClosedCalls_heuristics() {
+        CheckVerifier.newVerifier()
+            .onFile(CALL_FILE)
+            .withCheck(new SpringJdbcStreamLeakCheck())
+            .verifyIssues();
+    }
+
+    @Test
+    void testMustBeClosedCalls_semantic() {
+        CheckVerifier.newVerifier()
+            .onFile(CALL_FILE)
+            .withCheck(new SpringJdbcStreamLeakCheck())
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyIssues();
+    }
+
+    @Test
+    void testMustBeClosedCalls_customAnnotation() {
+        SpringJdbcStreamLeakCheck check = new SpringJdbcStreamLeakCheck();
+        check.mustBeClosedAnnotations = "CursorOwner";
+        CheckVerifier.newVerifier()
+            .onFile("src/test/files/mustbeclosed/CustomContractTest.java")
+            .withCheck(check)
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyIssues();
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.sonar.jdbc.checks.nestedstream;
+
+import com.example.sonar.jdbc.checks.NestedJdbcStreamCheck;
+import com.example.sonar.jdbc.checks.TestClasspath;
+import org.junit.jupiter.api.Test;
+import org.sonar.java.checks.verifier.CheckVerifier;
+
+/**
+ * Tests for the NestedJdbcStreamCheck.
+ *
+ * <p>Each test method validates exactly ONE pattern, with name-based heuristics only and
+ * with Spring JDBC on the classpath:</p>
+ * <ul>
+ *   <li>Stream opened in the forEach of a try-with-resources stream</li>
+ *   <li>Stream opened in a chained forEach</li>
+ *   <li>Helper opening a stream called from forEach</li>
+ *   <li>Helper opening a stream passed as method reference</li>
+ *   <li>Stream opened while iterating another stream</li>
+ *   <li>Nested streams inside a transaction</li>
+ *   <li>Sequential streams</li>
+ *   <li>Materialized inner query</li>
+ * </ul>
+ *
+ * @since 1.1.0
+ * @see NestedJdbcStreamCheck
+ */
+class NestedStreamCasesTest {
+
+    private static final String DIRECTORY = "src/test/files/nestedstream/";
+
+    @Test
+    void testNestedStream_nestedInTryBlock() {
+        verifyIssues("NestedInTryBlockTest.java");
+    }
+
+    @Test
+    void testNestedStream_nestedInChainedForEach() {
+        verifyIssues("NestedInChainedForEachTest.java");
+    }
+
+    @Test
+    void testNestedStream_throughHelperCall() {
+        verifyIssues("ThroughHelperCallTest.java");
+    }
+
+    @Test
+    void testNestedStream_throughMethodReference() {
+        verifyIssues("ThroughMethodReferenceTest.java");
+    }
+
+    @Test
+    void testNestedStream_iteratorLoop() {
+        verifyIssues("IteratorLoopTest.java");
+    }
+
+    @Test
+    void testNestedStream_sharedTransactionConnection() {
+        verifyNoIssues("SharedTransactionConnectionTest.java");
+    }
+
+    @Test
+    void testNestedStream_sequentialStreams() {
+        verifyNoIssues("SequentialStreamsTest.java");
+    }
+
+    @Test
+    void testNestedStream_materializedInnerQuery() {
+        verifyNoIssues("MaterializedInnerQueryTest.java");
+    }
+
+    /**
+     * Verifies the issues expected in a test file, with and without Spring JDBC on the classpath.
+     *
+     * @param fileName the file name in {@code src/test/files/nestedstream}
+     */
+    private static void verifyIssues(String fileName) {
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new NestedJdbcStreamCheck())
+            .verifyIssues();
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new NestedJdbcStreamCheck())
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyIssues();
+    }
+
+    /**
+     * Verifies that a test file raises no issue, with and without Spring JDBC on the classpath.
+     *
+     * @param fileName the file name in {@code src/test/files/nestedstream}
+     */
+    private static void verifyNoIssues(String fileName) {
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new NestedJdbcStreamCheck())
+            .verifyNoIssues();
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new NestedJdbcStreamCheck())
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyNoIssues();
+    }
+}
@@ -17,6 +17,7 @@ import org.sonar.java.checks.verifier.CheckVerifier;
  *   <li>Direct stream usage without closing</li>
  *   <li>Streams returned from methods</li>
  *   <li>Complex method chains without proper resource management</li>
+ *   <li>NamedParameterJdbcTemplate and Jdbc*Operations interface entry points</li>
  * </ul>
  *
  * @since 1.0.0
@@ -87,4 +88,36 @@ class NoncompliantCasesTest {
             .withCheck(new SpringJdbcStreamLeakCheck())
             .verifyIssues();
     }
+
+    @Test
+    void testNoncompliant_namedParameterJdbcTemplateQueryForStream() {
+        CheckVerifier.newVerifier()
+            .onFile("src/test/files/noncompliant/NamedParameterJdbcTemplateQueryForStreamTest.java")
+            .withCheck(new SpringJdbcStreamLeakCheck())
+            .verifyIssues();
+    }
+
+    @Test
+    void testNoncompliant_jdbcOperationsQueryForStream() {
+        CheckVerifier.newVerifier()
+            .onFile("src/test/files/noncompliant/JdbcOperationsQueryForStreamTest.java")
+            .withCheck(new SpringJdbcStreamLeakCheck())
+            .verifyIssues();
+    }
+
+    @Test
+    void testNoncompliant_namedParameterJdbcOperationsQueryForStream() {
+        CheckVerifier.newVerifier()
+            .onFile("src/test/files/noncompliant/NamedParameterJdbcOperationsQueryForStreamTest.java")
+            .withCheck(new SpringJdbcStreamLeakCheck())
+            .verifyIssues();
+    }
+
+    @Test
+    void testNoncompliant_statementSpecStream() {
+        CheckVerifier.newVerifier()
+            .onFile("src/test/files/noncompliant/StatementSpecStreamTest.java")
+            .withCheck(new SpringJdbcStreamLeakCheck())
+            .verifyIssues();
+    }
 }
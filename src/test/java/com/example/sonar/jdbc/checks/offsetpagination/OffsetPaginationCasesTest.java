@@ -0,0 +1,116 @@
+package com.example.sonar.jdbc.checks.offsetpagination;
+
+import com.example.sonar.jdbc.checks.OffsetPaginationCheck;
+import com.example.sonar.jdbc.checks.TestClasspath;
+import org.junit.jupiter.api.Test;
+import org.sonar.java.checks.verifier.CheckVerifier;
+
+/**
+ * Tests for the OffsetPaginationCheck.
+ *
+ * <p>Each test method validates exactly ONE pattern, with name-based heuristics only and
+ * with Spring JDBC on the classpath:</p>
+ * <ul>
+ *   <li>JdbcClient OFFSET pagination driven by a for loop counter</li>
+ *   <li>JdbcTemplate OFFSET pagination advanced in a do-while loop</li>
+ *   <li>Oracle ROWNUM pagination</li>
+ *   <li>OFFSET ... FETCH NEXT pagination in a while loop</li>
+ *   <li>Offset computed in the loop body</li>
+ *   <li>Single page outside of a loop</li>
+ *   <li>Keyset pagination</li>
+ *   <li>FETCH NEXT with constant bounds</li>
+ *   <li>Loop over the values of a WHERE filter with constant FETCH NEXT bounds</li>
+ *   <li>OFFSET driver bound after a loop-varying filter value</li>
+ * </ul>
+ *
+ * @since 1.1.0
+ * @see OffsetPaginationCheck
+ */
+class OffsetPaginationCasesTest {
+
+    private static final String DIRECTORY = "src/test/files/offsetpagination/";
+
+    @Test
+    void testOffsetPagination_clientOffsetInForLoop() {
+        verifyIssues("ClientOffsetInForLoopTest.java");
+    }
+
+    @Test
+    void testOffsetPagination_templateOffsetInDoWhile() {
+        verifyIssues("TemplateOffsetInDoWhileTest.java");
+    }
+
+    @Test
+    void testOffsetPagination_oracleRownum() {
+        verifyIssues("OracleRownumTest.java");
+    }
+
+    @Test
+    void testOffsetPagination_fetchNextInWhileLoop() {
+        verifyIssues("FetchNextInWhileLoopTest.java");
+    }
+
+    @Test
+    void testOffsetPagination_offsetComputedInBody() {
+        verifyIssues("OffsetComputedInBodyTest.java");
+    }
+
+    @Test
+    void testOffsetPagination_singlePageOutsideLoop() {
+        verifyNoIssues("SinglePageOutsideLoopTest.java");
+    }
+
+    @Test
+    void testOffsetPagination_keysetPagination() {
+        verifyNoIssues("KeysetPaginationTest.java");
+    }
+
+    @Test
+    void testOffsetPagination_constantFetchBounds() {
+        verifyNoIssues("ConstantFetchBoundsTest.java");
+    }
+
+    @Test
+    void testOffsetPagination_filterLoopWithFetchNext() {
+        verifyNoIssues("FilterLoopWithFetchNextTest.java");
+    }
+
+    @Test
+    void testOffsetPagination_filterAndOffsetInLoop() {
+        verifyIssues("FilterAndOffsetInLoopTest.java");
+    }
+
+    /**
+     * Verifies the issues expected in a test file, with and without Spring JDBC on the classpath.
+     *
+     * @param fileName the file name in {@code src/test/files/offsetpagination}
+     */
+    private static void verifyIssues(String fileName) {
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new OffsetPaginationCheck())
+            .verifyIssues();
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new OffsetPaginationCheck())
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyIssues();
+    }
+
+    /**
+     * Verifies that a test file raises no issue, with and without Spring JDBC on the classpath.
+     *
+     * @param fileName the file name in {@code src/test/files/offsetpagination}
+     */
+    private static void verifyNoIssues(String fileName) {
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new OffsetPaginationCheck())
+            .verifyNoIssues();
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new OffsetPaginationCheck())
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyNoIssues();
+    }
+}
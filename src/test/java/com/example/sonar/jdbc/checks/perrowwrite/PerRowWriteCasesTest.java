@@ -0,0 +1,92 @@
+package com.example.sonar.jdbc.checks.perrowwrite;
+
+import com.example.sonar.jdbc.checks.PerRowWriteInStreamCheck;
+import com.example.sonar.jdbc.checks.TestClasspath;
+import org.junit.jupiter.api.Test;
+import org.sonar.java.checks.verifier.CheckVerifier;
+
+/**
+ * Tests for the PerRowWriteInStreamCheck.
+ *
+ * <p>Each test method validates exactly ONE pattern, with name-based heuristics only and
+ * with Spring JDBC on the classpath:</p>
+ * <ul>
+ *   <li>JdbcTemplate update per streamed row</li>
+ *   <li>JdbcClient update per streamed row</li>
+ *   <li>Helper writing per streamed row</li>
+ *   <li>Writing helper passed as method reference</li>
+ *   <li>Batch update after the stream is closed</li>
+ *   <li>Non-JDBC call per streamed row</li>
+ * </ul>
+ *
+ * @since 1.1.0
+ * @see PerRowWriteInStreamCheck
+ */
+class PerRowWriteCasesTest {
+
+    private static final String DIRECTORY = "src/test/files/perrowwrite/";
+
+    @Test
+    void testPerRowWrite_templateUpdate() {
+        verifyIssues("TemplateUpdateTest.java");
+    }
+
+    @Test
+    void testPerRowWrite_clientUpdate() {
+        verifyIssues("ClientUpdateTest.java");
+    }
+
+    @Test
+    void testPerRowWrite_helperCall() {
+        verifyIssues("HelperCallTest.java");
+    }
+
+    @Test
+    void testPerRowWrite_methodReference() {
+        verifyIssues("MethodReferenceTest.java");
+    }
+
+    @Test
+    void testPerRowWrite_writeAfterStreamClosed() {
+        verifyNoIssues("WriteAfterStreamClosedTest.java");
+    }
+
+    @Test
+    void testPerRowWrite_notAWrite() {
+        verifyNoIssues("NotAWriteTest.java");
+    }
+
+    /**
+     * Verifies the issues expected in a test file, with and without Spring JDBC on the classpath.
+     *
+     * @param fileName the file name in {@code src/test/files/perrowwrite}
+     */
+    private static void verifyIssues(String fileName) {
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new PerRowWriteInStreamCheck())
+            .verifyIssues();
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new PerRowWriteInStreamCheck())
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyIssues();
+    }
+
+    /**
+     * Verifies that a test file raises no issue, with and without Spring JDBC on the classpath.
+     *
+     * @param fileName the file name in {@code src/test/files/perrowwrite}
+     */
+    private static void verifyNoIssues(String fileName) {
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new PerRowWriteInStreamCheck())
+            .verifyNoIssues();
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new PerRowWriteInStreamCheck())
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyNoIssues();
+    }
+}
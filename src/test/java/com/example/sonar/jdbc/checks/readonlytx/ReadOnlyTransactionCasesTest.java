@@ -0,0 +1,158 @@
+package com.example.sonar.jdbc.checks.readonlytx;
+
+import com.example.sonar.jdbc.checks.ReadOnlyStreamingTransactionCheck;
+import com.example.sonar.jdbc.checks.TestClasspath;
+import org.junit.jupiter.api.Test;
+import org.sonar.java.checks.verifier.CheckVerifier;
+
+/**
+ * Tests for the ReadOnlyStreamingTransactionCheck.
+ *
+ * <p>Each test method validates exactly ONE pattern, with name-based heuristics only and
+ * with Spring JDBC on the classpath:</p>
+ * <ul>
+ *   <li>Streaming method in a read-write transaction</li>
+ *   <li>Streaming service method without transaction</li>
+ *   <li>Streaming method in a read-only transaction</li>
+ *   <li>Streaming method that also writes with JdbcTemplate</li>
+ *   <li>Streaming method that also writes with JdbcClient</li>
+ *   <li>Locking read in a read-write transaction</li>
+ *   <li>Streaming method with suspended transactions</li>
+ *   <li>Stream read in a TransactionTemplate callback</li>
+ *   <li>Read-only method without stream</li>
+ *   <li>Private streaming method</li>
+ *   <li>Streaming method inheriting a read-only class transaction</li>
+ *   <li>Read-write transaction overriding a read-only class transaction</li>
+ *   <li>Streaming repository method without transaction</li>
+ *   <li>Streaming method outside of Spring components</li>
+ *   <li>Streaming methods calling a repository or an EntityManager</li>
+ *   <li>Streaming methods writing through a helper of the same class</li>
+ *   <li>Streaming method calling only JDK objects and read-only helpers</li>
+ * </ul>
+ *
+ * @since 1.1.0
+ * @see ReadOnlyStreamingTransactionCheck
+ */
+class ReadOnlyTransactionCasesTest {
+
+    private static final String DIRECTORY = "src/test/files/readonlytx/";
+
+    @Test
+    void testReadOnlyTransaction_readWriteTransaction() {
+        verifyIssues("ReadWriteTransactionTest.java");
+    }
+
+    @Test
+    void testReadOnlyTransaction_noTransactionInService() {
+        verifyIssues("NoTransactionInServiceTest.java");
+    }
+
+    @Test
+    void testReadOnlyTransaction_alreadyReadOnly() {
+        verifyNoIssues("AlreadyReadOnlyTest.java");
+    }
+
+    @Test
+    void testReadOnlyTransaction_readsAndWrites() {
+        verifyNoIssues("ReadsAndWritesTest.java");
+    }
+
+    @Test
+    void testReadOnlyTransaction_readsAndWritesWithClient() {
+        verifyNoIssues("ReadsAndWritesWithClientTest.java");
+    }
+
+    @Test
+    void testReadOnlyTransaction_lockingRead() {
+        verifyNoIssues("LockingReadTest.java");
+    }
+
+    @Test
+    void testReadOnlyTransaction_suspendedTransaction() {
+        verifyNoIssues("SuspendedTransactionTest.java");
+    }
+
+    @Test
+    void testReadOnlyTransaction_programmaticTransaction() {
+        verifyNoIssues("ProgrammaticTransactionTest.java");
+    }
+
+    @Test
+    void testReadOnlyTransaction_noStream() {
+        verifyNoIssues("NoStreamTest.java");
+    }
+
+    @Test
+    void testReadOnlyTransaction_privateHelper() {
+        verifyNoIssues("PrivateHelperTest.java");
+    }
+
+    @Test
+    void testReadOnlyTransaction_inheritedReadOnly() {
+        verifyNoIssues("InheritedReadOnlyTest.java");
+    }
+
+    @Test
+    void testReadOnlyTransaction_overriddenReadOnly() {
+        verifyIssues("OverriddenReadOnlyTest.java");
+    }
+
+    @Test
+    void testReadOnlyTransaction_noTransactionInRepository() {
+        verifyIssues("NoTransactionInRepositoryTest.java");
+    }
+
+    @Test
+    void testReadOnlyTransaction_notAComponent() {
+        verifyNoIssues("NotAComponentTest.java");
+    }
+
+    @Test
+    void testReadOnlyTransaction_beanCall() {
+        verifyNoIssues("BeanCallTest.java");
+    }
+
+    @Test
+    void testReadOnlyTransaction_helperWrite() {
+        verifyNoIssues("HelperWriteTest.java");
+    }
+
+    @Test
+    void testReadOnlyTransaction_readOnlyHelper() {
+        verifyIssues("ReadOnlyHelperTest.java");
+    }
+
+    /**
+     * Verifies the issues expected in a test file, with and without Spring JDBC on the classpath.
+     *
+     * @param fileName the file name in {@code src/test/files/readonlytx}
+     */
+    private static void verifyIssues(String fileName) {
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new ReadOnlyStreamingTransactionCheck())
+            .verifyIssues();
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new ReadOnlyStreamingTransactionCheck())
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyIssues();
+    }
+
+    /**
+     * Verifies that a test file raises no issue, with and without Spring JDBC on the classpath.
+     *
+     * @param fileName the file name in {@code src/test/files/readonlytx}
+     */
+    private static void verifyNoIssues(String fileName) {
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new ReadOnlyStreamingTransactionCheck())
+            .verifyNoIssues();
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new ReadOnlyStreamingTransactionCheck())
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyNoIssues();
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.sonar.jdbc.checks.remotecall;
+
+import com.example.sonar.jdbc.checks.TestClasspath;
+import com.example.sonar.jdbc.checks.TransactionalRemoteCallCheck;
+import org.junit.jupiter.api.Test;
+import org.sonar.java.checks.verifier.CheckVerifier;
+
+/**
+ * Tests for the TransactionalRemoteCallCheck.
+ *
+ * <p>Each test method validates exactly ONE pattern, with Spring JDBC on the classpath:</p>
+ * <ul>
+ *   <li>REST call between the statements of a {@code @Transactional} method</li>
+ *   <li>{@code Thread.sleep()} in a {@code @Transactional} method with JDBC access</li>
+ *   <li>Feign client call in a {@code TransactionTemplate} callback with JDBC access</li>
+ *   <li>JDK {@code HttpClient} call in a {@code @Transactional} method with JDBC access</li>
+ *   <li>REST call in a method of a class annotated with {@code @Transactional}</li>
+ *   <li>Remote call outside any transaction</li>
+ *   <li>Remote call between two short {@code TransactionTemplate} callbacks</li>
+ *   <li>Remote call in a {@code @Transactional} method without JDBC access</li>
+ *   <li>Messaging and remote calls in a {@code @Transactional} method without JDBC access</li>
+ *   <li>Remote call in a suspended transaction</li>
+ *   <li>Remote APIs configured through the {@code remoteCalls} rule property</li>
+ * </ul>
+ *
+ * @since 1.1.0
+ * @see TransactionalRemoteCallCheck
+ */
+class RemoteCallCasesTest {
+
+    private static final String DIRECTORY = "src/test/files/remotecall/";
+
+    @Test
+    void testRemoteCall_restCallBetweenStatements() {
+        verifyIssues("RestCallBetweenStatementsTest.java");
+    }
+
+    @Test
+    void testRemoteCall_sleepInTransaction() {
+        verifyIssues("SleepInTransactionTest.java");
+    }
+
+    @Test
+    void testRemoteCall_feignClientInTemplate() {
+        verifyIssues("FeignClientInTemplateTest.java");
+    }
+
+    @Test
+    void testRemoteCall_jdkHttpClient() {
+        verifyIssues("JdkHttpClientTest.java");
+    }
+
+    @Test
+    void testRemoteCall_classLevelTransaction() {
+        verifyIssues("ClassLevelTransactionTest.java");
+    }
+
+    @Test
+    void testRemoteCall_noTransaction() {
+        verifyNoIssues("NoTransactionTest.java");
+    }
+
+    @Test
+    void testRemoteCall_betweenShortTransactions() {
+        verifyNoIssues("BetweenShortTransactionsTest.java");
+    }
+
+    @Test
+    void testRemoteCall_transactionWithoutJdbc() {
+        verifyNoIssues("TransactionWithoutJdbcTest.java");
+    }
+
+    @Test
+    void testRemoteCall_messagingWithoutJdbc() {
+        verifyNoIssues("MessagingWithoutJdbcTest.java");
+    }
+
+    @Test
+    void testRemoteCall_suspendedTransaction() {
+        verifyNoIssues("SuspendedTransactionTest.java");
+    }
+
+    @Test
+    void testRemoteCall_configuredApis() {
+        TransactionalRemoteCallCheck check = new TransactionalRemoteCallCheck();
+        check.remoteCalls = "com.example.inventory.InventoryGateway, java.lang.Thread#sleep";
+
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + "ConfiguredRemoteCallsTest.java")
+            .withCheck(check)
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyIssues();
+    }
+
+    /**
+     * Verifies the issues expected in a test file.
+     *
+     * @param fileName the file name in {@code src/test/files/remotecall}
+     */
+    private static void verifyIssues(String fileName) {
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new TransactionalRemoteCallCheck())
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyIssues();
+    }
+
+    /**
+     * Verifies that a test file raises no issue.
+     *
+     * @param fileName the file name in {@code src/test/files/remotecall}
+     */
+    private static void verifyNoIssues(String fileName) {
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new TransactionalRemoteCallCheck())
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyNoIssues();
+    }
+}
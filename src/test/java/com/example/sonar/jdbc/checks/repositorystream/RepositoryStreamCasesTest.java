@@ -0,0 +1,45 @@
+package com.example.sonar.jdbc.checks.repositorystream;
+
+import com.example.sonar.jdbc.checks.SpringDataRepositoryStreamLeakCheck;
+import org.junit.jupiter.api.Test;
+import org.sonar.java.checks.verifier.CheckVerifier;
+
+/**
+ * Tests for the SpringDataRepositoryStreamLeakCheck.
+ *
+ * <p>Each test method validates one group of repository stream usages:</p>
+ * <ul>
+ *   <li>Calls missing try-with-resources, a transaction, or both</li>
+ *   <li>Calls managed by class-level {@code @Transactional} and {@code TransactionTemplate}</li>
+ *   <li>Name-based fallback when the repository type cannot be resolved</li>
+ * </ul>
+ *
+ * @since 1.1.0
+ * @see SpringDataRepositoryStreamLeakCheck
+ */
+class RepositoryStreamCasesTest {
+
+    @Test
+    void testRepositoryStream_unmanaged() {
+        CheckVerifier.newVerifier()
+            .onFile("src/test/files/repositorystream/UnmanagedRepositoryStreamTest.java")
+            .withCheck(new SpringDataRepositoryStreamLeakCheck())
+            .verifyIssues();
+    }
+
+    @Test
+    void testRepositoryStream_managed() {
+        CheckVerifier.newVerifier()
+            .onFile("src/test/files/repositorystream/ManagedRepositoryStreamTest.java")
+            .withCheck(new SpringDataRepositoryStreamLeakCheck())
+            .verifyIssues();
+    }
+
+    @Test
+    void testRepositoryStream_unresolvedRepository() {
+        CheckVerifier.newVerifier()
+            .onFile("src/test/files/repositorystream/UnresolvedRepositoryStreamTest.java")
+            .withCheck(new SpringDataRepositoryStreamLeakCheck())
+            .verifyIssues();
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.sonar.jdbc.checks.rowmapper;
+
+import com.example.sonar.jdbc.checks.ReflectiveRowMapperCheck;
+import com.example.sonar.jdbc.checks.TestClasspath;
+import org.junit.jupiter.api.Test;
+import org.sonar.java.checks.verifier.CheckVerifier;
+
+/**
+ * Tests for the ReflectiveRowMapperCheck.
+ *
+ * <p>Each test method validates exactly ONE pattern, with name-based heuristics only and
+ * with Spring JDBC on the classpath:</p>
+ * <ul>
+ *   <li>BeanPropertyRowMapper created on every call</li>
+ *   <li>DataClassRowMapper.newInstance on every call</li>
+ *   <li>DataClassRowMapper created inside a loop</li>
+ *   <li>Query with a mapped class on a JdbcClient created in the method</li>
+ *   <li>Query with a mapped class on a JdbcClient created inside a loop</li>
+ *   <li>Query with a mapped class on a shared JdbcClient</li>
+ *   <li>JdbcClient queries of simple types</li>
+ *   <li>Mappers held by constants and fields</li>
+ * </ul>
+ *
+ * @since 1.1.0
+ * @see ReflectiveRowMapperCheck
+ */
+class ReflectiveRowMapperCasesTest {
+
+    private static final String DIRECTORY = "src/test/files/rowmapper/";
+
+    @Test
+    void testReflectiveRowMapper_perCallMapper() {
+        verifyIssues("PerCallMapperTest.java");
+    }
+
+    @Test
+    void testReflectiveRowMapper_factoryMapper() {
+        verifyIssues("FactoryMapperTest.java");
+    }
+
+    @Test
+    void testReflectiveRowMapper_mapperInLoop() {
+        verifyIssues("MapperInLoopTest.java");
+    }
+
+    @Test
+    void testReflectiveRowMapper_clientClassQuery() {
+        verifyIssues("ClientClassQueryTest.java");
+    }
+
+    @Test
+    void testReflectiveRowMapper_clientClassQueryInLoop() {
+        verifyIssues("ClientClassQueryInLoopTest.java");
+    }
+
+    @Test
+    void testReflectiveRowMapper_sharedClientClassQuery() {
+        verifyNoIssues("SharedClientClassQueryTest.java");
+    }
+
+    @Test
+    void testReflectiveRowMapper_simpleTypes() {
+        verifyNoIssues("SimpleTypesTest.java");
+    }
+
+    @Test
+    void testReflectiveRowMapper_constantMappers() {
+        verifyNoIssues("ConstantMappersTest.java");
+    }
+
+    /**
+     * Verifies the issues expected in a test file, with and without Spring JDBC on the classpath.
+     *
+     * @param fileName the file name in {@code src/test/files/rowmapper}
+     */
+    private static void verifyIssues(String fileName) {
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new ReflectiveRowMapperCheck())
+            .verifyIssues();
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new ReflectiveRowMapperCheck())
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyIssues();
+    }
+
+    /**
+     * Verifies that a test file raises no issue, with and without Spring JDBC on the classpath.
+     *
+     * @param fileName the file name in {@code src/test/files/rowmapper}
+     */
+    private static void verifyNoIssues(String fileName) {
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new ReflectiveRowMapperCheck())
+            .verifyNoIssues();
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new ReflectiveRowMapperCheck())
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyNoIssues();
+    }
+}
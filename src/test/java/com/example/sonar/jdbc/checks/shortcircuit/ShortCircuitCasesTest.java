@@ -0,0 +1,122 @@
+package com.example.sonar.jdbc.checks.shortcircuit;
+
+import com.example.sonar.jdbc.checks.ShortCircuitJdbcStreamCheck;
+import com.example.sonar.jdbc.checks.TestClasspath;
+import org.junit.jupiter.api.Test;
+import org.sonar.java.checks.verifier.CheckVerifier;
+
+/**
+ * Tests for the ShortCircuitJdbcStreamCheck.
+ *
+ * <p>Each test method validates exactly ONE pattern, with name-based heuristics only and
+ * with Spring JDBC on the classpath:</p>
+ * <ul>
+ *   <li>findFirst on an unlimited query</li>
+ *   <li>findAny on an unlimited query</li>
+ *   <li>anyMatch on an unlimited query</li>
+ *   <li>Small limit() on an unlimited query</li>
+ *   <li>findFirst on a mapped JDBC stream</li>
+ *   <li>Query limited with FETCH FIRST</li>
+ *   <li>Query limited with LIMIT</li>
+ *   <li>Large limit()</li>
+ *   <li>Full consumption</li>
+ *   <li>Unresolved SQL</li>
+ *   <li>findFirst after collecting the rows</li>
+ * </ul>
+ *
+ * @since 1.1.0
+ * @see ShortCircuitJdbcStreamCheck
+ */
+class ShortCircuitCasesTest {
+
+    private static final String DIRECTORY = "src/test/files/shortcircuit/";
+
+    @Test
+    void testShortCircuit_findFirst() {
+        verifyIssues("FindFirstTest.java");
+    }
+
+    @Test
+    void testShortCircuit_findAny() {
+        verifyIssues("FindAnyTest.java");
+    }
+
+    @Test
+    void testShortCircuit_anyMatch() {
+        verifyIssues("AnyMatchTest.java");
+    }
+
+    @Test
+    void testShortCircuit_smallLimit() {
+        verifyIssues("SmallLimitTest.java");
+    }
+
+    @Test
+    void testShortCircuit_chainedFindFirst() {
+        verifyIssues("ChainedFindFirstTest.java");
+    }
+
+    @Test
+    void testShortCircuit_fetchFirstLimitedSql() {
+        verifyNoIssues("FetchFirstLimitedSqlTest.java");
+    }
+
+    @Test
+    void testShortCircuit_limitKeywordSql() {
+        verifyNoIssues("LimitKeywordSqlTest.java");
+    }
+
+    @Test
+    void testShortCircuit_largeLimit() {
+        verifyNoIssues("LargeLimitTest.java");
+    }
+
+    @Test
+    void testShortCircuit_fullConsumption() {
+        verifyNoIssues("FullConsumptionTest.java");
+    }
+
+    @Test
+    void testShortCircuit_unknownSql() {
+        verifyNoIssues("UnknownSqlTest.java");
+    }
+
+    @Test
+    void testShortCircuit_afterCollect() {
+        verifyNoIssues("AfterCollectTest.java");
+    }
+
+    /**
+     * Verifies the issues expected in a test file, with and without Spring JDBC on the classpath.
+     *
+     * @param fileName the file name in {@code src/test/files/shortcircuit}
+     */
+    private static void verifyIssues(String fileName) {
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new ShortCircuitJdbcStreamCheck())
+            .verifyIssues();
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new ShortCircuitJdbcStreamCheck())
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyIssues();
+    }
+
+    /**
+     * Verifies that a test file raises no issue, with and without Spring JDBC on the classpath.
+     *
+     * @param fileName the file name in {@code src/test/files/shortcircuit}
+     */
+    private static void verifyNoIssues(String fileName) {
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new ShortCircuitJdbcStreamCheck())
+            .verifyNoIssues();
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new ShortCircuitJdbcStreamCheck())
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyNoIssues();
+    }
+}
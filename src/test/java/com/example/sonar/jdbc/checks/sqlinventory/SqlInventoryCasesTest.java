@@ -0,0 +1,226 @@
+package com.example.sonar.jdbc.checks.sqlinventory;
+
+import com.example.sonar.jdbc.checks.SqlInventoryCheck;
+import com.example.sonar.jdbc.checks.TestClasspath;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sonar.api.batch.fs.InputFile;
+import org.sonar.java.checks.verifier.CheckVerifier;
+import org.sonar.java.checks.verifier.internal.InternalReadCache;
+import org.sonar.java.checks.verifier.internal.InternalWriteCache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the SqlInventoryCheck.
+ *
+ * <p>Each test method validates exactly ONE pattern, with name-based heuristics only and
+ * with Spring JDBC on the classpath:</p>
+ * <ul>
+ *   <li>One statement written differently in two places, listed once</li>
+ *   <li>SQL written as a text block</li>
+ *   <li>SQL of a batch update</li>
+ *   <li>Statements differing by literal values, listed once</li>
+ *   <li>Constant values, listed as resolved</li>
+ *   <li>SQL concatenated with a variable, listed as dynamic</li>
+ *   <li>SQL of a plain JDBC prepared statement</li>
+ *   <li>SQL only known to the caller, not listed</li>
+ *   <li>The inventory limited to fewer statements than the files contain</li>
+ *   <li>An unchanged file in an incremental analysis, which is listed all the same</li>
+ * </ul>
+ *
+ * @since 1.1.0
+ * @see SqlInventoryCheck
+ */
+class SqlInventoryCasesTest {
+
+    private static final String DIRECTORY = "src/test/files/sqlinventory/";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testSqlInventory_sameStatement() throws IOException {
+        String file = DIRECTORY + "SameStatementTest.java";
+        String inventory = inventory("SameStatementTest.java");
+
+        assertThat(countOf(inventory, "\"fingerprint\"")).isEqualTo(1);
+        assertThat(inventory)
+            .contains("\"sql\": \"SELECT ID, CUSTOMER_ID, STATUS FROM ORDERS WHERE STATUS = ?\", \"dynamic\": false, \"occurrences\": 2")
+            .contains("\"apis\": [\"JdbcTemplate.queryForStream\", \"JdbcClient.sql\"]")
+            .contains("{\"file\": \"" + file + "\", \"line\": 24}, {\"file\": \"" + file + "\", \"line\": 29}");
+    }
+
+    @Test
+    void testSqlInventory_textBlock() throws IOException {
+        String inventory = inventory("TextBlockTest.java");
+
+        assertThat(countOf(inventory, "\"fingerprint\"")).isEqualTo(1);
+        assertThat(inventory)
+            .contains("\"sql\": \"UPDATE ORDERS SET STATUS = ? WHERE CREATED_AT < NOW() - INTERVAL ?\"")
+            .contains("\"apis\": [\"JdbcTemplate.update\"]");
+    }
+
+    @Test
+    void testSqlInventory_batchUpdate() throws IOException {
+        String inventory = inventory("BatchUpdateTest.java");
+
+        assertThat(countOf(inventory, "\"fingerprint\"")).isEqualTo(1);
+        assertThat(inventory)
+            .contains("\"sql\": \"UPDATE ORDERS SET STATUS = ? WHERE ID = ?\"")
+            .contains("\"apis\": [\"JdbcTemplate.batchUpdate\"]");
+    }
+
+    @Test
+    void testSqlInventory_literalValues() throws IOException {
+        String inventory = inventory("LiteralValuesTest.java");
+
+        assertThat(countOf(inventory, "\"fingerprint\"")).isEqualTo(1);
+        assertThat(inventory)
+            .contains("\"sql\": \"SELECT * FROM ORDERS ORDER BY ID DESC LIMIT 10\", \"dynamic\": false, \"occurrences\": 2");
+    }
+
+    @Test
+    void testSqlInventory_constantValues() throws IOException {
+        String inventory = inventory("ConstantValuesTest.java");
+
+        assertThat(countOf(inventory, "\"fingerprint\"")).isEqualTo(1);
+        assertThat(inventory)
+            .contains("\"sql\": \"SELECT * FROM CUSTOMERS ORDER BY ID LIMIT 25\", \"dynamic\": false, \"occurrences\": 1");
+    }
+
+    @Test
+    void testSqlInventory_concatenatedValue() throws IOException {
+        String inventory = inventory("ConcatenatedValueTest.java");
+
+        assertThat(countOf(inventory, "\"fingerprint\"")).isEqualTo(1);
+        assertThat(inventory)
+            .contains("\"sql\": \"SELECT * FROM ORDERS WHERE CUSTOMER_ID = ?\", \"dynamic\": true, \"occurrences\": 1");
+    }
+
+    @Test
+    void testSqlInventory_plainJdbc() throws IOException {
+        String inventory = inventory("PlainJdbcTest.java");
+
+        assertThat(countOf(inventory, "\"fingerprint\"")).isEqualTo(1);
+        assertThat(inventory)
+            .contains("\"sql\": \"DELETE FROM ORDERS WHERE ID = ?\"")
+            .contains("\"apis\": [\"Connection.prepareStatement\"]")
+            .contains("\"omittedOccurrences\": 0");
+    }
+
+    @Test
+    void testSqlInventory_unknownSql() {
+        SqlInventoryCheck check = new SqlInventoryCheck();
+        check.reportFile = tempDir.resolve("inventory.json").toString();
+
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + "UnknownSqlTest.java")
+            .withCheck(check)
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyNoIssues();
+
+        assertThat(tempDir.resolve("inventory.json")).doesNotExist();
+    }
+
+    @Test
+    void testSqlInventory_limited() throws IOException {
+        SqlInventoryCheck check = new SqlInventoryCheck();
+        check.maxStatements = 2;
+
+        String inventory = inventory(check, true, "TextBlockTest.java", "BatchUpdateTest.java", "ConstantValuesTest.java");
+
+        assertThat(countOf(inventory, "\"fingerprint\"")).isEqualTo(2);
+        assertThat(inventory).contains("\"omittedOccurrences\": 1");
+    }
+
+    @Test
+    void testSqlInventory_unchangedFile() throws IOException {
+        Path report = tempDir.resolve("inventory.json");
+        InternalWriteCache previousAnalysis = new InternalWriteCache();
+        unchangedFileVerifier(report, new InternalReadCache(), previousAnalysis).verifyNoIssues();
+        Files.delete(report);
+
+        // the content hash of the previous analysis lets the file be skipped, unless the check needs it parsed
+        unchangedFileVerifier(report, new InternalReadCache().putAll(previousAnalysis), new InternalWriteCache()).verifyNoIssues();
+
+        assertThat(countOf(Files.readString(report, StandardCharsets.UTF_8), "\"fingerprint\"")).isEqualTo(1);
+    }
+
+    /**
+     * Runs the check on a test file, with and without Spring JDBC on the classpath, and returns
+     * the inventory, which is the same in both cases.
+     *
+     * @param fileName the file name in {@code src/test/files/sqlinventory}
+     * @return the content of the inventory
+     * @throws IOException if the inventory cannot be read
+     */
+    private String inventory(String fileName) throws IOException {
+        String heuristics = inventory(new SqlInventoryCheck(), false, fileName);
+        String semantic = inventory(new SqlInventoryCheck(), true, fileName);
+        assertThat(heuristics).isEqualTo(semantic);
+        return semantic;
+    }
+
+    /**
+     * Runs the check on test files and returns the inventory it writes.
+     *
+     * @param check     the check, whose report file is redirected to the temporary directory
+     * @param semantic  whether Spring JDBC is on the classpath
+     * @param fileNames the file names in {@code src/test/files/sqlinventory}
+     * @return the content of the inventory
+     * @throws IOException if the inventory cannot be read
+     */
+    private String inventory(SqlInventoryCheck check, boolean semantic, String... fileNames) throws IOException {
+        Path report = tempDir.resolve("inventory.json");
+        check.reportFile = report.toString();
+        List<String> files = new ArrayList<>();
+        for (String fileName : fileNames) {
+            files.add(DIRECTORY + fileName);
+        }
+        CheckVerifier verifier = CheckVerifier.newVerifier()
+            .onFiles(files)
+            .withCheck(check);
+        if (semantic) {
+            verifier.withClassPath(TestClasspath.springJdbc());
+        }
+        verifier.verifyNoIssues();
+        return Files.readString(report, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Counts the occurrences of a substring.
+     *
+     * @param text      the text
+     * @param substring the substring
+     * @return the number of non-overlapping occurrences
+     */
+    private static int countOf(String text, String substring) {
+        return text.split(Pattern.quote(substring), -1).length - 1;
+    }
+
+    /**
+     * Returns a verifier of a test file as an unchanged file of an incremental analysis.
+     *
+     * @param report     the report file
+     * @param readCache  the cache of the previous analysis
+     * @param writeCache the cache of this analysis
+     * @return the verifier
+     */
+    private static CheckVerifier unchangedFileVerifier(Path report, InternalReadCache readCache, InternalWriteCache writeCache) {
+        SqlInventoryCheck check = new SqlInventoryCheck();
+        check.reportFile = report.toString();
+        return CheckVerifier.newVerifier()
+            .addFiles(InputFile.Status.SAME, DIRECTORY + "SameStatementTest.java")
+            .withCheck(check)
+            .withCache(readCache, writeCache.bind(readCache));
+    }
+}
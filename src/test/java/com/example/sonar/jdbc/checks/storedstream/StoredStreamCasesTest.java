@@ -0,0 +1,128 @@
+package com.example.sonar.jdbc.checks.storedstream;
+
+import com.example.sonar.jdbc.checks.JdbcStreamStoredInStateCheck;
+import com.example.sonar.jdbc.checks.TestClasspath;
+import org.junit.jupiter.api.Test;
+import org.sonar.java.checks.verifier.CheckVerifier;
+
+/**
+ * Tests for the JdbcStreamStoredInStateCheck.
+ *
+ * <p>Each test method validates exactly ONE pattern, with name-based heuristics only and
+ * with Spring JDBC on the classpath:</p>
+ * <ul>
+ *   <li>Stream opened by a field initializer</li>
+ *   <li>Stream assigned to a field</li>
+ *   <li>Iterator assigned to a field</li>
+ *   <li>Spliterator assigned to a field</li>
+ *   <li>Stream added to a collection</li>
+ *   <li>Iterator put into a map</li>
+ *   <li>Stream stored in an array</li>
+ *   <li>Stream passed to a constructor</li>
+ *   <li>Stream consumed locally</li>
+ *   <li>Wrapper closed by try-with-resources</li>
+ *   <li>Materialized rows stored</li>
+ *   <li>Stream assigned to a local variable</li>
+ * </ul>
+ *
+ * @since 1.1.0
+ * @see JdbcStreamStoredInStateCheck
+ */
+class StoredStreamCasesTest {
+
+    private static final String DIRECTORY = "src/test/files/storedstream/";
+
+    @Test
+    void testStoredStream_fieldInitializer() {
+        verifyIssues("FieldInitializerTest.java");
+    }
+
+    @Test
+    void testStoredStream_assignedToField() {
+        verifyIssues("AssignedToFieldTest.java");
+    }
+
+    @Test
+    void testStoredStream_iteratorAssignedToField() {
+        verifyIssues("IteratorAssignedToFieldTest.java");
+    }
+
+    @Test
+    void testStoredStream_spliteratorAssignedToField() {
+        verifyIssues("SpliteratorAssignedToFieldTest.java");
+    }
+
+    @Test
+    void testStoredStream_addedToCollection() {
+        verifyIssues("AddedToCollectionTest.java");
+    }
+
+    @Test
+    void testStoredStream_putIntoMap() {
+        verifyIssues("PutIntoMapTest.java");
+    }
+
+    @Test
+    void testStoredStream_storedInArray() {
+        verifyIssues("StoredInArrayTest.java");
+    }
+
+    @Test
+    void testStoredStream_passedToConstructor() {
+        verifyIssues("PassedToConstructorTest.java");
+    }
+
+    @Test
+    void testStoredStream_consumedLocally() {
+        verifyNoIssues("ConsumedLocallyTest.java");
+    }
+
+    @Test
+    void testStoredStream_wrapperClosedWithBlock() {
+        verifyNoIssues("WrapperClosedWithBlockTest.java");
+    }
+
+    @Test
+    void testStoredStream_materializedRowsStored() {
+        verifyNoIssues("MaterializedRowsStoredTest.java");
+    }
+
+    @Test
+    void testStoredStream_reassignedLocal() {
+        verifyNoIssues("ReassignedLocalTest.java");
+    }
+
+    /**
+     * Verifies the issues expected in a test file, with and without Spring JDBC on the classpath.
+     *
+     * @param fileName the file name in {@code src/test/files/storedstream}
+     */
+    private static void verifyIssues(String fileName) {
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new JdbcStreamStoredInStateCheck())
+            .verifyIssues();
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new JdbcStreamStoredInStateCheck())
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyIssues();
+    }
+
+    /**
+     * Verifies that a test file raises no issue, with and without Spring JDBC on the classpath.
+     *
+     * @param fileName the file name in {@code src/test/files/storedstream}
+     */
+    private static void verifyNoIssues(String fileName) {
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new JdbcStreamStoredInStateCheck())
+            .verifyNoIssues();
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new JdbcStreamStoredInStateCheck())
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyNoIssues();
+    }
+}
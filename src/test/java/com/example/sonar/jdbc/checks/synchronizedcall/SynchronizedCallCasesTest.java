@@ -0,0 +1,140 @@
+package com.example.sonar.jdbc.checks.synchronizedcall;
+
+import com.example.sonar.jdbc.checks.SynchronizedJdbcCallCheck;
+import com.example.sonar.jdbc.checks.TestClasspath;
+import org.junit.jupiter.api.Test;
+import org.sonar.java.checks.verifier.CheckVerifier;
+
+/**
+ * Tests for the SynchronizedJdbcCallCheck.
+ *
+ * <p>Each test method validates exactly ONE pattern, on Java 21, with name-based heuristics
+ * only and with Spring JDBC on the classpath:</p>
+ * <ul>
+ *   <li>Stream consumed in a synchronized method</li>
+ *   <li>Stream consumed in a synchronized block</li>
+ *   <li>Stream consumed in a lambda called within a synchronized block</li>
+ *   <li>Materialized query in a synchronized method</li>
+ *   <li>Stream consumed while holding a ReentrantLock</li>
+ *   <li>Stream consumed in an anonymous class declared in a synchronized method</li>
+ *   <li>Java version gating: issues on Java 21, none on Java 17, before virtual threads, nor on Java 24, which no longer pins them</li>
+ *   <li>All JDBC calls with the {@code allJdbcCalls} rule property</li>
+ * </ul>
+ *
+ * @since 1.1.0
+ * @see SynchronizedJdbcCallCheck
+ */
+class SynchronizedCallCasesTest {
+
+    private static final String DIRECTORY = "src/test/files/synchronizedcall/";
+
+    @Test
+    void testSynchronizedCall_synchronizedMethod() {
+        verifyIssues("SynchronizedMethodTest.java");
+    }
+
+    @Test
+    void testSynchronizedCall_synchronizedBlock() {
+        verifyIssues("SynchronizedBlockTest.java");
+    }
+
+    @Test
+    void testSynchronizedCall_lambdaInSynchronizedBlock() {
+        verifyIssues("LambdaInSynchronizedBlockTest.java");
+    }
+
+    @Test
+    void testSynchronizedCall_materializedQuery() {
+        verifyNoIssues("MaterializedQueryTest.java");
+    }
+
+    @Test
+    void testSynchronizedCall_reentrantLock() {
+        verifyNoIssues("ReentrantLockTest.java");
+    }
+
+    @Test
+    void testSynchronizedCall_anonymousClass() {
+        verifyNoIssues("AnonymousClassTest.java");
+    }
+
+    @Test
+    void testSynchronizedCall_java21() {
+        javaVersionVerifier(21).verifyIssues();
+    }
+
+    @Test
+    void testSynchronizedCall_java17() {
+        javaVersionVerifier(17).verifyNoIssues();
+    }
+
+    @Test
+    void testSynchronizedCall_java24() {
+        javaVersionVerifier(24).verifyNoIssues();
+    }
+
+    @Test
+    void testSynchronizedCall_allJdbcCalls() {
+        SynchronizedJdbcCallCheck check = new SynchronizedJdbcCallCheck();
+        check.allJdbcCalls = true;
+
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + "SynchronizedJdbcCallTest.java")
+            .withCheck(check)
+            .withClassPath(TestClasspath.springJdbc())
+            .withJavaVersion(21)
+            .verifyIssues();
+    }
+
+    /**
+     * Verifies the issues expected in a test file, with and without Spring JDBC on the classpath.
+     *
+     * @param fileName the file name in {@code src/test/files/synchronizedcall}
+     */
+    private static void verifyIssues(String fileName) {
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new SynchronizedJdbcCallCheck())
+            .withJavaVersion(21)
+            .verifyIssues();
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new SynchronizedJdbcCallCheck())
+            .withJavaVersion(21)
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyIssues();
+    }
+
+    /**
+     * Verifies that a test file raises no issue, with and without Spring JDBC on the classpath.
+     *
+     * @param fileName the file name in {@code src/test/files/synchronizedcall}
+     */
+    private static void verifyNoIssues(String fileName) {
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new SynchronizedJdbcCallCheck())
+            .withJavaVersion(21)
+            .verifyNoIssues();
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new SynchronizedJdbcCallCheck())
+            .withJavaVersion(21)
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyNoIssues();
+    }
+
+    /**
+     * Returns a verifier of the Java version fixture.
+     *
+     * @param javaVersion the Java version of the analyzed project
+     * @return the verifier
+     */
+    private static CheckVerifier javaVersionVerifier(int javaVersion) {
+        return CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + "JavaVersionTest.java")
+            .withCheck(new SynchronizedJdbcCallCheck())
+            .withClassPath(TestClasspath.springJdbc())
+            .withJavaVersion(javaVersion);
+    }
+}
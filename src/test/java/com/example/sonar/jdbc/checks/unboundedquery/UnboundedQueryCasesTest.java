@@ -0,0 +1,141 @@
+package com.example.sonar.jdbc.checks.unboundedquery;
+
+import com.example.sonar.jdbc.checks.TestClasspath;
+import com.example.sonar.jdbc.checks.UnboundedQueryCheck;
+import org.junit.jupiter.api.Test;
+import org.sonar.java.checks.verifier.CheckVerifier;
+
+/**
+ * Tests for the UnboundedQueryCheck.
+ *
+ * <p>Each test method validates exactly ONE pattern, with name-based heuristics only and
+ * with Spring JDBC on the classpath:</p>
+ * <ul>
+ *   <li>Unrestricted literal SQL in a JdbcClient list query</li>
+ *   <li>Unrestricted SQL constant in a JdbcTemplate query</li>
+ *   <li>Unrestricted, ordered queryForList() on a schema-qualified table</li>
+ *   <li>Unrestricted text block whose WHERE is only in a comment</li>
+ *   <li>Unrestricted SQL concatenated in a local variable</li>
+ *   <li>Query restricted with WHERE</li>
+ *   <li>Query limited with LIMIT</li>
+ *   <li>Query limited with FETCH FIRST</li>
+ *   <li>Aggregate query</li>
+ *   <li>Query processed row by row with a RowCallbackHandler</li>
+ *   <li>SQL built from a runtime table name</li>
+ *   <li>Query without a table, whose string literal contains LIMIT</li>
+ *   <li>Restriction to large tables and exclusion of small lookup tables through rule properties</li>
+ * </ul>
+ *
+ * @since 1.1.0
+ * @see UnboundedQueryCheck
+ */
+class UnboundedQueryCasesTest {
+
+    private static final String DIRECTORY = "src/test/files/unboundedquery/";
+
+    @Test
+    void testUnboundedQuery_clientList() {
+        verifyIssues("ClientListTest.java");
+    }
+
+    @Test
+    void testUnboundedQuery_constantSql() {
+        verifyIssues("ConstantSqlTest.java");
+    }
+
+    @Test
+    void testUnboundedQuery_queryForList() {
+        verifyIssues("QueryForListTest.java");
+    }
+
+    @Test
+    void testUnboundedQuery_textBlock() {
+        verifyIssues("TextBlockTest.java");
+    }
+
+    @Test
+    void testUnboundedQuery_concatenatedLocal() {
+        verifyIssues("ConcatenatedLocalTest.java");
+    }
+
+    @Test
+    void testUnboundedQuery_restricted() {
+        verifyNoIssues("RestrictedTest.java");
+    }
+
+    @Test
+    void testUnboundedQuery_limit() {
+        verifyNoIssues("LimitTest.java");
+    }
+
+    @Test
+    void testUnboundedQuery_fetchFirst() {
+        verifyNoIssues("FetchFirstTest.java");
+    }
+
+    @Test
+    void testUnboundedQuery_aggregate() {
+        verifyNoIssues("AggregateTest.java");
+    }
+
+    @Test
+    void testUnboundedQuery_rowCallbackHandler() {
+        verifyNoIssues("RowCallbackHandlerTest.java");
+    }
+
+    @Test
+    void testUnboundedQuery_dynamicSql() {
+        verifyNoIssues("DynamicSqlTest.java");
+    }
+
+    @Test
+    void testUnboundedQuery_tableFreeQuery() {
+        verifyNoIssues("TableFreeQueryTest.java");
+    }
+
+    @Test
+    void testUnboundedQuery_configuredTables() {
+        UnboundedQueryCheck check = new UnboundedQueryCheck();
+        check.largeTables = "orders, order_items";
+        check.smallTables = "countries";
+
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + "ConfiguredTablesTest.java")
+            .withCheck(check)
+            .verifyIssues();
+    }
+
+    /**
+     * Verifies the issues expected in a test file, with and without Spring JDBC on the classpath.
+     *
+     * @param fileName the file name in {@code src/test/files/unboundedquery}
+     */
+    private static void verifyIssues(String fileName) {
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new UnboundedQueryCheck())
+            .verifyIssues();
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new UnboundedQueryCheck())
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyIssues();
+    }
+
+    /**
+     * Verifies that a test file raises no issue, with and without Spring JDBC on the classpath.
+     *
+     * @param fileName the file name in {@code src/test/files/unboundedquery}
+     */
+    private static void verifyNoIssues(String fileName) {
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new UnboundedQueryCheck())
+            .verifyNoIssues();
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(new UnboundedQueryCheck())
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyNoIssues();
+    }
+}
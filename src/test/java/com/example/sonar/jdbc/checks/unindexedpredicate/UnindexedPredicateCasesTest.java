@@ -0,0 +1,173 @@
+package com.example.sonar.jdbc.checks.unindexedpredicate;
+
+import com.example.sonar.jdbc.checks.TestClasspath;
+import com.example.sonar.jdbc.checks.UnindexedPredicateCheck;
+import org.junit.jupiter.api.Test;
+import org.sonar.java.checks.verifier.CheckVerifier;
+
+/**
+ * Tests for the UnindexedPredicateCheck.
+ *
+ * <p>Each test method validates exactly ONE pattern, against the migrations of the schema
+ * folder, with name-based heuristics only and with Spring JDBC on the classpath:</p>
+ * <ul>
+ *   <li>Filter on a column whose index was dropped by a later migration</li>
+ *   <li>Filter on the primary key</li>
+ *   <li>Filter on the leading column of a composite index, sorted by its second column</li>
+ *   <li>Filter on the second column of a composite index only</li>
+ *   <li>Join on a primary key filtered on a unique column</li>
+ *   <li>Join on a foreign key without index</li>
+ *   <li>Filter on columns without index, one of them added by a later migration</li>
+ *   <li>Filter on a column with a unique constraint added by a later migration</li>
+ *   <li>Sort on a column without index</li>
+ *   <li>Filter on an expression, not compared with expression indexes</li>
+ *   <li>Update filtered on a column without index</li>
+ *   <li>Insert</li>
+ *   <li>Query on a table missing from the schema</li>
+ *   <li>Filter on a column chosen at runtime</li>
+ *   <li>No DDL script in the schema directories</li>
+ *   <li>The default schema directory, which ignores the scripts of test fixtures</li>
+ * </ul>
+ *
+ * @since 1.1.0
+ * @see UnindexedPredicateCheck
+ */
+class UnindexedPredicateCasesTest {
+
+    private static final String DIRECTORY = "src/test/files/unindexedpredicate/";
+    private static final String SCHEMA = DIRECTORY + "schema";
+
+    @Test
+    void testUnindexedPredicate_droppedIndex() {
+        verifyIssues("DroppedIndexTest.java");
+    }
+
+    @Test
+    void testUnindexedPredicate_primaryKey() {
+        verifyNoIssues("PrimaryKeyTest.java");
+    }
+
+    @Test
+    void testUnindexedPredicate_compositeLeadingColumn() {
+        verifyNoIssues("CompositeLeadingColumnTest.java");
+    }
+
+    @Test
+    void testUnindexedPredicate_compositeSecondColumn() {
+        verifyIssues("CompositeSecondColumnTest.java");
+    }
+
+    @Test
+    void testUnindexedPredicate_indexedJoin() {
+        verifyNoIssues("IndexedJoinTest.java");
+    }
+
+    @Test
+    void testUnindexedPredicate_unindexedForeignKeyJoin() {
+        verifyIssues("UnindexedForeignKeyJoinTest.java");
+    }
+
+    @Test
+    void testUnindexedPredicate_columnsAddedLater() {
+        verifyIssues("ColumnsAddedLaterTest.java");
+    }
+
+    @Test
+    void testUnindexedPredicate_uniqueConstraint() {
+        verifyNoIssues("UniqueConstraintTest.java");
+    }
+
+    @Test
+    void testUnindexedPredicate_sortOnly() {
+        verifyIssues("SortOnlyTest.java");
+    }
+
+    @Test
+    void testUnindexedPredicate_expression() {
+        verifyNoIssues("ExpressionTest.java");
+    }
+
+    @Test
+    void testUnindexedPredicate_updateFilter() {
+        verifyIssues("UpdateFilterTest.java");
+    }
+
+    @Test
+    void testUnindexedPredicate_insert() {
+        verifyNoIssues("InsertTest.java");
+    }
+
+    @Test
+    void testUnindexedPredicate_unknownTable() {
+        verifyNoIssues("UnknownTableTest.java");
+    }
+
+    @Test
+    void testUnindexedPredicate_dynamicColumn() {
+        verifyNoIssues("DynamicColumnTest.java");
+    }
+
+    @Test
+    void testUnindexedPredicate_noSchema() {
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + "DroppedIndexTest.java")
+            .withCheck(check(DIRECTORY + "missing, src/main/java"))
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyNoIssues();
+    }
+
+    @Test
+    void testUnindexedPredicate_defaultDirectories() {
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + "DroppedIndexTest.java")
+            .withCheck(new UnindexedPredicateCheck())
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyNoIssues();
+    }
+
+    /**
+     * Verifies the issues expected in a test file, with and without Spring JDBC on the classpath.
+     *
+     * @param fileName the file name in {@code src/test/files/unindexedpredicate}
+     */
+    private static void verifyIssues(String fileName) {
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(check(SCHEMA))
+            .verifyIssues();
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(check(SCHEMA))
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyIssues();
+    }
+
+    /**
+     * Verifies that a test file raises no issue, with and without Spring JDBC on the classpath.
+     *
+     * @param fileName the file name in {@code src/test/files/unindexedpredicate}
+     */
+    private static void verifyNoIssues(String fileName) {
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(check(SCHEMA))
+            .verifyNoIssues();
+        CheckVerifier.newVerifier()
+            .onFile(DIRECTORY + fileName)
+            .withCheck(check(SCHEMA))
+            .withClassPath(TestClasspath.springJdbc())
+            .verifyNoIssues();
+    }
+
+    /**
+     * Creates the check reading the DDL scripts of the given directories.
+     *
+     * @param schemaDirectories the comma-separated directories, relative to the project root
+     * @return the configured check
+     */
+    private static UnindexedPredicateCheck check(String schemaDirectories) {
+        UnindexedPredicateCheck check = new UnindexedPredicateCheck();
+        check.schemaDirectories = schemaDirectories;
+        return check;
+    }
+}